@@ -0,0 +1,110 @@
+package org.knowm.xchart.benchmarks;
+
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.Random;
+import org.knowm.xchart.internal.chartpart.Chart;
+import org.knowm.xchart.internal.chartpart.ChartLayers;
+import org.knowm.xchart.internal.chartpart.MarkerSprites;
+
+/**
+ * Reproducible data and painting shared by the benchmarks
+ */
+public class BenchmarkData {
+
+  public static final int WIDTH = 800;
+  public static final int HEIGHT = 600;
+
+  private static final long SEED = 42L;
+
+  /** Constructor - Private constructor to prevent instantiation */
+  private BenchmarkData() {}
+
+  /**
+   * @param size
+   * @return 0, 1, 2, ... size - 1
+   */
+  public static double[] getSortedXData(int size) {
+
+    double[] xData = new double[size];
+    for (int i = 0; i < size; i++) {
+      xData[i] = i;
+    }
+    return xData;
+  }
+
+  /**
+   * @param size
+   * @param seed
+   * @return a random walk starting at 0
+   */
+  public static double[] getRandomWalk(int size, int seed) {
+
+    Random random = new Random(SEED + seed);
+    double[] yData = new double[size];
+    double y = 0;
+    for (int i = 0; i < size; i++) {
+      y += random.nextGaussian();
+      yData[i] = y;
+    }
+    return yData;
+  }
+
+  /**
+   * @param size
+   * @param seed
+   * @return normally distributed values
+   */
+  public static double[] getGaussian(int size, int seed) {
+
+    Random random = new Random(SEED + seed);
+    double[] data = new double[size];
+    for (int i = 0; i < size; i++) {
+      data[i] = random.nextGaussian() * 10 + 50;
+    }
+    return data;
+  }
+
+  /** @return a RGB image of the size of the benchmarked charts */
+  public static BufferedImage getImage() {
+
+    return new BufferedImage(WIDTH, HEIGHT, BufferedImage.TYPE_INT_RGB);
+  }
+
+  /**
+   * Paints the chart into the image, like XChartPanel.paintComponent does for each repaint
+   *
+   * @param chart
+   * @param image
+   * @return the image, to be consumed by the benchmark
+   */
+  public static BufferedImage paint(Chart<?, ?> chart, BufferedImage image) {
+
+    return paint(chart, null, image);
+  }
+
+  /**
+   * Paints the chart into the image, through the layers if they aren't null, like
+   * XChartPanel.paintComponent does with layer caching enabled, stamping markers like BitmapEncoder
+   *
+   * @param chart
+   * @param layers the layers of the chart, or null
+   * @param image
+   * @return the image, to be consumed by the benchmark
+   */
+  public static BufferedImage paint(Chart<?, ?> chart, ChartLayers layers, BufferedImage image) {
+
+    Graphics2D graphics = image.createGraphics();
+    graphics.setRenderingHint(MarkerSprites.KEY_MARKER_SPRITES, true);
+    try {
+      if (layers == null) {
+        chart.paint(graphics, image.getWidth(), image.getHeight());
+      } else {
+        layers.paint(graphics, image.getWidth(), image.getHeight(), null);
+      }
+    } finally {
+      graphics.dispose();
+    }
+    return image;
+  }
+}
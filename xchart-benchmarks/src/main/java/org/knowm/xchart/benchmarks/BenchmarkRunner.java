@@ -0,0 +1,28 @@
+package org.knowm.xchart.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmarks selected by the JMH command line options, with the GC profiler added so that
+ * the allocation rate of each benchmark is reported next to its time. The forked JVMs are headless,
+ * see the Fork annotation of each benchmark.
+ *
+ * <p>Usage: java -jar xchart-benchmarks/target/benchmarks.jar [JMH options, e.g. XYChartBenchmark
+ * -p points=1000]
+ */
+public class BenchmarkRunner {
+
+  public static void main(String[] args) throws Exception {
+
+    Options options =
+        new OptionsBuilder()
+            .parent(new CommandLineOptions(args))
+            .addProfiler(GCProfiler.class)
+            .build();
+    new Runner(options).run();
+  }
+}
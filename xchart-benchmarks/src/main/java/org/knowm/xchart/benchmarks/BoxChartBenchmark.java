@@ -0,0 +1,78 @@
+package org.knowm.xchart.benchmarks;
+
+import java.awt.image.BufferedImage;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.knowm.xchart.BoxChart;
+import org.knowm.xchart.BoxChartBuilder;
+import org.knowm.xchart.BoxSeries;
+import org.knowm.xchart.internal.chartpart.BoxPlotData;
+import org.knowm.xchart.internal.chartpart.BoxPlotDataCalculator;
+import org.knowm.xchart.style.BoxStyler;
+import org.knowm.xchart.style.BoxStyler.BoxplotCalCulationMethod;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Calculates the quartiles of, and paints, a BoxChart of three normally distributed series per
+ * quartile calculation method
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Djava.awt.headless=true"})
+public class BoxChartBenchmark {
+
+  @Param({"1000", "100000", "1000000"})
+  private int points;
+
+  @Param({"N_PLUS_1", "N_LESS_1", "NP", "N_LESS_1_PLUS_1"})
+  private BoxplotCalCulationMethod calculationMethod;
+
+  private BoxChart chart;
+  private BufferedImage image;
+
+  @Setup
+  public void setup() {
+
+    chart = new BoxChartBuilder().width(BenchmarkData.WIDTH).height(BenchmarkData.HEIGHT).build();
+    chart.getStyler().setBoxplotCalCulationMethod(calculationMethod);
+    chart.getStyler().setLayoutReuseEnabled(true);
+    for (int i = 0; i < 3; i++) {
+      chart.addSeries("box " + i, BenchmarkData.getGaussian(points, i));
+    }
+    image = BenchmarkData.getImage();
+    BenchmarkData.paint(chart, image);
+  }
+
+  @Benchmark
+  public List<BoxPlotData> quartiles() {
+
+    return new BoxPlotDataCalculator<BoxStyler, BoxSeries>()
+        .calculate(chart.getSeriesMap(), chart.getStyler());
+  }
+
+  @Benchmark
+  public BufferedImage repaint() {
+
+    return BenchmarkData.paint(chart, image);
+  }
+
+  @Benchmark
+  public BufferedImage layoutAndPaint() {
+
+    chart.invalidateLayout();
+    return BenchmarkData.paint(chart, image);
+  }
+}
@@ -0,0 +1,74 @@
+package org.knowm.xchart.benchmarks;
+
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+import org.knowm.xchart.CategoryChart;
+import org.knowm.xchart.CategoryChartBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Paints a CategoryChart with stacked bars, drawn one by one or batched
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Djava.awt.headless=true"})
+public class CategoryChartBenchmark {
+
+  @Param({"10", "100", "1000"})
+  private int categories;
+
+  @Param({"1", "5", "20"})
+  private int series;
+
+  @Param({"false", "true"})
+  private boolean batchedRendering;
+
+  private CategoryChart chart;
+  private BufferedImage image;
+
+  @Setup
+  public void setup() {
+
+    chart =
+        new CategoryChartBuilder()
+            .width(BenchmarkData.WIDTH)
+            .height(BenchmarkData.HEIGHT)
+            .build();
+    chart.getStyler().setStacked(true);
+    chart.getStyler().setLayoutReuseEnabled(true);
+    chart.getStyler().setBatchedRenderingEnabled(batchedRendering);
+    chart.getStyler().setLegendVisible(false);
+    double[] xData = BenchmarkData.getSortedXData(categories);
+    for (int i = 0; i < series; i++) {
+      chart.addSeries("series " + i, xData, BenchmarkData.getGaussian(categories, i));
+    }
+    image = BenchmarkData.getImage();
+    BenchmarkData.paint(chart, image);
+  }
+
+  @Benchmark
+  public BufferedImage repaint() {
+
+    return BenchmarkData.paint(chart, image);
+  }
+
+  @Benchmark
+  public BufferedImage layoutAndPaint() {
+
+    chart.invalidateLayout();
+    return BenchmarkData.paint(chart, image);
+  }
+}
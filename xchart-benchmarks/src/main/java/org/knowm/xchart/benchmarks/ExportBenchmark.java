@@ -0,0 +1,101 @@
+package org.knowm.xchart.benchmarks;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.knowm.xchart.BitmapEncoder;
+import org.knowm.xchart.BitmapEncoder.BitmapFormat;
+import org.knowm.xchart.PdfboxGraphicsEncoder;
+import org.knowm.xchart.VectorGraphicsEncoder;
+import org.knowm.xchart.VectorGraphicsEncoder.VectorGraphicsFormat;
+import org.knowm.xchart.XYChart;
+import org.knowm.xchart.XYChartBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Exports an XYChart of three random walk series with the BitmapEncoder, the VectorGraphicsEncoder
+ * and the PdfboxGraphicsEncoder, into memory
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Djava.awt.headless=true"})
+public class ExportBenchmark {
+
+  @Param({"1000", "100000"})
+  private int points;
+
+  private XYChart chart;
+  private final ByteArrayOutputStream os = new ByteArrayOutputStream();
+
+  @Setup
+  public void setup() {
+
+    chart =
+        new XYChartBuilder().width(BenchmarkData.WIDTH).height(BenchmarkData.HEIGHT).build();
+    double[] xData = BenchmarkData.getSortedXData(points);
+    for (int i = 0; i < 3; i++) {
+      chart.addSeries("random walk " + i, xData, BenchmarkData.getRandomWalk(points, i));
+    }
+  }
+
+  @Benchmark
+  public byte[] png() throws IOException {
+
+    os.reset();
+    BitmapEncoder.saveBitmap(chart, os, BitmapFormat.PNG);
+    return os.toByteArray();
+  }
+
+  @Benchmark
+  public byte[] jpg() throws IOException {
+
+    os.reset();
+    BitmapEncoder.saveBitmap(chart, os, BitmapFormat.JPG);
+    return os.toByteArray();
+  }
+
+  @Benchmark
+  public byte[] svg() throws IOException {
+
+    os.reset();
+    VectorGraphicsEncoder.saveVectorGraphic(chart, os, VectorGraphicsFormat.SVG);
+    return os.toByteArray();
+  }
+
+  @Benchmark
+  public byte[] eps() throws IOException {
+
+    os.reset();
+    VectorGraphicsEncoder.saveVectorGraphic(chart, os, VectorGraphicsFormat.EPS);
+    return os.toByteArray();
+  }
+
+  @Benchmark
+  public byte[] pdf() throws IOException {
+
+    os.reset();
+    VectorGraphicsEncoder.saveVectorGraphic(chart, os, VectorGraphicsFormat.PDF);
+    return os.toByteArray();
+  }
+
+  @Benchmark
+  public byte[] pdfbox() throws IOException {
+
+    os.reset();
+    PdfboxGraphicsEncoder.savePdfboxGraphics(chart, os);
+    return os.toByteArray();
+  }
+}
@@ -0,0 +1,78 @@
+package org.knowm.xchart.benchmarks;
+
+import java.awt.image.BufferedImage;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.knowm.xchart.HeatMapChart;
+import org.knowm.xchart.HeatMapChartBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Paints a square HeatMapChart, with a shape per cell or rendered into a raster image
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Djava.awt.headless=true"})
+public class HeatMapChartBenchmark {
+
+  @Param({"10", "100", "500"})
+  private int size;
+
+  @Param({"false", "true"})
+  private boolean rasterRendering;
+
+  private HeatMapChart chart;
+  private BufferedImage image;
+
+  @Setup
+  public void setup() {
+
+    chart =
+        new HeatMapChartBuilder()
+            .width(BenchmarkData.WIDTH)
+            .height(BenchmarkData.HEIGHT)
+            .build();
+    chart.getStyler().setLayoutReuseEnabled(true);
+    chart.getStyler().setRasterRendering(rasterRendering);
+    int[] xData = new int[size];
+    int[] yData = new int[size];
+    int[][] heatData = new int[size][size];
+    Random random = new Random(42);
+    for (int i = 0; i < size; i++) {
+      xData[i] = i;
+      yData[i] = i;
+      for (int j = 0; j < size; j++) {
+        heatData[i][j] = random.nextInt(1000);
+      }
+    }
+    chart.addSeries("heat", xData, yData, heatData);
+    image = BenchmarkData.getImage();
+    BenchmarkData.paint(chart, image);
+  }
+
+  @Benchmark
+  public BufferedImage repaint() {
+
+    return BenchmarkData.paint(chart, image);
+  }
+
+  @Benchmark
+  public BufferedImage layoutAndPaint() {
+
+    chart.invalidateLayout();
+    return BenchmarkData.paint(chart, image);
+  }
+}
@@ -0,0 +1,85 @@
+package org.knowm.xchart.benchmarks;
+
+import java.awt.image.BufferedImage;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.knowm.xchart.OHLCChart;
+import org.knowm.xchart.OHLCChartBuilder;
+import org.knowm.xchart.OHLCSeries.OHLCSeriesRenderStyle;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Paints an OHLCChart of a random walk per render style, without and with the aggregation of the
+ * bars too narrow to be told apart
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Djava.awt.headless=true"})
+public class OHLCChartBenchmark {
+
+  @Param({"100", "10000", "1000000"})
+  private int points;
+
+  @Param({"Candle", "HiLo", "Line"})
+  private OHLCSeriesRenderStyle renderStyle;
+
+  @Param({"false", "true"})
+  private boolean aggregation;
+
+  private OHLCChart chart;
+  private BufferedImage image;
+
+  @Setup
+  public void setup() {
+
+    chart = new OHLCChartBuilder().width(BenchmarkData.WIDTH).height(BenchmarkData.HEIGHT).build();
+    chart.getStyler().setDefaultSeriesRenderStyle(renderStyle);
+    chart.getStyler().setLayoutReuseEnabled(true);
+    chart.getStyler().setAggregationEnabled(aggregation);
+    double[] closeData = BenchmarkData.getRandomWalk(points, 0);
+    double[] openData = new double[points];
+    double[] highData = new double[points];
+    double[] lowData = new double[points];
+    Random random = new Random(42);
+    for (int i = 0; i < points; i++) {
+      openData[i] = i == 0 ? 0 : closeData[i - 1];
+      highData[i] = Math.max(openData[i], closeData[i]) + random.nextDouble();
+      lowData[i] = Math.min(openData[i], closeData[i]) - random.nextDouble();
+    }
+    double[] xData = BenchmarkData.getSortedXData(points);
+    if (renderStyle == OHLCSeriesRenderStyle.Line) {
+      // the line render style only draws series without open, high and low data
+      chart.addSeries("ohlc", xData, closeData);
+    } else {
+      chart.addSeries("ohlc", xData, openData, highData, lowData, closeData);
+    }
+    image = BenchmarkData.getImage();
+    BenchmarkData.paint(chart, image);
+  }
+
+  @Benchmark
+  public BufferedImage repaint() {
+
+    return BenchmarkData.paint(chart, image);
+  }
+
+  @Benchmark
+  public BufferedImage layoutAndPaint() {
+
+    chart.invalidateLayout();
+    return BenchmarkData.paint(chart, image);
+  }
+}
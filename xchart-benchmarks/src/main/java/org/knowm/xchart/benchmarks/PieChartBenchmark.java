@@ -0,0 +1,61 @@
+package org.knowm.xchart.benchmarks;
+
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+import org.knowm.xchart.PieChart;
+import org.knowm.xchart.PieChartBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Paints a PieChart
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Djava.awt.headless=true"})
+public class PieChartBenchmark {
+
+  @Param({"5", "50", "500"})
+  private int slices;
+
+  private PieChart chart;
+  private BufferedImage image;
+
+  @Setup
+  public void setup() {
+
+    chart = new PieChartBuilder().width(BenchmarkData.WIDTH).height(BenchmarkData.HEIGHT).build();
+    chart.getStyler().setLayoutReuseEnabled(true);
+    double[] values = BenchmarkData.getGaussian(slices, 0);
+    for (int i = 0; i < slices; i++) {
+      chart.addSeries("slice " + i, Math.abs(values[i]));
+    }
+    image = BenchmarkData.getImage();
+    BenchmarkData.paint(chart, image);
+  }
+
+  @Benchmark
+  public BufferedImage repaint() {
+
+    return BenchmarkData.paint(chart, image);
+  }
+
+  @Benchmark
+  public BufferedImage layoutAndPaint() {
+
+    chart.invalidateLayout();
+    return BenchmarkData.paint(chart, image);
+  }
+}
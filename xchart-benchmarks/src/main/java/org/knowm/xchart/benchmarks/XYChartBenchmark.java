@@ -0,0 +1,104 @@
+package org.knowm.xchart.benchmarks;
+
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+import org.knowm.xchart.XYChart;
+import org.knowm.xchart.XYChartBuilder;
+import org.knowm.xchart.XYSeries;
+import org.knowm.xchart.XYSeries.XYSeriesRenderStyle;
+import org.knowm.xchart.internal.chartpart.ChartLayers;
+import org.knowm.xchart.style.markers.SeriesMarkers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Paints an XYChart with one random walk series per render style, without and with each of the
+ * optional rendering optimizations. Only Scatter series have markers. repaint() measures a repaint
+ * of an unchanged chart, which reuses the layout of the previous paint, layoutAndPaint() a paint
+ * after the layout was invalidated, like after the data changed.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Djava.awt.headless=true", "-Xmx4g"})
+public class XYChartBenchmark {
+
+  @Param({"1000", "100000", "10000000"})
+  private int points;
+
+  @Param({"Line", "Area", "Step", "StepArea", "Scatter", "PolygonArea"})
+  private XYSeriesRenderStyle renderStyle;
+
+  @Param({
+    "None",
+    "Decimation",
+    "LevelOfDetail",
+    "BatchedRendering",
+    "MarkerSprites",
+    "LayerCaching"
+  })
+  private Optimization optimization;
+
+  private XYChart chart;
+  private ChartLayers layers;
+  private BufferedImage image;
+
+  /** The optional rendering optimization the chart is painted with */
+  public enum Optimization {
+    None,
+    Decimation,
+    LevelOfDetail,
+    BatchedRendering,
+    MarkerSprites,
+    LayerCaching
+  }
+
+  @Setup
+  public void setup() {
+
+    chart =
+        new XYChartBuilder().width(BenchmarkData.WIDTH).height(BenchmarkData.HEIGHT).build();
+    chart.getStyler().setDefaultSeriesRenderStyle(renderStyle);
+    chart.getStyler().setLayoutReuseEnabled(true);
+    chart.getStyler().setDecimationEnabled(optimization == Optimization.Decimation);
+    chart.getStyler().setBatchedRenderingEnabled(optimization == Optimization.BatchedRendering);
+    chart.getStyler().setMarkerSpritesEnabled(optimization == Optimization.MarkerSprites);
+    XYSeries series =
+        chart.addSeries(
+            "random walk",
+            BenchmarkData.getSortedXData(points),
+            BenchmarkData.getRandomWalk(points, 0));
+    series.setLevelOfDetailEnabled(optimization == Optimization.LevelOfDetail);
+    // markers are painted at every point, so series with markers are never decimated
+    if (renderStyle != XYSeriesRenderStyle.Scatter) {
+      series.setMarker(SeriesMarkers.NONE);
+    }
+    layers = optimization == Optimization.LayerCaching ? new ChartLayers(chart) : null;
+    image = BenchmarkData.getImage();
+    BenchmarkData.paint(chart, layers, image);
+  }
+
+  @Benchmark
+  public BufferedImage repaint() {
+
+    return BenchmarkData.paint(chart, layers, image);
+  }
+
+  @Benchmark
+  public BufferedImage layoutAndPaint() {
+
+    chart.invalidateLayout();
+    return BenchmarkData.paint(chart, layers, image);
+  }
+}
@@ -0,0 +1,87 @@
+package org.knowm.xchart.internal.chartpart;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.knowm.xchart.internal.chartpart.Axis.Direction;
+import org.knowm.xchart.style.XYStyler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Calculates the ticks of a number, date, logarithmic and equally spaced X-Axis. In this package
+ * because the equally spaced values constructor is package private.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Djava.awt.headless=true"})
+public class AxisTickCalculatorBenchmark {
+
+  private static final double WORKING_SPACE = 700;
+  private static final double ONE_YEAR = 365 * 24 * 60 * 60 * 1000.0;
+
+  private final XYStyler styler = new XYStyler();
+
+  /** The X data of the equally spaced values benchmark */
+  @State(Scope.Benchmark)
+  public static class AxisValues {
+
+    @Param({"100", "10000", "1000000"})
+    private int values;
+
+    private List<Double> axisValues;
+
+    @Setup
+    public void setup() {
+
+      axisValues = new ArrayList<>(values);
+      for (int i = 0; i < values; i++) {
+        axisValues.add(1000.0 + i);
+      }
+    }
+  }
+
+  @Benchmark
+  public AxisTickCalculator_ number() {
+
+    return new AxisTickCalculator_Number(Direction.X, WORKING_SPACE, -1234.5, 98765.4, styler);
+  }
+
+  @Benchmark
+  public AxisTickCalculator_ date() {
+
+    return new AxisTickCalculator_Date(
+        Direction.X, WORKING_SPACE, 1.5e12, 1.5e12 + ONE_YEAR, styler);
+  }
+
+  @Benchmark
+  public AxisTickCalculator_ logarithmic() {
+
+    return new AxisTickCalculator_Logarithmic(Direction.Y, WORKING_SPACE, 0.001, 1e9, styler);
+  }
+
+  @Benchmark
+  public AxisTickCalculator_ equallySpaced(AxisValues axisValues) {
+
+    List<Double> values = axisValues.axisValues;
+    return new AxisTickCalculator_Number(
+        Direction.X,
+        WORKING_SPACE,
+        values.get(0),
+        values.get(values.size() - 1),
+        values,
+        styler);
+  }
+}
@@ -0,0 +1,68 @@
+package org.knowm.xchart.internal.chartpart;
+
+import java.util.concurrent.TimeUnit;
+import org.knowm.xchart.XYChart;
+import org.knowm.xchart.XYChartBuilder;
+import org.knowm.xchart.XYSeries;
+import org.knowm.xchart.benchmarks.BenchmarkData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Filters the X data of an XYChart to a dragged range of the screen and resets the filter, the way
+ * ChartZoom does it. ChartZoom itself needs an XChartPanel, which can't be created in a headless
+ * JVM.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Djava.awt.headless=true", "-Xmx2g"})
+public class ChartZoomBenchmark {
+
+  @Param({"1000", "100000", "10000000"})
+  private int points;
+
+  private XYChart chart;
+  private double minValue;
+  private double maxValue;
+
+  @Setup
+  public void setup() {
+
+    chart = new XYChartBuilder().width(BenchmarkData.WIDTH).height(BenchmarkData.HEIGHT).build();
+    chart.addSeries(
+        "random walk",
+        BenchmarkData.getSortedXData(points),
+        BenchmarkData.getRandomWalk(points, 0));
+    BenchmarkData.paint(chart, BenchmarkData.getImage());
+
+    // the middle third of the screen
+    Axis<?, ?> xAxis = ((Chart<?, ?>) chart).getAxisPair().getXAxis();
+    minValue = xAxis.getChartValue(BenchmarkData.WIDTH / 3.0);
+    maxValue = xAxis.getChartValue(BenchmarkData.WIDTH * 2 / 3.0);
+  }
+
+  @Benchmark
+  public boolean filterAndReset() {
+
+    boolean isFiltered = false;
+    for (XYSeries series : chart.getSeriesMap().values()) {
+      isFiltered |= series.filterXByValue(minValue, maxValue);
+    }
+    for (XYSeries series : chart.getSeriesMap().values()) {
+      series.resetFilter();
+    }
+    return isFiltered;
+  }
+}
@@ -0,0 +1,86 @@
+package org.knowm.xchart.internal.chartpart;
+
+import java.awt.event.MouseEvent;
+import java.awt.image.BufferedImage;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import javax.swing.JPanel;
+import org.knowm.xchart.XYChart;
+import org.knowm.xchart.XYChartBuilder;
+import org.knowm.xchart.XYSeries.XYSeriesRenderStyle;
+import org.knowm.xchart.benchmarks.BenchmarkData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Hit-tests the tool tips of a scatter chart for mouse moves to random positions, like
+ * XChartPanel's mouse motion listener does. The tool tips are registered directly on the chart, as
+ * XChartPanel can't be created in a headless JVM.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Djava.awt.headless=true"})
+public class ToolTipsBenchmark {
+
+  private static final int MOUSE_EVENTS = 1024;
+
+  @Param({"1000", "100000"})
+  private int points;
+
+  private ToolTips toolTips;
+  private MouseEvent[] mouseEvents;
+  private int index;
+
+  @Setup
+  public void setup() {
+
+    XYChart chart =
+        new XYChartBuilder().width(BenchmarkData.WIDTH).height(BenchmarkData.HEIGHT).build();
+    chart.getStyler().setDefaultSeriesRenderStyle(XYSeriesRenderStyle.Scatter);
+    chart.getStyler().setToolTipsEnabled(true);
+    chart.addSeries(
+        "random walk",
+        BenchmarkData.getSortedXData(points),
+        BenchmarkData.getRandomWalk(points, 0));
+    toolTips = new ToolTips(chart);
+    BufferedImage image = BenchmarkData.getImage();
+    BenchmarkData.paint(chart, image);
+
+    JPanel panel = new JPanel();
+    panel.setSize(BenchmarkData.WIDTH, BenchmarkData.HEIGHT);
+    Random random = new Random(42);
+    mouseEvents = new MouseEvent[MOUSE_EVENTS];
+    for (int i = 0; i < MOUSE_EVENTS; i++) {
+      mouseEvents[i] =
+          new MouseEvent(
+              panel,
+              MouseEvent.MOUSE_MOVED,
+              0,
+              0,
+              random.nextInt(BenchmarkData.WIDTH),
+              random.nextInt(BenchmarkData.HEIGHT),
+              0,
+              false);
+    }
+  }
+
+  @Benchmark
+  public ToolTips mouseMoved() {
+
+    toolTips.mouseMoved(mouseEvents[index]);
+    index = (index + 1) % MOUSE_EVENTS;
+    return toolTips;
+  }
+}
@@ -3,6 +3,7 @@ package org.knowm.xchart;
 import java.awt.Graphics2D;
 
 import org.knowm.xchart.internal.chartpart.Chart;
+import org.knowm.xchart.internal.chartpart.ChartLayers;
 import org.knowm.xchart.internal.series.Series;
 import org.knowm.xchart.internal.style.SeriesColorMarkerLineStyle;
 import org.knowm.xchart.internal.style.SeriesColorMarkerLineStyleCycler;
@@ -23,9 +24,11 @@ public abstract class AbstractChart<ST extends Styler, S extends Series> extends
 	}
 	
 	protected void doPaint(Graphics2D graphics) {
+	    updateLayoutState();
 	    paintBackground(graphics);
 	    paintTarget.paint(graphics);
-		annotations.paint(graphics);
+		annotations.paint(getLayerGraphics(ChartLayers.Layer.ANNOTATIONS, graphics));
+		commitLayoutState();
 	}
 	
 	protected void settingPaint(int width, int height) {
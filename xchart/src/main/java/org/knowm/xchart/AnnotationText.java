@@ -4,10 +4,10 @@ import java.awt.Graphics2D;
 import java.awt.RenderingHints;
 import java.awt.Shape;
 import java.awt.font.FontRenderContext;
-import java.awt.font.TextLayout;
 import java.awt.geom.AffineTransform;
 import java.awt.geom.Rectangle2D;
 import org.knowm.xchart.internal.chartpart.Annotation;
+import org.knowm.xchart.internal.chartpart.TextMetricsCache;
 
 public class AnnotationText extends AnnotationWithXY {
 
@@ -45,8 +45,7 @@ public class AnnotationText extends AnnotationWithXY {
     graphic.setFont(styler.getAnnotationTextFont());
 
     FontRenderContext frc = graphic.getFontRenderContext();
-    TextLayout tl = new TextLayout(text, styler.getAnnotationTextFont(), frc);
-    Shape shape = tl.getOutline(null);
+    Shape shape = TextMetricsCache.getOutline(text, styler.getAnnotationTextFont(), frc);
 
     Rectangle2D textBounds = shape.getBounds2D();
 
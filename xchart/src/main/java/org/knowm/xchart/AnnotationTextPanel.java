@@ -5,7 +5,6 @@ import java.awt.Graphics2D;
 import java.awt.RenderingHints;
 import java.awt.Shape;
 import java.awt.font.FontRenderContext;
-import java.awt.font.TextLayout;
 import java.awt.geom.AffineTransform;
 import java.awt.geom.Rectangle2D;
 import java.util.Arrays;
@@ -14,6 +13,7 @@ import java.util.List;
 import java.util.Map;
 import org.knowm.xchart.internal.chartpart.Annotation;
 import org.knowm.xchart.internal.chartpart.Chart;
+import org.knowm.xchart.internal.chartpart.TextMetricsCache;
 
 public class AnnotationTextPanel extends AnnotationWithXY {
 
@@ -115,8 +115,8 @@ public void init(Chart chart) {
       double lineHeight = entry.getValue().getHeight();
 
       FontRenderContext frc = graphic.getFontRenderContext();
-      TextLayout tl = new TextLayout(entry.getKey(), styler.getAnnotationTextPanelFont(), frc);
-      Shape shape = tl.getOutline(null);
+      Shape shape =
+          TextMetricsCache.getOutline(entry.getKey(), styler.getAnnotationTextPanelFont(), frc);
       AffineTransform orig = graphic.getTransform();
       AffineTransform at = new AffineTransform();
       at.translate(xOffset, yOffset + lineHeight + multiLineOffset);
@@ -135,9 +135,8 @@ public void init(Chart chart) {
     Font infoPanelFont = styler.getAnnotationTextPanelFont();
     Map<String, Rectangle2D> textBounds = new LinkedHashMap<>(lines.size());
     for (String line : lines) {
-      TextLayout textLayout =
-          new TextLayout(line, infoPanelFont, new FontRenderContext(null, true, false));
-      Shape shape = textLayout.getOutline(null);
+      Shape shape =
+          TextMetricsCache.getOutline(line, infoPanelFont, new FontRenderContext(null, true, false));
       Rectangle2D bounds = shape.getBounds2D();
       textBounds.put(line, bounds);
     }
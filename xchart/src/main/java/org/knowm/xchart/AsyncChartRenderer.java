@@ -0,0 +1,306 @@
+package org.knowm.xchart;
+
+import java.awt.AlphaComposite;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.Transparency;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Renders the chart of an XChartPanel on a background thread into a back buffer, so that a slow
+ * paint doesn't freeze the Swing event dispatch thread, which only draws the last completed frame.
+ * A frame requested while another one is being rendered waits for it, and is replaced by any frame
+ * requested after it, so frames requested faster than they can be rendered are dropped.
+ *
+ * <p>The event dispatch thread never touches the chart. The mouse events of the chart parts, like
+ * the tool tips, the cursor or the zoom, are handed to the renderer thread, which handles them in
+ * order between two frames, against the layout of the last completed frame. So do saving, exporting
+ * and printing the chart from the panel. The renderer thread holds the lock of the chart while it
+ * paints a frame or runs such a task. Code updating the chart from another thread can synchronize
+ * on the chart too, so that no frame shows half an update, and then call repaint() on the panel as
+ * usual.
+ */
+public class AsyncChartRenderer {
+
+  private final ChartPainter chartPainter;
+  private final Runnable frameListener;
+  private final ThreadPoolExecutor executor;
+
+  // the frame waiting to be rendered and the last one requested, guarded by this
+  private Frame pendingFrame;
+  private Frame lastRequestedFrame;
+
+  // the last completed frame and the buffer for the next one, guarded by frameLock
+  private final Object frameLock = new Object();
+  private Frame frontFrame;
+  private BufferedImage frontBuffer;
+  private BufferedImage backBuffer;
+  private boolean isFrontDrawn;
+
+  private final AtomicLong renderedFrameCount = new AtomicLong();
+  private final AtomicLong droppedFrameCount = new AtomicLong();
+  private volatile long lastRenderTime;
+  private volatile long lastFrameLatency;
+
+  /**
+   * Constructor
+   *
+   * @param chartPainter paints the chart into a frame, on the renderer thread
+   * @param frameListener called on the renderer thread whenever a frame is completed
+   */
+  AsyncChartRenderer(ChartPainter chartPainter, Runnable frameListener) {
+
+    this.chartPainter = chartPainter;
+    this.frameListener = frameListener;
+    // a single thread, which stops when idle
+    this.executor =
+        new ThreadPoolExecutor(
+            0,
+            1,
+            1,
+            TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(),
+            runnable -> {
+              Thread thread = new Thread(runnable, "XChart Renderer");
+              thread.setDaemon(true);
+              return thread;
+            });
+  }
+
+  /**
+   * Draws the last completed frame, and requests a new one if there is none yet for the size and
+   * scale of the graphics. Called on the event dispatch thread.
+   *
+   * @param graphics
+   * @param width
+   * @param height
+   * @param graphicsConfiguration
+   */
+  void paint(
+      Graphics2D graphics, int width, int height, GraphicsConfiguration graphicsConfiguration) {
+
+    AffineTransform transform = graphics.getTransform();
+    Frame frame =
+        new Frame(
+            width,
+            height,
+            transform.getScaleX(),
+            transform.getScaleY(),
+            graphicsConfiguration,
+            System.nanoTime());
+
+    boolean isFrontCurrent;
+    synchronized (frameLock) {
+      if (frontBuffer != null) {
+        graphics.drawImage(frontBuffer, 0, 0, frontFrame.width, frontFrame.height, null);
+        if (!isFrontDrawn) {
+          isFrontDrawn = true;
+          lastFrameLatency = frame.requestTime - frontFrame.requestTime;
+        }
+      }
+      isFrontCurrent = frontFrame != null && frontFrame.isSameSize(frame);
+    }
+
+    synchronized (this) {
+      boolean isRequested = lastRequestedFrame != null && lastRequestedFrame.isSameSize(frame);
+      if (!isFrontCurrent && !isRequested) {
+        requestFrame(frame);
+      }
+    }
+  }
+
+  /**
+   * Requests a new frame, at the scale of the last one.
+   *
+   * @param width
+   * @param height
+   * @return false if no frame can be requested, before the first paint or after the shutdown
+   */
+  synchronized boolean requestFrame(int width, int height) {
+
+    if (lastRequestedFrame == null || executor.isShutdown()) {
+      return false;
+    }
+    requestFrame(
+        new Frame(
+            width,
+            height,
+            lastRequestedFrame.scaleX,
+            lastRequestedFrame.scaleY,
+            lastRequestedFrame.graphicsConfiguration,
+            System.nanoTime()));
+    return true;
+  }
+
+  /**
+   * Runs a task on the renderer thread, after the frames and tasks requested before it.
+   *
+   * @param task
+   * @return false if the task can't be run on the renderer thread after the shutdown
+   */
+  synchronized boolean execute(Runnable task) {
+
+    if (executor.isShutdown()) {
+      return false;
+    }
+    executor.execute(task);
+    return true;
+  }
+
+  /** Stops the renderer thread once the frame being rendered is completed. */
+  synchronized void shutdown() {
+
+    executor.shutdown();
+  }
+
+  private void requestFrame(Frame frame) {
+
+    if (executor.isShutdown() || frame.width <= 0 || frame.height <= 0) {
+      return;
+    }
+    lastRequestedFrame = frame;
+    if (pendingFrame != null) {
+      // the pending frame is never rendered, the latency is counted from its request
+      droppedFrameCount.incrementAndGet();
+      pendingFrame = frame.requestedAt(pendingFrame.requestTime);
+    } else {
+      pendingFrame = frame;
+      executor.execute(this::render);
+    }
+  }
+
+  private void render() {
+
+    Frame frame;
+    synchronized (this) {
+      frame = pendingFrame;
+      pendingFrame = null;
+    }
+    long start = System.nanoTime();
+
+    int imageWidth = (int) Math.ceil(frame.width * frame.scaleX);
+    int imageHeight = (int) Math.ceil(frame.height * frame.scaleY);
+    BufferedImage image;
+    synchronized (frameLock) {
+      image = backBuffer;
+      backBuffer = null;
+    }
+    if (image == null || image.getWidth() != imageWidth || image.getHeight() != imageHeight) {
+      if (frame.graphicsConfiguration != null) {
+        image =
+            frame.graphicsConfiguration.createCompatibleImage(
+                imageWidth, imageHeight, Transparency.TRANSLUCENT);
+      } else {
+        image = new BufferedImage(imageWidth, imageHeight, BufferedImage.TYPE_INT_ARGB_PRE);
+      }
+    }
+
+    Graphics2D graphics = image.createGraphics();
+    try {
+      graphics.setComposite(AlphaComposite.Clear);
+      graphics.fillRect(0, 0, imageWidth, imageHeight);
+      graphics.setComposite(AlphaComposite.SrcOver);
+      graphics.scale(frame.scaleX, frame.scaleY);
+      chartPainter.paint(graphics, frame.width, frame.height, frame.graphicsConfiguration);
+    } finally {
+      graphics.dispose();
+    }
+
+    synchronized (frameLock) {
+      backBuffer = frontBuffer;
+      frontBuffer = image;
+      frontFrame = frame;
+      isFrontDrawn = false;
+    }
+    lastRenderTime = System.nanoTime() - start;
+    renderedFrameCount.incrementAndGet();
+    frameListener.run();
+  }
+
+  /**
+   * @return the number of frames rendered so far
+   */
+  public long getRenderedFrameCount() {
+
+    return renderedFrameCount.get();
+  }
+
+  /**
+   * @return the number of frames which were requested but replaced by a later request before they
+   *     were rendered
+   */
+  public long getDroppedFrameCount() {
+
+    return droppedFrameCount.get();
+  }
+
+  /**
+   * @return the time it took to render the last frame, in nanoseconds
+   */
+  public long getLastRenderTime() {
+
+    return lastRenderTime;
+  }
+
+  /**
+   * @return the time from the request of the last drawn frame, or of the oldest request it
+   *     replaced, until it was first drawn on the panel, in nanoseconds
+   */
+  public long getLastFrameLatency() {
+
+    return lastFrameLatency;
+  }
+
+  /** Paints the chart into a frame */
+  interface ChartPainter {
+
+    void paint(
+        Graphics2D graphics, int width, int height, GraphicsConfiguration graphicsConfiguration);
+  }
+
+  /** The size and scale a frame is rendered at, and when it was requested */
+  private static class Frame {
+
+    private final int width;
+    private final int height;
+    private final double scaleX;
+    private final double scaleY;
+    private final GraphicsConfiguration graphicsConfiguration;
+    private final long requestTime;
+
+    private Frame(
+        int width,
+        int height,
+        double scaleX,
+        double scaleY,
+        GraphicsConfiguration graphicsConfiguration,
+        long requestTime) {
+
+      this.width = width;
+      this.height = height;
+      this.scaleX = scaleX;
+      this.scaleY = scaleY;
+      this.graphicsConfiguration = graphicsConfiguration;
+      this.requestTime = requestTime;
+    }
+
+    private Frame requestedAt(long requestTime) {
+
+      return new Frame(width, height, scaleX, scaleY, graphicsConfiguration, requestTime);
+    }
+
+    private boolean isSameSize(Frame frame) {
+
+      return width == frame.width
+          && height == frame.height
+          && scaleX == frame.scaleX
+          && scaleY == frame.scaleY
+          && graphicsConfiguration == frame.graphicsConfiguration;
+    }
+  }
+}
@@ -8,10 +8,26 @@ import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InterruptedIOException;
 import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
 import javax.imageio.IIOImage;
 import javax.imageio.ImageIO;
 import javax.imageio.ImageTypeSpecifier;
@@ -21,7 +37,11 @@ import javax.imageio.metadata.IIOInvalidTreeException;
 import javax.imageio.metadata.IIOMetadata;
 import javax.imageio.metadata.IIOMetadataNode;
 import javax.imageio.stream.FileImageOutputStream;
+import javax.imageio.stream.ImageOutputStream;
+import javax.imageio.stream.MemoryCacheImageOutputStream;
+import org.knowm.xchart.internal.BufferedImagePool;
 import org.knowm.xchart.internal.chartpart.Chart;
+import org.knowm.xchart.internal.chartpart.MarkerSprites;
 
 /**
  * A helper class with static methods for saving Charts as bitmaps
@@ -32,6 +52,14 @@ public final class BitmapEncoder {
 
   private static final double DEFAULT_DPI = 72.0;
 
+  // images and writers are reused between charts, at most one per thread rendering concurrently
+  private static final int MAX_POOLED = Runtime.getRuntime().availableProcessors();
+  // images are kept for the few chart sizes saved most recently
+  private static final int MAX_POOLED_SIZES = 4;
+  private static final BufferedImagePool IMAGE_POOL =
+      new BufferedImagePool(MAX_POOLED, MAX_POOLED_SIZES);
+  private static final Map<String, Queue<ImageWriter>> IMAGE_WRITERS = new ConcurrentHashMap<>();
+
 /** Constructor - Private constructor to prevent instantiation */
   private BitmapEncoder() {}
 
@@ -83,8 +111,75 @@ public final class BitmapEncoder {
   public static <T extends Chart<?, ?>> void saveBitmap(
       T chart, OutputStream targetStream, BitmapFormat bitmapFormat) throws IOException {
 
-    BufferedImage bufferedImage = getBufferedImage(chart);
-    ImageIO.write(bufferedImage, bitmapFormat.toString().toLowerCase(), targetStream);
+    BufferedImage bufferedImage =
+        IMAGE_POOL.borrow(chart.getWidth(), chart.getHeight(), BufferedImage.TYPE_INT_RGB);
+    try {
+      paint(chart, bufferedImage);
+      write(bufferedImage, bitmapFormat, targetStream);
+    } finally {
+      IMAGE_POOL.release(bufferedImage);
+    }
+  }
+
+  /**
+   * Write a Chart into a given channel. Does not close the target channel automatically at the end
+   * of the operation
+   *
+   * @param chart
+   * @param targetChannel
+   * @param bitmapFormat
+   * @throws IOException
+   */
+  public static <T extends Chart<?, ?>> void saveBitmap(
+      T chart, WritableByteChannel targetChannel, BitmapFormat bitmapFormat) throws IOException {
+
+    saveBitmap(chart, Channels.newOutputStream(targetChannel), bitmapFormat);
+  }
+
+  /**
+   * Encodes an image directly into the target stream with a reused ImageWriter. Like
+   * ImageIO.write, but without the temporary cache file and without creating a new writer every
+   * time. Nothing is written if there is no writer for the format.
+   *
+   * @param bufferedImage
+   * @param bitmapFormat
+   * @param targetStream
+   * @throws IOException
+   */
+  private static void write(
+      BufferedImage bufferedImage, BitmapFormat bitmapFormat, OutputStream targetStream)
+      throws IOException {
+
+    String formatName = bitmapFormat.toString().toLowerCase();
+    Queue<ImageWriter> writers =
+        IMAGE_WRITERS.computeIfAbsent(formatName, name -> new ConcurrentLinkedQueue<>());
+    ImageWriter writer = writers.poll();
+    if (writer == null) {
+      Iterator<ImageWriter> iterator = ImageIO.getImageWritersByFormatName(formatName);
+      if (!iterator.hasNext()) {
+        return;
+      }
+      writer = iterator.next();
+    }
+
+    try (ImageOutputStream output = new MemoryCacheImageOutputStream(targetStream)) {
+      writer.setOutput(output);
+      writer.write(null, new IIOImage(bufferedImage, null, null), null);
+    } finally {
+      writer.reset();
+      if (writers.size() < MAX_POOLED) {
+        writers.offer(writer);
+      } else {
+        writer.dispose();
+      }
+    }
+  }
+
+  /** @return the number of idle writers kept for the format */
+  static int getPooledWriterCount(BitmapFormat bitmapFormat) {
+
+    Queue<ImageWriter> writers = IMAGE_WRITERS.get(bitmapFormat.toString().toLowerCase());
+    return writers == null ? 0 : writers.size();
   }
 
   /**
@@ -138,6 +233,113 @@ public final class BitmapEncoder {
     ImageIO.write(bufferedImage, bitmapFormat.toString().toLowerCase(), targetStream);
   }
 
+  /**
+   * Save many Charts as image files, rendering and encoding them concurrently on one thread per
+   * available processor. See {@link #saveBitmaps(List, List, BitmapFormat, Executor, int)}.
+   *
+   * @param charts
+   * @param fileNames one file name per chart
+   * @param bitmapFormat
+   * @throws IOException if at least one chart could not be saved
+   */
+  public static <T extends Chart<?, ?>> void saveBitmaps(
+      List<T> charts, List<String> fileNames, BitmapFormat bitmapFormat) throws IOException {
+
+    int threads = Runtime.getRuntime().availableProcessors();
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    try {
+      saveBitmaps(charts, fileNames, bitmapFormat, executor, threads);
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  /**
+   * Save many Charts as image files, rendering and encoding them concurrently on the given
+   * executor, for example a fixed thread pool or a virtual thread per task executor. At most
+   * maxConcurrentCharts charts are rendered at the same time, further charts are only submitted
+   * once a previous one has been written, so that no more than maxConcurrentCharts images are held
+   * in memory regardless of the number of charts. The method returns once all submitted charts are
+   * written. After the first failure no further charts are submitted.
+   *
+   * <p>Every chart is painted on exactly one thread, so the charts must not be modified or painted
+   * elsewhere (e.g. in an XChartPanel) while they are exported and each chart may only be in the
+   * list once.
+   *
+   * @param charts
+   * @param fileNames one file name per chart
+   * @param bitmapFormat
+   * @param executor runs one task per chart
+   * @param maxConcurrentCharts the maximum number of charts being rendered at the same time
+   * @throws IOException if at least one chart could not be saved, the first failure is thrown
+   */
+  public static <T extends Chart<?, ?>> void saveBitmaps(
+      List<T> charts,
+      List<String> fileNames,
+      BitmapFormat bitmapFormat,
+      Executor executor,
+      int maxConcurrentCharts)
+      throws IOException {
+
+    if (charts.size() != fileNames.size()) {
+      throw new IllegalArgumentException("Charts and file names sizes are not the same!!!");
+    }
+    if (maxConcurrentCharts < 1) {
+      throw new IllegalArgumentException("Max concurrent charts must be at least 1!!!");
+    }
+    Set<Chart<?, ?>> distinctCharts = Collections.newSetFromMap(new IdentityHashMap<>());
+    for (T chart : charts) {
+      if (!distinctCharts.add(chart)) {
+        throw new IllegalArgumentException("A chart can only be exported once per batch!!!");
+      }
+    }
+
+    Semaphore permits = new Semaphore(maxConcurrentCharts);
+    AtomicReference<Throwable> failure = new AtomicReference<>();
+    try {
+      try {
+        for (int i = 0; i < charts.size() && failure.get() == null; i++) {
+          // backpressure, waits until one of the charts being rendered has been written
+          permits.acquire();
+          T chart = charts.get(i);
+          String fileName = fileNames.get(i);
+          try {
+            executor.execute(
+                () -> {
+                  try {
+                    saveBitmap(chart, fileName, bitmapFormat);
+                  } catch (Throwable t) {
+                    failure.compareAndSet(null, t);
+                  } finally {
+                    permits.release();
+                  }
+                });
+          } catch (RejectedExecutionException e) {
+            permits.release();
+            failure.compareAndSet(null, e);
+          }
+        }
+      } finally {
+        // wait for the submitted charts, even if the submitting thread was interrupted
+        permits.acquireUninterruptibly(maxConcurrentCharts);
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Interrupted while saving the charts!!!");
+    }
+
+    Throwable t = failure.get();
+    if (t instanceof IOException) {
+      throw (IOException) t;
+    } else if (t instanceof RuntimeException) {
+      throw (RuntimeException) t;
+    } else if (t instanceof Error) {
+      throw (Error) t;
+    } else if (t != null) {
+      throw new IOException(t);
+    }
+  }
+
   /**
    * Save a chart as a PNG with a custom DPI. The default DPI is 72, which is fine for displaying
    * charts on a computer monitor, but for printing charts, a DPI of around 300 is much better.
@@ -159,6 +361,7 @@ public final class BitmapEncoder {
             BufferedImage.TYPE_INT_RGB);
 
     Graphics2D graphics2D = bufferedImage.createGraphics();
+    graphics2D.setRenderingHint(MarkerSprites.KEY_MARKER_SPRITES, true);
 
     AffineTransform at = graphics2D.getTransform();
     at.scale(scaleFactor, scaleFactor);
@@ -262,13 +465,10 @@ public final class BitmapEncoder {
   public static <T extends Chart<?, ?>> byte[] getBitmapBytes(T chart, BitmapFormat bitmapFormat)
       throws IOException {
 
-    BufferedImage bufferedImage = getBufferedImage(chart);
-
     byte[] imageInBytes;
 
     try (ByteArrayOutputStream baos = new ByteArrayOutputStream()) {
-      ImageIO.write(bufferedImage, bitmapFormat.toString().toLowerCase(), baos);
-      baos.flush();
+      saveBitmap(chart, baos, bitmapFormat);
       imageInBytes = baos.toByteArray();
     }
     return imageInBytes;
@@ -278,11 +478,21 @@ public final class BitmapEncoder {
 
     BufferedImage bufferedImage =
         new BufferedImage(chart.getWidth(), chart.getHeight(), BufferedImage.TYPE_INT_RGB);
-    Graphics2D graphics2D = bufferedImage.createGraphics();
-    chart.paint(graphics2D, chart.getWidth(), chart.getHeight());
+    paint(chart, bufferedImage);
     return bufferedImage;
   }
 
+  private static <T extends Chart<?, ?>> void paint(T chart, BufferedImage bufferedImage) {
+
+    Graphics2D graphics2D = bufferedImage.createGraphics();
+    graphics2D.setRenderingHint(MarkerSprites.KEY_MARKER_SPRITES, true);
+    try {
+      chart.paint(graphics2D, chart.getWidth(), chart.getHeight());
+    } finally {
+      graphics2D.dispose();
+    }
+  }
+
   private static BufferedImage mergeImages(List<BufferedImage> images, Integer rows, Integer cols) {
 
     BufferedImage first = images.get(0);
@@ -69,6 +69,35 @@ public class BoxChart extends AbstractChart<BoxStyler, BoxSeries> {
     return series;
   }
 
+  /**
+   * Add a series estimated from a sketch of its samples, for more samples than fit in memory. The
+   * min and max of the samples are drawn as its only data points. Samples added to the sketch
+   * later are shown after updateBoxSeries is called with it.
+   *
+   * @param seriesName
+   * @param quantileSketch
+   * @return
+   */
+  public BoxSeries addSeries(String seriesName, QuantileSketch quantileSketch) {
+
+    seriesNameDuplicateCheck(seriesName);
+    sanityCheck(quantileSketch);
+    xData.add(seriesName);
+    BoxSeries series = new BoxSeries(seriesName, xData, quantileSketch, DataType.String);
+    seriesMap.put(seriesName, series);
+    return series;
+  }
+
+  private static void sanityCheck(QuantileSketch quantileSketch) {
+
+    if (quantileSketch == null) {
+      throw new IllegalArgumentException("Quantile sketch cannot be null!!!");
+    }
+    if (quantileSketch.getCount() == 0) {
+      throw new IllegalArgumentException("Quantile sketch cannot be empty!!!");
+    }
+  }
+
   private void sanityCheck(String seriesName, List<? extends Number> yData) {
 
     seriesNameDuplicateCheck(seriesName);
@@ -94,6 +123,16 @@ public class BoxChart extends AbstractChart<BoxStyler, BoxSeries> {
     return series;
   }
 
+  public BoxSeries updateBoxSeries(String seriesName, QuantileSketch newQuantileSketch) {
+
+    BoxSeries series = getSeriesMap().get(seriesName);
+
+    checkSeriesValidity(seriesName, series);
+    sanityCheck(newQuantileSketch);
+    series.replaceData(newQuantileSketch);
+    return series;
+  }
+
   private void updateSanityCheck(String seriesName, List<? extends Number> newYData, BoxSeries series) {
 	checkSeriesValidity(seriesName, series);
 	new SanityYChecker(newYData).checkSanity();
@@ -102,8 +141,13 @@ public class BoxChart extends AbstractChart<BoxStyler, BoxSeries> {
   @Override
   public void paint(Graphics2D graphics, int width, int height) {
 
-    settingPaint(width, height);
-    doPaint(graphics);
+    boolean isPinned = pinSeries();
+    try {
+      settingPaint(width, height);
+      doPaint(graphics);
+    } finally {
+      unpinSeries(isPinned);
+    }
   }
 
   @Override
@@ -1,11 +1,16 @@
 package org.knowm.xchart;
 
+import java.util.Arrays;
 import java.util.List;
 import org.knowm.xchart.internal.chartpart.RenderableSeries.LegendRenderType;
 import org.knowm.xchart.internal.series.AxesChartSeriesCategory;
 
 public class BoxSeries extends AxesChartSeriesCategory {
 
+  // the samples summarized by a sketch instead of yData, which then holds their min and max
+  private QuantileSketch quantileSketch;
+  private int dataVersion;
+
   public BoxSeries(
       String name,
       List<?> xData,
@@ -16,6 +21,62 @@ public class BoxSeries extends AxesChartSeriesCategory {
     super(name, xData, yData, extraValues, xAxisDataType);
   }
 
+  public BoxSeries(
+      String name, List<?> xData, QuantileSketch quantileSketch, DataType xAxisDataType) {
+
+    super(name, xData, getExtremes(quantileSketch), null, xAxisDataType);
+    this.quantileSketch = quantileSketch;
+  }
+
+  private static List<Double> getExtremes(QuantileSketch quantileSketch) {
+
+    return Arrays.asList(quantileSketch.getMin(), quantileSketch.getMax());
+  }
+
+  /**
+   * This is an internal method which shouldn't be called from client code. Use
+   * BoxChart.updateBoxSeries instead!
+   *
+   * @param newYData
+   */
+  @Override
+  public void replaceData(List<? extends Number> newYData) {
+
+    quantileSketch = null;
+    dataVersion++;
+    super.replaceData(newYData);
+  }
+
+  /**
+   * This is an internal method which shouldn't be called from client code. Use
+   * BoxChart.updateBoxSeries instead!
+   *
+   * @param newQuantileSketch
+   */
+  public void replaceData(QuantileSketch newQuantileSketch) {
+
+    quantileSketch = newQuantileSketch;
+    dataVersion++;
+    super.replaceData(getExtremes(newQuantileSketch));
+  }
+
+  /** @return the sketch the box plot is estimated from, or null if it is calculated from yData */
+  public QuantileSketch getQuantileSketch() {
+
+    return quantileSketch;
+  }
+
+  /**
+   * Gets a number which changes whenever the data is replaced, so that the box plot calculated from
+   * it can be cached.
+   *
+   * @return
+   */
+  public int getDataVersion() {
+
+    return dataVersion;
+  }
+
   @Override
   public LegendRenderType getLegendRenderType() {
 
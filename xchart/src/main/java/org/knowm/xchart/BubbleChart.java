@@ -212,9 +212,14 @@ public class BubbleChart extends AbstractChart<BubbleStyler, BubbleSeries> {
   @Override
   public void paint(Graphics2D graphics, int width, int height) {
 
-    settingPaint(width, height);
+    boolean isPinned = pinSeries();
+    try {
+      settingPaint(width, height);
 
-    doPaint(graphics);
+      doPaint(graphics);
+    } finally {
+      unpinSeries(isPinned);
+    }
   }
 
   @Override
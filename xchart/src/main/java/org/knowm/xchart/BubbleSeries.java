@@ -34,6 +34,7 @@ public class BubbleSeries extends NoMarkersSeries {
   public void setBubbleSeriesRenderStyle(BubbleSeriesRenderStyle bubbleSeriesRenderStyle) {
 
     this.bubbleSeriesRenderStyle = bubbleSeriesRenderStyle;
+    markChanged();
   }
 
   @Override
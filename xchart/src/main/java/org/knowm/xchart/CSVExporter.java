@@ -1,12 +1,20 @@
 package org.knowm.xchart;
 
-import java.io.*;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
 
 /**
  * This class is used to export Chart data to a folder containing one or more CSV files. The parent
  * folder's name is the title of the chart. Each series becomes a CSV file in the folder. The
  * series' name becomes the CSV files' name.
  *
+ * <p>The values are formatted into a reused buffer, which is written to the file whenever it is
+ * full, so even series with millions of values are exported without building their text in memory.
+ *
  * @author timmolter
  */
 public class CSVExporter {
@@ -32,54 +40,15 @@ public class CSVExporter {
    */
   public static void writeCSVRows(XYSeries series, String path2Dir) {
 
-    File newFile = new File(path2Dir + series.getName() + ".csv");
-    Writer out = null;
-    try {
-
-      out = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(newFile), "UTF8"));
-      String csv = join(series.getXData(), ",") + System.getProperty("line.separator");
-      out.write(csv);
-      csv = join(series.getYData(), ",") + System.getProperty("line.separator");
-      out.write(csv);
+    try (CSVFileWriter out = new CSVFileWriter(path2Dir + series.getName() + ".csv")) {
+      out.writeRow(series.getXData());
+      out.writeRow(series.getYData());
       if (series.getExtraValues() != null) {
-        csv = join(series.getExtraValues(), ",") + System.getProperty("line.separator");
-        out.write(csv);
+        out.writeRow(series.getExtraValues());
       }
     } catch (Exception e) {
       e.printStackTrace();
-    } finally {
-      if (out != null) {
-        try {
-          out.flush();
-          out.close();
-        } catch (IOException e) {
-          // NOP
-        }
-      }
-    }
-  }
-
-  /**
-   * Joins a series into an entire row of comma separated values.
-   *
-   * @param seriesData
-   * @param separator
-   * @return
-   */
-  private static String join(double[] seriesData, String separator) {
-
-    // two or more elements
-    StringBuilder sb = new StringBuilder(256); // Java default is 16, probably too small
-    sb.append(seriesData[0]);
-    for (int i = 1; i < seriesData.length; i++) {
-
-      if (separator != null) {
-        sb.append(separator);
-      }
-
-      sb.append(seriesData[i]);
     }
-    return sb.toString();
   }
 
   /**
@@ -103,40 +72,107 @@ public class CSVExporter {
    */
   public static void writeCSVColumns(XYSeries series, String path2Dir) {
 
-    File newFile = new File(path2Dir + series.getName() + ".csv");
-    Writer out = null;
-    try {
-
-      out = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(newFile), "UTF8"));
+    try (CSVFileWriter out = new CSVFileWriter(path2Dir + series.getName() + ".csv")) {
       double[] xData = series.getXData();
       double[] yData = series.getYData();
       double[] errorBarData = series.getExtraValues();
       for (int i = 0; i < xData.length; i++) {
-
-        StringBuilder sb = new StringBuilder();
-        sb.append(xData[i]).append(",");
-        sb.append(yData[i]).append(",");
+        out.write(xData[i]);
+        out.write(',');
+        out.write(yData[i]);
         if (errorBarData != null) {
-          sb.append(errorBarData[i]).append(",");
+          out.write(',');
+          out.write(errorBarData[i]);
         }
-        sb.setLength(sb.length() - 1);
-        sb.append(System.getProperty("line.separator"));
-
-        // String csv = xDataPoint + "," + yDataPoint + errorBarValue == null ? "" : ("," +
-        // errorBarValue) + System.getProperty("line.separator");
-        // String csv = + yDataPoint + System.getProperty("line.separator");
-        out.write(sb.toString());
+        out.writeLineSeparator();
       }
     } catch (Exception e) {
       e.printStackTrace();
-    } finally {
-      if (out != null) {
-        try {
-          out.flush();
-          out.close();
-        } catch (IOException e) {
-          // NOP
+    }
+  }
+
+  /**
+   * Writes the text of a CSV file through a file channel. The text is collected in a reused
+   * buffer, so no String is created per value, and written whenever the buffer is full. The text
+   * is ASCII only, which is the same in UTF-8.
+   */
+  private static class CSVFileWriter implements Closeable {
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final String lineSeparator = System.getProperty("line.separator");
+    private final FileChannel channel;
+    private final StringBuilder text = new StringBuilder(BUFFER_SIZE + 64);
+    private final ByteBuffer bytes = ByteBuffer.allocate(BUFFER_SIZE);
+
+    CSVFileWriter(String fileName) throws IOException {
+
+      channel =
+          FileChannel.open(
+              Paths.get(fileName),
+              StandardOpenOption.CREATE,
+              StandardOpenOption.TRUNCATE_EXISTING,
+              StandardOpenOption.WRITE);
+    }
+
+    void writeRow(double[] values) throws IOException {
+
+      for (int i = 0; i < values.length; i++) {
+        if (i > 0) {
+          write(',');
+        }
+        write(values[i]);
+      }
+      writeLineSeparator();
+    }
+
+    void write(double value) throws IOException {
+
+      // formatted like Double.toString(value), without creating the String
+      text.append(value);
+      if (text.length() >= BUFFER_SIZE) {
+        flush();
+      }
+    }
+
+    void write(char c) {
+
+      text.append(c);
+    }
+
+    void writeLineSeparator() {
+
+      text.append(lineSeparator);
+    }
+
+    private void flush() throws IOException {
+
+      for (int i = 0; i < text.length(); i++) {
+        if (!bytes.hasRemaining()) {
+          writeBytes();
         }
+        bytes.put((byte) text.charAt(i));
+      }
+      text.setLength(0);
+      writeBytes();
+    }
+
+    private void writeBytes() throws IOException {
+
+      bytes.flip();
+      while (bytes.hasRemaining()) {
+        channel.write(bytes);
+      }
+      bytes.clear();
+    }
+
+    @Override
+    public void close() throws IOException {
+
+      try {
+        flush();
+      } finally {
+        channel.close();
       }
     }
   }
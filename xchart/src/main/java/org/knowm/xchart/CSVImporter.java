@@ -1,11 +1,16 @@
 package org.knowm.xchart;
 
-import java.io.BufferedReader;
 import java.io.File;
-import java.io.FileReader;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractList;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.stream.Collectors;
 import org.knowm.xchart.style.Styler.ChartTheme;
 
 /**
@@ -17,6 +22,14 @@ import org.knowm.xchart.style.Styler.ChartTheme;
  */
 public class CSVImporter {
 
+  private static final int READ_BUFFER_SIZE = 1 << 16;
+
+  // the powers of ten that are exact doubles
+  private static final double[] POWERS_OF_TEN = {
+    1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15, 1e16,
+    1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+  };
+
   /**
    * @param path2Directory
    * @param dataOrientation
@@ -43,26 +56,20 @@ public class CSVImporter {
     // 2. get all the csv files in the dir
     File[] csvFiles = getAllFiles(path2Directory, ".*.csv");
 
-    // 3. create a series for each file, naming the series the file name
-    for (File csvFile : csvFiles) {
-      String[] xAndYData;
-      if (dataOrientation == DataOrientation.Rows) {
-        xAndYData = getSeriesDataFromCSVRows(csvFile);
-      } else {
-        xAndYData = getSeriesDataFromCSVColumns(csvFile);
-      }
-
-      if (xAndYData[2] == null || xAndYData[2].trim().equalsIgnoreCase("")) {
-        chart.addSeries(
-            csvFile.getName().substring(0, csvFile.getName().indexOf(".csv")),
-            getAxisData(xAndYData[0]),
-            getAxisData(xAndYData[1]));
+    // 3. read the files in parallel, keeping their order
+    List<double[][]> allData =
+        Arrays.stream(csvFiles)
+            .parallel()
+            .map(csvFile -> readCSVFile(csvFile, dataOrientation))
+            .collect(Collectors.toList());
+
+    // 4. create a series for each file, naming the series the file name
+    for (int i = 0; i < csvFiles.length; i++) {
+      double[][] data = allData.get(i);
+      if (data[2] == null) {
+        chart.addSeries(getSeriesName(csvFiles[i]), data[0], data[1]);
       } else {
-        chart.addSeries(
-            csvFile.getName().substring(0, csvFile.getName().indexOf(".csv")),
-            getAxisData(xAndYData[0]),
-            getAxisData(xAndYData[1]),
-            getAxisData(xAndYData[2]));
+        chart.addSeries(getSeriesName(csvFiles[i]), data[0], data[1], data[2]);
       }
     }
 
@@ -76,16 +83,8 @@ public class CSVImporter {
     File csvFile = new File(path2CSVFile);
 
     // 2. Create Series
-    String[] xAndYData;
-    if (dataOrientation == DataOrientation.Rows) {
-      xAndYData = getSeriesDataFromCSVRows(csvFile);
-    } else {
-      xAndYData = getSeriesDataFromCSVColumns(csvFile);
-    }
-    return new SeriesData(
-        getAxisData(xAndYData[0]),
-        getAxisData(xAndYData[1]),
-        csvFile.getName().substring(0, csvFile.getName().indexOf(".csv")));
+    double[][] data = readCSVFile(csvFile, dataOrientation);
+    return new SeriesData(data[0], data[1], data[2], getSeriesName(csvFile));
   }
 
   /**
@@ -101,93 +100,221 @@ public class CSVImporter {
     return getChartFromCSVDir(path2Directory, dataOrientation, width, height, null);
   }
 
+  private static String getSeriesName(File csvFile) {
+
+    return csvFile.getName().substring(0, csvFile.getName().indexOf(".csv"));
+  }
+
   /**
-   * Get the series's data from a file
+   * Reads the X data, Y data and error bars of a series from a file. The file is read in chunks
+   * through a file channel and the numbers are parsed straight from the bytes into growing arrays,
+   * without creating a String per line or value.
    *
    * @param csvFile
-   * @return
+   * @param dataOrientation
+   * @return the X data, the Y data and the error bars, which are null if the file has none
    */
-  private static String[] getSeriesDataFromCSVRows(File csvFile) {
+  private static double[][] readCSVFile(File csvFile, DataOrientation dataOrientation) {
+
+    CSVParser parser = new CSVParser(dataOrientation);
+    try (FileChannel channel = FileChannel.open(csvFile.toPath(), StandardOpenOption.READ)) {
+      ByteBuffer buffer = ByteBuffer.allocate(READ_BUFFER_SIZE);
+      while (channel.read(buffer) != -1) {
+        buffer.flip();
+        parser.parse(buffer.array(), buffer.limit());
+        buffer.clear();
+      }
+    } catch (IOException e) {
+      System.out.println("Exception while reading csv file: " + e);
+    }
+    return parser.finish();
+  }
 
-    String[] xAndYData = new String[3];
+  /** Splits the bytes of a CSV file into numbers, collecting them per row or per column. */
+  private static class CSVParser {
 
-    BufferedReader bufferedReader = null;
-    try {
-      int counter = 0;
-      String line;
-      bufferedReader = new BufferedReader(new FileReader(csvFile));
-      while ((line = bufferedReader.readLine()) != null) {
-        xAndYData[counter++] = line;
+    // x data, y data and error bars
+    private final DoubleArrayBuilder[] data = {
+      new DoubleArrayBuilder(), new DoubleArrayBuilder(), new DoubleArrayBuilder()
+    };
+    private final DataOrientation dataOrientation;
+    private byte[] token = new byte[64];
+    private int tokenLength;
+    private int row;
+    private int column;
+
+    CSVParser(DataOrientation dataOrientation) {
+
+      this.dataOrientation = dataOrientation;
+    }
+
+    void parse(byte[] bytes, int length) {
+
+      for (int i = 0; i < length; i++) {
+        byte b = bytes[i];
+        if (b == ',') {
+          endValue(false);
+        } else if (b == '\n') {
+          endValue(true);
+        } else {
+          if (tokenLength == token.length) {
+            token = Arrays.copyOf(token, tokenLength * 2);
+          }
+          token[tokenLength++] = b;
+        }
       }
-    } catch (Exception e) {
-      System.out.println("Exception while reading csv file: " + e);
-    } finally {
-      if (bufferedReader != null) {
-        try {
-          bufferedReader.close();
-        } catch (IOException e) {
-          e.printStackTrace();
+    }
+
+    double[][] finish() {
+
+      if (tokenLength > 0 || column > 0) {
+        endValue(true);
+      }
+      double[] extraValues = data[2].size() == 0 ? null : data[2].toArray();
+      return new double[][] {data[0].toArray(), data[1].toArray(), extraValues};
+    }
+
+    private void endValue(boolean isEndOfLine) {
+
+      // like String.trim(), this also drops the '\r' of Windows line endings
+      int start = 0;
+      int end = tokenLength;
+      while (start < end && token[start] <= ' ') {
+        start++;
+      }
+      while (end > start && token[end - 1] <= ' ') {
+        end--;
+      }
+      tokenLength = 0;
+
+      // a trailing comma, or an empty line, is no value
+      if (start == end && isEndOfLine) {
+        if (column > 0 || dataOrientation == DataOrientation.Rows) {
+          row++;
         }
+        column = 0;
+        return;
+      }
+
+      int index = dataOrientation == DataOrientation.Rows ? row : column;
+      if (index < data.length) {
+        data[index].add(parseDouble(token, start, end));
+      }
+      if (isEndOfLine) {
+        row++;
+        column = 0;
+      } else {
+        column++;
       }
     }
-    return xAndYData;
   }
 
   /**
-   * @param csvFile
+   * Parses a decimal number from ASCII bytes. Numbers with up to 15 significant digits and a
+   * decimal exponent within 22, which is what CSV files mostly hold, are converted exactly with a
+   * single multiplication or division of doubles. All others fall back to Double.parseDouble.
+   *
+   * @param bytes
+   * @param start
+   * @param end
    * @return
    */
-  private static String[] getSeriesDataFromCSVColumns(File csvFile) {
+  static double parseDouble(byte[] bytes, int start, int end) {
 
-    String[] xAndYData = new String[3];
-    xAndYData[0] = "";
-    xAndYData[1] = "";
-    xAndYData[2] = "";
+    int i = start;
+    boolean negative = false;
+    if (i < end && (bytes[i] == '-' || bytes[i] == '+')) {
+      negative = bytes[i] == '-';
+      i++;
+    }
 
-    BufferedReader bufferedReader = null;
-    try {
-      String line;
-      bufferedReader = new BufferedReader(new FileReader(csvFile));
-      while ((line = bufferedReader.readLine()) != null) {
-        String[] dataArray = line.split(",");
-        xAndYData[0] += dataArray[0] + ",";
-        xAndYData[1] += dataArray[1] + ",";
-        if (dataArray.length > 2) {
-          xAndYData[2] += dataArray[2] + ",";
-        }
+    long mantissa = 0;
+    int significantDigits = 0;
+    int exponent = 0;
+    boolean hasDigits = false;
+    for (; i < end && bytes[i] >= '0' && bytes[i] <= '9'; i++) {
+      mantissa = mantissa * 10 + (bytes[i] - '0');
+      significantDigits += mantissa == 0 ? 0 : 1;
+      hasDigits = true;
+    }
+    if (i < end && bytes[i] == '.') {
+      for (i++; i < end && bytes[i] >= '0' && bytes[i] <= '9'; i++) {
+        mantissa = mantissa * 10 + (bytes[i] - '0');
+        significantDigits += mantissa == 0 ? 0 : 1;
+        exponent--;
+        hasDigits = true;
       }
-    } catch (Exception e) {
-      System.out.println("Exception while reading csv file: " + e);
-    } finally {
-      if (bufferedReader != null) {
-        try {
-          bufferedReader.close();
-        } catch (IOException e) {
-          e.printStackTrace();
-        }
+    }
+    if (hasDigits && i < end && (bytes[i] == 'e' || bytes[i] == 'E')) {
+      i++;
+      boolean negativeExponent = false;
+      if (i < end && (bytes[i] == '-' || bytes[i] == '+')) {
+        negativeExponent = bytes[i] == '-';
+        i++;
+      }
+      int exponentStart = i;
+      int explicitExponent = 0;
+      for (; i < end && i - exponentStart < 4 && bytes[i] >= '0' && bytes[i] <= '9'; i++) {
+        explicitExponent = explicitExponent * 10 + (bytes[i] - '0');
+      }
+      if (i == exponentStart) {
+        hasDigits = false;
       }
+      exponent += negativeExponent ? -explicitExponent : explicitExponent;
     }
-    return xAndYData;
+
+    // NaN, Infinity, hexadecimal, too precise or not a number at all
+    if (!hasDigits || i != end || significantDigits > 15) {
+      return parseDoubleSlow(bytes, start, end);
+    }
+
+    double value;
+    if (mantissa == 0) {
+      value = 0.0;
+    } else if (exponent >= 0 && exponent < POWERS_OF_TEN.length) {
+      value = mantissa * POWERS_OF_TEN[exponent];
+    } else if (exponent < 0 && -exponent < POWERS_OF_TEN.length) {
+      value = mantissa / POWERS_OF_TEN[-exponent];
+    } else {
+      return parseDoubleSlow(bytes, start, end);
+    }
+    return negative ? -value : value;
   }
 
-  /**
-   * @param stringData
-   * @return
-   */
-  private static List<Number> getAxisData(String stringData) {
-
-    List<Number> axisData = new ArrayList<Number>();
-    String[] stringDataArray = stringData.split(",");
-    for (String dataPoint : stringDataArray) {
-      try {
-        Double value = Double.parseDouble(dataPoint);
-        axisData.add(value);
-      } catch (NumberFormatException e) {
-        System.out.println("Error parsing >" + dataPoint + "< !");
-        throw (e);
+  private static double parseDoubleSlow(byte[] bytes, int start, int end) {
+
+    String dataPoint = new String(bytes, start, end - start, StandardCharsets.ISO_8859_1);
+    try {
+      return Double.parseDouble(dataPoint);
+    } catch (NumberFormatException e) {
+      System.out.println("Error parsing >" + dataPoint + "< !");
+      throw (e);
+    }
+  }
+
+  /** A growing double[], so the data is never boxed */
+  private static class DoubleArrayBuilder {
+
+    private double[] values = new double[1024];
+    private int size;
+
+    void add(double value) {
+
+      if (size == values.length) {
+        values = Arrays.copyOf(values, size * 2);
       }
+      values[size++] = value;
+    }
+
+    int size() {
+
+      return size;
+    }
+
+    double[] toArray() {
+
+      return Arrays.copyOf(values, size);
     }
-    return axisData;
   }
 
   /**
@@ -250,15 +377,70 @@ public class CSVImporter {
 
     private final List<Number> xAxisData;
     private final List<Number> yAxisData;
+    private final double[] xData;
+    private final double[] yData;
+    private final double[] extraValues;
     private final String seriesName;
 
     public SeriesData(List<Number> xAxisData, List<Number> yAxisData, String seriesName) {
 
       this.xAxisData = xAxisData;
       this.yAxisData = yAxisData;
+      this.xData = toArray(xAxisData);
+      this.yData = toArray(yAxisData);
+      this.extraValues = null;
+      this.seriesName = seriesName;
+    }
+
+    /**
+     * Constructor
+     *
+     * @param xData
+     * @param yData
+     * @param extraValues the error bars, or null
+     * @param seriesName
+     */
+    public SeriesData(double[] xData, double[] yData, double[] extraValues, String seriesName) {
+
+      this.xAxisData = asList(xData);
+      this.yAxisData = asList(yData);
+      this.xData = xData;
+      this.yData = yData;
+      this.extraValues = extraValues;
       this.seriesName = seriesName;
     }
 
+    private static double[] toArray(List<Number> data) {
+
+      if (data == null) {
+        return null;
+      }
+      double[] values = new double[data.size()];
+      for (int i = 0; i < values.length; i++) {
+        values[i] = data.get(i).doubleValue();
+      }
+      return values;
+    }
+
+    /** @return a read-only list view, boxing the values as they are read */
+    private static List<Number> asList(double[] data) {
+
+      return new AbstractList<Number>() {
+
+        @Override
+        public Number get(int index) {
+
+          return data[index];
+        }
+
+        @Override
+        public int size() {
+
+          return data.length;
+        }
+      };
+    }
+
     public List<Number> getxAxisData() {
 
       return xAxisData;
@@ -269,6 +451,24 @@ public class CSVImporter {
       return yAxisData;
     }
 
+    /** @return the X-Axis data, which can be passed to XYChart.addSeries without boxing */
+    public double[] getXData() {
+
+      return xData;
+    }
+
+    /** @return the Y-Axis data, which can be passed to XYChart.addSeries without boxing */
+    public double[] getYData() {
+
+      return yData;
+    }
+
+    /** @return the error bars, or null if the file has none */
+    public double[] getExtraValues() {
+
+      return extraValues;
+    }
+
     public String getSeriesName() {
 
       return seriesName;
@@ -281,9 +281,14 @@ private DataType getAxisType(Object dataPoint) {
   @Override
   public void paint(Graphics2D graphics, int width, int height) {
 
-    settingPaint(width, height);
+    boolean isPinned = pinSeries();
+    try {
+      settingPaint(width, height);
 
-    doPaint(graphics);
+      doPaint(graphics);
+    } finally {
+      unpinSeries(isPinned);
+    }
   }
 
   @Override
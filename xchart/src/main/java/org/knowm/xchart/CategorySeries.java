@@ -39,6 +39,7 @@ public class CategorySeries extends AxesChartSeriesCategory {
       CategorySeriesRenderStyle categorySeriesRenderStyle) {
 
     this.chartCategorySeriesRenderStyle = categorySeriesRenderStyle;
+    markChanged();
     return this;
   }
 
@@ -2,6 +2,7 @@ package org.knowm.xchart;
 
 import java.awt.Graphics2D;
 import org.knowm.xchart.internal.chartpart.Chart;
+import org.knowm.xchart.internal.chartpart.ChartLayers;
 import org.knowm.xchart.internal.chartpart.Legend_Pie;
 import org.knowm.xchart.internal.chartpart.Plot_Dial;
 import org.knowm.xchart.style.DialStyler;
@@ -113,14 +114,23 @@ public class DialChart extends Chart<DialStyler, DialSeries> {
   @Override
   public void paint(Graphics2D g, int width, int height) {
 
-    setWidth(width);
-    setHeight(height);
+    boolean isPinned = pinSeries();
+    try {
+      setWidth(width);
+      setHeight(height);
 
-    paintBackground(g);
+      updateLayoutState();
 
-    plot.paint(g);
-    chartTitle.paint(g);
-    //    legend.paint(g); // no legend for dial charts
-    annotations.paint(g);
+      paintBackground(g);
+
+      plot.paint(g);
+      chartTitle.paint(g);
+      //    legend.paint(g); // no legend for dial charts
+      annotations.paint(getLayerGraphics(ChartLayers.Layer.ANNOTATIONS, g));
+
+      commitLayoutState();
+    } finally {
+      unpinSeries(isPinned);
+    }
   }
 }
@@ -31,6 +31,7 @@ public class DialSeries extends Series {
   public void setValue(double value) {
 
     this.value = value;
+    markChanged();
   }
 
   public String getLabel() {
@@ -6,6 +6,7 @@ import java.util.List;
 import java.util.Map;
 import org.knowm.xchart.internal.chartpart.AxisPair;
 import org.knowm.xchart.internal.chartpart.Chart;
+import org.knowm.xchart.internal.chartpart.ChartLayers;
 import org.knowm.xchart.internal.chartpart.Legend_HeatMap;
 import org.knowm.xchart.internal.chartpart.Plot_HeatMap;
 import org.knowm.xchart.style.HeatMapStyler;
@@ -86,9 +87,36 @@ public class HeatMapChart extends Chart<HeatMapStyler, HeatMapSeries> {
    */
   public HeatMapSeries addSeries(String seriesName, int[] xData, int[] yData, int[][] heatData) {
 
+    if (isDense(xData, yData, heatData)) {
+      return addSeries(
+          seriesName, arrayToList(xData), arrayToList(yData), arrayToMatrix(heatData));
+    }
     return addSeries(seriesName, arrayToList(xData), arrayToList(yData), arrayToList(heatData));
   }
 
+  /**
+   * Add a series for a HeatMap type chart with dense heat data, which is stored as it is, without
+   * boxing. It can be changed in place with HeatMapSeries.setValue and HeatMapSeries.setRow.
+   *
+   * @param seriesName
+   * @param xData the X-Axis data
+   * @param yData the Y-Axis data
+   * @param heatData the heat data, the value of x index i and y index j at j * xData.size() + i,
+   *     NaN for none
+   * @return
+   */
+  public HeatMapSeries addSeries(
+      String seriesName, List<?> xData, List<?> yData, double[] heatData) {
+
+    if (heatMapSeries != null) {
+      throw new RuntimeException("HeatMapSeries can only be added once!!!");
+    }
+    sanityCheck(xData, yData, heatData);
+    heatMapSeries = new HeatMapSeries(seriesName, xData, yData, heatData);
+    seriesMap.put(seriesName, heatMapSeries);
+    return heatMapSeries;
+  }
+
   /**
    * Add a series for a HeatMap type chart using using List<?>
    *
@@ -121,9 +149,37 @@ public class HeatMapChart extends Chart<HeatMapStyler, HeatMapSeries> {
    */
   public HeatMapSeries updateSeries(String seriesName, int[] xData, int[] yData, int[][] heatData) {
 
+    if (isDense(xData, yData, heatData)) {
+      return updateSeries(
+          seriesName, arrayToList(xData), arrayToList(yData), arrayToMatrix(heatData));
+    }
     return updateSeries(seriesName, arrayToList(xData), arrayToList(yData), arrayToList(heatData));
   }
 
+  /**
+   * Update a series by replacing the X-Axis, Y-Axis and heat data with dense heat data
+   *
+   * @param seriesName
+   * @param xData
+   * @param yData
+   * @param heatData the heat data, the value of x index i and y index j at j * xData.size() + i,
+   *     NaN for none
+   * @return
+   */
+  public HeatMapSeries updateSeries(
+      String seriesName, List<?> xData, List<?> yData, double[] heatData) {
+
+    Map<String, HeatMapSeries> seriesMap = getSeriesMap();
+    HeatMapSeries series = seriesMap.get(seriesName);
+    if (series == null) {
+      throw new IllegalArgumentException("Series name >" + seriesName + "< not found!!!");
+    }
+    sanityCheck(xData, yData, heatData);
+
+    series.replaceData(xData, yData, heatData);
+    return series;
+  }
+
   /**
    * Update a series by updating the X-Axis, Y-Axis and heat data
    *
@@ -154,19 +210,28 @@ public class HeatMapChart extends Chart<HeatMapStyler, HeatMapSeries> {
   @Override
   public void paint(Graphics2D g, int width, int height) {
 
-    if (heatMapSeries == null) {
-      return;
-    }
-    setWidth(width);
-    setHeight(height);
+    boolean isPinned = pinSeries();
+    try {
+      if (heatMapSeries == null) {
+        return;
+      }
+      setWidth(width);
+      setHeight(height);
+
+      prepareForPaint();
+      // setSeriesStyles();
 
-    prepareForPaint();
-    // setSeriesStyles();
+      updateLayoutState();
 
-    paintBackground(g);
+      paintBackground(g);
 
-    paintTarget.paint(g);
-    annotations.paint(g);
+      paintTarget.paint(g);
+      annotations.paint(getLayerGraphics(ChartLayers.Layer.ANNOTATIONS, g));
+
+      commitLayoutState();
+    } finally {
+      unpinSeries(isPinned);
+    }
   }
 
   private List<Integer> arrayToList(int[] data) {
@@ -196,6 +261,45 @@ public class HeatMapChart extends Chart<HeatMapStyler, HeatMapSeries> {
     return list;
   }
 
+  /** @return true if the heat data has a value for every x and y, so it can be stored densely */
+  private static boolean isDense(int[] xData, int[] yData, int[][] heatData) {
+
+    if (xData == null || yData == null || heatData == null || heatData.length != xData.length) {
+      return false;
+    }
+    for (int[] array : heatData) {
+      if (array == null || array.length != yData.length) {
+        return false;
+      }
+    }
+    return xData.length > 0 && yData.length > 0;
+  }
+
+  private static double[] arrayToMatrix(int[][] heatData) {
+
+    int width = heatData.length;
+    double[] heatMatrix = new double[width * heatData[0].length];
+    for (int i = 0; i < width; i++) {
+      int[] array = heatData[i];
+      for (int j = 0; j < array.length; j++) {
+        heatMatrix[j * width + i] = array[j];
+      }
+    }
+    return heatMatrix;
+  }
+
+  private void sanityCheck(List<?> xData, List<?> yData, double[] heatData) {
+
+    new SanityXChecker(new SanityYChecker(yData), xData).checkSanity();
+    if (heatData == null) {
+      throw new IllegalArgumentException("Heat data cannot be null!!!");
+    }
+    if (heatData.length != xData.size() * yData.size()) {
+      throw new IllegalArgumentException(
+          "Heat data length must be equal to xData size * yData size!!!");
+    }
+  }
+
   private void sanityCheck(List<?> xData, List<?> yData, List<Number[]> heatData) {
 	new SanityXChecker(new SanityYChecker(yData), xData).checkSanity();
     if (heatData == null) {
@@ -221,6 +325,8 @@ public class HeatMapChart extends Chart<HeatMapStyler, HeatMapSeries> {
   }
 
   private void prepareForPaint() {
+
+    heatMapSeries.updateStaleMinMax();
     if (styler.getMin() != Double.MIN_VALUE) {
       heatMapSeries.setMin(styler.getMin());
     }
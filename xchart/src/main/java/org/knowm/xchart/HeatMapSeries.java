@@ -18,12 +18,18 @@ public class HeatMapSeries extends AxesChartSeries {
 
   List<? extends Number[]> heatData;
 
+  // the dense heat data, value of x index i and y index j at j * xData.size() + i, NaN for none
+  private double[] heatMatrix;
+
   // heatData value min
   private double min;
 
   // heatData value max
   private double max;
 
+  // a cell holding the min or max was changed, so they have to be searched again
+  private boolean isMinMaxStale;
+
   /**
    * Constructor
    *
@@ -41,19 +47,99 @@ public class HeatMapSeries extends AxesChartSeries {
     calculateMinMax();
   }
 
+  /**
+   * Constructor for dense heat data
+   *
+   * @param name
+   * @param xData
+   * @param yData
+   * @param heatMatrix the value of x index i and y index j at j * xData.size() + i, NaN for none
+   */
+  protected HeatMapSeries(String name, List<?> xData, List<?> yData, double[] heatMatrix) {
+
+    super(name, getDataType(xData), getDataType(yData));
+    this.xData = xData;
+    this.yData = yData;
+    setHeatMatrix(heatMatrix);
+    calculateMinMax();
+  }
+
   public void replaceData(List<?> xData, List<?> yData, List<Number[]> heatData) {
 
     this.xData = xData;
     this.yData = yData;
     this.heatData = heatData;
+    this.heatMatrix = null;
     calculateMinMax();
+    markChanged();
+  }
+
+  /**
+   * Replaces the data with dense heat data
+   *
+   * @param xData
+   * @param yData
+   * @param heatMatrix the value of x index i and y index j at j * xData.size() + i, NaN for none
+   */
+  public void replaceData(List<?> xData, List<?> yData, double[] heatMatrix) {
+
+    this.xData = xData;
+    this.yData = yData;
+    setHeatMatrix(heatMatrix);
+    calculateMinMax();
+    markChanged();
+  }
+
+  private void setHeatMatrix(double[] heatMatrix) {
+
+    this.heatMatrix = heatMatrix;
+    int width = xData.size();
+    // the cells as boxed [x, y, value] triples, only boxed when read
+    this.heatData =
+        new AbstractList<Number[]>() {
+
+          @Override
+          public Number[] get(int index) {
+
+            double value = heatMatrix[index];
+            return Double.isNaN(value) ? null : new Number[] {index % width, index / width, value};
+          }
+
+          @Override
+          public int size() {
+
+            return heatMatrix.length;
+          }
+        };
   }
 
   @Override
   protected void calculateMinMax() {
 
+    calculateHeatMinMax();
+
+    setXYMinMax(MinMaxFactory
+    		.getMinMaxCalculator(xMin, xMax, yMin, yMax)
+    		.calculateMinMax(xData, yData));
+  }
+
+  private void calculateHeatMinMax() {
+
     min = Double.MAX_VALUE;
     max = Double.MIN_VALUE;
+    isMinMaxStale = false;
+    if (heatMatrix != null) {
+      for (double value : heatMatrix) {
+        if (min > value) {
+          min = value;
+        }
+        if (max < value) {
+          max = value;
+        }
+      }
+      return;
+    }
+
     Number number = null;
     for (Number[] numbers : heatData) {
       if (numbers == null) {
@@ -69,10 +155,112 @@ public class HeatMapSeries extends AxesChartSeries {
         }
       }
     }
+  }
 
-    setXYMinMax(MinMaxFactory
-    		.getMinMaxCalculator(xMin, xMax, yMin, yMax)
-    		.calculateMinMax(xData, yData));
+  /** Searches the min and max again if a changed cell held one of them. */
+  void updateStaleMinMax() {
+
+    if (isMinMaxStale) {
+      calculateHeatMinMax();
+    }
+  }
+
+  /**
+   * Is the heat data stored densely, see HeatMapChart.addSeries(String, List, List, double[])
+   *
+   * @return
+   */
+  public boolean isDense() {
+
+    return heatMatrix != null;
+  }
+
+  /**
+   * Gets the dense heat data, which is not copied. Cells changed in it directly are painted, but
+   * the min and max are only updated by setValue and setRow.
+   *
+   * @return the value of x index i and y index j at j * getXData().size() + i, or null if the heat
+   *     data is not dense
+   */
+  public double[] getHeatMatrix() {
+
+    return heatMatrix;
+  }
+
+  /**
+   * Gets a value of dense heat data
+   *
+   * @param xIndex
+   * @param yIndex
+   * @return the value, NaN for none
+   */
+  public double getValue(int xIndex, int yIndex) {
+
+    return heatMatrix[getIndex(xIndex, yIndex)];
+  }
+
+  /**
+   * Changes a value of dense heat data in place. The min and max follow the new value, without
+   * scanning all the data unless the old value was the min or max.
+   *
+   * @param xIndex
+   * @param yIndex
+   * @param value the new value, NaN for none
+   */
+  public void setValue(int xIndex, int yIndex, double value) {
+
+    int index = getIndex(xIndex, yIndex);
+    double previous = heatMatrix[index];
+    heatMatrix[index] = value;
+    updateMinMax(previous, value);
+    markChanged();
+  }
+
+  /**
+   * Changes all values of a y index of dense heat data in place, see setValue.
+   *
+   * @param yIndex
+   * @param values the new values by x index, NaN for none
+   */
+  public void setRow(int yIndex, double[] values) {
+
+    int width = xData.size();
+    if (values.length != width) {
+      throw new IllegalArgumentException("Row length must be equal to xData size!!!");
+    }
+    int start = getIndex(0, yIndex);
+    for (int i = 0; i < width; i++) {
+      double previous = heatMatrix[start + i];
+      heatMatrix[start + i] = values[i];
+      updateMinMax(previous, values[i]);
+    }
+    markChanged();
+  }
+
+  private int getIndex(int xIndex, int yIndex) {
+
+    if (heatMatrix == null) {
+      throw new IllegalStateException("Only dense heat data can be changed in place!!!");
+    }
+    if (xIndex < 0 || xIndex >= xData.size() || yIndex < 0 || yIndex >= yData.size()) {
+      throw new IllegalArgumentException(
+          "Cell " + xIndex + ", " + yIndex + " is outside of the heat data!!!");
+    }
+    return yIndex * xData.size() + xIndex;
+  }
+
+  private void updateMinMax(double previous, double value) {
+
+    if (value <= min) {
+      min = value;
+    } else if (previous == min) {
+      isMinMaxStale = true;
+    }
+    if (value >= max) {
+      max = value;
+    } else if (previous == max) {
+      isMinMaxStale = true;
+    }
   }
 
   @Override
@@ -111,23 +299,29 @@ public class HeatMapSeries extends AxesChartSeries {
 
   public double getMin() {
 
+    updateStaleMinMax();
     return min;
   }
 
   public HeatMapSeries setMin(double min) {
 
+    updateStaleMinMax();
     this.min = min;
+    markChanged();
     return this;
   }
 
   public double getMax() {
 
+    updateStaleMinMax();
     return max;
   }
 
   public HeatMapSeries setMax(double max) {
 
+    updateStaleMinMax();
     this.max = max;
+    markChanged();
     return this;
   }
 }
@@ -1,23 +1,35 @@
 package org.knowm.xchart;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
-import java.util.Iterator;
 import java.util.List;
+import java.util.stream.DoubleStream;
 
 /**
  * This class can be used to create histogram
  *
+ * <p>The data is binned as primitive doubles, in parallel with per-thread partial counts for large
+ * arrays and parallel streams. Primitive data is binned with Histogram.of(). Samples can also be
+ * added incrementally, from several threads, to an empty histogram, and histograms with the same
+ * bins can be merged. getBinCenters() and getBinCounts() can be passed to
+ * XYChart.addSeries or CategoryChart.addSeries without boxing.
+ *
  * @author timmolter
  */
 public class Histogram {
 
+  // below this many values, splitting the binning between threads costs more than it saves
+  private static final int PARALLEL_THRESHOLD = 1 << 16;
+
   private final Collection<? extends Number> originalData;
   private final int numBins;
   private final double min;
   private final double max;
-  private List<Double> xAxisData; // bin centers
-  private List<Double> yAxisData; // frequency counts
+  private final double binSize;
+  private final long[] counts; // frequency counts
+  private List<Double> xAxisData; // bin centers, boxed when first asked for
+  private List<Double> yAxisData; // frequency counts, boxed when first asked for
 
   /**
    * Constructor
@@ -27,54 +39,95 @@ public class Histogram {
    */
   public Histogram(Collection<? extends Number> data, int numBins) {
 
-    // Sanity checks
-    sanityCheck(data, numBins);
+    this(data, toArray(data), numBins);
+  }
 
-    this.numBins = numBins;
-    this.originalData = data;
+  /**
+   * Constructor
+   *
+   * @param data
+   * @param numBins
+   * @param min
+   * @param max
+   */
+  public Histogram(Collection<? extends Number> data, int numBins, double min, double max) {
 
-    Double tempMax = -Double.MAX_VALUE;
-    Double tempMin = Double.MAX_VALUE;
-    for (Number number : data) {
-      double value = number.doubleValue();
-      if (value > tempMax) {
-        tempMax = value;
-      }
-      if (value < tempMin) {
-        tempMin = value;
-      }
-    }
-    max = tempMax;
-    min = tempMin;
+    this(numBins, min, max, data);
+    addAll(toArray(data));
+  }
 
-    init();
+  /**
+   * Constructor for an empty histogram, to add the data to incrementally
+   *
+   * @param numBins
+   * @param min
+   * @param max
+   */
+  public Histogram(int numBins, double min, double max) {
+
+    this(numBins, min, max, null);
   }
 
   /**
-   * Constructor
+   * Creates a histogram of primitive data, with the min and max of the data as the range of the
+   * bins. A factory method, as a constructor would make new Histogram(null, numBins) ambiguous.
+   *
+   * @param data
+   * @param numBins
+   * @return
+   */
+  public static Histogram of(double[] data, int numBins) {
+
+    return new Histogram(null, data, numBins);
+  }
+
+  /**
+   * Creates a histogram of primitive data
    *
    * @param data
    * @param numBins
    * @param min
    * @param max
+   * @return
    */
-  public Histogram(Collection<? extends Number> data, int numBins, double min, double max) {
+  public static Histogram of(double[] data, int numBins, double min, double max) {
+
+    sanityCheck(data);
+    Histogram histogram = new Histogram(numBins, min, max, null);
+    histogram.addAll(data);
+    return histogram;
+  }
+
+  private Histogram(Collection<? extends Number> originalData, double[] data, int numBins) {
+
+    this(numBins, findMinMax(data), originalData);
+    addAll(data);
+  }
+
+  private Histogram(int numBins, double[] minMax, Collection<? extends Number> originalData) {
 
-    // Sanity checks
-    sanityCheck(data, numBins);
+    this(numBins, minMax[0], minMax[1], originalData);
+  }
+
+  private Histogram(
+      int numBins, double min, double max, Collection<? extends Number> originalData) {
+
+    if (numBins <= 0) {
+      throw new IllegalArgumentException("Histogram numBins cannot be less than or equal to 0!!!");
+    }
     if (max < min) {
       throw new IllegalArgumentException("max cannot be less than min!!!");
     }
 
+    this.originalData = originalData;
     this.numBins = numBins;
-    this.originalData = data;
     this.min = min;
     this.max = max;
-
-    init();
+    this.binSize = (max - min) / numBins;
+    this.counts = new long[numBins];
   }
 
-  private void sanityCheck(Collection<? extends Number> data, int numBins) {
+  private static double[] toArray(Collection<? extends Number> data) {
 
     if (data == null) {
       throw new IllegalArgumentException("Histogram data cannot be null!!!");
@@ -86,57 +139,201 @@ public class Histogram {
       throw new IllegalArgumentException("Histogram data cannot contain null!!!");
     }
 
-    if (numBins <= 0) {
-      throw new IllegalArgumentException("Histogram numBins cannot be less than or equal to 0!!!");
+    double[] values = new double[data.size()];
+    int i = 0;
+    for (Number number : data) {
+      values[i++] = number.doubleValue();
     }
+    return values;
   }
 
-  private void init() {
+  private static void sanityCheck(double[] data) {
 
-    double[] tempYAxisData = new double[numBins];
-    final double binSize = (max - min) / numBins;
+    if (data == null) {
+      throw new IllegalArgumentException("Histogram data cannot be null!!!");
+    }
+    if (data.length == 0) {
+      throw new IllegalArgumentException("Histogram data cannot be empty!!!");
+    }
+  }
 
-    // y axis data
-    Iterator<? extends Number> itr = originalData.iterator();
-    double doubleValue = 0.0;
-    int bin = 0;
-    while (itr.hasNext()) {
+  private static double[] findMinMax(double[] data) {
+
+    sanityCheck(data);
+    return stream(data, 0, data.length)
+        .collect(
+            () -> new double[] {Double.MAX_VALUE, -Double.MAX_VALUE},
+            (minMax, value) -> {
+              if (value < minMax[0]) {
+                minMax[0] = value;
+              }
+              if (value > minMax[1]) {
+                minMax[1] = value;
+              }
+            },
+            (minMax, other) -> {
+              minMax[0] = Math.min(minMax[0], other[0]);
+              minMax[1] = Math.max(minMax[1], other[1]);
+            });
+  }
+
+  private static DoubleStream stream(double[] data, int fromIndex, int toIndex) {
+
+    DoubleStream stream = Arrays.stream(data, fromIndex, toIndex);
+    return toIndex - fromIndex < PARALLEL_THRESHOLD ? stream : stream.parallel();
+  }
 
-      doubleValue = itr.next().doubleValue();
+  /**
+   * Adds a sample. Samples outside of min and max, and NaN, are ignored.
+   *
+   * @param value
+   */
+  public synchronized void add(double value) {
 
-      /* this data is smaller than min, or this data point is bigger than max */
-      if (doubleValue < min || doubleValue > max) {
-        continue;
-      }
-      bin = (int) ((doubleValue - min) / binSize); // changed this from numBins
-      if (bin < numBins) {
-        tempYAxisData[bin] += 1;
-      } else { // the value falls exactly on the max value
-        tempYAxisData[bin - 1] += 1;
-      }
+    bin(counts, value);
+    yAxisData = null;
+  }
+
+  /**
+   * Adds the samples, binned in parallel if there are many.
+   *
+   * @param values
+   */
+  public void addAll(double[] values) {
+
+    addAll(values, 0, values.length);
+  }
+
+  /**
+   * Adds the samples from fromIndex to toIndex - 1, so that large data can be added in chunks.
+   *
+   * @param values
+   * @param fromIndex
+   * @param toIndex
+   */
+  public void addAll(double[] values, int fromIndex, int toIndex) {
+
+    addAll(stream(values, fromIndex, toIndex));
+  }
+
+  /**
+   * Adds the samples of the stream, which is consumed. The binning runs in parallel if the stream
+   * is parallel.
+   *
+   * @param values
+   */
+  public void addAll(DoubleStream values) {
+
+    // every thread bins into its own counts, which are summed up at the end
+    long[] partialCounts = values.collect(() -> new long[numBins], this::bin, Histogram::sum);
+    addCounts(partialCounts);
+  }
+
+  /**
+   * Adds the counts of the other histogram, which must have the same bins.
+   *
+   * @param histogram
+   */
+  public void merge(Histogram histogram) {
+
+    if (histogram.numBins != numBins
+        || Double.compare(histogram.min, min) != 0
+        || Double.compare(histogram.max, max) != 0) {
+      throw new IllegalArgumentException("Only histograms with the same bins can be merged!!!");
     }
-    yAxisData = new ArrayList<Double>(numBins);
-    for (double d : tempYAxisData) {
-      yAxisData.add(d);
+    addCounts(histogram.getCounts());
+  }
+
+  private synchronized void addCounts(long[] partialCounts) {
+
+    sum(counts, partialCounts);
+    yAxisData = null;
+  }
+
+  private void bin(long[] counts, double value) {
+
+    // this data is smaller than min, bigger than max or NaN
+    if (!(value >= min && value <= max)) {
+      return;
     }
+    int bin = (int) ((value - min) / binSize);
+    // the value falls exactly on the max value
+    counts[Math.min(bin, numBins - 1)]++;
+  }
 
-    // x axis data
-    xAxisData = new ArrayList<Double>(numBins);
+  private static void sum(long[] counts, long[] partialCounts) {
+
+    for (int i = 0; i < counts.length; i++) {
+      counts[i] += partialCounts[i];
+    }
+  }
+
+  /**
+   * Gets the centers of the bins
+   *
+   * @return a new array
+   */
+  public double[] getBinCenters() {
+
+    double[] binCenters = new double[numBins];
+    for (int i = 0; i < numBins; i++) {
+      binCenters[i] = ((i * (max - min)) / numBins + min) + binSize / 2;
+    }
+    return binCenters;
+  }
+
+  /**
+   * Gets the frequency counts of the bins, as doubles for the charts
+   *
+   * @return a new array
+   */
+  public synchronized double[] getBinCounts() {
+
+    double[] binCounts = new double[numBins];
     for (int i = 0; i < numBins; i++) {
-      xAxisData.add(((i * (max - min)) / numBins + min) + binSize / 2);
+      binCounts[i] = counts[i];
     }
+    return binCounts;
+  }
+
+  /**
+   * Gets the frequency counts of the bins
+   *
+   * @return a new array
+   */
+  public synchronized long[] getCounts() {
+
+    return counts.clone();
   }
 
-  public List<Double> getxAxisData() {
+  public synchronized List<Double> getxAxisData() {
 
+    if (xAxisData == null) {
+      xAxisData = box(getBinCenters());
+    }
     return xAxisData;
   }
 
-  public List<Double> getyAxisData() {
+  public synchronized List<Double> getyAxisData() {
 
+    if (yAxisData == null) {
+      yAxisData = box(getBinCounts());
+    }
     return yAxisData;
   }
 
+  private static List<Double> box(double[] values) {
+
+    List<Double> list = new ArrayList<>(values.length);
+    for (double value : values) {
+      list.add(value);
+    }
+    return list;
+  }
+
+  /**
+   * @return the data the histogram was created with, or null if it was created from primitive data
+   */
   public Collection<? extends Number> getOriginalData() {
 
     return originalData;
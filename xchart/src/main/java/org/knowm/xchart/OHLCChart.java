@@ -817,9 +817,14 @@ private DataType getAxisType(Object dataPoint) {
   @Override
   public void paint(Graphics2D g, int width, int height) {
 
-    settingPaint(width, height);
+    boolean isPinned = pinSeries();
+    try {
+      settingPaint(width, height);
 
-    doPaint(g);
+      doPaint(g);
+    } finally {
+      unpinSeries(isPinned);
+    }
   }
 
   @Override
@@ -1,14 +1,19 @@
 package org.knowm.xchart;
 
 import java.awt.Color;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import org.knowm.xchart.internal.chartpart.RenderableSeries;
 import org.knowm.xchart.internal.chartpart.RenderableSeries.LegendRenderType;
 import org.knowm.xchart.internal.series.MarkerSeries;
 import org.knowm.xchart.internal.series.MinMaxFactory;
+import org.knowm.xchart.internal.series.OHLCBuckets;
 
 /** @author arthurmcgibbon */
 public class OHLCSeries extends MarkerSeries {
 
+  private static final int MAX_CACHED_BUCKET_WIDTHS = 8;
+
   private double[] xData; // can be Number or Date(epochtime)
   private double[] openData;
   private double[] highData;
@@ -21,6 +26,20 @@ public class OHLCSeries extends MarkerSeries {
   private Color upColor;
   /** Down Color */
   private Color downColor;
+  // aggregation into coarser buckets, null means use the default from the styler
+  private Boolean aggregationEnabled = null;
+  // the smallest distance between two bars, NaN if the X-Axis data isn't sorted, null if unknown
+  private Double barInterval;
+  // the bars aggregated at the last few bucket widths, until the data is replaced
+  private final Map<Double, OHLCBuckets> bucketsByWidth =
+      new LinkedHashMap<Double, OHLCBuckets>(16, 0.75f, true) {
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Double, OHLCBuckets> eldest) {
+
+          return size() > MAX_CACHED_BUCKET_WIDTHS;
+        }
+      };
 
   /**
    * Constructor
@@ -112,6 +131,7 @@ public class OHLCSeries extends MarkerSeries {
               + "<, yData is not equal to null and can only be set to OHLCSeriesRenderStyle.Line");
     }
     this.ohlcSeriesRenderStyle = ohlcSeriesRenderStyle;
+    markChanged();
     return this;
   }
 
@@ -128,6 +148,7 @@ public class OHLCSeries extends MarkerSeries {
   public OHLCSeries setUpColor(java.awt.Color color) {
 
     this.upColor = color;
+    markChanged();
     return this;
   }
 
@@ -144,9 +165,80 @@ public class OHLCSeries extends MarkerSeries {
   public OHLCSeries setDownColor(java.awt.Color color) {
 
     this.downColor = color;
+    markChanged();
     return this;
   }
 
+  public Boolean getAggregationEnabled() {
+
+    return aggregationEnabled;
+  }
+
+  /**
+   * Overrides the aggregation default of OHLCStyler for this series. Set null to use the default.
+   *
+   * @param aggregationEnabled
+   */
+  public OHLCSeries setAggregationEnabled(Boolean aggregationEnabled) {
+
+    this.aggregationEnabled = aggregationEnabled;
+    markChanged();
+    return this;
+  }
+
+  /**
+   * This is an internal method which shouldn't be called from client code.
+   *
+   * @param xMin the visible X-Axis range
+   * @param xMax
+   * @param xPixelSpace the number of screen pixels the visible range is painted on
+   * @param minBucketPixels the number of screen pixels a candle and its padding need
+   * @return the bars aggregated into buckets at least minBucketPixels wide, or null if the bars are
+   *     at least minBucketPixels apart or the X-Axis data isn't sorted
+   */
+  public synchronized OHLCBuckets getAggregatedData(
+      double xMin, double xMax, double xPixelSpace, double minBucketPixels) {
+
+    if (openData == null || !(xMax > xMin)) {
+      return null;
+    }
+    if (barInterval == null) {
+      barInterval = calculateBarInterval(xData);
+    }
+    double minWidth = (xMax - xMin) / xPixelSpace * minBucketPixels;
+    if (Double.isNaN(barInterval) || barInterval >= minWidth) {
+      return null;
+    }
+
+    boolean isTime = getxAxisDataType() == DataType.Date;
+    double bucketWidth = OHLCBuckets.getBucketWidth(minWidth, barInterval, isTime);
+    OHLCBuckets buckets = bucketsByWidth.get(bucketWidth);
+    if (buckets == null) {
+      // time buckets start at whole multiples of their width, like whole hours or days
+      double origin = isTime ? Math.floor(xData[0] / bucketWidth) * bucketWidth : xData[0];
+      buckets =
+          new OHLCBuckets(
+              xData, openData, highData, lowData, closeData, volumeData, origin, bucketWidth);
+      bucketsByWidth.put(bucketWidth, buckets);
+    }
+    return buckets;
+  }
+
+  private static double calculateBarInterval(double[] xData) {
+
+    double barInterval = Double.NaN;
+    for (int i = 1; i < xData.length; i++) {
+      double interval = xData[i] - xData[i - 1];
+      if (!(interval >= 0)) {
+        return Double.NaN;
+      }
+      if (interval > 0 && !(interval >= barInterval)) {
+        barInterval = interval;
+      }
+    }
+    return barInterval;
+  }
+
   @Override
   public LegendRenderType getLegendRenderType() {
 
@@ -199,7 +291,9 @@ public class OHLCSeries extends MarkerSeries {
     this.lowData = newLowData;
     this.closeData = newCloseData;
     this.volumeData = newVolumeData;
+    clearAggregatedData();
     calculateMinMax();
+    markChanged();
   }
 
   /**
@@ -213,7 +307,15 @@ public class OHLCSeries extends MarkerSeries {
 
     this.xData = newXData;
     this.yData = newYData;
+    clearAggregatedData();
     calculateMinMax();
+    markChanged();
+  }
+
+  private synchronized void clearAggregatedData() {
+
+    barInterval = null;
+    bucketsByWidth.clear();
   }
 
   @Override
@@ -3,6 +3,7 @@ package org.knowm.xchart;
 import java.awt.Graphics2D;
 import java.util.Map;
 import org.knowm.xchart.internal.chartpart.Chart;
+import org.knowm.xchart.internal.chartpart.ChartLayers;
 import org.knowm.xchart.internal.chartpart.Legend_Pie;
 import org.knowm.xchart.internal.chartpart.Plot_Pie;
 import org.knowm.xchart.internal.series.Series;
@@ -113,23 +114,32 @@ public class PieChart extends Chart<PieStyler, PieSeries> {
   @Override
   public void paint(Graphics2D g, int width, int height) {
 
-    setWidth(width);
-    setHeight(height);
-
-    // set the series types if they are not set. Legend and Plot need it.
-    for (PieSeries seriesPie : getSeriesMap().values()) {
-      PieSeries.PieSeriesRenderStyle seriesType =
-          seriesPie.getChartPieSeriesRenderStyle(); // would be directly set
-      if (seriesType == null) { // wasn't overridden, use default from Style Manager
-        seriesPie.setChartPieSeriesRenderStyle(getStyler().getDefaultSeriesRenderStyle());
+    boolean isPinned = pinSeries();
+    try {
+      setWidth(width);
+      setHeight(height);
+
+      // set the series types if they are not set. Legend and Plot need it.
+      for (PieSeries seriesPie : getSeriesMap().values()) {
+        PieSeries.PieSeriesRenderStyle seriesType =
+            seriesPie.getChartPieSeriesRenderStyle(); // would be directly set
+        if (seriesType == null) { // wasn't overridden, use default from Style Manager
+          seriesPie.setChartPieSeriesRenderStyle(getStyler().getDefaultSeriesRenderStyle());
+        }
       }
-    }
-    setSeriesStyles();
+      setSeriesStyles();
+
+      updateLayoutState();
 
-    paintBackground(g);
+      paintBackground(g);
 
-    paintTarget.paint(g);
-    annotations.paint(g);
+      paintTarget.paint(g);
+      annotations.paint(getLayerGraphics(ChartLayers.Layer.ANNOTATIONS, g));
+
+      commitLayoutState();
+    } finally {
+      unpinSeries(isPinned);
+    }
   }
   public double getTotal() {
     // get total
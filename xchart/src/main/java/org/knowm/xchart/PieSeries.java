@@ -34,6 +34,7 @@ public class PieSeries extends Series {
   public void replaceData(Number value) {
 
     this.value = value;
+    markChanged();
   }
 
   public PieSeriesRenderStyle getChartPieSeriesRenderStyle() {
@@ -44,6 +45,7 @@ public class PieSeries extends Series {
   public PieSeries setChartPieSeriesRenderStyle(PieSeriesRenderStyle chartPieSeriesRenderStyle) {
 
     this.chartPieSeriesRenderStyle = chartPieSeriesRenderStyle;
+    markChanged();
     return this;
   }
 
@@ -55,6 +57,7 @@ public class PieSeries extends Series {
   public void setValue(Number value) {
 
     this.value = value;
+    markChanged();
   }
 
   @Override
@@ -0,0 +1,303 @@
+package org.knowm.xchart;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.stream.DoubleStream;
+
+/**
+ * A summary of a stream of samples in bounded memory, from which the quantiles can be estimated,
+ * so that box plots can be made of more samples than fit in memory, see BoxChart.addSeries(String,
+ * QuantileSketch).
+ *
+ * <p>It is a KLL sketch: the samples are kept in levels, where a sample of level h stands for 2^h
+ * samples. Whenever a level is full, it is sorted and every other sample, starting at the first or
+ * the second at random, moves up a level. The ranks of the estimated quantiles are off by about
+ * 1.7% of the count for the default accuracy of 200, and by less for a higher one. The min and
+ * max are exact. Sketches can be merged, so a stream can be summarized in parallel.
+ */
+public class QuantileSketch {
+
+  private static final int DEFAULT_ACCURACY = 200;
+  // the capacities of the levels shrink by this factor from the top level down
+  private static final double CAPACITY_DECAY = 2.0 / 3.0;
+  private static final int MIN_CAPACITY = 8;
+
+  private final int accuracy;
+  // the same sequence for every sketch, so that a box plot of the same samples looks the same
+  private final Random random = new Random(DEFAULT_ACCURACY);
+
+  private double[][] levels = {new double[MIN_CAPACITY]};
+  private int[] levelSizes = {0};
+  private long count;
+  private double min = Double.NaN;
+  private double max = Double.NaN;
+  // the retained samples sorted by value, with the cumulative weights up to each of them, built by
+  // the first query after a change
+  private double[] sortedValues;
+  private long[] cumulativeWeights;
+
+  /** Constructor with the default accuracy */
+  public QuantileSketch() {
+
+    this(DEFAULT_ACCURACY);
+  }
+
+  /**
+   * Constructor
+   *
+   * @param accuracy the capacity of the top level, the memory grows linearly and the error shrinks
+   *     inversely with it
+   */
+  public QuantileSketch(int accuracy) {
+
+    if (accuracy < MIN_CAPACITY) {
+      throw new IllegalArgumentException("Accuracy cannot be less than " + MIN_CAPACITY + "!!!");
+    }
+    this.accuracy = accuracy;
+  }
+
+  /**
+   * Adds a sample. NaN is ignored.
+   *
+   * @param value
+   */
+  public synchronized void add(double value) {
+
+    if (Double.isNaN(value)) {
+      return;
+    }
+    if (count == 0 || value < min) {
+      min = value;
+    }
+    if (count == 0 || value > max) {
+      max = value;
+    }
+    count++;
+    append(0, value);
+    if (levelSizes[0] >= getCapacity(0)) {
+      compress();
+    }
+  }
+
+  /**
+   * Adds the samples
+   *
+   * @param values
+   */
+  public synchronized void addAll(double[] values) {
+
+    for (double value : values) {
+      add(value);
+    }
+  }
+
+  /**
+   * Adds the samples of the stream, which is consumed. They are summarized in parallel if the
+   * stream is parallel.
+   *
+   * @param values
+   */
+  public void addAll(DoubleStream values) {
+
+    merge(
+        values.collect(
+            () -> new QuantileSketch(accuracy), QuantileSketch::add, QuantileSketch::merge));
+  }
+
+  /**
+   * Adds the samples summarized by the other sketch
+   *
+   * @param sketch
+   */
+  public void merge(QuantileSketch sketch) {
+
+    double[][] otherLevels;
+    int[] otherLevelSizes;
+    long otherCount;
+    double otherMin;
+    double otherMax;
+    synchronized (sketch) {
+      otherLevels = new double[sketch.levels.length][];
+      for (int h = 0; h < otherLevels.length; h++) {
+        otherLevels[h] = Arrays.copyOf(sketch.levels[h], sketch.levelSizes[h]);
+      }
+      otherLevelSizes = sketch.levelSizes.clone();
+      otherCount = sketch.count;
+      otherMin = sketch.min;
+      otherMax = sketch.max;
+    }
+    if (otherCount == 0) {
+      return;
+    }
+
+    synchronized (this) {
+      if (count == 0 || otherMin < min) {
+        min = otherMin;
+      }
+      if (count == 0 || otherMax > max) {
+        max = otherMax;
+      }
+      count += otherCount;
+      for (int h = 0; h < otherLevels.length; h++) {
+        while (h >= levels.length) {
+          addLevel();
+        }
+        for (int i = 0; i < otherLevelSizes[h]; i++) {
+          append(h, otherLevels[h][i]);
+        }
+      }
+      compress();
+    }
+  }
+
+  private void append(int level, double value) {
+
+    sortedValues = null;
+    cumulativeWeights = null;
+    double[] samples = levels[level];
+    if (levelSizes[level] == samples.length) {
+      samples = Arrays.copyOf(samples, samples.length * 2);
+      levels[level] = samples;
+    }
+    samples[levelSizes[level]++] = value;
+  }
+
+  private void addLevel() {
+
+    levels = Arrays.copyOf(levels, levels.length + 1);
+    levels[levels.length - 1] = new double[MIN_CAPACITY];
+    levelSizes = Arrays.copyOf(levelSizes, levelSizes.length + 1);
+  }
+
+  private int getCapacity(int level) {
+
+    int depth = levels.length - 1 - level;
+    return Math.max(MIN_CAPACITY, (int) Math.ceil(accuracy * Math.pow(CAPACITY_DECAY, depth)));
+  }
+
+  /** Moves every other sample of the full levels up a level, from the bottom up. */
+  private void compress() {
+
+    for (int h = 0; h < levels.length; h++) {
+      int size = levelSizes[h];
+      if (size < getCapacity(h)) {
+        continue;
+      }
+      if (h == levels.length - 1) {
+        addLevel();
+      }
+      double[] samples = levels[h];
+      Arrays.sort(samples, 0, size);
+      // an odd sample out stays, so that the total weight doesn't change
+      int compacted = size & ~1;
+      for (int i = random.nextBoolean() ? 1 : 0; i < compacted; i += 2) {
+        append(h + 1, samples[i]);
+      }
+      if (compacted < size) {
+        samples[0] = samples[size - 1];
+      }
+      levelSizes[h] = size - compacted;
+    }
+  }
+
+  /**
+   * Estimates the sample at a rank
+   *
+   * @param rank the index of the sample in the sorted samples, from 0 to getCount() - 1
+   * @return the estimated sample, the exact min and max for the first and last rank
+   */
+  public synchronized double getValueAtRank(long rank) {
+
+    if (rank < 0 || rank >= count) {
+      throw new IllegalArgumentException("Rank must be from 0 to count - 1!!!");
+    }
+    if (rank == 0) {
+      return min;
+    }
+    if (rank == count - 1) {
+      return max;
+    }
+
+    if (sortedValues == null) {
+      sortRetainedSamples();
+    }
+    // the first sample whose cumulative weight is above the rank
+    int low = 0;
+    int high = cumulativeWeights.length - 1;
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      if (cumulativeWeights[mid] > rank) {
+        high = mid;
+      } else {
+        low = mid + 1;
+      }
+    }
+    return sortedValues[low];
+  }
+
+  /** Merges the sorted levels into sortedValues, from the top level down. */
+  private void sortRetainedSamples() {
+
+    double[] values = new double[0];
+    long[] weights = new long[0];
+    for (int h = levels.length - 1; h >= 0; h--) {
+      double[] level = Arrays.copyOf(levels[h], levelSizes[h]);
+      Arrays.sort(level);
+      long weight = 1L << h;
+
+      double[] mergedValues = new double[values.length + level.length];
+      long[] mergedWeights = new long[mergedValues.length];
+      int i = 0;
+      int j = 0;
+      for (int k = 0; k < mergedValues.length; k++) {
+        if (j == level.length || (i < values.length && values[i] <= level[j])) {
+          mergedValues[k] = values[i];
+          mergedWeights[k] = weights[i++];
+        } else {
+          mergedValues[k] = level[j++];
+          mergedWeights[k] = weight;
+        }
+      }
+      values = mergedValues;
+      weights = mergedWeights;
+    }
+
+    for (int k = 1; k < weights.length; k++) {
+      weights[k] += weights[k - 1];
+    }
+    sortedValues = values;
+    cumulativeWeights = weights;
+  }
+
+  /**
+   * Estimates a quantile
+   *
+   * @param fraction from 0 for the min to 1 for the max
+   * @return
+   */
+  public synchronized double getQuantile(double fraction) {
+
+    if (count == 0) {
+      return Double.NaN;
+    }
+    return getValueAtRank(Math.round(fraction * (count - 1)));
+  }
+
+  /** @return the number of samples added */
+  public synchronized long getCount() {
+
+    return count;
+  }
+
+  /** @return the smallest sample, NaN if there are none */
+  public synchronized double getMin() {
+
+    return min;
+  }
+
+  /** @return the largest sample, NaN if there are none */
+  public synchronized double getMax() {
+
+    return max;
+  }
+}
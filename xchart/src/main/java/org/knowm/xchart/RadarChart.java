@@ -2,6 +2,7 @@ package org.knowm.xchart;
 
 import java.awt.Graphics2D;
 import org.knowm.xchart.internal.chartpart.Chart;
+import org.knowm.xchart.internal.chartpart.ChartLayers;
 import org.knowm.xchart.internal.chartpart.Legend_Marker;
 import org.knowm.xchart.internal.chartpart.Plot_Radar;
 import org.knowm.xchart.internal.style.SeriesColorMarkerLineStyle;
@@ -80,6 +81,7 @@ public class RadarChart extends Chart<RadarStyler, RadarSeries> {
   public void setRadiiLabels(String[] radiiLabels) {
 
     this.radiiLabels = radiiLabels;
+    invalidateLayout();
   }
   /**
    * Add a series for a Radar type chart
@@ -145,15 +147,24 @@ public class RadarChart extends Chart<RadarStyler, RadarSeries> {
   @Override
   public void paint(Graphics2D g, int width, int height) {
 
-    setWidth(width);
-    setHeight(height);
+    boolean isPinned = pinSeries();
+    try {
+      setWidth(width);
+      setHeight(height);
 
-    setSeriesStyles();
+      setSeriesStyles();
 
-    paintBackground(g);
+      updateLayoutState();
 
-    paintTarget.paint(g);
-    annotations.paint(g);
+      paintBackground(g);
+
+      paintTarget.paint(g);
+      annotations.paint(getLayerGraphics(ChartLayers.Layer.ANNOTATIONS, g));
+
+      commitLayoutState();
+    } finally {
+      unpinSeries(isPinned);
+    }
   }
 
   /** set the series color based on theme */
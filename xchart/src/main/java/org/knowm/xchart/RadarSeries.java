@@ -47,6 +47,7 @@ public class RadarSeries extends MarkerSeries {
   public void setValues(double[] values) {
 
     this.values = values;
+    markChanged();
   }
 
   public String[] getTooltipOverrides() {
@@ -80,6 +81,7 @@ public class RadarSeries extends MarkerSeries {
               this.stroke.getDashArray(),
               this.stroke.getDashPhase());
     }
+    markChanged();
     return this;
   }
 
@@ -96,6 +98,7 @@ public class RadarSeries extends MarkerSeries {
   public RadarSeries setLineColor(java.awt.Color color) {
 
     this.lineColor = color;
+    markChanged();
     return this;
   }
 
@@ -112,6 +115,7 @@ public class RadarSeries extends MarkerSeries {
   public RadarSeries setLineWidth(float lineWidth) {
 
     this.lineWidth = lineWidth;
+    markChanged();
     return this;
   }
 
@@ -128,6 +132,7 @@ public class RadarSeries extends MarkerSeries {
   public RadarSeries setMarker(Marker marker) {
 
     this.marker = marker;
+    markChanged();
     return this;
   }
 
@@ -144,6 +149,7 @@ public class RadarSeries extends MarkerSeries {
   public RadarSeries setMarkerColor(java.awt.Color color) {
 
     this.markerColor = color;
+    markChanged();
     return this;
   }
 
@@ -156,5 +162,6 @@ public class RadarSeries extends MarkerSeries {
   public void setTooltipOverrides(String[] tooltipOverrides) {
 
     this.tooltipOverrides = tooltipOverrides;
+    markChanged();
   }
 }
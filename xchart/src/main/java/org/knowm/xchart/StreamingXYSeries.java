@@ -0,0 +1,157 @@
+package org.knowm.xchart;
+
+import org.knowm.xchart.internal.series.DoubleWindowBuffer;
+import org.knowm.xchart.internal.series.SeriesDataValues;
+import org.knowm.xchart.internal.series.SeriesDataView;
+
+/**
+ * An XYSeries for real-time charts that keeps a sliding window of the most recent points in fixed
+ * capacity primitive buffers. Appending points is O(1) amortized and the min and max of the window
+ * are maintained incrementally, so no data has to be copied or rescanned on every update. A paint
+ * reads the window in place from the buffer arrays, only getXData() and getYData() copy it.
+ *
+ * <p>Points can be appended from any thread, the chart still has to be repainted afterwards.
+ */
+public class StreamingXYSeries extends XYSeries {
+
+  private final DoubleWindowBuffer xBuffer;
+  private final DoubleWindowBuffer yBuffer;
+
+  // true if points were appended since the window was last handed to the data view
+  private boolean isDirty;
+
+  /**
+   * Constructor
+   *
+   * @param name
+   * @param xData the initial X-Axis data, only the last capacity points are kept
+   * @param yData the initial Y-Axis data, only the last capacity points are kept
+   * @param capacity the maximum number of points in the window
+   */
+  public StreamingXYSeries(String name, double[] xData, double[] yData, int capacity) {
+
+    super(name, new double[0], new double[0], null, DataType.Number);
+
+    this.xBuffer = new DoubleWindowBuffer(capacity);
+    this.yBuffer = new DoubleWindowBuffer(capacity);
+    appendBatch(xData, yData);
+  }
+
+  /**
+   * Append a point to the end of the window, evicting the oldest point if the window is full.
+   *
+   * @param x
+   * @param y
+   */
+  public synchronized void appendPoint(double x, double y) {
+
+    xBuffer.add(x);
+    yBuffer.add(y);
+    isDirty = true;
+    markChanged();
+  }
+
+  /**
+   * Append several points to the end of the window, evicting the oldest points if the window is
+   * full.
+   *
+   * @param xData
+   * @param yData
+   */
+  public synchronized void appendBatch(double[] xData, double[] yData) {
+
+    if (xData.length != yData.length) {
+      throw new IllegalArgumentException("X and Y-Axis sizes are not the same!!!");
+    }
+    // points that would be evicted by the same batch anyway are skipped
+    for (int i = Math.max(0, xData.length - xBuffer.getCapacity()); i < xData.length; i++) {
+      xBuffer.add(xData[i]);
+      yBuffer.add(yData[i]);
+    }
+    isDirty = true;
+    markChanged();
+  }
+
+  public int getCapacity() {
+
+    return xBuffer.getCapacity();
+  }
+
+  /**
+   * This is an internal method which shouldn't be called from client code. Use
+   * XYChart.updateXYSeries instead!
+   *
+   * @param seriesDataValues
+   */
+  @Override
+  public synchronized void replaceData(SeriesDataValues seriesDataValues) {
+
+    if (xBuffer == null) {
+      super.replaceData(seriesDataValues);
+      return;
+    }
+    if (seriesDataValues.getExtraValues() != null) {
+      throw new IllegalArgumentException("Streaming series do not support error bars!!!");
+    }
+    dataSanityCheck(seriesDataValues);
+    xBuffer.clear();
+    yBuffer.clear();
+    appendBatch(seriesDataValues.getXData(), seriesDataValues.getYData());
+  }
+
+  /**
+   * Hands the window to the data view if points were appended. Both buffers move their window to a
+   * new array at the same appends, so it starts at the same index of both arrays.
+   */
+  private synchronized void sync() {
+
+    if (isDirty) {
+      isDirty = false;
+      int start = xBuffer.getStart();
+      replaceDataRange(xBuffer.getArray(), yBuffer.getArray(), start, start + xBuffer.getSize());
+    }
+  }
+
+  @Override
+  protected double[] calculateMinMax(SeriesDataView view) {
+
+    // the view of the window just handed over by sync(), use the incrementally maintained min and
+    // max. The views of the whole window created later keep these.
+    if (view.isAllXData()) {
+      if (xBuffer == null) {
+        // the empty data of the constructor
+        return new double[] {Double.NaN, Double.NaN, Double.NaN, Double.NaN};
+      }
+      return new double[] {xBuffer.getMin(), xBuffer.getMax(), yBuffer.getMin(), yBuffer.getMax()};
+    }
+    return super.calculateMinMax(view);
+  }
+
+  @Override
+  public void filterXByIndex(int startIndex, int endIndex) {
+
+    sync();
+    super.filterXByIndex(startIndex, endIndex);
+  }
+
+  @Override
+  public boolean filterXByValue(double minValue, double maxValue) {
+
+    sync();
+    return super.filterXByValue(minValue, maxValue);
+  }
+
+  @Override
+  public void resetFilter() {
+
+    sync();
+    super.resetFilter();
+  }
+
+  @Override
+  public SeriesDataView getDataView() {
+
+    sync();
+    return super.getDataView();
+  }
+}
@@ -4,14 +4,14 @@ import java.awt.Component;
 import java.awt.Dimension;
 import java.awt.Graphics;
 import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
 import java.awt.Toolkit;
 import java.awt.event.ActionEvent;
-import java.awt.event.ComponentAdapter;
-import java.awt.event.ComponentEvent;
 import java.awt.event.KeyEvent;
 import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
 import java.awt.event.MouseListener;
+import java.awt.event.MouseMotionListener;
 import java.awt.print.PageFormat;
 import java.awt.print.Paper;
 import java.awt.print.Printable;
@@ -32,8 +32,11 @@ import javax.swing.filechooser.FileFilter;
 import org.knowm.xchart.BitmapEncoder.BitmapFormat;
 import org.knowm.xchart.VectorGraphicsEncoder.VectorGraphicsFormat;
 import org.knowm.xchart.internal.chartpart.Chart;
+import org.knowm.xchart.internal.chartpart.ChartLayers;
+import org.knowm.xchart.internal.chartpart.ChartPart;
 import org.knowm.xchart.internal.chartpart.ChartZoom;
 import org.knowm.xchart.internal.chartpart.Cursor;
+import org.knowm.xchart.internal.chartpart.MarkerSprites;
 import org.knowm.xchart.internal.chartpart.ToolTips;
 import org.knowm.xchart.style.XYStyler;
 
@@ -53,7 +56,8 @@ public class XChartPanel<T extends Chart<?, ?>> extends JPanel {
   private String exportAsString = "Export To...";
   private String printString = "Print...";
   private String resetString = "Reset Zoom";
-  private ToolTips toolTips = null;
+  private ChartLayers chartLayers = null;
+  private volatile AsyncChartRenderer asyncRenderer = null;
 
   /**
    * Constructor
@@ -99,23 +103,12 @@ public class XChartPanel<T extends Chart<?, ?>> extends JPanel {
       this.addMouseMotionListener(new Cursor(chart));
     }
 
-    // Mouse motion listener for Tooltips
+    // Mouse motion listener for Tooltips, they are cleared and added again by every paint, so they
+    // follow a resize of the panel
     if (chart.getStyler().isToolTipsEnabled()) {
-      toolTips = new ToolTips(chart);
+      ToolTips toolTips = new ToolTips(chart);
       this.addMouseMotionListener(toolTips); // for moving
     }
-
-    // Recalculate Tooltips at component resize
-    this.addComponentListener(
-        new ComponentAdapter() {
-          public void componentResized(ComponentEvent ev) {
-            if (chart.getStyler().isToolTipsEnabled()) {
-              XChartPanel.this.removeMouseListener(toolTips);
-              toolTips = new ToolTips(chart);
-              XChartPanel.this.addMouseMotionListener(toolTips);
-            }
-          }
-        });
   }
 
   /**
@@ -159,16 +152,198 @@ public class XChartPanel<T extends Chart<?, ?>> extends JPanel {
     this.resetString = resetString;
   }
 
+  /**
+   * Set whether the background of the chart, with the axes and the grid lines, and its foreground,
+   * with the chart title and the legend, are cached in images between repaints. Only the series
+   * and the annotations are then painted again when the data changes, or when the mouse moves over
+   * the chart with the tool tips or the cursor enabled. The images are painted again whenever the
+   * tick labels, the plot bounds, the titles or the legend entries change, so it pays off for
+   * charts whose axes don't change at each repaint. Changes of the styler are only shown after
+   * Chart.invalidateLayout(). Off by default.
+   *
+   * @param isLayerCachingEnabled
+   */
+  public void setLayerCachingEnabled(boolean isLayerCachingEnabled) {
+
+    this.chartLayers = isLayerCachingEnabled ? new ChartLayers(chart) : null;
+    repaint();
+  }
+
+  /**
+   * Set whether the chart is rendered on a background thread instead of the event dispatch thread,
+   * so that a slow paint of a large chart doesn't freeze the user interface. The panel then shows
+   * the last completed frame until the next one is rendered, and frames requested by repaint()
+   * faster than they can be rendered are dropped. See {@link AsyncChartRenderer} for how the chart
+   * may be updated meanwhile. Off by default.
+   *
+   * @param isAsyncRenderingEnabled
+   */
+  public void setAsyncRenderingEnabled(boolean isAsyncRenderingEnabled) {
+
+    if (asyncRenderer != null) {
+      asyncRenderer.shutdown();
+    }
+    asyncRenderer =
+        isAsyncRenderingEnabled
+            ? new AsyncChartRenderer(this::paintFrame, this::repaintFrame)
+            : null;
+    repaint();
+  }
+
+  /**
+   * Get the renderer of the chart, with the frame metrics, if the asynchronous rendering is
+   * enabled.
+   *
+   * @return the renderer, or null if the chart is rendered on the event dispatch thread
+   */
+  public AsyncChartRenderer getAsyncRenderer() {
+
+    return asyncRenderer;
+  }
+
   @Override
   protected void paintComponent(Graphics g) {
 
     super.paintComponent(g);
 
     Graphics2D g2d = (Graphics2D) g.create();
-    chart.paint(g2d, getWidth(), getHeight());
+    AsyncChartRenderer renderer = asyncRenderer;
+    if (renderer != null && !isPaintingForPrint()) {
+      renderer.paint(g2d, getWidth(), getHeight(), getGraphicsConfiguration());
+    } else {
+      // a printer gets the marker shapes
+      if (!isPaintingForPrint()) {
+        g2d.setRenderingHint(MarkerSprites.KEY_MARKER_SPRITES, true);
+      }
+      paintChart(g2d, getWidth(), getHeight(), getGraphicsConfiguration());
+    }
     g2d.dispose();
   }
 
+  private void paintFrame(
+      Graphics2D g, int width, int height, GraphicsConfiguration graphicsConfiguration) {
+
+    g.setRenderingHint(MarkerSprites.KEY_MARKER_SPRITES, true);
+    synchronized (chart) {
+      paintChart(g, width, height, graphicsConfiguration);
+    }
+  }
+
+  void paintChart(
+      Graphics2D g, int width, int height, GraphicsConfiguration graphicsConfiguration) {
+
+    ChartLayers layers = chartLayers;
+    if (layers != null) {
+      layers.paint(g, width, height, graphicsConfiguration);
+    } else {
+      chart.paint(g, width, height);
+    }
+  }
+
+  /**
+   * Runs a task reading or changing the chart on the thread painting it, the renderer thread if the
+   * asynchronous rendering is enabled, otherwise right away on the event dispatch thread.
+   *
+   * @param task
+   */
+  private void runOnPaintThread(Runnable task) {
+
+    AsyncChartRenderer renderer = asyncRenderer;
+    boolean isQueued =
+        renderer != null
+            && renderer.execute(
+                () -> {
+                  synchronized (chart) {
+                    task.run();
+                  }
+                });
+    if (!isQueued) {
+      task.run();
+    }
+  }
+
+  @Override
+  public void repaint(long tm, int x, int y, int width, int height) {
+
+    // with the asynchronous rendering, the panel is repainted once the frame is rendered
+    AsyncChartRenderer renderer = asyncRenderer;
+    if (renderer == null || !renderer.requestFrame(getWidth(), getHeight())) {
+      super.repaint(tm, x, y, width, height);
+    }
+  }
+
+  /** Repaints the panel with the frame just rendered by the asynchronous renderer. */
+  void repaintFrame() {
+
+    super.repaint(0, 0, 0, getWidth(), getHeight());
+  }
+
+  @Override
+  protected void processMouseEvent(MouseEvent e) {
+
+    if (asyncRenderer == null) {
+      super.processMouseEvent(e);
+      return;
+    }
+    // the chart parts listening to the mouse share their state with the paint of the chart, they
+    // hit test the layout of the last frame on the renderer thread
+    for (MouseListener listener : getMouseListeners()) {
+      if (listener instanceof ChartPart) {
+        runOnPaintThread(() -> dispatchMouseEvent(listener, e));
+      } else {
+        dispatchMouseEvent(listener, e);
+      }
+    }
+  }
+
+  @Override
+  protected void processMouseMotionEvent(MouseEvent e) {
+
+    if (asyncRenderer == null) {
+      super.processMouseMotionEvent(e);
+      return;
+    }
+    for (MouseMotionListener listener : getMouseMotionListeners()) {
+      if (listener instanceof ChartPart) {
+        runOnPaintThread(() -> dispatchMouseMotionEvent(listener, e));
+      } else {
+        dispatchMouseMotionEvent(listener, e);
+      }
+    }
+  }
+
+  private static void dispatchMouseEvent(MouseListener listener, MouseEvent e) {
+
+    switch (e.getID()) {
+      case MouseEvent.MOUSE_PRESSED:
+        listener.mousePressed(e);
+        break;
+      case MouseEvent.MOUSE_RELEASED:
+        listener.mouseReleased(e);
+        break;
+      case MouseEvent.MOUSE_CLICKED:
+        listener.mouseClicked(e);
+        break;
+      case MouseEvent.MOUSE_ENTERED:
+        listener.mouseEntered(e);
+        break;
+      case MouseEvent.MOUSE_EXITED:
+        listener.mouseExited(e);
+        break;
+      default:
+        break;
+    }
+  }
+
+  private static void dispatchMouseMotionEvent(MouseMotionListener listener, MouseEvent e) {
+
+    if (e.getID() == MouseEvent.MOUSE_MOVED) {
+      listener.mouseMoved(e);
+    } else if (e.getID() == MouseEvent.MOUSE_DRAGGED) {
+      listener.mouseDragged(e);
+    }
+  }
+
   public T getChart() {
 
     return this.chart;
@@ -184,27 +359,31 @@ public class XChartPanel<T extends Chart<?, ?>> extends JPanel {
 
     PrinterJob printJob = PrinterJob.getPrinterJob();
     if (printJob.printDialog()) {
-      try {
-        // Page format
-        PageFormat pageFormat = printJob.defaultPage();
-        Paper paper = pageFormat.getPaper();
-        if (this.getWidth() > this.getHeight()) {
-          pageFormat.setOrientation(PageFormat.LANDSCAPE);
-          paper.setImageableArea(0, 0, pageFormat.getHeight(), pageFormat.getWidth());
-        } else {
-          paper.setImageableArea(0, 0, pageFormat.getWidth(), pageFormat.getHeight());
-        }
-        pageFormat.setPaper(paper);
-        pageFormat = printJob.validatePage(pageFormat);
-
-        String jobName = "XChart " + chart.getTitle().trim();
-        printJob.setJobName(jobName);
-
-        printJob.setPrintable(new Printer(this), pageFormat);
-        printJob.print();
-      } catch (PrinterException e) {
-        e.printStackTrace();
+      // Page format
+      PageFormat pageFormat = printJob.defaultPage();
+      Paper paper = pageFormat.getPaper();
+      if (this.getWidth() > this.getHeight()) {
+        pageFormat.setOrientation(PageFormat.LANDSCAPE);
+        paper.setImageableArea(0, 0, pageFormat.getHeight(), pageFormat.getWidth());
+      } else {
+        paper.setImageableArea(0, 0, pageFormat.getWidth(), pageFormat.getHeight());
       }
+      pageFormat.setPaper(paper);
+      pageFormat = printJob.validatePage(pageFormat);
+
+      String jobName = "XChart " + chart.getTitle().trim();
+      printJob.setJobName(jobName);
+
+      printJob.setPrintable(new Printer(this), pageFormat);
+      // the chart may be being painted by the asynchronous renderer
+      runOnPaintThread(
+          () -> {
+            try {
+              printJob.print();
+            } catch (PrinterException e) {
+              e.printStackTrace();
+            }
+          });
     }
   }
 
@@ -245,33 +424,35 @@ public class XChartPanel<T extends Chart<?, ?>> extends JPanel {
 
       if (fileChooser.getSelectedFile() != null) {
         File theFileToSave = fileChooser.getSelectedFile();
-        try {
-          if (fileChooser.getFileFilter() == null) {
-            BitmapEncoder.saveBitmap(chart, theFileToSave.getCanonicalPath(), BitmapFormat.PNG);
-          } else if (fileChooser.getFileFilter().getDescription().equals("*.jpg,*.JPG")) {
-            BitmapEncoder.saveJPGWithQuality(
-                chart,
-                BitmapEncoder.addFileExtension(theFileToSave.getCanonicalPath(), BitmapFormat.JPG),
-                1.0f);
-          } else if (fileChooser.getFileFilter().getDescription().equals("*.png,*.PNG")) {
-            BitmapEncoder.saveBitmap(chart, theFileToSave.getCanonicalPath(), BitmapFormat.PNG);
-          } else if (fileChooser.getFileFilter().getDescription().equals("*.bmp,*.BMP")) {
-            BitmapEncoder.saveBitmap(chart, theFileToSave.getCanonicalPath(), BitmapFormat.BMP);
-          } else if (fileChooser.getFileFilter().getDescription().equals("*.gif,*.GIF")) {
-            BitmapEncoder.saveBitmap(chart, theFileToSave.getCanonicalPath(), BitmapFormat.GIF);
-          } else if (fileChooser.getFileFilter().getDescription().equals("*.svg,*.SVG")) {
-            VectorGraphicsEncoder.saveVectorGraphic(
-                chart, theFileToSave.getCanonicalPath(), VectorGraphicsFormat.SVG);
-          } else if (fileChooser.getFileFilter().getDescription().equals("*.eps,*.EPS")) {
-            VectorGraphicsEncoder.saveVectorGraphic(
-                chart, theFileToSave.getCanonicalPath(), VectorGraphicsFormat.EPS);
-          } else if (fileChooser.getFileFilter().getDescription().equals("*.pdf,*.PDF")) {
-            VectorGraphicsEncoder.saveVectorGraphic(
-                chart, theFileToSave.getCanonicalPath(), VectorGraphicsFormat.PDF);
-          }
-        } catch (IOException e) {
-          e.printStackTrace();
-        }
+        FileFilter fileFilter = fileChooser.getFileFilter();
+        String description = fileFilter == null ? null : fileFilter.getDescription();
+        // the chart may be being painted by the asynchronous renderer
+        runOnPaintThread(
+            () -> {
+              try {
+                String path = theFileToSave.getCanonicalPath();
+                if (description == null) {
+                  BitmapEncoder.saveBitmap(chart, path, BitmapFormat.PNG);
+                } else if (description.equals("*.jpg,*.JPG")) {
+                  BitmapEncoder.saveJPGWithQuality(
+                      chart, BitmapEncoder.addFileExtension(path, BitmapFormat.JPG), 1.0f);
+                } else if (description.equals("*.png,*.PNG")) {
+                  BitmapEncoder.saveBitmap(chart, path, BitmapFormat.PNG);
+                } else if (description.equals("*.bmp,*.BMP")) {
+                  BitmapEncoder.saveBitmap(chart, path, BitmapFormat.BMP);
+                } else if (description.equals("*.gif,*.GIF")) {
+                  BitmapEncoder.saveBitmap(chart, path, BitmapFormat.GIF);
+                } else if (description.equals("*.svg,*.SVG")) {
+                  VectorGraphicsEncoder.saveVectorGraphic(chart, path, VectorGraphicsFormat.SVG);
+                } else if (description.equals("*.eps,*.EPS")) {
+                  VectorGraphicsEncoder.saveVectorGraphic(chart, path, VectorGraphicsFormat.EPS);
+                } else if (description.equals("*.pdf,*.PDF")) {
+                  VectorGraphicsEncoder.saveVectorGraphic(chart, path, VectorGraphicsFormat.PDF);
+                }
+              } catch (IOException e) {
+                e.printStackTrace();
+              }
+            });
       }
     }
   }
@@ -315,12 +496,17 @@ public class XChartPanel<T extends Chart<?, ?>> extends JPanel {
         }
       }
 
-      try {
-        CSVExporter.writeCSVColumns(
-            (XYChart) chart, theFileToSave.getCanonicalPath() + File.separatorChar);
-      } catch (IOException e) {
-        e.printStackTrace();
-      }
+      // the chart may be being painted by the asynchronous renderer
+      File directory = theFileToSave;
+      runOnPaintThread(
+          () -> {
+            try {
+              CSVExporter.writeCSVColumns(
+                  (XYChart) chart, directory.getCanonicalPath() + File.separatorChar);
+            } catch (IOException e) {
+              e.printStackTrace();
+            }
+          });
     }
   }
 
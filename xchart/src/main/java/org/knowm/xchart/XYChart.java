@@ -8,6 +8,7 @@ import java.util.Map;
 import org.knowm.xchart.internal.Utils;
 import org.knowm.xchart.internal.chartpart.AxisPair;
 import org.knowm.xchart.internal.chartpart.Chart;
+import org.knowm.xchart.internal.chartpart.ChartLayers;
 import org.knowm.xchart.internal.chartpart.Legend_Marker;
 import org.knowm.xchart.internal.chartpart.Plot_XY;
 import org.knowm.xchart.internal.series.Series.DataType;
@@ -312,6 +313,42 @@ public class XYChart extends Chart<XYStyler, XYSeries> {
     return series;
   }
 
+  /**
+   * Add a series for a real-time X-Y type chart that keeps the most recent points in a sliding
+   * window. New points are added with StreamingXYSeries.appendPoint or appendBatch.
+   *
+   * @param seriesName
+   * @param xData the initial X-Axis data, set null to be automatically generated
+   * @param yData the initial Y-Axis data
+   * @param capacity the maximum number of points in the sliding window
+   * @return A Series object that you can set properties on and append points to
+   */
+  public StreamingXYSeries addStreamingSeries(
+      String seriesName, double[] xData, double[] yData, int capacity) {
+
+    // Sanity checks
+    sanityCheck(seriesName, xData, yData, null);
+
+    StreamingXYSeries series;
+    if (xData != null) {
+
+      // Sanity check
+      if (xData.length != yData.length) {
+        throw new IllegalArgumentException("X and Y-Axis sizes are not the same!!!");
+      }
+
+      series = new StreamingXYSeries(seriesName, xData, yData, capacity);
+    } else { // generate xData
+      series =
+          new StreamingXYSeries(
+              seriesName, Utils.getGeneratedDataAsArray(yData.length), yData, capacity);
+    }
+
+    seriesMap.put(seriesName, series);
+
+    return series;
+  }
+
   /**
    * Update a series by updating the X-Axis, Y-Axis and error bar data
    *
@@ -349,6 +386,10 @@ public class XYChart extends Chart<XYStyler, XYSeries> {
   /**
    * Update a series by updating the X-Axis, Y-Axis and error bar data
    *
+   * <p>The new data is published to the series as a whole, so it can be called from any thread,
+   * also while the chart is painted, which paints either the old or the new data of the series. The
+   * arrays are used as they are and must not be modified afterwards.
+   *
    * @param seriesName
    * @param newXData - set null to be automatically generated as a list of increasing Integers
    *     starting from 1 and ending at the size of the new Y-Axis data list.
@@ -404,23 +445,32 @@ public class XYChart extends Chart<XYStyler, XYSeries> {
   @Override
   public void paint(Graphics2D g, int width, int height) {
 
-    setWidth(width);
-    setHeight(height);
-
-    // set the series render styles if they are not set. Legend and Plot need it.
-    for (XYSeries xySeries : getSeriesMap().values()) {
-      XYSeries.XYSeriesRenderStyle chartXYSeriesRenderStyle =
-          xySeries.getXYSeriesRenderStyle(); // would be directly set
-      if (chartXYSeriesRenderStyle == null) { // wasn't overridden, use default from Style Manager
-        xySeries.setXYSeriesRenderStyle(getStyler().getDefaultSeriesRenderStyle());
+    boolean isPinned = pinSeries();
+    try {
+      setWidth(width);
+      setHeight(height);
+
+      // set the series render styles if they are not set. Legend and Plot need it.
+      for (XYSeries xySeries : getSeriesMap().values()) {
+        XYSeries.XYSeriesRenderStyle chartXYSeriesRenderStyle =
+            xySeries.getXYSeriesRenderStyle(); // would be directly set
+        if (chartXYSeriesRenderStyle == null) { // wasn't overridden, use default from Style Manager
+          xySeries.setXYSeriesRenderStyle(getStyler().getDefaultSeriesRenderStyle());
+        }
       }
-    }
-    setSeriesStyles();
+      setSeriesStyles();
 
-    paintBackground(g);
+      updateLayoutState();
 
-    paintTarget.paint(g);
-    annotations.paint(g);
+      paintBackground(g);
+
+      paintTarget.paint(g);
+      annotations.paint(getLayerGraphics(ChartLayers.Layer.ANNOTATIONS, g));
+
+      commitLayoutState();
+    } finally {
+      unpinSeries(isPinned);
+    }
   }
 
   /** set the series color, marker and line style based on theme */
@@ -4,6 +4,7 @@ import org.knowm.xchart.internal.chartpart.RenderableSeries;
 import org.knowm.xchart.internal.chartpart.RenderableSeries.LegendRenderType;
 import org.knowm.xchart.internal.series.AxesChartSeriesNumericalNoErrorBars;
 import org.knowm.xchart.internal.series.SeriesDataValues;
+import org.knowm.xchart.internal.series.SeriesDataView;
 
 /**
  * A Series containing X and Y data to be plotted on a Chart
@@ -15,6 +16,10 @@ public class XYSeries extends AxesChartSeriesNumericalNoErrorBars {
   private XYSeriesRenderStyle xySeriesRenderStyle = null;
   // smooth curve
   private boolean smooth;
+  // pixel-aware min/max decimation, null means use the default from the styler
+  private Boolean decimationEnabled = null;
+  // min/max level of detail pyramid, built with the data view when first painted
+  private boolean isLevelOfDetailEnabled;
 
   /**
    * Constructor
@@ -38,6 +43,7 @@ public class XYSeries extends AxesChartSeriesNumericalNoErrorBars {
   public XYSeries setXYSeriesRenderStyle(XYSeriesRenderStyle chartXYSeriesRenderStyle) {
 
     this.xySeriesRenderStyle = chartXYSeriesRenderStyle;
+    markChanged();
     return this;
   }
 
@@ -54,6 +60,76 @@ public class XYSeries extends AxesChartSeriesNumericalNoErrorBars {
 
   public void setSmooth(boolean smooth) {
     this.smooth = smooth;
+    markChanged();
+  }
+
+  public Boolean getDecimationEnabled() {
+
+    return decimationEnabled;
+  }
+
+  /**
+   * Overrides the decimation default of XYStyler for this series. Set null to use the default.
+   *
+   * @param decimationEnabled
+   */
+  public XYSeries setDecimationEnabled(Boolean decimationEnabled) {
+
+    this.decimationEnabled = decimationEnabled;
+    markChanged();
+    return this;
+  }
+
+  public boolean isLevelOfDetailEnabled() {
+
+    return isLevelOfDetailEnabled;
+  }
+
+  /**
+   * Enables a min/max level of detail pyramid for very large series with sorted X-Axis data. It is
+   * built once per data and then lets line, area and step series paint only the coarsest level that
+   * still has at least one min/max bucket per pixel, whatever the number of points in the visible
+   * range. The pyramid takes about 0.4 times the memory of the X-Axis and Y-Axis data. Series with
+   * markers or error bars, and charts with tool tips or the cursor, are painted in full.
+   *
+   * @param isLevelOfDetailEnabled
+   */
+  public XYSeries setLevelOfDetailEnabled(boolean isLevelOfDetailEnabled) {
+
+    this.isLevelOfDetailEnabled = isLevelOfDetailEnabled;
+    markChanged();
+    return this;
+  }
+
+  /**
+   * This is an internal method which shouldn't be called from client code.
+   *
+   * @param xPixelSpace the number of screen pixels the visible range is painted on
+   * @return the ascending indices into getXDataView() and getYDataView() of the points to be
+   *     painted, or null if the visible range is painted without level of detail
+   */
+  public int[] getLevelOfDetailIndices(double xPixelSpace) {
+
+    return getLevelOfDetailIndices(getDataView(), xPixelSpace);
+  }
+
+  /**
+   * This is an internal method which shouldn't be called from client code.
+   *
+   * @param dataView the data view being painted
+   * @param xPixelSpace the number of screen pixels the visible range is painted on
+   * @return the ascending indices into the view arrays of the points to be painted, or null if the
+   *     visible range is painted without level of detail
+   */
+  public int[] getLevelOfDetailIndices(SeriesDataView dataView, double xPixelSpace) {
+
+    if (!isLevelOfDetailEnabled || !dataView.isXDataAllSorted()) {
+      return null;
+    }
+    // the view of sorted X-Axis data is always the permanent data
+    return dataView
+        .getYMinMaxPyramid()
+        .getIndices(dataView.getViewStart(), dataView.getViewEnd(), xPixelSpace);
   }
 
   public enum XYSeriesRenderStyle implements RenderableSeries {
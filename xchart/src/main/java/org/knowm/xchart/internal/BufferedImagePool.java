@@ -0,0 +1,153 @@
+package org.knowm.xchart.internal;
+
+import java.awt.AlphaComposite;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.lang.ref.SoftReference;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A thread-safe pool of BufferedImages keyed by width, height and image type, so that rendering
+ * many charts of the same size doesn't allocate a new raster for every chart. At most
+ * maxImagesPerKey idle images are kept per key, for at most maxKeys keys. The images of the key
+ * released least recently are dropped first, so exporting many different sizes doesn't keep images
+ * of all of them. Idle images are only softly referenced, so the garbage collector can still
+ * reclaim them under memory pressure.
+ */
+public class BufferedImagePool {
+
+  private final int maxImagesPerKey;
+  private final int maxKeys;
+  // the idle images per key, in the order the keys were last released
+  private final LinkedHashMap<Key, Deque<SoftReference<BufferedImage>>> pools;
+
+  /**
+   * Constructor
+   *
+   * @param maxImagesPerKey the maximum number of idle images kept per width, height and type
+   * @param maxKeys the maximum number of widths, heights and types idle images are kept for
+   */
+  public BufferedImagePool(int maxImagesPerKey, int maxKeys) {
+
+    if (maxImagesPerKey < 1) {
+      throw new IllegalArgumentException("Max images per key must be at least 1!!!");
+    }
+    if (maxKeys < 1) {
+      throw new IllegalArgumentException("Max keys must be at least 1!!!");
+    }
+    this.maxImagesPerKey = maxImagesPerKey;
+    this.maxKeys = maxKeys;
+    this.pools =
+        new LinkedHashMap<Key, Deque<SoftReference<BufferedImage>>>(16, 0.75f, true) {
+
+          @Override
+          protected boolean removeEldestEntry(
+              Map.Entry<Key, Deque<SoftReference<BufferedImage>>> eldest) {
+
+            return size() > BufferedImagePool.this.maxKeys;
+          }
+        };
+  }
+
+  /**
+   * Borrows an image of the given size and type, cleared to all zero pixels like a new
+   * BufferedImage. It must be given back with release() once it's not used anymore.
+   *
+   * @param width
+   * @param height
+   * @param imageType
+   * @return the image
+   */
+  public BufferedImage borrow(int width, int height, int imageType) {
+
+    BufferedImage image = poll(new Key(width, height, imageType));
+    if (image == null) {
+      return new BufferedImage(width, height, imageType);
+    }
+    clear(image);
+    return image;
+  }
+
+  private synchronized BufferedImage poll(Key key) {
+
+    Deque<SoftReference<BufferedImage>> pool = pools.get(key);
+    if (pool == null) {
+      return null;
+    }
+    SoftReference<BufferedImage> reference;
+    while ((reference = pool.poll()) != null) {
+      BufferedImage image = reference.get();
+      if (image != null) {
+        return image;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Gives back a borrowed image. The image must not be used by the caller afterwards.
+   *
+   * @param image
+   */
+  public synchronized void release(BufferedImage image) {
+
+    Deque<SoftReference<BufferedImage>> pool =
+        pools.computeIfAbsent(
+            new Key(image.getWidth(), image.getHeight(), image.getType()),
+            key -> new ArrayDeque<>());
+    if (pool.size() < maxImagesPerKey) {
+      pool.offer(new SoftReference<>(image));
+    }
+  }
+
+  /** @return the number of idle images in the pool, including the ones already reclaimed */
+  synchronized int getIdleCount() {
+
+    int count = 0;
+    for (Deque<SoftReference<BufferedImage>> pool : pools.values()) {
+      count += pool.size();
+    }
+    return count;
+  }
+
+  private static void clear(BufferedImage image) {
+
+    Graphics2D g = image.createGraphics();
+    g.setComposite(AlphaComposite.Clear);
+    g.fillRect(0, 0, image.getWidth(), image.getHeight());
+    g.dispose();
+  }
+
+  private static class Key {
+
+    private final int width;
+    private final int height;
+    private final int imageType;
+
+    private Key(int width, int height, int imageType) {
+
+      this.width = width;
+      this.height = height;
+      this.imageType = imageType;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+
+      if (!(o instanceof Key)) {
+        return false;
+      }
+      Key key = (Key) o;
+      return width == key.width && height == key.height && imageType == key.imageType;
+    }
+
+    @Override
+    public int hashCode() {
+
+      return (width * 31 + height) * 31 + imageType;
+    }
+  }
+}
@@ -0,0 +1,153 @@
+package org.knowm.xchart.internal;
+
+import java.util.AbstractMap;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A thread-safe Map keeping the insertion order, for maps which are iterated while they may be
+ * modified on another thread, like the series of a chart. The entries are kept in a map guarded by
+ * a lock, and the views iterate over a snapshot of it, which is copied on the first iteration after
+ * a modification. Adding many entries in a row is then as fast as with a LinkedHashMap, while an
+ * iteration never throws a ConcurrentModificationException, and a concurrent modification only
+ * shows up in the next one. The views can't modify the map. A thread can pin the current snapshot,
+ * so that all its reads see the same entries until it unpins it, like a paint of a chart reading
+ * its series several times.
+ */
+public class SnapshotMap<K, V> extends AbstractMap<K, V> {
+
+  // guarded by this
+  private final Map<K, V> map = new LinkedHashMap<>();
+  // a copy of the map, null once it is modified until the next iteration
+  private volatile Map<K, V> snapshot = Collections.emptyMap();
+  // the snapshot pinned by the current thread, if any
+  private final ThreadLocal<Map<K, V>> pinnedSnapshot = new ThreadLocal<>();
+
+  /**
+   * Makes all reads of the calling thread see the current entries, until unpinSnapshot() is called,
+   * while other threads may still modify the map.
+   *
+   * @return false if the thread had already pinned a snapshot, which is kept
+   */
+  public boolean pinSnapshot() {
+
+    if (pinnedSnapshot.get() != null) {
+      return false;
+    }
+    pinnedSnapshot.set(getSnapshot());
+    return true;
+  }
+
+  /** Makes the reads of the calling thread see the modifications of the map again. */
+  public void unpinSnapshot() {
+
+    pinnedSnapshot.remove();
+  }
+
+  private Map<K, V> getSnapshot() {
+
+    Map<K, V> pinned = pinnedSnapshot.get();
+    if (pinned != null) {
+      return pinned;
+    }
+    Map<K, V> snapshot = this.snapshot;
+    if (snapshot == null) {
+      synchronized (this) {
+        snapshot = this.snapshot;
+        if (snapshot == null) {
+          snapshot = Collections.unmodifiableMap(new LinkedHashMap<>(map));
+          this.snapshot = snapshot;
+        }
+      }
+    }
+    return snapshot;
+  }
+
+  @Override
+  public int size() {
+
+    Map<K, V> pinned = pinnedSnapshot.get();
+    if (pinned != null) {
+      return pinned.size();
+    }
+    synchronized (this) {
+      return map.size();
+    }
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+
+    Map<K, V> pinned = pinnedSnapshot.get();
+    if (pinned != null) {
+      return pinned.containsKey(key);
+    }
+    synchronized (this) {
+      return map.containsKey(key);
+    }
+  }
+
+  @Override
+  public V get(Object key) {
+
+    Map<K, V> pinned = pinnedSnapshot.get();
+    if (pinned != null) {
+      return pinned.get(key);
+    }
+    synchronized (this) {
+      return map.get(key);
+    }
+  }
+
+  @Override
+  public Set<Entry<K, V>> entrySet() {
+
+    return getSnapshot().entrySet();
+  }
+
+  @Override
+  public Set<K> keySet() {
+
+    return getSnapshot().keySet();
+  }
+
+  @Override
+  public Collection<V> values() {
+
+    return getSnapshot().values();
+  }
+
+  @Override
+  public synchronized V put(K key, V value) {
+
+    snapshot = null;
+    return map.put(key, value);
+  }
+
+  @Override
+  public synchronized void putAll(Map<? extends K, ? extends V> m) {
+
+    snapshot = null;
+    map.putAll(m);
+  }
+
+  @Override
+  public synchronized V remove(Object key) {
+
+    if (!map.containsKey(key)) {
+      return null;
+    }
+    snapshot = null;
+    return map.remove(key);
+  }
+
+  @Override
+  public synchronized void clear() {
+
+    snapshot = null;
+    map.clear();
+  }
+}
@@ -215,4 +215,33 @@ public class Utils {
     double min = Arrays.stream(data).filter((x)->!Double.isNaN(x)).min().getAsDouble();
     return min;
   }
+
+  /**
+   * Checks if a dataset is sorted in ascending order. Datasets containing NaN are not.
+   *
+   * @param data
+   * @return
+   */
+  public static boolean isAscending(double[] data) {
+
+    return isAscending(data, 0, data.length);
+  }
+
+  /**
+   * Checks if a range of a dataset is sorted in ascending order. Ranges containing NaN are not.
+   *
+   * @param data
+   * @param from the first index, inclusive
+   * @param to the last index, exclusive
+   * @return
+   */
+  public static boolean isAscending(double[] data, int from, int to) {
+
+    for (int i = from + 1; i < to; i++) {
+      if (!(data[i] >= data[i - 1])) {
+        return false;
+      }
+    }
+    return from >= to || !Double.isNaN(data[from]);
+  }
 }
@@ -4,21 +4,9 @@ import java.awt.Graphics2D;
 import java.awt.RenderingHints;
 import java.awt.Shape;
 import java.awt.font.FontRenderContext;
-import java.awt.font.TextLayout;
-import java.awt.geom.AffineTransform;
 import java.awt.geom.Rectangle2D;
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Objects;
-import java.util.Set;
-import java.util.stream.Collectors;
-import org.knowm.xchart.CategoryChart;
-import org.knowm.xchart.CategorySeries;
 import org.knowm.xchart.HeatMapChart;
-import org.knowm.xchart.XYChart;
-import org.knowm.xchart.XYSeries;
 import org.knowm.xchart.internal.Utils;
 import org.knowm.xchart.internal.series.AxesChartSeries;
 import org.knowm.xchart.internal.series.AxesChartSeriesCategory;
@@ -30,7 +18,6 @@ import org.knowm.xchart.style.CategoryStyler;
 import org.knowm.xchart.style.HeatMapStyler;
 import org.knowm.xchart.style.Styler.LegendPosition;
 import org.knowm.xchart.style.Styler.YAxisPosition;
-import org.knowm.xchart.style.XYStyler;
 
 /** Axis */
 public class Axis<ST extends AxesChartStyler, S extends AxesChartSeries> implements ChartPart {
@@ -51,9 +38,15 @@ public class Axis<ST extends AxesChartStyler, S extends AxesChartSeries> impleme
   private Series.DataType dataType;
   /** the axis tick calculator */
   private AxisTickCalculator_ axisTickCalculator;
+  // the working space the tick calculator was computed for
+  private double axisTickCalculatorWorkingSpace = Double.NaN;
+
+  // the bounds computed by the last preparePaint(), before paint() adjusts them
+  private final Rectangle2D.Double preparedBounds = new Rectangle2D.Double();
 
   private double min;
   private double max;
+
   
   private AxisTickCalculatorTypeFactory calculatorTypeFactory = new AxisTickCalculatorTypeFactory();
   /**
@@ -105,6 +98,12 @@ public class Axis<ST extends AxesChartStyler, S extends AxesChartSeries> impleme
 
   public void preparePaint() {
 
+    // nothing the bounds depend on changed since the last paint
+    if (chart.isLayoutValid()) {
+      bounds.setRect(preparedBounds);
+      return;
+    }
+
     double legendHeightOffset = 0;
     if (axesChartStyler.isLegendVisible()
         && axesChartStyler.getLegendPosition() == LegendPosition.OutsideS)
@@ -214,6 +213,7 @@ public class Axis<ST extends AxesChartStyler, S extends AxesChartSeries> impleme
 
       bounds.setRect(xOffset, yOffset, width, height);
     }
+    preparedBounds.setRect(bounds);
   }
 
   @Override
@@ -276,12 +276,11 @@ public class Axis<ST extends AxesChartStyler, S extends AxesChartSeries> impleme
     if (chart.getXAxisTitle() != null
         && !chart.getXAxisTitle().trim().equalsIgnoreCase("")
         && axesChartStyler.isXAxisTitleVisible()) {
-      TextLayout textLayout =
-          new TextLayout(
+      Rectangle2D rectangle =
+          TextMetricsCache.getBounds(
               chart.getXAxisTitle(),
               axesChartStyler.getAxisTitleFont(),
               new FontRenderContext(null, true, false));
-      Rectangle2D rectangle = textLayout.getBounds();
       titleHeight = rectangle.getHeight() + axesChartStyler.getAxisTitlePadding();
     }
 
@@ -307,17 +306,12 @@ public class Axis<ST extends AxesChartStyler, S extends AxesChartSeries> impleme
       // System.out.println("sampleLabel: " + sampleLabel);
 
       // get the height of the label including rotation
-      TextLayout textLayout =
-          new TextLayout(
+      Shape shape =
+          TextMetricsCache.getOutline(
               sampleLabel.length() == 0 ? " " : sampleLabel,
               axesChartStyler.getAxisTickLabelsFont(),
-              new FontRenderContext(null, true, false));
-      AffineTransform rot =
-          axesChartStyler.getXAxisLabelRotation() == 0
-              ? null
-              : AffineTransform.getRotateInstance(
-                  -1 * Math.toRadians(axesChartStyler.getXAxisLabelRotation()));
-      Shape shape = textLayout.getOutline(rot);
+              new FontRenderContext(null, true, false),
+              axesChartStyler.getXAxisLabelRotation());
       Rectangle2D rectangle = shape.getBounds();
 
       axisTickLabelsHeight =
@@ -336,12 +330,11 @@ public class Axis<ST extends AxesChartStyler, S extends AxesChartSeries> impleme
     if (yAxisTitle != null
         && !yAxisTitle.trim().equalsIgnoreCase("")
         && axesChartStyler.isYAxisTitleVisible()) {
-      TextLayout textLayout =
-          new TextLayout(
+      Rectangle2D rectangle =
+          TextMetricsCache.getBounds(
               yAxisTitle,
               axesChartStyler.getAxisTitleFont(),
               new FontRenderContext(null, true, false));
-      Rectangle2D rectangle = textLayout.getBounds();
       titleHeight = rectangle.getHeight() + axesChartStyler.getAxisTitlePadding();
     }
 
@@ -365,12 +358,11 @@ public class Axis<ST extends AxesChartStyler, S extends AxesChartSeries> impleme
       }
 
       // get the height of the label including rotation
-      TextLayout textLayout =
-          new TextLayout(
+      Rectangle2D rectangle =
+          TextMetricsCache.getBounds(
               sampleLabel.length() == 0 ? " " : sampleLabel,
               axesChartStyler.getAxisTickLabelsFont(),
               new FontRenderContext(null, true, false));
-      Rectangle2D rectangle = textLayout.getBounds();
 
       axisTickLabelsHeight =
           rectangle.getWidth()
@@ -382,51 +374,19 @@ public class Axis<ST extends AxesChartStyler, S extends AxesChartSeries> impleme
 
   private void getAxisTickCalculator(double workingSpace) {
 
+    if (chart.isLayoutValid()
+        && axisTickCalculator != null
+        && workingSpace == axisTickCalculatorWorkingSpace) {
+      return;
+    }
+    axisTickCalculatorWorkingSpace = workingSpace;
+
     // X-Axis
     if (getDirection() == Direction.X) {
-      List<Double> xData = new ArrayList<>();
-      if (axesChartStyler instanceof HeatMapStyler) {
-        List<?> categories = (List<?>) ((HeatMapChart) chart).getHeatMapSeries().getXData();
-        xData =
-            categories.stream()
-                .filter(Objects::nonNull)
-                .filter(it -> it instanceof Number)
-                .mapToDouble(it -> ((Number) it).doubleValue())
-                .boxed()
-                .collect(Collectors.toList());
-      } else if (axesChartStyler instanceof CategoryStyler) {
-        Set<Double> uniqueXData = new LinkedHashSet<>();
-        for (CategorySeries categorySeries : ((CategoryChart) chart).getSeriesMap().values()) {
-          List<Double> numericCategoryXData =
-              categorySeries.getXData().stream()
-                  .filter(Objects::nonNull)
-                  .filter(x -> x instanceof Number)
-                  .mapToDouble(x -> ((Number) x).doubleValue())
-                  .boxed()
-                  .collect(Collectors.toList());
-          uniqueXData.addAll(numericCategoryXData);
-        }
-        xData.addAll(uniqueXData);
-      } else if (axesChartStyler instanceof XYStyler) {
-        Set<Double> uniqueXData = new LinkedHashSet<>();
-        for (XYSeries xySeries : ((XYChart) chart).getSeriesMap().values()) {
-          uniqueXData.addAll(
-              Arrays.stream(xySeries.getXData()).boxed().collect(Collectors.toList()));
-        }
-        xData.addAll(uniqueXData);
-      }
 
+      // the calculators placing the ticks at the data values are not used, so the distinct values
+      // of the data are not collected
       if (axesChartStyler.getxAxisTickLabelsFormattingFunction() != null) {
-        if (!xData.isEmpty()) { // TODO why would this be empty?
-        	this.axisTickCalculator = calculatorTypeFactory.calculator(AxisTickCalculatorType.CallbackWithAxis,
-        		  axesChartStyler.getxAxisTickLabelsFormattingFunction(),
-                  getDirection(),
-                  workingSpace,
-                  min,
-                  max,
-                  xData,
-                  axesChartStyler, null, null, 0);
-        }
         this.axisTickCalculator = calculatorTypeFactory.calculator(AxisTickCalculatorType.CallbackWithoutAxis,
       		  axesChartStyler.getxAxisTickLabelsFormattingFunction(),
                 getDirection(),
@@ -461,9 +421,6 @@ public class Axis<ST extends AxesChartStyler, S extends AxesChartSeries> impleme
         DataType axisType = chart.getAxisPair().getXAxis().getDataType();
         this.axisTickCalculator = calculatorTypeFactory.calculator(AxisTickCalculatorType.Category, null, getDirection(), workingSpace, Double.NaN, Double.NaN, null, axesChartStyler, categories, axisType, 0);
       } else {
-        if (!xData.isEmpty()) {
-          this.axisTickCalculator = calculatorTypeFactory.calculator(AxisTickCalculatorType.NumberWithAxis, null, getDirection(), workingSpace, min, max, xData, axesChartStyler, null, null, 0);
-        }
         this.axisTickCalculator = calculatorTypeFactory.calculator(AxisTickCalculatorType.Number, null, getDirection(), workingSpace, min, max, null, axesChartStyler, null, null, 0);
       }
     }
@@ -471,41 +428,7 @@ public class Axis<ST extends AxesChartStyler, S extends AxesChartSeries> impleme
     // Y-Axis
     else {
 
-      List<Double> yData = new ArrayList<>();
-      if (axesChartStyler instanceof HeatMapStyler) {
-        List<?> categories = (List<?>) ((HeatMapChart) chart).getHeatMapSeries().getYData();
-        yData =
-            categories.stream()
-                .filter(Objects::nonNull)
-                .filter(it -> it instanceof Number)
-                .mapToDouble(it -> ((Number) it).doubleValue())
-                .boxed()
-                .collect(Collectors.toList());
-      } else if (axesChartStyler instanceof CategoryStyler) {
-        Set<Double> uniqueYData = new LinkedHashSet<>();
-        for (CategorySeries categorySeries : ((CategoryChart) chart).getSeriesMap().values()) {
-          uniqueYData.addAll(
-              categorySeries.getYData().stream()
-                  .filter(Objects::nonNull)
-                  .mapToDouble(Number::doubleValue)
-                  .boxed()
-                  .collect(Collectors.toList()));
-        }
-        yData.addAll(uniqueYData);
-      } else if (axesChartStyler instanceof XYStyler) {
-        Set<Double> uniqueYData = new LinkedHashSet<>();
-        for (XYSeries xySeries : ((XYChart) chart).getSeriesMap().values()) {
-          uniqueYData.addAll(
-              Arrays.stream(xySeries.getYData()).boxed().collect(Collectors.toList()));
-        }
-        yData.addAll(uniqueYData);
-      }
-
       if (axesChartStyler.getyAxisTickLabelsFormattingFunction() != null) {
-        if (!yData.isEmpty()) {
-        	this.axisTickCalculator = calculatorTypeFactory.calculator(AxisTickCalculatorType.CallbackWithAxis, axesChartStyler.getyAxisTickLabelsFormattingFunction(),
-        			getDirection(), workingSpace, min, max, yData, axesChartStyler, null, null, 0);
-        }
         this.axisTickCalculator = calculatorTypeFactory.calculator(AxisTickCalculatorType.CallbackWithoutAxis, axesChartStyler.getyAxisTickLabelsFormattingFunction(),
     			getDirection(), workingSpace, min, max, null, axesChartStyler, null, null, 0);
 
@@ -519,12 +442,8 @@ public class Axis<ST extends AxesChartStyler, S extends AxesChartSeries> impleme
         this.axisTickCalculator = calculatorTypeFactory.calculator(AxisTickCalculatorType.Category, null,
       			getDirection(), workingSpace, Double.NaN, Double.NaN, null, axesChartStyler, categories, axisType, 0);
       } else {
-        if (!yData.isEmpty()) {
-        	this.axisTickCalculator = calculatorTypeFactory.calculator(AxisTickCalculatorType.NumberWithAxis, null,
-          			getDirection(), workingSpace, min, max, yData, axesChartStyler, null, null, 0);
-        }
         this.axisTickCalculator = calculatorTypeFactory.calculator(AxisTickCalculatorType.NumberWithIndex, null,
-          			getDirection(), workingSpace, min, max, yData, axesChartStyler, null, null, getYIndex());
+          			getDirection(), workingSpace, min, max, null, axesChartStyler, null, null, getYIndex());
       }
     }
   }
@@ -2,6 +2,7 @@ package org.knowm.xchart.internal.chartpart;
 
 import java.awt.Graphics2D;
 import java.awt.geom.Rectangle2D;
+import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map.Entry;
@@ -9,6 +10,8 @@ import java.util.TreeMap;
 import org.knowm.xchart.CategorySeries.CategorySeriesRenderStyle;
 import org.knowm.xchart.internal.series.AxesChartSeries;
 import org.knowm.xchart.internal.series.AxesChartSeriesCategory;
+import org.knowm.xchart.internal.series.AxesChartSeriesNumericalNoErrorBars;
+import org.knowm.xchart.internal.series.SeriesDataView;
 import org.knowm.xchart.style.AxesChartStyler;
 import org.knowm.xchart.style.BoxStyler;
 import org.knowm.xchart.style.CategoryStyler;
@@ -47,9 +50,14 @@ public class AxisPair<ST extends AxesChartStyler, S extends AxesChartSeries> imp
   }
 
   @Override
-  public void paint(Graphics2D g) {
+  public void paint(Graphics2D graphics) {
 
-    prepareForPaint();
+    Graphics2D g = chart.getLayerGraphics(ChartLayers.Layer.BACKGROUND, graphics);
+
+    // the axes, their data types and ranges are kept from the last paint if nothing changed
+    if (!chart.isLayoutValid()) {
+      prepareForPaint();
+    }
 
     leftMainYAxis = null;
     rightMainYAxis = null;
@@ -300,11 +308,24 @@ public class AxisPair<ST extends AxesChartStyler, S extends AxesChartSeries> imp
           disabledCount++;
           continue;
         }
-        xAxis.addMinMax(series.getXMin(), series.getXMax());
+        double xMin = series.getXMin();
+        double xMax = series.getXMax();
+        double yMin = series.getYMin();
+        double yMax = series.getYMax();
+        // the numerical series are plotted from the data captured for this paint
+        if (series instanceof AxesChartSeriesNumericalNoErrorBars) {
+          SeriesDataView dataView =
+              ((AxesChartSeriesNumericalNoErrorBars) series).getPaintDataView();
+          xMin = dataView.getXMin();
+          xMax = dataView.getXMax();
+          yMin = dataView.getYMin();
+          yMax = dataView.getYMax();
+        }
+        xAxis.addMinMax(xMin, xMax);
 
-        getYAxis(series.getYAxisGroup()).addMinMax(series.getYMin(), series.getYMax());
+        getYAxis(series.getYAxisGroup()).addMinMax(yMin, yMax);
         if (!mainYAxisUsed) {
-          yAxis.addMinMax(series.getYMin(), series.getYMax());
+          yAxis.addMinMax(yMin, yMax);
         }
       }
       if (disabledCount == chart.getSeriesMap().values().size()) {
@@ -371,6 +392,11 @@ public class AxisPair<ST extends AxesChartStyler, S extends AxesChartSeries> imp
     return yAxisMap.get(yIndex);
   }
 
+  Collection<Axis<ST, S>> getYAxes() {
+
+    return yAxisMap.values();
+  }
+
   /** Here we can add special case min max calculations and take care of manual min max settings. */
   private void overrideMinMaxForXAxis() {
 
@@ -2,8 +2,6 @@ package org.knowm.xchart.internal.chartpart;
 
 import java.awt.*;
 import java.awt.font.FontRenderContext;
-import java.awt.font.TextLayout;
-import java.awt.geom.AffineTransform;
 import java.awt.geom.Rectangle2D;
 import java.math.BigDecimal;
 import java.math.MathContext;
@@ -11,8 +9,6 @@ import java.math.RoundingMode;
 import java.text.Format;
 import java.util.*;
 import java.util.List;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
 import org.knowm.xchart.internal.Utils;
 import org.knowm.xchart.internal.chartpart.Axis.Direction;
 import org.knowm.xchart.style.AxesChartStyler;
@@ -22,6 +18,9 @@ import org.knowm.xchart.style.Styler;
 /** @author timmolter */
 public abstract class AxisTickCalculator_ {
 
+  /** the strides checked one by one for equally spaced axis values, before bisecting */
+  private static final int MAX_STRIDE_CHECKS = 256;
+
   /** the List of tick label position in pixels */
   final List<Double> tickLocations = new LinkedList<>();
 
@@ -121,6 +120,25 @@ public abstract class AxisTickCalculator_ {
    */
   boolean willLabelsFitInTickSpaceHint(List<String> tickLabels, int tickSpacingHint) {
 
+    double largestLabelWidth = getLargestLabelWidth(tickLabels);
+    // System.out.println("largestLabelWidth: " + largestLabelWidth);
+    // System.out.println("tickSpacingHint: " + tickSpacingHint);
+
+    // if (largestLabelWidth * 1.1 >= tickSpacingHint) {
+    // System.out.println("WILL NOT FIT!!!");
+    // }
+
+    return (largestLabelWidth * 1.1 < tickSpacingHint);
+  }
+
+  /**
+   * Gets the space the largest of the labels takes along the axis
+   *
+   * @param tickLabels
+   * @return the width of the longest label on the X-Axis, the height of a label on the Y-Axis
+   */
+  private double getLargestLabelWidth(List<String> tickLabels) {
+
     String sampleLabel = "Y";
     if (Direction.X.equals(this.axisDirection)) {
       // find the longest String in all the labels
@@ -132,26 +150,14 @@ public abstract class AxisTickCalculator_ {
     }
     // System.out.println("longestLabel: " + sampleLabel);
 
-    TextLayout textLayout =
-        new TextLayout(
-            sampleLabel, styler.getAxisTickLabelsFont(), new FontRenderContext(null, true, false));
-    AffineTransform rot =
-        styler.getXAxisLabelRotation() == 0
-            ? null
-            : AffineTransform.getRotateInstance(
-                -1 * Math.toRadians(styler.getXAxisLabelRotation()));
-    Shape shape = textLayout.getOutline(rot);
+    Shape shape =
+        TextMetricsCache.getOutline(
+            sampleLabel,
+            styler.getAxisTickLabelsFont(),
+            new FontRenderContext(null, true, false),
+            styler.getXAxisLabelRotation());
     Rectangle2D rectangle = shape.getBounds();
-    double largestLabelWidth =
-        Direction.X.equals(this.axisDirection) ? rectangle.getWidth() : rectangle.getHeight();
-    // System.out.println("largestLabelWidth: " + largestLabelWidth);
-    // System.out.println("tickSpacingHint: " + tickSpacingHint);
-
-    // if (largestLabelWidth * 1.1 >= tickSpacingHint) {
-    // System.out.println("WILL NOT FIT!!!");
-    // }
-
-    return (largestLabelWidth * 1.1 < tickSpacingHint);
+    return Direction.X.equals(this.axisDirection) ? rectangle.getWidth() : rectangle.getHeight();
   }
 
   public Format getAxisFormat() {
@@ -170,13 +176,24 @@ public abstract class AxisTickCalculator_ {
     if (threshold > Math.abs(maxValue - minValue)) {
       return false;
     }
-    return IntStream.range(1, values.size())
-        .mapToDouble(i -> values.get(i) - values.get(i - 1))
-        .allMatch(x -> Math.abs(x - space) < threshold);
+    double previous = values.get(1);
+    for (int i = 2; i < values.size(); i++) {
+      double value = values.get(i);
+      if (!(Math.abs(value - previous - space) < threshold)) {
+        return false;
+      }
+      previous = value;
+    }
+    return true;
   }
 
   /**
-   * Calculates the ticks so that they only appear at positions where data is available.
+   * Calculates the ticks so that they only appear at positions where data is available. Every
+   * stride-th value gets a tick, using the smallest stride for which the labels are unique and fit
+   * side-by-side. Instead of trying every stride from 1 on, the search starts at the smallest
+   * stride the first label would fit at, so only about as many labels as fit on the axis are
+   * formatted per stride. After MAX_STRIDE_CHECKS strides, the stride is doubled instead and then
+   * bisected.
    *
    * @param tickSpace a percentage of the working space available for ticks
    * @param margin where the tick should begin in the working space in pixels
@@ -185,43 +202,127 @@ public abstract class AxisTickCalculator_ {
     if (axisValues == null) {
       throw new IllegalStateException("No axis values.");
     }
-    int gridStepInChartSpace;
-    int tickValuesHint = 0;
-    List<Double> tickLabelValues;
-    double tickLabelMaxValue;
-    double tickLabelMinValue;
-    do {
-      tickValuesHint++;
-      tickLabels.clear();
-      int finalTickValuesHint = tickValuesHint;
-      tickLabelValues =
-          IntStream.range(0, axisValues.size())
-              .filter(it -> it % finalTickValuesHint == 0)
-              .mapToDouble(axisValues::get)
-              .boxed()
-              .collect(Collectors.toList());
-      tickLabelMaxValue = tickLabelValues.stream().mapToDouble(x -> x).max().orElse(maxValue);
-      tickLabelMinValue = tickLabelValues.stream().mapToDouble(x -> x).min().orElse(minValue);
-      tickLabels.addAll(
-          tickLabelValues.stream()
-              .map(x -> getAxisFormat().format(x))
-              .collect(Collectors.toList()));
-      // the span of the data
-      double span =
-          Math.abs(
-              Math.min(
-                  (tickLabelMaxValue - tickLabelMinValue), Double.MAX_VALUE - 1)); // in data space
-      double gridStep = span / (tickLabelValues.size() - 1);
-
-      gridStepInChartSpace = (int) (gridStep / span * tickSpace);
-    } while (!areAllTickLabelsUnique(tickLabels)
-        || !willLabelsFitInTickSpaceHint(tickLabels, gridStepInChartSpace));
+    double[] values = new double[axisValues.size()];
+    for (int i = 0; i < values.length; i++) {
+      values[i] = axisValues.get(i);
+    }
+    int lastStride = values.length - 1; // the largest stride still giving two ticks
+
+    int stride = getMinStride(values, tickSpace);
+    String[] labels = null;
+    for (int checks = 0; labels == null && stride <= lastStride; checks++) {
+      if (checks == MAX_STRIDE_CHECKS) {
+        stride = getStrideByBisection(values, stride - 1, tickSpace);
+        labels = stride <= lastStride ? getTickLabelsIfTheyFit(values, stride, tickSpace) : null;
+        break;
+      }
+      labels = getTickLabelsIfTheyFit(values, stride, tickSpace);
+      if (labels == null) {
+        stride++;
+      }
+    }
+    if (labels == null) {
+      // not even the first and the last value fit side-by-side, so only the first one gets a tick
+      stride = values.length;
+      labels = new String[] {getAxisFormat().format(values[0])};
+    }
 
+    tickLabels.clear();
     tickLocations.clear();
-    tickLocations.addAll(
-        tickLabelValues.stream()
-            .map(value -> margin + ((value - minValue) / (maxValue - minValue) * tickSpace))
-            .collect(Collectors.toList()));
+    for (int i = 0; i < labels.length; i++) {
+      double value = values[i * stride];
+      tickLabels.add(labels[i]);
+      tickLocations.add(margin + ((value - minValue) / (maxValue - minValue) * tickSpace));
+    }
+  }
+
+  /**
+   * Gets the smallest stride at which the labels could fit, the one at which the label of the first
+   * value fits. Longer labels are assumed to be at least as wide.
+   */
+  private int getMinStride(double[] values, double tickSpace) {
+
+    double labelWidth =
+        getLargestLabelWidth(Collections.singletonList(getAxisFormat().format(values[0])));
+
+    // the tick spacing only grows with the stride. One more pixel absorbs rounding differences
+    int low = 1;
+    int high = values.length - 1;
+    while (low < high) {
+      int middle = (low + high) >>> 1;
+      int tickCount = (values.length - 1) / middle + 1;
+      if (labelWidth * 1.1 < (int) (tickSpace / (tickCount - 1)) + 1) {
+        high = middle;
+      } else {
+        low = middle + 1;
+      }
+    }
+    return low;
+  }
+
+  /**
+   * Finds a stride which fits by doubling the step from a stride which doesn't, then bisects down
+   * to the smallest one in between which fits.
+   *
+   * @return the stride, or values.length if none fits
+   */
+  private int getStrideByBisection(double[] values, int fails, double tickSpace) {
+
+    int lastStride = values.length - 1;
+    int fits = values.length;
+    for (int step = 1; fits > lastStride && fails < lastStride; step *= 2) {
+      int candidate = Math.min(fails + step, lastStride);
+      if (getTickLabelsIfTheyFit(values, candidate, tickSpace) != null) {
+        fits = candidate;
+      } else {
+        fails = candidate;
+      }
+    }
+    while (fits <= lastStride && fits - fails > 1) {
+      int middle = (fails + fits) >>> 1;
+      if (getTickLabelsIfTheyFit(values, middle, tickSpace) != null) {
+        fits = middle;
+      } else {
+        fails = middle;
+      }
+    }
+    return fits;
+  }
+
+  /**
+   * Formats the labels of every stride-th value, starting with the first.
+   *
+   * @return the labels, or null if they are not unique or don't fit side-by-side
+   */
+  private String[] getTickLabelsIfTheyFit(double[] values, int stride, double tickSpace) {
+
+    int tickCount = (values.length - 1) / stride + 1;
+    double tickLabelMinValue = Double.POSITIVE_INFINITY;
+    double tickLabelMaxValue = Double.NEGATIVE_INFINITY;
+    for (int i = 0; i < tickCount; i++) {
+      tickLabelMinValue = Math.min(tickLabelMinValue, values[i * stride]);
+      tickLabelMaxValue = Math.max(tickLabelMaxValue, values[i * stride]);
+    }
+    // the span of the data
+    double span =
+        Math.abs(
+            Math.min(
+                (tickLabelMaxValue - tickLabelMinValue), Double.MAX_VALUE - 1)); // in data space
+    double gridStep = span / (tickCount - 1);
+    int gridStepInChartSpace = (int) (gridStep / span * tickSpace);
+
+    String[] labels = new String[tickCount];
+    Set<String> uniqueLabels = new HashSet<>();
+    for (int i = 0; i < tickCount; i++) {
+      labels[i] = getAxisFormat().format(values[i * stride]);
+      if (!uniqueLabels.add(labels[i])) {
+        return null;
+      }
+    }
+    if (!willLabelsFitInTickSpaceHint(Arrays.asList(labels), gridStepInChartSpace)) {
+      return null;
+    }
+    return labels;
   }
 
   boolean areAllTickLabelsUnique(List<?> tickLabels) {
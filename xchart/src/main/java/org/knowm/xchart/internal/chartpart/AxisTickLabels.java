@@ -2,7 +2,6 @@ package org.knowm.xchart.internal.chartpart;
 
 import java.awt.*;
 import java.awt.font.FontRenderContext;
-import java.awt.font.TextLayout;
 import java.awt.geom.AffineTransform;
 import java.awt.geom.Rectangle2D;
 import java.util.HashMap;
@@ -70,14 +69,9 @@ public class AxisTickLabels<ST extends AxesChartStyler, S extends AxesChartSerie
           // some are null for logarithmic axes
 
           FontRenderContext frc = g.getFontRenderContext();
-          TextLayout textLayout = new TextLayout(tickLabel, styler.getAxisTickLabelsFont(), frc);
-          // System.out.println(textLayout.getOutline(null).getBounds().toString());
-
-          // Shape shape = v.getOutline();
-          AffineTransform rot =
-                  AffineTransform.getRotateInstance(
-                          -1 * Math.toRadians(styler.getXAxisLabelRotation()), 0, 0);
-          Shape shape = textLayout.getOutline(rot);
+          Shape shape =
+              TextMetricsCache.getOutline(
+                  tickLabel, styler.getAxisTickLabelsFont(), frc, styler.getXAxisLabelRotation());
           Rectangle2D tickLabelBounds = shape.getBounds2D();
           if (tickLabelBounds.getBounds().height > maxTickLabelY) {
             maxTickLabelY = tickLabelBounds.getBounds().height;
@@ -99,14 +93,9 @@ public class AxisTickLabels<ST extends AxesChartStyler, S extends AxesChartSerie
                 && shiftedTickLocation < xOffset + width) { // some are null for logarithmic axes
 
           FontRenderContext frc = g.getFontRenderContext();
-          TextLayout textLayout = new TextLayout(tickLabel, styler.getAxisTickLabelsFont(), frc);
-          // System.out.println(textLayout.getOutline(null).getBounds().toString());
-
-          // Shape shape = v.getOutline();
-          AffineTransform rot =
-                  AffineTransform.getRotateInstance(
-                          -1 * Math.toRadians(styler.getXAxisLabelRotation()), 0, 0);
-          Shape shape = textLayout.getOutline(rot);
+          Shape shape =
+              TextMetricsCache.getOutline(
+                  tickLabel, styler.getAxisTickLabelsFont(), frc, styler.getXAxisLabelRotation());
           Rectangle2D tickLabelBounds = shape.getBounds2D();
 
           int tickLabelY = tickLabelBounds.getBounds().height;
@@ -210,7 +199,7 @@ public class AxisTickLabels<ST extends AxesChartStyler, S extends AxesChartSerie
       double yOffset = yAxis.getBounds().getY();
       double height = yAxis.getBounds().getHeight();
       double maxTickLabelWidth = 0;
-      Map<Double, TextLayout> axisLabelTextLayouts = new HashMap<Double, TextLayout>();
+      Map<Double, String> axisTickLabels = new HashMap<Double, String>();
 
       for (int i = 0; i < yAxis.getAxisTickCalculator().getTickLabels().size(); i++) {
 
@@ -223,22 +212,22 @@ public class AxisTickLabels<ST extends AxesChartStyler, S extends AxesChartSerie
                 && flippedTickLocation > yOffset
                 && flippedTickLocation < yOffset + height) { // some are null for logarithmic axes
           FontRenderContext frc = g.getFontRenderContext();
-          TextLayout axisLabelTextLayout =
-                  new TextLayout(tickLabel, styler.getAxisTickLabelsFont(), frc);
-          Rectangle2D tickLabelBounds = axisLabelTextLayout.getBounds();
+          Rectangle2D tickLabelBounds =
+              TextMetricsCache.getBounds(tickLabel, styler.getAxisTickLabelsFont(), frc);
           double boundWidth = tickLabelBounds.getWidth();
           if (boundWidth > maxTickLabelWidth) {
             maxTickLabelWidth = boundWidth;
           }
-          axisLabelTextLayouts.put(tickLocation, axisLabelTextLayout);
+          axisTickLabels.put(tickLocation, tickLabel);
         }
       }
 
-      for (Map.Entry<Double, TextLayout> tick : axisLabelTextLayouts.entrySet()) {
+      FontRenderContext frc = g.getFontRenderContext();
+      for (Map.Entry<Double, String> tick : axisTickLabels.entrySet()) {
         final Double tickLocation = tick.getKey();
-        final TextLayout axisLabelTextLayout = tick.getValue();
 
-        Shape shape = axisLabelTextLayout.getOutline(null);
+        Shape shape =
+            TextMetricsCache.getOutline(tick.getValue(), styler.getAxisTickLabelsFont(), frc);
         Rectangle2D tickLabelBounds = shape.getBounds();
 
         double flippedTickLocation = yOffset + height - tickLocation;
@@ -2,7 +2,6 @@ package org.knowm.xchart.internal.chartpart;
 
 import java.awt.*;
 import java.awt.font.FontRenderContext;
-import java.awt.font.TextLayout;
 import java.awt.geom.AffineTransform;
 import java.awt.geom.Rectangle2D;
 import org.knowm.xchart.internal.chartpart.Axis.Direction;
@@ -54,9 +53,8 @@ public class AxisTitle<ST extends AxesChartStyler, S extends Series> implements
         	graphic.setColor(chart.getStyler().getYAxisGroupTitleColor(yIndex));
         }
         FontRenderContext frc = graphic.getFontRenderContext();
-        TextLayout nonRotatedTextLayout =
-            new TextLayout(yAxisTitle, chart.getStyler().getAxisTitleFont(), frc);
-        Rectangle2D nonRotatedRectangle = nonRotatedTextLayout.getBounds();
+        Rectangle2D nonRotatedRectangle =
+            TextMetricsCache.getBounds(yAxisTitle, chart.getStyler().getAxisTitleFont(), frc);
 
         // ///////////////////////////////////////////////
 
@@ -77,11 +75,10 @@ public class AxisTitle<ST extends AxesChartStyler, S extends Series> implements
             (int)
                 ((yAxis.getBounds().getHeight() + nonRotatedRectangle.getWidth()) / 2.0
                     + yAxis.getBounds().getY());
-        
-        final double minus90InRadian = -1 * Math.PI / 2;
-        
-        AffineTransform rotateInstance = AffineTransform.getRotateInstance(minus90InRadian, 0, 0);
-        Shape shape = nonRotatedTextLayout.getOutline(rotateInstance);
+
+        // rotated by 90 degrees counterclockwise
+        Shape shape =
+            TextMetricsCache.getOutline(yAxisTitle, chart.getStyler().getAxisTitleFont(), frc, 90);
 
         AffineTransform origin = graphic.getTransform();
         AffineTransform at = new AffineTransform();
@@ -121,9 +118,9 @@ public class AxisTitle<ST extends AxesChartStyler, S extends Series> implements
         	graphic.setColor(chart.getStyler().getXAxisTitleColor());
         }
         FontRenderContext frc = graphic.getFontRenderContext();
-        TextLayout textLayout =
-            new TextLayout(chart.getXAxisTitle(), chart.getStyler().getAxisTitleFont(), frc);
-        Rectangle2D rectangle = textLayout.getBounds();
+        Rectangle2D rectangle =
+            TextMetricsCache.getBounds(
+                chart.getXAxisTitle(), chart.getStyler().getAxisTitleFont(), frc);
         // System.out.println(rectangle);
 
         double xOffset =
@@ -135,7 +132,9 @@ public class AxisTitle<ST extends AxesChartStyler, S extends Series> implements
                 - rectangle.getHeight();
 
         // textLayout.draw(g, (float) xOffset, (float) (yOffset - rectangle.getY()));
-        Shape shape = textLayout.getOutline(null);
+        Shape shape =
+            TextMetricsCache.getOutline(
+                chart.getXAxisTitle(), chart.getStyler().getAxisTitleFont(), frc);
         AffineTransform origin = graphic.getTransform();
         AffineTransform at = new AffineTransform();
         at.translate((float) xOffset, (float) (yOffset - rectangle.getY()));
@@ -1,13 +1,15 @@
 package org.knowm.xchart.internal.chartpart;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
-import java.util.Collections;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.function.LongToDoubleFunction;
+import org.knowm.xchart.BoxSeries;
+import org.knowm.xchart.QuantileSketch;
 import org.knowm.xchart.internal.series.AxesChartSeries;
-import org.knowm.xchart.internal.series.AxesChartSeriesCategory;
 import org.knowm.xchart.style.AxesChartStyler;
 import org.knowm.xchart.style.BoxStyler;
 import org.knowm.xchart.style.BoxStyler.BoxplotCalCulationMethod;
@@ -15,49 +17,81 @@ import org.knowm.xchart.style.BoxStyler.BoxplotCalCulationMethod;
 /**
  * Calculate box plot data information for all series of BoxChart.
  *
+ * <p>The quartiles are selected from a primitive copy of the data instead of sorting it, and the
+ * box plot data of a series is cached until its data is replaced or the calculation method
+ * changes. Series made from a QuantileSketch are estimated from it.
+ *
  * @author Mr14huashao
  * @param <ST> BoxPlotStyler
  * @param <S> BoxSeries
  */
 public class BoxPlotDataCalculator<ST extends AxesChartStyler, S extends AxesChartSeries> {
 
+  private final Map<S, CachedBoxPlotData> cache = new WeakHashMap<>();
+
   public List<BoxPlotData> calculate(Map<String, S> seriesMap, ST boxPlotStyler) {
 
+    BoxplotCalCulationMethod boxplotCalCulationMethod =
+        ((BoxStyler) boxPlotStyler).getBoxplotCalCulationMethod();
+
     // Box plot data information for all series
     List<BoxPlotData> boxPlotDataList = new ArrayList<>();
-    BoxPlotData boxPlotData = null;
-    List<Double> data = null;
-    Collection<? extends Number> yData = null;
-    Iterator<? extends Number> yDataIterator = null;
-    Number next = null;
     for (S series : seriesMap.values()) {
       if (!series.isEnabled()) {
         continue;
       }
+      boxPlotDataList.add(getBoxPlotData(series, boxplotCalCulationMethod));
+    }
+    return boxPlotDataList;
+  }
 
-      yData = ((AxesChartSeriesCategory) series).getYData();
-      yDataIterator = yData.iterator();
-      data = new ArrayList<>();
-      while (yDataIterator.hasNext()) {
-        next = yDataIterator.next();
-        if (next != null) {
-          data.add(next.doubleValue());
-        }
+  private BoxPlotData getBoxPlotData(
+      S series, BoxplotCalCulationMethod boxplotCalCulationMethod) {
+
+    BoxSeries boxSeries = (BoxSeries) series;
+    int dataVersion = boxSeries.getDataVersion();
+    QuantileSketch quantileSketch = boxSeries.getQuantileSketch();
+    long sketchCount = quantileSketch == null ? 0 : quantileSketch.getCount();
+
+    synchronized (cache) {
+      CachedBoxPlotData cached = cache.get(series);
+      if (cached != null
+          && cached.dataVersion == dataVersion
+          && cached.sketchCount == sketchCount
+          && cached.boxplotCalCulationMethod == boxplotCalCulationMethod) {
+        return cached.boxPlotData;
       }
+    }
+
+    BoxPlotData boxPlotData;
+    if (quantileSketch != null) {
+      // the count may have grown meanwhile, the ranks must stay within the count read above
+      boxPlotData =
+          calculate(sketchCount, quantileSketch::getValueAtRank, boxplotCalCulationMethod);
+    } else {
+      OrderStatistics orderStatistics = new OrderStatistics(boxSeries.getYData());
+      boxPlotData =
+          calculate(orderStatistics.size(), orderStatistics::get, boxplotCalCulationMethod);
+    }
 
-      Collections.sort(data);
-      boxPlotData = calculate(data, boxPlotStyler);
-      boxPlotDataList.add(boxPlotData);
+    synchronized (cache) {
+      cache.put(
+          series,
+          new CachedBoxPlotData(dataVersion, sketchCount, boxplotCalCulationMethod, boxPlotData));
     }
-    return boxPlotDataList;
+    return boxPlotData;
   }
 
-  private BoxPlotData calculate(List<Double> data, ST boxPlotStyler) {
+  /**
+   * @param n the number of values
+   * @param orderStatistic the value at an index of the sorted values
+   * @param boxplotCalCulationMethod
+   * @return
+   */
+  private static BoxPlotData calculate(
+      long n, LongToDoubleFunction orderStatistic, BoxplotCalCulationMethod boxplotCalCulationMethod) {
 
     BoxPlotData boxPlotData = new BoxPlotData();
-    int n = data.size();
-    BoxplotCalCulationMethod boxplotCalCulationMethod =
-        ((BoxStyler) boxPlotStyler).getBoxplotCalCulationMethod();
     double q1P = 0.0;
     double q2P = 0.0;
     double q3P = 0.0;
@@ -80,50 +114,223 @@ public class BoxPlotDataCalculator<ST extends AxesChartStyler, S extends AxesCha
       q3P = 3 * (n - 1) / four + 1;
     }
 
-    boxPlotData.q1 = getQuartile(data, q1P, boxplotCalCulationMethod);
-    boxPlotData.median = getQuartile(data, q2P, boxplotCalCulationMethod);
-    boxPlotData.q3 = getQuartile(data, q3P, boxplotCalCulationMethod);
+    boxPlotData.q1 = getQuartile(n, orderStatistic, q1P, boxplotCalCulationMethod);
+    boxPlotData.median = getQuartile(n, orderStatistic, q2P, boxplotCalCulationMethod);
+    boxPlotData.q3 = getQuartile(n, orderStatistic, q3P, boxplotCalCulationMethod);
 
     // Interquartile range, IQR = Q3 - Q1
     double irq = boxPlotData.q3 - boxPlotData.q1;
 
     // Lower whisker, lower = Q1 - 1.5 * IQR
     boxPlotData.lower = boxPlotData.q1 - 1.5 * irq;
-    if (boxPlotData.lower < data.get(0)) {
-      boxPlotData.lower = data.get(0);
+    double min = orderStatistic.applyAsDouble(0);
+    if (boxPlotData.lower < min) {
+      boxPlotData.lower = min;
     }
 
     // Upper whisker, upper = Q3 + 1.5 * IQR
     boxPlotData.upper = boxPlotData.q3 + 1.5 * irq;
-    if (boxPlotData.upper > data.get(data.size() - 1)) {
-      boxPlotData.upper = data.get(data.size() - 1);
+    double max = orderStatistic.applyAsDouble(n - 1);
+    if (boxPlotData.upper > max) {
+      boxPlotData.upper = max;
     }
     return boxPlotData;
   }
 
   private static double getQuartile(
-      List<Double> data, double qiP, BoxplotCalCulationMethod boxplotCalCulationMethod) {
+      long n,
+      LongToDoubleFunction orderStatistic,
+      double qiP,
+      BoxplotCalCulationMethod boxplotCalCulationMethod) {
 
-    int previousItem = (int) Math.floor(qiP);
-    int previousItem_index = previousItem == 0 ? 0 : previousItem - 1;
-    int nextItem = (int) Math.ceil(qiP);
-    int nextItem_index = data.size() == 1 ? 0 : nextItem - 1;
+    long previousItem = (long) Math.floor(qiP);
+    long previousItem_index = previousItem == 0 ? 0 : previousItem - 1;
+    long nextItem = (long) Math.ceil(qiP);
+    long nextItem_index = n == 1 ? 0 : nextItem - 1;
     final double qi;
     if (BoxplotCalCulationMethod.NP == boxplotCalCulationMethod) {
       if (previousItem == nextItem) {
-        qi = (data.get(previousItem_index) + data.get(nextItem_index)) / 2;
+        qi =
+            (orderStatistic.applyAsDouble(previousItem_index)
+                    + orderStatistic.applyAsDouble(nextItem_index))
+                / 2;
       } else {
-        qi = data.get(nextItem_index);
+        qi = orderStatistic.applyAsDouble(nextItem_index);
       }
     } else {
       if (previousItem == nextItem) {
-        qi = data.get(previousItem_index);
+        qi = orderStatistic.applyAsDouble(previousItem_index);
       } else {
         qi =
-            data.get(previousItem_index) * (nextItem - qiP)
-                + data.get(nextItem_index) * (qiP - previousItem);
+            orderStatistic.applyAsDouble(previousItem_index) * (nextItem - qiP)
+                + orderStatistic.applyAsDouble(nextItem_index) * (qiP - previousItem);
       }
     }
     return qi;
   }
+
+  /**
+   * The values at given indices of the sorted data, found by selection instead of sorting all of
+   * it. Like a sort, NaN comes after all numbers.
+   */
+  private static class OrderStatistics {
+
+    // below this many values, sorting them is faster than partitioning them
+    private static final int SORT_THRESHOLD = 16;
+
+    private final double[] values;
+    // the number of values which aren't NaN, they come first
+    private final int numberCount;
+    private final double min;
+    private final double max;
+    // the indices already selected, ascending, the values between two of them are partitioned
+    private int[] selected = new int[8];
+    private int selectedCount;
+
+    OrderStatistics(Collection<? extends Number> data) {
+
+      values = new double[data.size()];
+      int count = 0;
+      double min = Double.POSITIVE_INFINITY;
+      double max = Double.NEGATIVE_INFINITY;
+      for (Number number : data) {
+        double value = number.doubleValue();
+        if (Double.isNaN(value)) {
+          continue;
+        }
+        values[count++] = value;
+        if (value < min) {
+          min = value;
+        }
+        if (value > max) {
+          max = value;
+        }
+      }
+      Arrays.fill(values, count, values.length, Double.NaN);
+      this.numberCount = count;
+      this.min = min;
+      this.max = max;
+    }
+
+    int size() {
+
+      return values.length;
+    }
+
+    double get(long index) {
+
+      if (index < 0 || index >= values.length) {
+        throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + values.length);
+      }
+      int k = (int) index;
+      if (k >= numberCount) {
+        return Double.NaN;
+      }
+      if (k == 0) {
+        return min;
+      }
+      if (k == numberCount - 1) {
+        return max;
+      }
+
+      // only the values between the nearest indices already selected are partitioned further
+      int position = Arrays.binarySearch(selected, 0, selectedCount, k);
+      if (position >= 0) {
+        return values[k];
+      }
+      position = -position - 1;
+      int from = position == 0 ? 0 : selected[position - 1] + 1;
+      int to = position == selectedCount ? numberCount - 1 : selected[position] - 1;
+      select(values, from, to, k);
+
+      if (selectedCount == selected.length) {
+        selected = Arrays.copyOf(selected, selectedCount * 2);
+      }
+      System.arraycopy(selected, position, selected, position + 1, selectedCount - position);
+      selected[position] = k;
+      selectedCount++;
+      return values[k];
+    }
+
+    /**
+     * Partitions values from from to to, inclusive, so that values[k] is the value that would be
+     * there if they were sorted, with no greater value before and no smaller one after it. This is
+     * introselect: quickselect with median of three pivots, which sorts the rest if partitioning
+     * doesn't converge.
+     */
+    private static void select(double[] values, int from, int to, int k) {
+
+      int depthLimit = 2 * (32 - Integer.numberOfLeadingZeros(to - from + 1));
+      while (to - from >= SORT_THRESHOLD) {
+        if (depthLimit-- == 0) {
+          break;
+        }
+
+        int middle = (from + to) >>> 1;
+        if (values[middle] < values[from]) {
+          swap(values, middle, from);
+        }
+        if (values[to] < values[from]) {
+          swap(values, to, from);
+        }
+        if (values[to] < values[middle]) {
+          swap(values, to, middle);
+        }
+        double pivot = values[middle];
+
+        int i = from;
+        int j = to;
+        while (i <= j) {
+          while (values[i] < pivot) {
+            i++;
+          }
+          while (values[j] > pivot) {
+            j--;
+          }
+          if (i <= j) {
+            swap(values, i, j);
+            i++;
+            j--;
+          }
+        }
+
+        // the values from j + 1 to i - 1 are equal to the pivot
+        if (k <= j) {
+          to = j;
+        } else if (k >= i) {
+          from = i;
+        } else {
+          return;
+        }
+      }
+      Arrays.sort(values, from, to + 1);
+    }
+
+    private static void swap(double[] values, int i, int j) {
+
+      double value = values[i];
+      values[i] = values[j];
+      values[j] = value;
+    }
+  }
+
+  private static class CachedBoxPlotData {
+
+    private final int dataVersion;
+    private final long sketchCount;
+    private final BoxplotCalCulationMethod boxplotCalCulationMethod;
+    private final BoxPlotData boxPlotData;
+
+    CachedBoxPlotData(
+        int dataVersion,
+        long sketchCount,
+        BoxplotCalCulationMethod boxplotCalCulationMethod,
+        BoxPlotData boxPlotData) {
+
+      this.dataVersion = dataVersion;
+      this.sketchCount = sketchCount;
+      this.boxplotCalCulationMethod = boxplotCalCulationMethod;
+      this.boxPlotData = boxPlotData;
+    }
+  }
 }
@@ -8,9 +8,11 @@ import java.text.DecimalFormat;
 import java.text.Format;
 import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Set;
 import java.util.function.Function;
+import org.knowm.xchart.internal.SnapshotMap;
+import org.knowm.xchart.internal.series.AxesChartSeriesNumericalNoErrorBars;
 import org.knowm.xchart.internal.series.Series;
 import org.knowm.xchart.style.AxesChartStyler;
 import org.knowm.xchart.style.Styler;
@@ -24,9 +26,12 @@ public abstract class Chart<ST extends Styler, S extends Series> {
 
   protected final ST styler;
   protected final ChartTitle<ST, S> chartTitle;
-  protected final Map<String, S> seriesMap = new LinkedHashMap<>();
+  // series can be added and removed by other threads while the chart is painted, see pinSeries()
+  protected final SnapshotMap<String, S> seriesMap = new SnapshotMap<>();
   protected final ChartPartComposite annotations = new ChartPartComposite();
   protected final ChartPartComposite paintTarget = new ChartPartComposite();
+  private final LayoutState layoutState = new LayoutState();
+  private ChartLayers layers;
 
   /** Chart Parts */
   // TODO maybe move this to a secondary abstract class for inheritors with axes. Pie charts don't
@@ -67,15 +72,112 @@ public abstract class Chart<ST extends Styler, S extends Series> {
 
   public abstract void paint(Graphics2D graphics, int width, int height);
 
+  /**
+   * Pins the series for a paint on the calling thread, so that the defaults applied to the series
+   * at its start cover all the series it paints. The series added or removed by other threads
+   * meanwhile show up in the next paint. Must be undone by unpinSeries() when the paint ends.
+   *
+   * @return false if they were already pinned by an enclosing paint
+   */
+  protected boolean pinSeries() {
+
+    return seriesMap.pinSnapshot();
+  }
+
+  /**
+   * @param isPinned the result of pinSeries()
+   */
+  protected void unpinSeries(boolean isPinned) {
+
+    if (isPinned) {
+      seriesMap.unpinSnapshot();
+    }
+  }
+
+  /**
+   * Checks which parts of the chart changed since the last paint, and captures the data of the
+   * series this paint reads. Must be called by paint() once the series defaults are applied and
+   * before any chart part is painted.
+   */
+  protected void updateLayoutState() {
+
+    layoutState.update(this);
+    // after the change counts are taken, so that a later change is found by the next paint
+    for (S series : seriesMap.values()) {
+      if (series instanceof AxesChartSeriesNumericalNoErrorBars) {
+        ((AxesChartSeriesNumericalNoErrorBars) series).capturePaintDataView();
+      }
+    }
+  }
+
+  /** Marks the paint as completed, so that the next one can reuse its layout. */
+  protected void commitLayoutState() {
+
+    layoutState.commit();
+  }
+
+  /**
+   * Gets the parts of the chart which changed since the previous paint, as found by the last paint.
+   * The layout, meaning the axis bounds, tick locations, tick labels and legend bounds, was
+   * recomputed only if DATA, STYLER or SIZE is contained and reused from the previous paint
+   * otherwise. Everything is contained before the first paint.
+   *
+   * @return the changed parts
+   */
+  public Set<LayoutState.Part> getChangedParts() {
+
+    return layoutState.getChangedParts();
+  }
+
+  /**
+   * Forces the layout to be recomputed on the next paint. Needed when layout reuse or layer caching
+   * is enabled and the styler was changed, or the data arrays or lists of a series were modified
+   * in place, which isn't detected.
+   */
+  public void invalidateLayout() {
+
+    layoutState.invalidate();
+  }
+
+  boolean isLayoutValid() {
+
+    return layoutState.isLayoutValid();
+  }
+
+  /** @return a count increased by every invalidateLayout() */
+  int getLayoutInvalidationCount() {
+
+    return layoutState.getInvalidationCount();
+  }
+
+  void setLayers(ChartLayers layers) {
+
+    this.layers = layers;
+  }
+
+  /**
+   * Gets the graphics to paint a layer of the chart on, which is the given graphics unless the
+   * chart is painted by ChartLayers.
+   *
+   * @param layer
+   * @param graphics
+   * @return the graphics to paint the layer on
+   */
+  protected Graphics2D getLayerGraphics(ChartLayers.Layer layer, Graphics2D graphics) {
+
+    return layers == null ? graphics : layers.getGraphics(layer);
+  }
+
   protected void paintBackground(Graphics2D graphics) {
 
     // paint chart main background
     graphics.setRenderingHint(
         RenderingHints.KEY_ANTIALIASING,
         getAntiAliasStatus()); // global rendering hint
-    graphics.setColor(getStyler().getChartBackgroundColor());
+    Graphics2D layerGraphics = getLayerGraphics(ChartLayers.Layer.BACKGROUND, graphics);
+    layerGraphics.setColor(getStyler().getChartBackgroundColor());
     Shape rect = new Rectangle2D.Double(0, 0, getWidth(), getHeight());
-    graphics.fill(rect);
+    layerGraphics.fill(rect);
   }
 
   private Object getAntiAliasStatus() {
@@ -165,6 +267,11 @@ public abstract class Chart<ST extends Styler, S extends Series> {
     yAxisGroupTitleMap.put(yAxisGroup, yAxisTitle);
   }
 
+  Map<Integer, String> getYAxisGroupTitleMap() {
+
+    return yAxisGroupTitleMap;
+  }
+
   public void addAnnotation(Annotation annotation) {
 
     annotations.addChartPart(annotation);
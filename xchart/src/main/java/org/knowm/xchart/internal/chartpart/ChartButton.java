@@ -9,7 +9,6 @@ import java.awt.event.ActionListener;
 import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
 import java.awt.font.FontRenderContext;
-import java.awt.font.TextLayout;
 import java.awt.geom.AffineTransform;
 import java.awt.geom.Rectangle2D;
 import javax.swing.event.EventListenerList;
@@ -128,8 +127,7 @@ public class ChartButton extends MouseAdapter implements ChartPart {
     graphic.setFont(styler.getChartButtonFont());
 
     FontRenderContext fontRenderContext = graphic.getFontRenderContext();
-    TextLayout textLayout = new TextLayout(text, styler.getChartButtonFont(), fontRenderContext);
-    Shape shape = textLayout.getOutline(null);
+    Shape shape = TextMetricsCache.getOutline(text, styler.getChartButtonFont(), fontRenderContext);
 
     Rectangle2D textBounds = shape.getBounds2D();
     calculatePosition(textBounds);
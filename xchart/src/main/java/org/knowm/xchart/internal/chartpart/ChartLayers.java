@@ -0,0 +1,325 @@
+package org.knowm.xchart.internal.chartpart;
+
+import java.awt.AlphaComposite;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.Rectangle;
+import java.awt.Transparency;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import org.knowm.xchart.HeatMapSeries;
+import org.knowm.xchart.OHLCSeries;
+import org.knowm.xchart.internal.series.AxesChartSeries;
+import org.knowm.xchart.internal.series.MarkerSeries;
+import org.knowm.xchart.internal.series.Series;
+
+/**
+ * Paints a Chart in layers and caches the layers which rarely change, the background with the axes
+ * and the grid lines, and the foreground with the chart title and the legend, in images. The
+ * plot content and the annotations are painted at each paint, between the cached layers. The chart
+ * parts of a cached layer are still laid out at each paint, but into a graphics which clips
+ * everything away, and the image of the layer is only painted again if what the layer shows, like
+ * the tick labels, the plot bounds or the titles, changed, or if the layout of the chart was
+ * invalidated, which changes of the styler need.
+ *
+ * <p>When a cached layer turns out to have changed, the chart is painted a second time, this time
+ * into the images. If the layers keep changing, like for an X-Axis sliding with the data, they are
+ * painted into the images directly until they stop changing.
+ */
+public class ChartLayers {
+
+  /** The layers of a chart, in the order they are painted */
+  public enum Layer {
+    /** the chart background, the axes and the plot background and grid lines, cached */
+    BACKGROUND,
+    /** the series, the cursor, the tool tips and the zoom selection */
+    PLOT_CONTENT,
+    /** the chart title and the legend, cached */
+    FOREGROUND,
+    /** the annotations */
+    ANNOTATIONS;
+
+    boolean isCached() {
+
+      return this == BACKGROUND || this == FOREGROUND;
+    }
+  }
+
+  private final Chart<?, ?> chart;
+  private final Map<Layer, BufferedImage> images = new EnumMap<>(Layer.class);
+  private final Map<Layer, List<Object>> imageKeys = new EnumMap<>(Layer.class);
+  private GraphicsConfiguration graphicsConfiguration;
+  private int width;
+  private int height;
+  private double scaleX;
+  private double scaleY;
+  private boolean isChanging;
+
+  // the state of the current paint
+  private Graphics2D target;
+  private boolean isPaintingImages;
+  private boolean isStale;
+  private Layer layer;
+  private Graphics2D layerGraphics;
+  private Graphics2D clippedGraphics;
+
+  /**
+   * Constructor
+   *
+   * @param chart
+   */
+  public ChartLayers(Chart<?, ?> chart) {
+
+    this.chart = chart;
+  }
+
+  /**
+   * Paints the chart, drawing the cached layers from their images if they didn't change.
+   *
+   * @param graphics
+   * @param width
+   * @param height
+   * @param graphicsConfiguration the configuration the images are made compatible with, or null
+   */
+  public void paint(
+      Graphics2D graphics, int width, int height, GraphicsConfiguration graphicsConfiguration) {
+
+    AffineTransform transform = graphics.getTransform();
+    if (width != this.width
+        || height != this.height
+        || transform.getScaleX() != scaleX
+        || transform.getScaleY() != scaleY
+        || graphicsConfiguration != this.graphicsConfiguration) {
+      invalidate();
+      this.width = width;
+      this.height = height;
+      this.scaleX = transform.getScaleX();
+      this.scaleY = transform.getScaleY();
+      this.graphicsConfiguration = graphicsConfiguration;
+    }
+
+    // the keys of the layers and a second paint read the same series as the first paint
+    boolean isPinned = chart.pinSeries();
+    try {
+      isPaintingImages = images.isEmpty() || isChanging;
+      doPaint(graphics);
+      if (isStale) {
+        // the rest of the chart wasn't painted after the layer which changed, paint it again
+        isPaintingImages = true;
+        doPaint(graphics);
+      }
+    } finally {
+      chart.unpinSeries(isPinned);
+    }
+  }
+
+  /** Drops the images, so that all layers are painted again by the next paint. */
+  public void invalidate() {
+
+    images.clear();
+    imageKeys.clear();
+  }
+
+  /**
+   * Gets the graphics the chart parts of the layer must paint on, during a paint. The layers must
+   * be requested in order, an earlier layer is painted on the graphics of the current one.
+   *
+   * @param layer
+   * @return the graphics to paint the layer on
+   */
+  Graphics2D getGraphics(Layer layer) {
+
+    if (this.layer == null || layer.compareTo(this.layer) > 0) {
+      endLayer();
+      beginLayer(layer);
+    }
+    return layerGraphics;
+  }
+
+  private void doPaint(Graphics2D graphics) {
+
+    target = graphics;
+    isStale = false;
+    if (isPaintingImages) {
+      isChanging = false;
+    }
+    boolean isCompleted = false;
+    chart.setLayers(this);
+    try {
+      chart.paint(graphics, width, height);
+      endLayer();
+      isCompleted = true;
+    } finally {
+      chart.setLayers(null);
+      if (clippedGraphics != null) {
+        clippedGraphics.dispose();
+        clippedGraphics = null;
+      }
+      target = null;
+      layer = null;
+      layerGraphics = null;
+      if (!isCompleted) {
+        invalidate();
+      }
+    }
+  }
+
+  private void beginLayer(Layer layer) {
+
+    this.layer = layer;
+    if (isStale) {
+      layerGraphics = getClippedGraphics();
+    } else if (!layer.isCached()) {
+      layerGraphics = target;
+    } else if (isPaintingImages) {
+      layerGraphics = getImageGraphics(layer);
+    } else {
+      // laid out only, the image is drawn at the end of the layer
+      layerGraphics = getClippedGraphics();
+    }
+  }
+
+  private void endLayer() {
+
+    if (layer == null || !layer.isCached() || isStale) {
+      return;
+    }
+
+    List<Object> key = getKey(layer);
+    if (isPaintingImages) {
+      layerGraphics.dispose();
+      isChanging |= !key.equals(imageKeys.get(layer));
+      imageKeys.put(layer, key);
+      drawImage(layer);
+    } else if (key.equals(imageKeys.get(layer))) {
+      drawImage(layer);
+    } else {
+      isStale = true;
+    }
+  }
+
+  private void drawImage(Layer layer) {
+
+    target.drawImage(images.get(layer), 0, 0, width, height, null);
+  }
+
+  private Graphics2D getImageGraphics(Layer layer) {
+
+    BufferedImage image = images.get(layer);
+    if (image == null) {
+      int imageWidth = (int) Math.ceil(width * scaleX);
+      int imageHeight = (int) Math.ceil(height * scaleY);
+      if (graphicsConfiguration != null) {
+        image =
+            graphicsConfiguration.createCompatibleImage(
+                imageWidth, imageHeight, Transparency.TRANSLUCENT);
+      } else {
+        image = new BufferedImage(imageWidth, imageHeight, BufferedImage.TYPE_INT_ARGB_PRE);
+      }
+      images.put(layer, image);
+    }
+
+    Graphics2D graphics = image.createGraphics();
+    graphics.setComposite(AlphaComposite.Clear);
+    graphics.fillRect(0, 0, image.getWidth(), image.getHeight());
+    graphics.setComposite(target.getComposite());
+    graphics.scale(scaleX, scaleY);
+    graphics.setRenderingHints(target.getRenderingHints());
+    graphics.setFont(target.getFont());
+    graphics.setPaint(target.getPaint());
+    graphics.setStroke(target.getStroke());
+    return graphics;
+  }
+
+  private Graphics2D getClippedGraphics() {
+
+    if (clippedGraphics == null) {
+      clippedGraphics = (Graphics2D) target.create();
+      clippedGraphics.clip(new Rectangle());
+    }
+    return clippedGraphics;
+  }
+
+  /**
+   * @return what the layer shows, once it is laid out
+   */
+  private List<Object> getKey(Layer layer) {
+
+    List<Object> key = new ArrayList<>();
+    // the chart may be painted by others too, so the changed parts of the chart can't be used
+    key.add(LayoutState.snapshotTitles(chart));
+    // the styler isn't tracked, its changes must be followed by Chart.invalidateLayout()
+    key.add(chart.getLayoutInvalidationCount());
+    addBounds(key, chart.getPlot().getBounds());
+    if (layer == Layer.BACKGROUND) {
+      if (chart.axisPair != null) {
+        addAxis(key, chart.axisPair.getXAxis());
+        for (Object yAxis : chart.axisPair.getYAxes()) {
+          addAxis(key, (Axis<?, ?>) yAxis);
+        }
+      }
+    } else {
+      addBounds(key, chart.getLegend().getBounds());
+      for (Series series : chart.getSeriesMap().values()) {
+        addLegendEntry(key, series);
+      }
+    }
+    return key;
+  }
+
+  private static void addBounds(List<Object> key, Rectangle2D bounds) {
+
+    // the bounds are modified in place by the next layout
+    key.add(bounds == null ? null : bounds.getBounds2D());
+  }
+
+  private static void addAxis(List<Object> key, Axis<?, ?> axis) {
+
+    addBounds(key, axis.getBounds());
+    AxisTickCalculator_ axisTickCalculator = axis.getAxisTickCalculator();
+    if (axisTickCalculator != null) {
+      key.add(axisTickCalculator.getTickLabels());
+      key.add(axisTickCalculator.getTickLocations());
+    }
+  }
+
+  private static void addLegendEntry(List<Object> key, Series series) {
+
+    key.addAll(
+        Arrays.asList(
+            series.getName(),
+            series.getLabel(),
+            series.getLegendRenderType(),
+            series.isEnabled(),
+            series.isShowInLegend(),
+            series.getFillColor()));
+    if (series instanceof AxesChartSeries) {
+      AxesChartSeries axesChartSeries = (AxesChartSeries) series;
+      key.add(axesChartSeries.getLineStyle());
+      key.add(axesChartSeries.getLineColor());
+    }
+    if (series instanceof MarkerSeries) {
+      MarkerSeries markerSeries = (MarkerSeries) series;
+      key.add(markerSeries.getMarker());
+      key.add(markerSeries.getMarkerColor());
+    }
+    if (series instanceof OHLCSeries) {
+      OHLCSeries ohlcSeries = (OHLCSeries) series;
+      key.add(ohlcSeries.getOhlcSeriesRenderStyle());
+      key.add(ohlcSeries.getUpColor());
+      key.add(ohlcSeries.getDownColor());
+    }
+    if (series instanceof HeatMapSeries) {
+      // the legend shows the range of the heat data
+      HeatMapSeries heatMapSeries = (HeatMapSeries) series;
+      key.add(heatMapSeries.getMin());
+      key.add(heatMapSeries.getMax());
+    }
+  }
+}
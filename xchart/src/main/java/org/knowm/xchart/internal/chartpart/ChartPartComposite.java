@@ -3,6 +3,7 @@ package org.knowm.xchart.internal.chartpart;
 import java.awt.*;
 import java.awt.geom.Rectangle2D;
 import java.util.ArrayList;
+import java.util.List;
 
 public class ChartPartComposite implements ChartPart{
     private ArrayList<ChartPart> chartParts;
@@ -17,6 +18,9 @@ public class ChartPartComposite implements ChartPart{
         if(chartParts.contains(chartPart) && chartPart != null)
             chartParts.remove(chartPart);
     }
+    List<ChartPart> getChartParts(){
+        return chartParts;
+    }
     public void clear(){
         chartParts.clear();
     }
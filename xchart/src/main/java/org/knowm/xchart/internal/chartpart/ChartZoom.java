@@ -161,19 +161,13 @@ public class ChartZoom extends MouseAdapter implements ChartPart, ActionListener
    */
   private boolean isOnePointSeleted(double minValue, double maxValue) {
 
-    boolean isOnePointSeleted = false;
-    double[] xData = null;
     for (XYSeries series : xyChart.getSeriesMap().values()) {
-      xData = series.getXData();
-      for (double x : xData) {
-        boolean betweenMinAndMax = x >= minValue && x <= maxValue;
-		if (betweenMinAndMax) {
-          isOnePointSeleted = true;
-          break;
-        }
+      // binary searches sorted X data
+      if (series.getDataView().isAnyXDataBetween(minValue, maxValue)) {
+        return true;
       }
     }
-    return isOnePointSeleted;
+    return false;
   }
 
   public void resetFilter() {
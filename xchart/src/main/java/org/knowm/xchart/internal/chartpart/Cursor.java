@@ -6,13 +6,14 @@ import java.awt.Shape;
 import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
 import java.awt.font.FontRenderContext;
-import java.awt.font.TextLayout;
 import java.awt.geom.AffineTransform;
 import java.awt.geom.Ellipse2D;
 import java.awt.geom.Line2D;
 import java.awt.geom.Rectangle2D;
+import java.text.Format;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import org.knowm.xchart.internal.series.MarkerSeries;
@@ -32,6 +33,12 @@ public class Cursor extends MouseAdapter implements ChartPart {
 
   private final List<DataPoint> dataPointList = new ArrayList<>();
   private final List<DataPoint> matchingDataPointList = new ArrayList<>();
+  private final List<DataPoint> closestDataPointList = new ArrayList<>();
+
+  // dataPointList sorted by x, built on the first mouse move after a paint
+  private DataPoint[] sortedDataPoints = new DataPoint[0];
+  private double[] sortedX = new double[0];
+  private boolean isSorted;
 
   private final Chart chart;
   private final XYStyler styler;
@@ -108,18 +115,17 @@ public class Cursor extends MouseAdapter implements ChartPart {
     if (matchingDataPointList.size() > 0) {
       DataPoint firstDataPoint = matchingDataPointList.get(0);
 
-      TextLayout xValueTextLayout =
-          new TextLayout(
-              firstDataPoint.xValue,
-              styler.getCursorFont(),
-              new FontRenderContext(null, true, false));
-      textHeight = xValueTextLayout.getBounds().getHeight();
+      String xLabel = firstDataPoint.getXLabel();
+      Rectangle2D xLabelBounds =
+          TextMetricsCache.getBounds(
+              xLabel, styler.getCursorFont(), new FontRenderContext(null, true, false));
+      textHeight = xLabelBounds.getHeight();
 
       paintVerticalLine(graphic, firstDataPoint);
 
-      paintBackGround(graphic, xValueTextLayout);
+      paintBackGround(graphic, xLabelBounds);
 
-      paintDataPointInfo(graphic, xValueTextLayout);
+      paintDataPointInfo(graphic, xLabel);
     }
   }
 
@@ -138,18 +144,16 @@ public class Cursor extends MouseAdapter implements ChartPart {
     graphic.draw(line);
   }
 
-  private void paintBackGround(Graphics2D graphic, TextLayout xValueTextLayout) {
+  private void paintBackGround(Graphics2D graphic, Rectangle2D xLabelBounds) {
 
-    double maxLinewidth = xValueTextLayout.getBounds().getWidth();
-    TextLayout dataPointTextLayout = null;
+    double maxLinewidth = xLabelBounds.getWidth();
     Rectangle2D dataPointRectangle = null;
     for (DataPoint dataPoint : matchingDataPointList) {
-      dataPointTextLayout =
-          new TextLayout(
-              dataPoint.seriesName + ": " + dataPoint.yValue,
+      dataPointRectangle =
+          TextMetricsCache.getBounds(
+              dataPoint.seriesName + ": " + dataPoint.getYLabel(),
               styler.getCursorFont(),
               new FontRenderContext(null, true, false));
-      dataPointRectangle = dataPointTextLayout.getBounds();
       if (maxLinewidth < dataPointRectangle.getWidth()) {
         maxLinewidth = dataPointRectangle.getWidth();
       }
@@ -186,7 +190,7 @@ public class Cursor extends MouseAdapter implements ChartPart {
         (int) (backgroundHeight));
   }
 
-  private void paintDataPointInfo(Graphics2D graphic, TextLayout xValueTextLayout) {
+  private void paintDataPointInfo(Graphics2D graphic, String xLabel) {
 
     AffineTransform orig = graphic.getTransform();
     AffineTransform at = new AffineTransform();
@@ -194,10 +198,11 @@ public class Cursor extends MouseAdapter implements ChartPart {
         startX + MOUSE_SPACING + LINE_SPACING, startY + textHeight + MOUSE_SPACING + LINE_SPACING);
     graphic.transform(at);
     graphic.setColor(styler.getCursorFontColor());
-    graphic.fill(xValueTextLayout.getOutline(null));
+    graphic.fill(
+        TextMetricsCache.getOutline(
+            xLabel, styler.getCursorFont(), new FontRenderContext(null, true, false)));
 
     MarkerSeries series = null;
-    TextLayout dataPointTextLayout = null;
     Shape circle = null;
     for (DataPoint dataPoint : matchingDataPointList) {
       at = new AffineTransform();
@@ -215,12 +220,11 @@ public class Cursor extends MouseAdapter implements ChartPart {
       at.translate(textHeight + LINE_SPACING, 0);
       graphic.transform(at);
       graphic.setColor(styler.getCursorFontColor());
-      dataPointTextLayout =
-          new TextLayout(
-              dataPoint.seriesName + ": " + dataPoint.yValue,
+      graphic.fill(
+          TextMetricsCache.getOutline(
+              dataPoint.seriesName + ": " + dataPoint.getYLabel(),
               styler.getCursorFont(),
-              new FontRenderContext(null, true, false));
-      graphic.fill(dataPointTextLayout.getOutline(null));
+              new FontRenderContext(null, true, false)));
 
       at = new AffineTransform();
       at.translate(-textHeight - LINE_SPACING, 0);
@@ -229,71 +233,159 @@ public class Cursor extends MouseAdapter implements ChartPart {
     graphic.setTransform(orig);
   }
 
-  void addData(double xOffset, double yOffset, String xValue, String yValue, String seriesName) {
-
-    DataPoint dataPoint = new DataPoint(xOffset, yOffset, xValue, yValue, seriesName);
+  /**
+   * Adds a data point at the coordinates (xOffset, yOffset). Its values are only formatted when the
+   * mouse is over it.
+   */
+  void addData(
+      double xOffset,
+      double yOffset,
+      double xValue,
+      double yValue,
+      Format xFormat,
+      Format yFormat,
+      String seriesName) {
+
+    DataPoint dataPoint =
+        new DataPoint(xOffset, yOffset, xValue, yValue, xFormat, yFormat, seriesName);
     dataPointList.add(dataPoint);
+    isSorted = false;
+  }
+
+  void clearData() {
+
+    dataPointList.clear();
+    isSorted = false;
+  }
+
+  /**
+   * @return the DataPoints shown for the last mouse position, one per series
+   */
+  List<DataPoint> getMatchingDataPoints() {
+
+    return matchingDataPointList;
   }
 
   /** One DataPoint per series, keep the DataPoint closest to mouseX */
   private void calculateMatchingDataPoints() {
 
-    List<DataPoint> dataPoints = new ArrayList<>();
-    for (DataPoint dataPoint : dataPointList) {
-    	
-      boolean isDatapointColseX = dataPoint.shape.contains(mouseX, dataPoint.shape.getBounds().getCenterY());
-      boolean isYOverLowBound = chart.plot.plotContent.getBounds().getY() < mouseY;
-      boolean isYUnderHighBound = chart.plot.plotContent.getBounds().getY() + chart.plot.plotContent.getBounds().getHeight() > mouseY;
-      
-      if (isDatapointColseX && isYOverLowBound && isYUnderHighBound) {
-        dataPoints.add(dataPoint);
+    boolean isYOverLowBound = chart.plot.plotContent.getBounds().getY() < mouseY;
+    boolean isYUnderHighBound =
+        chart.plot.plotContent.getBounds().getY()
+                + chart.plot.plotContent.getBounds().getHeight()
+            > mouseY;
+    if (!isYOverLowBound || !isYUnderHighBound) {
+      return;
+    }
+
+    if (!isSorted) {
+      sortDataPoints();
+    }
+
+    // binary search for the first DataPoint whose shape may reach mouseX
+    int low = 0;
+    int high = sortedX.length;
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      if (sortedX[mid] < mouseX - DataPoint.HALF_SIZE) {
+        low = mid + 1;
+      } else {
+        high = mid;
       }
     }
 
-    if (dataPoints.size() > 0) {
-      Map<String, DataPoint> map = new HashMap<>();
-      String seriesName = "";
-      for (DataPoint dataPoint : dataPoints) {
-        seriesName = dataPoint.seriesName;
-        if (map.containsKey(seriesName)) {
-          if (Math.abs(dataPoint.x - mouseX) < Math.abs(map.get(seriesName).x - mouseX)) {
-            map.put(seriesName, dataPoint);
-          }
-        } else {
-          map.put(seriesName, dataPoint);
-        }
+    closestDataPointList.clear();
+    for (int i = low; i < sortedX.length && sortedX[i] <= mouseX + DataPoint.HALF_SIZE; i++) {
+      DataPoint dataPoint = sortedDataPoints[i];
+      if (!dataPoint.shape.contains(mouseX, dataPoint.y)) {
+        continue;
+      }
+      int seriesIndex = 0;
+      while (seriesIndex < closestDataPointList.size()
+          && !closestDataPointList.get(seriesIndex).seriesName.equals(dataPoint.seriesName)) {
+        seriesIndex++;
+      }
+      if (seriesIndex == closestDataPointList.size()) {
+        closestDataPointList.add(dataPoint);
+      } else if (Math.abs(dataPoint.x - mouseX)
+          < Math.abs(closestDataPointList.get(seriesIndex).x - mouseX)) {
+        closestDataPointList.set(seriesIndex, dataPoint);
       }
+    }
+
+    if (closestDataPointList.size() > 0) {
       matchingDataPointList.clear();
-      matchingDataPointList.addAll(map.values());
+      matchingDataPointList.addAll(closestDataPointList);
     }
   }
 
-  private static class DataPoint {
+  private void sortDataPoints() {
+
+    isSorted = true;
+    sortedDataPoints = dataPointList.toArray(new DataPoint[0]);
+    // stable, so DataPoints at the same x keep the order in which they were painted
+    Arrays.sort(sortedDataPoints, Comparator.comparingDouble(dataPoint -> dataPoint.x));
+    sortedX = new double[sortedDataPoints.length];
+    for (int i = 0; i < sortedDataPoints.length; i++) {
+      sortedX[i] = sortedDataPoints[i].x;
+    }
+  }
+
+  static class DataPoint {
 
     // edge detection
     private static final int MARGIN = 5;
+    private static final double HALF_SIZE = MARGIN * 1.5;
 
     // Used to determine the point that the mouse has passed vertically
     final Shape shape;
     final double x;
     final double y;
-    final String xValue;
-    final String yValue;
+    final double xValue;
+    final double yValue;
+    final Format xFormat;
+    final Format yFormat;
+    private String xLabel;
+    private String yLabel;
     final String seriesName;
 
-    public DataPoint(double x, double y, String xValue, String yValue, String seriesName) {
+    public DataPoint(
+        double x,
+        double y,
+        double xValue,
+        double yValue,
+        Format xFormat,
+        Format yFormat,
+        String seriesName) {
 
-      double halfSize = MARGIN * 1.5;
       double markerSize = MARGIN * 3;
 
       this.x = x;
       this.y = y;
       this.shape =
-          new Ellipse2D.Double(this.x - halfSize, this.y - halfSize, markerSize, markerSize);
+          new Ellipse2D.Double(this.x - HALF_SIZE, this.y - HALF_SIZE, markerSize, markerSize);
 
       this.xValue = xValue;
       this.yValue = yValue;
+      this.xFormat = xFormat;
+      this.yFormat = yFormat;
       this.seriesName = seriesName;
     }
+
+    String getXLabel() {
+
+      if (xLabel == null) {
+        xLabel = xFormat.format(xValue);
+      }
+      return xLabel;
+    }
+
+    String getYLabel() {
+
+      if (yLabel == null) {
+        yLabel = yFormat.format(yValue);
+      }
+      return yLabel;
+    }
   }
 }
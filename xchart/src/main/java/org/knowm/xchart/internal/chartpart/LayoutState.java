@@ -0,0 +1,162 @@
+package org.knowm.xchart.internal.chartpart;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.knowm.xchart.internal.series.Series;
+
+/**
+ * Tracks whether the inputs of a Chart's layout changed since the last paint, so that the axis
+ * bounds, tick locations, tick labels and legend bounds of the last paint can be reused when only
+ * the mouse moved, for example. Reuse is opt-in, see Styler.setLayoutReuseEnabled(). The inputs are
+ * tracked explicitly: the series by their identity and change count, which the series setters and
+ * data updates increase, the titles and the size by value and the annotations by identity. Changes
+ * which aren't tracked, like the ones of the styler or of data arrays modified in place, need
+ * Chart.invalidateLayout().
+ */
+public class LayoutState {
+
+  /** The inputs of the layout which are tracked */
+  public enum Part {
+    /** the series, their data and their settings */
+    DATA,
+    /** the chart, axis and Y-Axis group titles, and anything changed before invalidate() */
+    STYLER,
+    /** the width and height */
+    SIZE,
+    /** the annotations, which are painted last and never affect the layout */
+    ANNOTATIONS
+  }
+
+  private final Map<Part, List<Object>> snapshots = new EnumMap<>(Part.class);
+  private Map<Part, List<Object>> pendingSnapshots;
+  private Set<Part> changedParts = Collections.unmodifiableSet(EnumSet.allOf(Part.class));
+  private boolean isReuseEnabled;
+  // increased by invalidate(), for the caches of what can't be tracked
+  private volatile int invalidationCount;
+
+  /**
+   * Compares the current state of the chart with the one of the last completed paint. Must be
+   * called at the start of a paint, after the series defaults are applied.
+   *
+   * @param chart
+   */
+  void update(Chart<?, ?> chart) {
+
+    Map<Part, List<Object>> current = new EnumMap<>(Part.class);
+    current.put(Part.DATA, snapshotData(chart));
+    current.put(Part.STYLER, snapshotTitles(chart));
+    current.put(Part.SIZE, Arrays.asList(chart.getWidth(), chart.getHeight()));
+    current.put(Part.ANNOTATIONS, snapshotAnnotations(chart));
+
+    EnumSet<Part> changed = EnumSet.noneOf(Part.class);
+    for (Part part : Part.values()) {
+      if (!current.get(part).equals(snapshots.get(part))) {
+        changed.add(part);
+      }
+    }
+    changedParts = Collections.unmodifiableSet(changed);
+    isReuseEnabled = chart.getStyler().isLayoutReuseEnabled();
+    // if the paint fails half way, the next one must lay out everything again
+    snapshots.clear();
+    pendingSnapshots = current;
+  }
+
+  /** Marks the paint started by the last update() as completed. */
+  void commit() {
+
+    if (pendingSnapshots != null) {
+      snapshots.putAll(pendingSnapshots);
+      pendingSnapshots = null;
+    }
+  }
+
+  /** Forces everything to be recomputed on the next paint. */
+  void invalidate() {
+
+    snapshots.clear();
+    invalidationCount++;
+  }
+
+  int getInvalidationCount() {
+
+    return invalidationCount;
+  }
+
+  /**
+   * @return true if the layout of the last completed paint can be reused by the current paint
+   */
+  boolean isLayoutValid() {
+
+    return isReuseEnabled
+        && !changedParts.contains(Part.DATA)
+        && !changedParts.contains(Part.STYLER)
+        && !changedParts.contains(Part.SIZE);
+  }
+
+  Set<Part> getChangedParts() {
+
+    return changedParts;
+  }
+
+  private static List<Object> snapshotData(Chart<?, ?> chart) {
+
+    List<Object> snapshot = new ArrayList<>();
+    for (Series series : chart.getSeriesMap().values()) {
+      snapshot.add(new Identity(series));
+      snapshot.add(series.getChangeCount());
+    }
+    return snapshot;
+  }
+
+  static List<Object> snapshotTitles(Chart<?, ?> chart) {
+
+    List<Object> snapshot = new ArrayList<>();
+    snapshot.add(chart.getTitle());
+    snapshot.add(chart.getXAxisTitle());
+    snapshot.add(chart.getYAxisTitle());
+    snapshot.add(new HashMap<>(chart.getYAxisGroupTitleMap()));
+    return snapshot;
+  }
+
+  private static List<Object> snapshotAnnotations(Chart<?, ?> chart) {
+
+    List<Object> snapshot = new ArrayList<>();
+    for (ChartPart annotation : chart.annotations.getChartParts()) {
+      // some charts add their regular chart parts to the annotations
+      if (annotation instanceof Annotation) {
+        snapshot.add(new Identity(annotation));
+      }
+    }
+    return snapshot;
+  }
+
+  /** Compares an object by identity. */
+  private static class Identity {
+
+    private final Object object;
+
+    private Identity(Object object) {
+
+      this.object = object;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+
+      return o instanceof Identity && object == ((Identity) o).object;
+    }
+
+    @Override
+    public int hashCode() {
+
+      return System.identityHashCode(object);
+    }
+  }
+}
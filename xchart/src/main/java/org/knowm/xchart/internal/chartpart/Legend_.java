@@ -2,7 +2,6 @@ package org.knowm.xchart.internal.chartpart;
 
 import java.awt.*;
 import java.awt.font.FontRenderContext;
-import java.awt.font.TextLayout;
 import java.awt.geom.AffineTransform;
 import java.awt.geom.Rectangle2D;
 import java.util.LinkedHashMap;
@@ -23,6 +22,7 @@ public abstract class Legend_<ST extends Styler, S extends Series> implements Ch
   double xOffset = 0;
   double yOffset = 0;
   protected Rectangle2D bounds;
+  private Rectangle2D boundsHint;
   
   private OffsetCalculater calculator;
   
@@ -42,7 +42,9 @@ public abstract class Legend_<ST extends Styler, S extends Series> implements Ch
   protected abstract void doPaint(Graphics2D graphic);
 
   @Override
-  public void paint(Graphics2D graphic) {
+  public void paint(Graphics2D g) {
+
+    Graphics2D graphic = chart.getLayerGraphics(ChartLayers.Layer.FOREGROUND, g);
 
     if (!chart.getStyler().isLegendVisible()) {
       return;
@@ -63,15 +65,8 @@ public abstract class Legend_<ST extends Styler, S extends Series> implements Ch
     // methods needs the bounds.
     // if (bounds == null) { // No other part asked for the bounds yet. Probably because it's an
     // "inside" legend location
-    if (chart.getStyler().getLegendLayout() == Styler.LegendLayout.Vertical) {
-      bounds =
-          getBoundsHintVertical(); // Actually, the only information contained in this bounds is the
-      // width and height.
-    } else {
-      bounds =
-          getBoundsHintHorizontal(); // Actually, the only information contained in this bounds is
-      // the width and height.
-    }
+    bounds = getBoundsHint(); // Actually, the only information contained in this bounds is the
+    // width and height.
 
     // legend draw position
     double height = bounds.getHeight();
@@ -338,10 +333,9 @@ public abstract class Legend_<ST extends Styler, S extends Series> implements Ch
     Map<String, Rectangle2D> seriesTextBounds =
         new LinkedHashMap<String, Rectangle2D>(lines.length);
     for (String line : lines) {
-      TextLayout textLayout =
-          new TextLayout(
+      Shape shape =
+          TextMetricsCache.getOutline(
               line, chart.getStyler().getLegendFont(), new FontRenderContext(null, true, false));
-      Shape shape = textLayout.getOutline(null);
       Rectangle2D bounds = shape.getBounds2D();
       // System.out.println(tl.getAscent());
       // System.out.println(tl.getDescent());
@@ -396,8 +390,9 @@ public abstract class Legend_<ST extends Styler, S extends Series> implements Ch
       double centerOffsetY = (Math.max(markerSize, height) - height) / 2.0;
 
       FontRenderContext fontRenderContext = graphic.getFontRenderContext();
-      TextLayout textLayout = new TextLayout(entry.getKey(), chart.getStyler().getLegendFont(), fontRenderContext);
-      Shape shape = textLayout.getOutline(null);
+      Shape shape =
+          TextMetricsCache.getOutline(
+              entry.getKey(), chart.getStyler().getLegendFont(), fontRenderContext);
       AffineTransform origin = graphic.getTransform();
       AffineTransform affineTransform = new AffineTransform();
       affineTransform.translate(x, starty + height + centerOffsetY + multiLineOffset);
@@ -417,12 +412,20 @@ public abstract class Legend_<ST extends Styler, S extends Series> implements Ch
   @Override
   public Rectangle2D getBounds() {
 
-    if (chart.getStyler().getLegendLayout() == Styler.LegendLayout.Vertical) {
-      return getBoundsHintVertical(); // Actually, the only information contained in this bounds is
-      // the width and height.
-    } else {
-      return getBoundsHintHorizontal(); // Actually, the only information contained in this bounds
-      // is the width and height.
+    return getBoundsHint(); // Actually, the only information contained in this bounds is the
+    // width and height.
+  }
+
+  /** Reuses the bounds hint of the last paint if nothing the layout depends on changed. */
+  private Rectangle2D getBoundsHint() {
+
+    if (boundsHint == null || !chart.isLayoutValid()) {
+      if (chart.getStyler().getLegendLayout() == Styler.LegendLayout.Vertical) {
+        boundsHint = getBoundsHintVertical();
+      } else {
+        boundsHint = getBoundsHintHorizontal();
+      }
     }
+    return (Rectangle2D) boundsHint.clone();
   }
 }
@@ -6,7 +6,6 @@ import java.awt.LinearGradientPaint;
 import java.awt.RenderingHints;
 import java.awt.Shape;
 import java.awt.font.FontRenderContext;
-import java.awt.font.TextLayout;
 import java.awt.geom.AffineTransform;
 import java.awt.geom.Point2D;
 import java.awt.geom.Rectangle2D;
@@ -17,6 +16,7 @@ import org.knowm.xchart.HeatMapChart;
 import org.knowm.xchart.HeatMapSeries;
 import org.knowm.xchart.style.HeatMapStyler;
 import org.knowm.xchart.style.Styler;
+import org.knowm.xchart.style.colors.ColorLookupTable;
 
 /** @author Mr14huashao */
 public class Legend_HeatMap<ST extends HeatMapStyler, S extends HeatMapSeries>
@@ -34,7 +34,9 @@ public class Legend_HeatMap<ST extends HeatMapStyler, S extends HeatMapSeries>
   }
 
   @Override
-  public void paint(Graphics2D g) {
+  public void paint(Graphics2D graphics) {
+
+    Graphics2D g = chart.getLayerGraphics(ChartLayers.Layer.FOREGROUND, graphics);
 
     if (!chart.getStyler().isLegendVisible()) {
       return;
@@ -119,7 +121,7 @@ public class Legend_HeatMap<ST extends HeatMapStyler, S extends HeatMapSeries>
       int splitNumber = chart.getStyler().getSplitNumber();
       double step = (max - min) / splitNumber;
       String text = "";
-      TextLayout textLayout = null;
+      Rectangle2D textBounds = null;
       BiFunction<Double, Double, String> formattingFunction =
           chart.getStyler().isPiecewiseRanged()
               ? (lower, upper) -> format.format(lower) + SPLIT + format.format(upper)
@@ -132,19 +134,19 @@ public class Legend_HeatMap<ST extends HeatMapStyler, S extends HeatMapSeries>
         } else {
           text = formattingFunction.apply(min + step * i, min + step * (i + 1));
         }
-        textLayout =
-            new TextLayout(
+        textBounds =
+            TextMetricsCache.getBounds(
                 text, chart.getStyler().getLegendFont(), new FontRenderContext(null, true, false));
 
         if (chart.getStyler().getLegendLayout() == Styler.LegendLayout.Vertical) {
-          weight = Math.max(weight, textLayout.getBounds().getWidth());
+          weight = Math.max(weight, textBounds.getWidth());
           height +=
               chart.getStyler().getLegendFont().getSize() + chart.getStyler().getLegendPadding();
         } else {
           weight +=
               BOX_SIZE
                   + chart.getStyler().getLegendPadding()
-                  + textLayout.getBounds().getWidth()
+                  + textBounds.getWidth()
                   + chart.getStyler().getLegendPadding();
         }
       }
@@ -165,14 +167,14 @@ public class Legend_HeatMap<ST extends HeatMapStyler, S extends HeatMapSeries>
       }
     } else {
 
-      TextLayout textLayoutMin =
-          new TextLayout(
+      Rectangle2D textBoundsMin =
+          TextMetricsCache.getBounds(
               min + "",
               chart.getStyler().getLegendFont(),
               new FontRenderContext(null, true, false));
 
-      TextLayout textLayoutMax =
-          new TextLayout(
+      Rectangle2D textBoundsMax =
+          TextMetricsCache.getBounds(
               max + "",
               chart.getStyler().getLegendFont(),
               new FontRenderContext(null, true, false));
@@ -183,7 +185,7 @@ public class Legend_HeatMap<ST extends HeatMapStyler, S extends HeatMapSeries>
                 + chart.getStyler().getGradientColorColumnWeight()
                 + chart.getStyler().getLegendPadding()
                 + Math.max(
-                    textLayoutMin.getBounds().getWidth(), textLayoutMax.getBounds().getWidth())
+                    textBoundsMin.getWidth(), textBoundsMax.getWidth())
                 + chart.getStyler().getLegendPadding();
         height =
             chart.getStyler().getLegendPadding()
@@ -195,9 +197,9 @@ public class Legend_HeatMap<ST extends HeatMapStyler, S extends HeatMapSeries>
       } else {
         weight =
             chart.getStyler().getLegendPadding()
-                + textLayoutMin.getBounds().getWidth()
+                + textBoundsMin.getWidth()
                 + chart.getStyler().getGradientColorColumnHeight()
-                + textLayoutMax.getBounds().getWidth()
+                + textBoundsMax.getWidth()
                 + chart.getStyler().getLegendPadding();
         height =
             chart.getStyler().getLegendPadding()
@@ -219,7 +221,7 @@ public class Legend_HeatMap<ST extends HeatMapStyler, S extends HeatMapSeries>
       HeatMapSeries heatMapSeries) {
 
     int splitNumber = chart.getStyler().getSplitNumber();
-    TextLayout textLayout = null;
+    Rectangle2D textBounds = null;
     Rectangle2D boxRect = null;
     String text = "";
     double min = heatMapSeries.getMin();
@@ -228,55 +230,23 @@ public class Legend_HeatMap<ST extends HeatMapStyler, S extends HeatMapSeries>
     double y = 0;
     AffineTransform orig = g.getTransform();
     AffineTransform at = null;
-    Color splitColor = null;
-    int beginColorIndex = 0;
-    int endColorIndex = 1;
-    Color beginColor = null;
-    Color endColor = null;
-    int red = 0;
-    int green = 0;
-    int blue = 0;
-    double index = 0;
+    ColorLookupTable colorLookupTable = chart.getStyler().getColorLookupTable();
     BiFunction<Double, Double, String> formattingFunction =
         chart.getStyler().isPiecewiseRanged()
             ? (lower, upper) -> format.format(lower) + SPLIT + format.format(upper)
             : (lower, upper) -> format.format(lower);
     for (int i = 0; i < splitNumber; i++) {
-      index = (double) i / splitNumber * rangeColors.length;
       if (i == 0) {
         text = formattingFunction.apply(min, min + step);
-        splitColor = rangeColors[0];
       } else if (i == splitNumber - 1) {
         text = formattingFunction.apply(min + step * i, max);
-        splitColor = rangeColors[rangeColors.length - 1];
       } else {
         text = formattingFunction.apply(min + step * i, min + step * (i + 1));
-        beginColorIndex = (int) index;
-        if (rangeColors.length != 1) {
-          endColorIndex = beginColorIndex + 1;
-        } else {
-          endColorIndex = beginColorIndex;
-        }
-
-        beginColor = rangeColors[beginColorIndex];
-        endColor = rangeColors[endColorIndex];
-        red =
-            (int)
-                (beginColor.getRed()
-                    + (index - (int) index) * (endColor.getRed() - beginColor.getRed()));
-        green =
-            (int)
-                (beginColor.getGreen()
-                    + (index - (int) index) * (endColor.getGreen() - beginColor.getGreen()));
-        blue =
-            (int)
-                (beginColor.getBlue()
-                    + (index - (int) index) * (endColor.getBlue() - beginColor.getBlue()));
-        splitColor = new Color(red, green, blue);
       }
+      Color splitColor = colorLookupTable.getStepColor(i);
 
-      textLayout =
-          new TextLayout(
+      textBounds =
+          TextMetricsCache.getBounds(
               text, chart.getStyler().getLegendFont(), new FontRenderContext(null, true, false));
 
       if (chart.getStyler().getLegendLayout() == Styler.LegendLayout.Vertical) {
@@ -290,21 +260,23 @@ public class Legend_HeatMap<ST extends HeatMapStyler, S extends HeatMapSeries>
         }
         y = starty;
       }
-      boxRect = new Rectangle2D.Double(startx, y, BOX_SIZE, textLayout.getBounds().getHeight());
+      boxRect = new Rectangle2D.Double(startx, y, BOX_SIZE, textBounds.getHeight());
       g.setColor(splitColor);
       g.fill(boxRect);
 
       at = new AffineTransform();
       at.translate(
           startx + BOX_SIZE + chart.getStyler().getLegendPadding(),
-          y + textLayout.getBounds().getHeight());
+          y + textBounds.getHeight());
       g.transform(at);
       g.setColor(chart.getStyler().getChartFontColor());
       g.setFont(chart.getStyler().getLegendFont());
-      g.fill(textLayout.getOutline(null));
+      g.fill(
+          TextMetricsCache.getOutline(
+              text, chart.getStyler().getLegendFont(), new FontRenderContext(null, true, false)));
       g.setTransform(orig);
       if (chart.getStyler().getLegendLayout() == Styler.LegendLayout.Horizontal) {
-        startx += textLayout.getBounds().getWidth() + chart.getStyler().getLegendPadding();
+        startx += textBounds.getWidth() + chart.getStyler().getLegendPadding();
       }
     }
   }
@@ -316,11 +288,10 @@ public class Legend_HeatMap<ST extends HeatMapStyler, S extends HeatMapSeries>
       Color[] rangeColors,
       HeatMapSeries heatMapSeries) {
 
-    TextLayout textLayoutMin =
-        new TextLayout(
-            heatMapSeries.getMin() + "",
-            chart.getStyler().getLegendFont(),
-            new FontRenderContext(null, true, false));
+    String minText = heatMapSeries.getMin() + "";
+    FontRenderContext frc = new FontRenderContext(null, true, false);
+    Rectangle2D textBoundsMin =
+        TextMetricsCache.getBounds(minText, chart.getStyler().getLegendFont(), frc);
     Point2D start = null;
     Point2D end = null;
     Rectangle2D rect = null;
@@ -337,14 +308,14 @@ public class Legend_HeatMap<ST extends HeatMapStyler, S extends HeatMapSeries>
     } else {
       start =
           new Point2D.Double(
-              startx + textLayoutMin.getBounds().getWidth(),
+              startx + textBoundsMin.getWidth(),
               starty
                   + chart.getStyler().getLegendFont().getSize()
                   + chart.getStyler().getLegendPadding());
       end =
           new Point2D.Double(
               startx
-                  + textLayoutMin.getBounds().getWidth()
+                  + textBoundsMin.getWidth()
                   + chart.getStyler().getGradientColorColumnHeight(),
               starty
                   + chart.getStyler().getLegendFont().getSize()
@@ -352,7 +323,7 @@ public class Legend_HeatMap<ST extends HeatMapStyler, S extends HeatMapSeries>
 
       rect =
           new Rectangle2D.Double(
-              startx + textLayoutMin.getBounds().getWidth(),
+              startx + textBoundsMin.getWidth(),
               starty
                   + chart.getStyler().getLegendFont().getSize()
                   + chart.getStyler().getLegendPadding(),
@@ -374,11 +345,9 @@ public class Legend_HeatMap<ST extends HeatMapStyler, S extends HeatMapSeries>
     g.setPaint(lgp);
     g.fill(rect);
 
-    TextLayout textLayoutMax =
-        new TextLayout(
-            heatMapSeries.getMax() + "",
-            chart.getStyler().getLegendFont(),
-            new FontRenderContext(null, true, false));
+    String maxText = heatMapSeries.getMax() + "";
+    Rectangle2D textBoundsMax =
+        TextMetricsCache.getBounds(maxText, chart.getStyler().getLegendFont(), frc);
 
     double tx = 0;
     double ty = 0;
@@ -390,11 +359,11 @@ public class Legend_HeatMap<ST extends HeatMapStyler, S extends HeatMapSeries>
           startx
               + chart.getStyler().getGradientColorColumnWeight()
               + chart.getStyler().getLegendPadding();
-      ty = starty + textLayoutMax.getBounds().getHeight();
+      ty = starty + textBoundsMax.getHeight();
     } else {
       tx =
           startx
-              + textLayoutMin.getBounds().getWidth()
+              + textBoundsMin.getWidth()
               + chart.getStyler().getGradientColorColumnHeight();
       ty = starty + chart.getStyler().getLegendFont().getSize();
     }
@@ -402,7 +371,7 @@ public class Legend_HeatMap<ST extends HeatMapStyler, S extends HeatMapSeries>
     g.transform(at);
     g.setColor(chart.getStyler().getChartFontColor());
     g.setFont(chart.getStyler().getLegendFont());
-    g.fill(textLayoutMax.getOutline(null));
+    g.fill(TextMetricsCache.getOutline(maxText, chart.getStyler().getLegendFont(), frc));
     g.setTransform(orig);
 
     // paint min
@@ -424,7 +393,7 @@ public class Legend_HeatMap<ST extends HeatMapStyler, S extends HeatMapSeries>
     g.transform(at);
     g.setColor(chart.getStyler().getChartFontColor());
     g.setFont(chart.getStyler().getLegendFont());
-    g.fill(textLayoutMin.getOutline(null));
+    g.fill(TextMetricsCache.getOutline(minText, chart.getStyler().getLegendFont(), frc));
     g.setTransform(orig);
   }
 
@@ -0,0 +1,165 @@
+package org.knowm.xchart.internal.chartpart;
+
+import java.util.Arrays;
+
+/**
+ * Pixel-aware min/max (M4) decimation for line-like XY series. Consecutive data points that fall
+ * into the same pixel column are reduced to the first, last, minimum and maximum point of that
+ * column, which is sufficient to rasterize the connecting line without antialiasing identically to
+ * the full data set, for opaque strokes wider than one pixel. NaN Y-values are always retained so
+ * that gaps in the series are preserved.
+ */
+class M4Decimator {
+
+  /** Java2D stroke normalization snaps coordinates to a quarter pixel before rasterizing */
+  private static final double PIXEL_OFFSET = 0.25;
+
+  /** Constructor - Private constructor to prevent instantiation */
+  private M4Decimator() {}
+
+  /**
+   * Reduce the data to at most four points per pixel column.
+   *
+   * @param xData the X-Axis data
+   * @param yData the Y-Axis data
+   * @param isXAxisLogarithmic true if the x values need to be transformed with log10
+   * @param xMin the X-Axis min (already log10 transformed if logarithmic)
+   * @param xMax the X-Axis max (already log10 transformed if logarithmic)
+   * @param xPixelOffset the screen x coordinate of xMin
+   * @param xPixelSpace the number of screen pixels between xMin and xMax
+   * @return the ascending indices of the points to be painted, or null if decimation would not
+   *     remove any points
+   */
+  static int[] decimate(
+      double[] xData,
+      double[] yData,
+      boolean isXAxisLogarithmic,
+      double xMin,
+      double xMax,
+      double xPixelOffset,
+      double xPixelSpace) {
+
+    return decimate(
+        xData, yData, 0, xData.length, isXAxisLogarithmic, xMin, xMax, xPixelOffset, xPixelSpace);
+  }
+
+  /**
+   * Reduce a range of the data to at most four points per pixel column.
+   *
+   * @param xData the X-Axis data
+   * @param yData the Y-Axis data
+   * @param from the first index of the range, inclusive
+   * @param to the last index of the range, exclusive
+   * @param isXAxisLogarithmic true if the x values need to be transformed with log10
+   * @param xMin the X-Axis min (already log10 transformed if logarithmic)
+   * @param xMax the X-Axis max (already log10 transformed if logarithmic)
+   * @param xPixelOffset the screen x coordinate of xMin
+   * @param xPixelSpace the number of screen pixels between xMin and xMax
+   * @return the ascending indices of the points to be painted, or null if decimation would not
+   *     remove any points
+   */
+  static int[] decimate(
+      double[] xData,
+      double[] yData,
+      int from,
+      int to,
+      boolean isXAxisLogarithmic,
+      double xMin,
+      double xMax,
+      double xPixelOffset,
+      double xPixelSpace) {
+
+    int length = to - from;
+    // there can never be more than four points per pixel column
+    if (length <= 4 * (xPixelSpace + 1)) {
+      return null;
+    }
+
+    double range = xMax - xMin;
+    double scale = range == 0.0 ? 0.0 : xPixelSpace / range;
+
+    int[] indices = new int[Math.min(length, 4 * ((int) xPixelSpace + 8))];
+    int count = 0;
+
+    boolean isColumnOpen = false;
+    long column = 0;
+    int first = from;
+    int last = from;
+    int min = from;
+    int max = from;
+
+    for (int i = from; i < to; i++) {
+
+      double y = yData[i];
+      if (Double.isNaN(y)) {
+        if (isColumnOpen) {
+          indices = ensureCapacity(indices, count + 4);
+          count = addColumn(indices, count, first, min, max, last);
+          isColumnOpen = false;
+        }
+        indices = ensureCapacity(indices, count + 1);
+        indices[count++] = i;
+        continue;
+      }
+
+      double x = isXAxisLogarithmic ? Math.log10(xData[i]) : xData[i];
+      long pixelColumn = (long) Math.floor(xPixelOffset + (x - xMin) * scale + PIXEL_OFFSET);
+
+      if (isColumnOpen && pixelColumn == column) {
+        last = i;
+        if (y < yData[min]) {
+          min = i;
+        }
+        if (y > yData[max]) {
+          max = i;
+        }
+      } else {
+        if (isColumnOpen) {
+          indices = ensureCapacity(indices, count + 4);
+          count = addColumn(indices, count, first, min, max, last);
+        }
+        isColumnOpen = true;
+        column = pixelColumn;
+        first = i;
+        last = i;
+        min = i;
+        max = i;
+      }
+    }
+    if (isColumnOpen) {
+      indices = ensureCapacity(indices, count + 4);
+      count = addColumn(indices, count, first, min, max, last);
+    }
+
+    if (count == length) {
+      return null;
+    }
+    return Arrays.copyOf(indices, count);
+  }
+
+  /** Add the distinct indices of one pixel column in ascending order. */
+  private static int addColumn(int[] indices, int count, int first, int min, int max, int last) {
+
+    indices[count++] = first;
+    int lower = Math.min(min, max);
+    int upper = Math.max(min, max);
+    if (lower != first) {
+      indices[count++] = lower;
+    }
+    if (upper != lower && upper != first) {
+      indices[count++] = upper;
+    }
+    if (last != upper && last != first) {
+      indices[count++] = last;
+    }
+    return count;
+  }
+
+  private static int[] ensureCapacity(int[] indices, int capacity) {
+
+    if (capacity <= indices.length) {
+      return indices;
+    }
+    return Arrays.copyOf(indices, Math.max(capacity, indices.length * 2));
+  }
+}
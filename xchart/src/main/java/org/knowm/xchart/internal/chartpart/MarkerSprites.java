@@ -0,0 +1,295 @@
+package org.knowm.xchart.internal.chartpart;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import org.knowm.xchart.style.markers.Marker;
+
+/**
+ * Stamps markers as images instead of filling a shape per marker. Every combination of marker,
+ * color, size, scale and rendering hints is painted once into a small image per quarter pixel
+ * offset, which is then drawn with drawImage at the nearest quarter pixel of each marker. Only
+ * graphics with KEY_MARKER_SPRITES set to true use sprites, which BitmapEncoder and XChartPanel set
+ * on the graphics of their images and of the screen. Vector graphics, like the ones of
+ * VectorGraphicsEncoder, PdfboxGraphicsEncoder or a printer, don't set it and get the marker
+ * shapes.
+ */
+public class MarkerSprites {
+
+  /** The rendering hint allowing markers to be stamped, for graphics painting into pixels */
+  public static final RenderingHints.Key KEY_MARKER_SPRITES =
+      new RenderingHints.Key(0) {
+
+        @Override
+        public boolean isCompatibleValue(Object value) {
+
+          return value instanceof Boolean;
+        }
+      };
+
+  // the offsets within a pixel a sprite is painted at, per axis
+  private static final int PHASES = 4;
+  private static final int MAX_CACHED_SPRITES = 32;
+
+  private final Map<SpriteKey, Sprite[]> spritesByKey =
+      new LinkedHashMap<SpriteKey, Sprite[]>(16, 0.75f, true) {
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<SpriteKey, Sprite[]> eldest) {
+
+          return size() > MAX_CACHED_SPRITES;
+        }
+      };
+
+  // the state between begin() and end()
+  private Graphics2D g;
+  private AffineTransform transform;
+  private boolean isTransformReset;
+  private SpriteKey key;
+  private Sprite[] sprites;
+
+  /**
+   * Stamps a single marker, or paints it if it can't be stamped on these graphics
+   *
+   * @param g
+   * @param marker
+   * @param markerColor
+   * @param markerSize
+   * @param xOffset
+   * @param yOffset
+   */
+  void paint(
+      Graphics2D g,
+      Marker marker,
+      Color markerColor,
+      int markerSize,
+      double xOffset,
+      double yOffset) {
+
+    g.setColor(markerColor);
+    if (begin(g, marker, markerColor, markerSize)) {
+      stamp(xOffset, yOffset);
+      end();
+    } else {
+      marker.paint(g, xOffset, yOffset, markerSize);
+    }
+  }
+
+  /**
+   * Prepares stamping markers, until end() is called.
+   *
+   * @param g
+   * @param marker
+   * @param markerColor
+   * @param markerSize
+   * @return false if the markers can't be stamped on these graphics and must be painted instead
+   */
+  boolean begin(Graphics2D g, Marker marker, Color markerColor, int markerSize) {
+
+    if (!Boolean.TRUE.equals(g.getRenderingHint(KEY_MARKER_SPRITES))) {
+      return false;
+    }
+    AffineTransform transform = g.getTransform();
+    int type = transform.getType();
+    if ((type & ~(AffineTransform.TYPE_TRANSLATION | AffineTransform.TYPE_MASK_SCALE)) != 0
+        || transform.getScaleX() <= 0
+        || transform.getScaleY() <= 0) {
+      return false;
+    }
+
+    this.g = g;
+    this.transform = transform;
+    key =
+        new SpriteKey(
+            marker,
+            markerColor.getRGB(),
+            markerSize,
+            transform.getScaleX(),
+            transform.getScaleY(),
+            g.getRenderingHint(RenderingHints.KEY_ANTIALIASING),
+            g.getRenderingHint(RenderingHints.KEY_STROKE_CONTROL));
+    sprites = spritesByKey.computeIfAbsent(key, k -> new Sprite[PHASES * PHASES]);
+
+    // sprites are drawn in device pixels, which an integer translation keeps
+    isTransformReset =
+        (type & AffineTransform.TYPE_MASK_SCALE) != 0
+            || transform.getTranslateX() != Math.rint(transform.getTranslateX())
+            || transform.getTranslateY() != Math.rint(transform.getTranslateY());
+    if (isTransformReset) {
+      g.setTransform(new AffineTransform());
+    }
+    return true;
+  }
+
+  /**
+   * Stamps a marker
+   *
+   * @param xOffset the center of the marker, in the coordinates of the graphics given to begin()
+   * @param yOffset
+   */
+  void stamp(double xOffset, double yOffset) {
+
+    double deviceX = transform.getScaleX() * xOffset + transform.getTranslateX();
+    double deviceY = transform.getScaleY() * yOffset + transform.getTranslateY();
+    long x = Math.round(deviceX * PHASES);
+    long y = Math.round(deviceY * PHASES);
+    Sprite sprite =
+        getSprite((int) Math.floorMod(x, (long) PHASES), (int) Math.floorMod(y, (long) PHASES));
+    if (sprite.image == null) {
+      return;
+    }
+    double spriteX = Math.floorDiv(x, (long) PHASES) + sprite.x;
+    double spriteY = Math.floorDiv(y, (long) PHASES) + sprite.y;
+    if (!isTransformReset) {
+      spriteX -= transform.getTranslateX();
+      spriteY -= transform.getTranslateY();
+    }
+    g.drawImage(sprite.image, (int) spriteX, (int) spriteY, null);
+  }
+
+  /** Ends stamping markers and restores the graphics. */
+  void end() {
+
+    if (isTransformReset) {
+      g.setTransform(transform);
+    }
+    g = null;
+    transform = null;
+    key = null;
+    sprites = null;
+  }
+
+  private Sprite getSprite(int phaseX, int phaseY) {
+
+    int index = phaseY * PHASES + phaseX;
+    Sprite sprite = sprites[index];
+    if (sprite == null) {
+      sprite = new Sprite(key, phaseX, phaseY);
+      sprites[index] = sprite;
+    }
+    return sprite;
+  }
+
+  /** A marker painted at an offset within a pixel, cropped to the pixels it covers. */
+  private static class Sprite {
+
+    // null if the marker covers no pixels
+    private final BufferedImage image;
+    // the position of the image relative to the pixel of the marker's center
+    private final int x;
+    private final int y;
+
+    Sprite(SpriteKey key, int phaseX, int phaseY) {
+
+      // room for markers reaching out a whole marker size from their center, like the trapezoid
+      int halfSize = (int) Math.ceil(key.markerSize * Math.max(key.scaleX, key.scaleY)) + 2;
+      int size = 2 * halfSize + 1;
+      BufferedImage canvas = new BufferedImage(size, size, BufferedImage.TYPE_INT_ARGB_PRE);
+      Graphics2D g = canvas.createGraphics();
+      if (key.antialiasing != null) {
+        g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, key.antialiasing);
+      }
+      if (key.strokeControl != null) {
+        g.setRenderingHint(RenderingHints.KEY_STROKE_CONTROL, key.strokeControl);
+      }
+      g.translate(halfSize + (double) phaseX / PHASES, halfSize + (double) phaseY / PHASES);
+      g.scale(key.scaleX, key.scaleY);
+      g.setColor(new Color(key.rgb, true));
+      key.marker.paint(g, 0, 0, key.markerSize);
+      g.dispose();
+
+      // the fewer transparent pixels are drawn for every marker, the faster
+      int minX = size;
+      int minY = size;
+      int maxX = -1;
+      int maxY = -1;
+      for (int j = 0; j < size; j++) {
+        for (int i = 0; i < size; i++) {
+          if (canvas.getRGB(i, j) != 0) {
+            minX = Math.min(minX, i);
+            minY = Math.min(minY, j);
+            maxX = Math.max(maxX, i);
+            maxY = Math.max(maxY, j);
+          }
+        }
+      }
+      if (maxX < 0) {
+        image = null;
+        x = 0;
+        y = 0;
+        return;
+      }
+      int width = maxX - minX + 1;
+      int height = maxY - minY + 1;
+      image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB_PRE);
+      Graphics2D imageGraphics = image.createGraphics();
+      imageGraphics.drawImage(canvas, -minX, -minY, null);
+      imageGraphics.dispose();
+      x = minX - halfSize;
+      y = minY - halfSize;
+    }
+  }
+
+  private static class SpriteKey {
+
+    private final Marker marker;
+    private final int rgb;
+    private final int markerSize;
+    private final double scaleX;
+    private final double scaleY;
+    private final Object antialiasing;
+    private final Object strokeControl;
+
+    SpriteKey(
+        Marker marker,
+        int rgb,
+        int markerSize,
+        double scaleX,
+        double scaleY,
+        Object antialiasing,
+        Object strokeControl) {
+
+      this.marker = marker;
+      this.rgb = rgb;
+      this.markerSize = markerSize;
+      this.scaleX = scaleX;
+      this.scaleY = scaleY;
+      this.antialiasing = antialiasing;
+      this.strokeControl = strokeControl;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+
+      if (!(o instanceof SpriteKey)) {
+        return false;
+      }
+      SpriteKey spriteKey = (SpriteKey) o;
+      return marker == spriteKey.marker
+          && rgb == spriteKey.rgb
+          && markerSize == spriteKey.markerSize
+          && scaleX == spriteKey.scaleX
+          && scaleY == spriteKey.scaleY
+          && Objects.equals(antialiasing, spriteKey.antialiasing)
+          && Objects.equals(strokeControl, spriteKey.strokeControl);
+    }
+
+    @Override
+    public int hashCode() {
+
+      return Objects.hash(
+          System.identityHashCode(marker),
+          rgb,
+          markerSize,
+          scaleX,
+          scaleY,
+          antialiasing,
+          strokeControl);
+    }
+  }
+}
@@ -18,6 +18,8 @@ public class PlotContent_Box<ST extends BoxStyler, S extends BoxSeries>
     extends PlotContent_<ST, S> {
 
   private final ST boxPlotStyler;
+  // keeps the box plot data of the series between paints
+  private final BoxPlotDataCalculator<ST, S> boxPlotDataCalculator = new BoxPlotDataCalculator<>();
   private double yMax;
   private double yMin;
   private double xLeftMargin;
@@ -44,7 +46,6 @@ public class PlotContent_Box<ST extends BoxStyler, S extends BoxSeries>
     boolean toolTipsEnabled = chart.getStyler().isToolTipsEnabled();
     double gridStep = xTickSpace / chart.getSeriesMap().size();
 
-    BoxPlotDataCalculator<ST, S> boxPlotDataCalculator = new BoxPlotDataCalculator<>();
     // Calculate box plot data for all series
     List<BoxPlotData> boxPlotDataList =
         boxPlotDataCalculator.calculate(chart.getSeriesMap(), boxPlotStyler);
@@ -138,8 +138,10 @@ public class PlotContent_Bubble<ST extends BubbleStyler, S extends BubbleSeries>
                 xOffset,
                 yOffset,
                 0,
-                chart.getXAxisFormat().format(x),
-                chart.getYAxisFormat().format(yOrig));
+                x,
+                yOrig,
+                chart.getXAxisFormat(),
+                chart.getYAxisFormat());
           }
         }
       }
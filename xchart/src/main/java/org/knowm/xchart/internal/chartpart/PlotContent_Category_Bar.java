@@ -2,7 +2,6 @@ package org.knowm.xchart.internal.chartpart;
 
 import java.awt.*;
 import java.awt.font.FontRenderContext;
-import java.awt.font.TextLayout;
 import java.awt.geom.AffineTransform;
 import java.awt.geom.Line2D;
 import java.awt.geom.Path2D;
@@ -28,6 +27,11 @@ public class PlotContent_Category_Bar<ST extends CategoryStyler, S extends Categ
   private final int CHART_FORM_SPAN = 0;
   private final int CHART_FORM_POSITIVE = 1;
   private final int CHART_FORM_NEGATIVE = -1;
+
+  // reused between paints in batched rendering mode
+  private final SeriesBatch seriesBatch = new SeriesBatch();
+  private final List<Runnable> batchedLabels = new ArrayList<>();
+
   /**
    * Constructor
    *
@@ -79,6 +83,10 @@ public class PlotContent_Category_Bar<ST extends CategoryStyler, S extends Categ
     double[] accumulatedStackOffsetNeg = new double[numCategories];
     double[] accumulatedStackOffsetTotalYOffset = new double[numCategories];
 
+    SeriesBatch batch = stylerCategory.isBatchedRenderingEnabled() ? seriesBatch : null;
+    Line2D.Double line = new Line2D.Double();
+    Path2D.Double barPath = new Path2D.Double();
+
     for (S series : seriesMap.values()) {
 
       if (!series.isEnabled()) {
@@ -109,6 +117,11 @@ public class PlotContent_Category_Bar<ST extends CategoryStyler, S extends Categ
       ArrayList<Point2D.Double> steppedPath = null;
       ArrayList<Point2D.Double> steppedReturnPath = null;
 
+      if (batch != null) {
+        batch.reset();
+        batchedLabels.clear();
+      }
+
       int categoryCounter = 0;
       while (yItr.hasNext()) {
 
@@ -297,15 +310,22 @@ public class PlotContent_Category_Bar<ST extends CategoryStyler, S extends Categ
         else if (isBarStyle) {
 
           // paint bar
-          Path2D.Double path = new Path2D.Double();
+          Path2D.Double path = barPath;
+          if (batch != null) {
+            path = batch.getFillPath();
+          } else {
+            path.reset();
+          }
           path.moveTo(xOffset, yOffset);
           path.lineTo(xOffset + barWidth, yOffset);
           path.lineTo(xOffset + barWidth, zeroOffset);
           path.lineTo(xOffset, zeroOffset);
           path.closePath();
 
-          g.setColor(series.getFillColor());
-          g.fill(path);
+          if (batch == null) {
+            g.setColor(series.getFillColor());
+            g.fill(path);
+          }
 
           // TODO maybe we want outlines of the bars?
           // Legend markers now also draw the outline. It has been disabled for
@@ -328,16 +348,36 @@ public class PlotContent_Category_Bar<ST extends CategoryStyler, S extends Categ
           // }
 
           if (stylerCategory.isLabelsVisible() && next != null) {
-            drawLabels(
-                g,
-                next,
-                xOffset,
-                yOffset,
-                zeroOffset,
-                barWidth,
-                false,
-                false,
-                series.getFillColor());
+            if (batch != null) {
+              // labels have to be painted on top of the bars
+              double labelXOffset = xOffset;
+              double labelYOffset = yOffset;
+              double labelZeroOffset = zeroOffset;
+              double labelBarWidth = barWidth;
+              batchedLabels.add(
+                  () ->
+                      drawLabels(
+                          g,
+                          next,
+                          labelXOffset,
+                          labelYOffset,
+                          labelZeroOffset,
+                          labelBarWidth,
+                          false,
+                          false,
+                          series.getFillColor()));
+            } else {
+              drawLabels(
+                  g,
+                  next,
+                  xOffset,
+                  yOffset,
+                  zeroOffset,
+                  barWidth,
+                  false,
+                  false,
+                  series.getFillColor());
+            }
           }
           if (stylerCategory.isLabelsVisible()
               && stylerCategory.isShowStackSum()
@@ -347,16 +387,34 @@ public class PlotContent_Category_Bar<ST extends CategoryStyler, S extends Categ
                 accumulatedStackOffsetPos[categoryCounter - 1]
                     - accumulatedStackOffsetNeg[categoryCounter - 1];
             double totalYOffset = accumulatedStackOffsetTotalYOffset[categoryCounter - 1];
-            drawLabels(
-                g,
-                totalNext,
-                xOffset,
-                totalYOffset,
-                zeroOffset,
-                barWidth,
-                true,
-                true,
-                series.getFillColor());
+            if (batch != null) {
+              double labelXOffset = xOffset;
+              double labelZeroOffset = zeroOffset;
+              double labelBarWidth = barWidth;
+              batchedLabels.add(
+                  () ->
+                      drawLabels(
+                          g,
+                          totalNext,
+                          labelXOffset,
+                          totalYOffset,
+                          labelZeroOffset,
+                          labelBarWidth,
+                          true,
+                          true,
+                          series.getFillColor()));
+            } else {
+              drawLabels(
+                  g,
+                  totalNext,
+                  xOffset,
+                  totalYOffset,
+                  zeroOffset,
+                  barWidth,
+                  true,
+                  true,
+                  series.getFillColor());
+            }
           }
         } else if (CategorySeriesRenderStyle.Stick.equals(
             series.getChartCategorySeriesRenderStyle())) {
@@ -364,26 +422,26 @@ public class PlotContent_Category_Bar<ST extends CategoryStyler, S extends Categ
           // paint stick
           if (series.getLineStyle() != SeriesLines.NONE) {
 
-            g.setColor(series.getLineColor());
-            g.setStroke(series.getLineStyle());
-            Shape line =
-                new Line2D.Double(
-                    xOffset + barWidth / 2, zeroOffset, xOffset + barWidth / 2, yOffset);
-            g.draw(line);
+            if (batch != null) {
+              batch.addLine(xOffset + barWidth / 2, zeroOffset, xOffset + barWidth / 2, yOffset);
+            } else {
+              g.setColor(series.getLineColor());
+              g.setStroke(series.getLineStyle());
+              line.setLine(xOffset + barWidth / 2, zeroOffset, xOffset + barWidth / 2, yOffset);
+              g.draw(line);
+            }
           }
 
           // paint marker
           if (series.getMarker() != null) {
-            g.setColor(series.getMarkerColor());
-
-            if (y <= 0) {
-              series
-                  .getMarker()
-                  .paint(g, xOffset + barWidth / 2, zeroOffset, stylerCategory.getMarkerSize());
+            double markerY = y <= 0 ? zeroOffset : yOffset;
+            if (batch != null) {
+              batch.addMarker(xOffset + barWidth / 2, markerY);
             } else {
+              g.setColor(series.getMarkerColor());
               series
                   .getMarker()
-                  .paint(g, xOffset + barWidth / 2, yOffset, stylerCategory.getMarkerSize());
+                  .paint(g, xOffset + barWidth / 2, markerY, stylerCategory.getMarkerSize());
             }
           }
         } else {
@@ -394,11 +452,14 @@ public class PlotContent_Category_Bar<ST extends CategoryStyler, S extends Categ
             if (series.getLineStyle() != SeriesLines.NONE) {
 
               if (previousX != -Double.MAX_VALUE && previousY != -Double.MAX_VALUE) {
-                g.setColor(series.getLineColor());
-                g.setStroke(series.getLineStyle());
-                Shape line =
-                    new Line2D.Double(previousX, previousY, xOffset + barWidth / 2, yOffset);
-                g.draw(line);
+                if (batch != null) {
+                  batch.addLine(previousX, previousY, xOffset + barWidth / 2, yOffset);
+                } else {
+                  g.setColor(series.getLineColor());
+                  g.setStroke(series.getLineStyle());
+                  line.setLine(previousX, previousY, xOffset + barWidth / 2, yOffset);
+                  g.draw(line);
+                }
               }
             }
           }
@@ -408,8 +469,12 @@ public class PlotContent_Category_Bar<ST extends CategoryStyler, S extends Categ
 
           // paint marker
           if (series.getMarker() != null) {
-            g.setColor(series.getMarkerColor());
-            series.getMarker().paint(g, previousX, previousY, stylerCategory.getMarkerSize());
+            if (batch != null) {
+              batch.addMarker(previousX, previousY);
+            } else {
+              g.setColor(series.getMarkerColor());
+              series.getMarker().paint(g, previousX, previousY, stylerCategory.getMarkerSize());
+            }
           }
         }
 
@@ -419,14 +484,6 @@ public class PlotContent_Category_Bar<ST extends CategoryStyler, S extends Categ
 
           double eb = ebItr.next().doubleValue();
 
-          // set error bar style
-          if (stylerCategory.isErrorBarsColorSeriesColor()) {
-            g.setColor(series.getLineColor());
-          } else {
-            g.setColor(stylerCategory.getErrorBarsColor());
-          }
-          g.setStroke(ERROR_BAR_STROKE);
-
           // Top value
           if (stylerCategory.isYAxisLogarithmic()) {
             eb = Math.log10(eb);
@@ -449,16 +506,20 @@ public class PlotContent_Category_Bar<ST extends CategoryStyler, S extends Categ
 
           // Draw it
           double errorBarOffset = xOffset + barWidth / 2;
-          Shape line =
-              new Line2D.Double(errorBarOffset, topEBOffset, errorBarOffset, bottomEBOffset);
-          g.draw(line);
-          line =
-              new Line2D.Double(
-                  errorBarOffset - 3, bottomEBOffset, errorBarOffset + 3, bottomEBOffset);
-          g.draw(line);
-          line =
-              new Line2D.Double(errorBarOffset - 3, topEBOffset, errorBarOffset + 3, topEBOffset);
-          g.draw(line);
+          if (batch != null) {
+            batch.addErrorBar(errorBarOffset, topEBOffset, bottomEBOffset);
+          } else {
+            // set error bar style
+            g.setColor(getErrorBarsColor(series));
+            g.setStroke(ERROR_BAR_STROKE);
+
+            line.setLine(errorBarOffset, topEBOffset, errorBarOffset, bottomEBOffset);
+            g.draw(line);
+            line.setLine(errorBarOffset - 3, bottomEBOffset, errorBarOffset + 3, bottomEBOffset);
+            g.draw(line);
+            line.setLine(errorBarOffset - 3, topEBOffset, errorBarOffset + 3, topEBOffset);
+            g.draw(line);
+          }
         }
         // add data labels
         if (chart.getStyler().isToolTipsEnabled()) {
@@ -487,10 +548,30 @@ public class PlotContent_Category_Bar<ST extends CategoryStyler, S extends Categ
         drawStepBar(g, series, steppedPath, steppedReturnPath);
       }
 
+      if (batch != null) {
+        batch.fill(g, series.getFillColor());
+        for (Runnable label : batchedLabels) {
+          label.run();
+        }
+        batch.paintLines(g, series.getLineColor(), series.getLineStyle());
+        batch.paintMarkers(
+            g, series.getMarker(), series.getMarkerColor(), stylerCategory.getMarkerSize(), null);
+        batch.paintErrorBars(g, getErrorBarsColor(series), ERROR_BAR_STROKE);
+      }
+
       seriesCounter++;
     }
   }
 
+  private Color getErrorBarsColor(S series) {
+
+    if (stylerCategory.isErrorBarsColorSeriesColor()) {
+      return series.getLineColor();
+    } else {
+      return stylerCategory.getErrorBarsColor();
+    }
+  }
+
   private void drawStepBarLine(Graphics2D g, S series, Path2D.Double path) {
 
     if (series.getLineColor() != null) {
@@ -559,17 +640,12 @@ public class PlotContent_Category_Bar<ST extends CategoryStyler, S extends Categ
 
     String numberAsString = chart.getYAxisFormat().format(next);
 
-    TextLayout textLayout =
-        new TextLayout(
-            numberAsString,
-            stylerCategory.getLabelsFont(),
-            new FontRenderContext(null, true, false));
-
-    AffineTransform rot =
-        AffineTransform.getRotateInstance(
-            -1 * Math.toRadians(stylerCategory.getLabelsRotation()), 0, 0);
-    Shape shape = textLayout.getOutline(rot);
-    Rectangle2D labelRectangle = textLayout.getBounds();
+    FontRenderContext frc = new FontRenderContext(null, true, false);
+    Shape shape =
+        TextMetricsCache.getOutline(
+            numberAsString, stylerCategory.getLabelsFont(), frc, stylerCategory.getLabelsRotation());
+    Rectangle2D labelRectangle =
+        TextMetricsCache.getBounds(numberAsString, stylerCategory.getLabelsFont(), frc);
 
     double labelX;
     if (stylerCategory.getLabelsRotation() > 0) {
@@ -18,6 +18,8 @@ public class PlotContent_Category_Line_Area_Scatter<
     extends PlotContent_<ST, S> {
 
   private final ST categoryStyler;
+  // reused between paints while marker sprites are enabled
+  private final MarkerSprites markerSprites = new MarkerSprites();
 
   /**
    * Constructor
@@ -176,8 +178,18 @@ public class PlotContent_Category_Line_Area_Scatter<
 
         // paint marker
         if (series.getMarker() != null) {
-          g.setColor(series.getMarkerColor());
-          series.getMarker().paint(g, xOffset, yOffset, categoryStyler.getMarkerSize());
+          if (categoryStyler.isMarkerSpritesEnabled()) {
+            markerSprites.paint(
+                g,
+                series.getMarker(),
+                series.getMarkerColor(),
+                categoryStyler.getMarkerSize(),
+                xOffset,
+                yOffset);
+          } else {
+            g.setColor(series.getMarkerColor());
+            series.getMarker().paint(g, xOffset, yOffset, categoryStyler.getMarkerSize());
+          }
         }
 
         // paint error bars
@@ -2,7 +2,6 @@ package org.knowm.xchart.internal.chartpart;
 
 import java.awt.*;
 import java.awt.font.FontRenderContext;
-import java.awt.font.TextLayout;
 import java.awt.geom.AffineTransform;
 import java.awt.geom.Line2D;
 import java.awt.geom.Path2D;
@@ -88,10 +87,9 @@ public class PlotContent_Dial<ST extends DialStyler, S extends DialSeries>
         }
       }
       if (!label.isEmpty()) {
-        TextLayout textLayout =
-            new TextLayout(
+        Shape shape =
+            TextMetricsCache.getOutline(
                 label, styler.getLabelsFont(), new FontRenderContext(null, true, false));
-        Shape shape = textLayout.getOutline(null);
 
         Rectangle2D labelBounds = shape.getBounds2D();
         double labelnWidth = labelBounds.getWidth();
@@ -145,10 +143,9 @@ public class PlotContent_Dial<ST extends DialStyler, S extends DialSeries>
         }
         String labels = axisTickLabels[i];
 
-        TextLayout textLayout =
-            new TextLayout(
+        Shape shape =
+            TextMetricsCache.getOutline(
                 labels, styler.getAxisTitleFont(), new FontRenderContext(null, true, false));
-        Shape shape = textLayout.getOutline(null);
 
         Rectangle2D labelBounds = shape.getBounds2D();
         double labelWidth = labelBounds.getWidth();
@@ -204,12 +201,11 @@ public class PlotContent_Dial<ST extends DialStyler, S extends DialSeries>
 
   private void drawTitle(Graphics2D g, double yDiameter, double xCenter, double yCenter, S series) {
     if (styler.isAxisTitleVisible()) {
-      TextLayout textLayout =
-          new TextLayout(
+      Shape shape =
+          TextMetricsCache.getOutline(
               series.getName(),
               styler.getAxisTitleFont(),
               new FontRenderContext(null, true, false));
-      Shape shape = textLayout.getOutline(null);
 
       Rectangle2D labelBounds = shape.getBounds2D();
       double labelWidth = labelBounds.getWidth();
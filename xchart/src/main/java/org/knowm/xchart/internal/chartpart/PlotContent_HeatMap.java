@@ -2,23 +2,46 @@ package org.knowm.xchart.internal.chartpart;
 
 import java.awt.Color;
 import java.awt.Graphics2D;
+import java.awt.RenderingHints;
 import java.awt.font.FontRenderContext;
-import java.awt.font.TextLayout;
 import java.awt.geom.AffineTransform;
 import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
 import java.text.DecimalFormat;
+import java.util.Arrays;
 import java.util.List;
 import org.knowm.xchart.HeatMapChart;
 import org.knowm.xchart.HeatMapSeries;
 import org.knowm.xchart.internal.Utils;
 import org.knowm.xchart.style.HeatMapStyler;
+import org.knowm.xchart.style.colors.ColorLookupTable;
 
 /** @author Mr14huashao */
 public class PlotContent_HeatMap<ST extends HeatMapStyler, S extends HeatMapSeries>
     extends PlotContent_<ST, S> {
 
+  // in raster rendering, borders and tooltips are left out for cells smaller than this, in pixels
+  private static final double MIN_VISIBLE_CELL_SIZE = 3;
+
   private final ST heatMapStyler;
   private final DecimalFormat df = new DecimalFormat("");
+  private BufferedImage cellImage; // one pixel per cell, reused while the size stays the same
+
+  // the layout of the cells in the current paint
+  private int xCells;
+  private int yCells;
+  private double cellsX;
+  private double cellsY;
+  private double rectWidth;
+  private double rectHeight;
+  private boolean isRasterRendering;
+  private boolean isDrawBorder;
+  private boolean isShowValue;
+  private boolean isToolTipsEnabled;
+  private ColorLookupTable colorLookupTable;
+  private double min;
+  private double max;
 
   /**
    * Constructor
@@ -53,167 +76,159 @@ public class PlotContent_HeatMap<ST extends HeatMapStyler, S extends HeatMapSeri
       return;
     }
 
-    int x = 0;
-    int y = 0;
-    Number value = 0.0;
-    List<? extends Number[]> list = (List<? extends Number[]>) series.getHeatData();
     List<?> xData = (List<?>) series.getXData();
     List<?> yData = (List<?>) series.getYData();
     double plotContentBoundsWidth = plotContentBounds.getWidth();
     double plotContentBoundsHeight = plotContentBounds.getHeight();
-    double rectWidth = (plotContentBoundsWidth - 2 * xLeftMargin) / xData.size();
-    double rectHeight = (plotContentBoundsHeight - 2 * yTopMargin) / yData.size();
-    double xOffset = 0.0;
-    double yOffset = 0.0;
-    Rectangle2D rect = null;
-    Color heatMapValueColor = null;
-    for (Number[] numbers : list) {
-      if (numbers == null) {
-        continue;
-      }
-      x = numbers[0].intValue();
-      y = numbers[1].intValue();
-      value = numbers[2].doubleValue();
-      if (x >= xData.size() || y >= yData.size()) {
-        continue;
+    xCells = xData.size();
+    yCells = yData.size();
+    cellsX = getBounds().getX() + xLeftMargin;
+    cellsY = getBounds().getY() + yTopMargin;
+    rectWidth = (plotContentBoundsWidth - 2 * xLeftMargin) / xCells;
+    rectHeight = (plotContentBoundsHeight - 2 * yTopMargin) / yCells;
+
+    colorLookupTable = heatMapStyler.getColorLookupTable();
+    min = series.getMin();
+    max = series.getMax();
+
+    isRasterRendering = heatMapStyler.isRasterRendering();
+    boolean isCellVisible =
+        !isRasterRendering
+            || (rectWidth >= MIN_VISIBLE_CELL_SIZE && rectHeight >= MIN_VISIBLE_CELL_SIZE);
+    isDrawBorder = heatMapStyler.isDrawBorder() && isCellVisible;
+    isShowValue =
+        heatMapStyler.isShowValue()
+            && (!isRasterRendering || rectHeight >= heatMapStyler.getValueFont().getSize2D());
+    isToolTipsEnabled = heatMapStyler.isToolTipsEnabled() && isCellVisible;
+    if (isRasterRendering) {
+      drawCellImage(g, series);
+      if (!isDrawBorder && !isShowValue && !isToolTipsEnabled) {
+        return;
       }
-      xOffset = getBounds().getX() + xLeftMargin + rectWidth * x;
-      yOffset = getBounds().getY() + yTopMargin + rectHeight * (yData.size() - 1 - y);
-      rect = new Rectangle2D.Double(xOffset, yOffset, rectWidth, rectHeight);
-      heatMapValueColor = getColor(series, value.doubleValue());
-      g.setColor(heatMapValueColor);
-      g.fill(rect);
+    }
 
-      // draw rect border
-      if (heatMapStyler.isDrawBorder()) {
-        g.setColor(heatMapValueColor);
-        g.setStroke(SOLID_STROKE);
-        g.draw(rect);
+    // dense heat data, indexed directly in the order of HeatMapChart.addSeries(int[][])
+    double[] heatMatrix = series.getHeatMatrix();
+    if (heatMatrix != null) {
+      for (int x = 0; x < xCells; x++) {
+        for (int y = 0; y < yCells; y++) {
+          double value = heatMatrix[y * xCells + x];
+          if (!Double.isNaN(value)) {
+            paintCell(g, series, x, y, value);
+          }
+        }
       }
+      return;
+    }
 
-      // show heat data value
-      if (heatMapStyler.isShowValue()) {
-        showValue(g, rect, df.format(numbers[2]));
+    for (Number[] numbers : series.getHeatData()) {
+      if (numbers == null) {
+        continue;
       }
-
-      if (heatMapStyler.isToolTipsEnabled()) {
-        toolTips.addData(
-            rect,
-            rect.getCenterX(),
-            rect.getCenterY() + heatMapStyler.getToolTipFont().getSize(),
-            0,
-            series.getName()
-                + ": "
-                + chart.getXAxisFormat().format(xData.get(x))
-                + ", "
-                + chart.getYAxisFormat().format(yData.get(y))
-                + ", "
-                + df.format(numbers[2]));
+      int x = numbers[0].intValue();
+      int y = numbers[1].intValue();
+      if (x >= xCells || y >= yCells) {
+        continue;
+      }
+      double value = numbers[2].doubleValue();
+      // like in dense heat data, NaN is no value
+      if (!Double.isNaN(value)) {
+        paintCell(g, series, x, y, value);
       }
     }
   }
 
-  private Color getColor(HeatMapSeries series, double value) {
+  private void paintCell(Graphics2D g, HeatMapSeries series, int x, int y, double value) {
 
-    Color color = null;
-    Color[] rangeColors = chart.getStyler().getRangeColors();
-    double min = series.getMin();
-    double max = series.getMax();
-    if (value <= min) {
-      color = rangeColors[0];
-    } else if (value >= max) {
-      color = rangeColors[rangeColors.length - 1];
-    } else {
-      double valueRation = (value - min) / (max - min);
-      if (heatMapStyler.isPiecewise()) {
-        color = getPiecewiseColor(rangeColors, valueRation);
-      } else {
-        color = getGradientColor(rangeColors, valueRation);
-      }
+    double xOffset = cellsX + rectWidth * x;
+    double yOffset = cellsY + rectHeight * (yCells - 1 - y);
+    Rectangle2D rect = new Rectangle2D.Double(xOffset, yOffset, rectWidth, rectHeight);
+    Color heatMapValueColor = null;
+    if (!isRasterRendering || isDrawBorder) {
+      heatMapValueColor = colorLookupTable.getColor(value, min, max);
+    }
+    if (!isRasterRendering) {
+      g.setColor(heatMapValueColor);
+      g.fill(rect);
     }
-    return color;
-  }
 
-  private Color getPiecewiseColor(Color[] rangeColors, double valueRation) {
-
-    Color color = null;
-    int splitNumber = chart.getStyler().getSplitNumber();
-    int splitNumberIndex = (int) (valueRation * splitNumber);
-    for (int i = 0; i < splitNumber; i++) {
-      if (splitNumberIndex == 0) {
-        color = rangeColors[0];
-        break;
-      } else if (splitNumberIndex == splitNumber - 1) {
-        color = rangeColors[rangeColors.length - 1];
-        break;
-      } else {
-        double index = (double) i / splitNumber * rangeColors.length;
-        int beginColorIndex = (int) index;
-        int endColorIndex = 0;
-        if (rangeColors.length != 1) {
-          endColorIndex = beginColorIndex + 1;
-        } else {
-          endColorIndex = beginColorIndex;
-        }
+    // draw rect border
+    if (isDrawBorder) {
+      g.setColor(heatMapValueColor);
+      g.setStroke(SOLID_STROKE);
+      g.draw(rect);
+    }
 
-        if (splitNumberIndex == i) {
-          Color beginColor = rangeColors[beginColorIndex];
-          Color endColor = rangeColors[endColorIndex];
-          int red =
-              (int)
-                  (beginColor.getRed()
-                      + (index - (int) index) * (endColor.getRed() - beginColor.getRed()));
-          int green =
-              (int)
-                  (beginColor.getGreen()
-                      + (index - (int) index) * (endColor.getGreen() - beginColor.getGreen()));
-          int blue =
-              (int)
-                  (beginColor.getBlue()
-                      + (index - (int) index) * (endColor.getBlue() - beginColor.getBlue()));
-          color = new Color(red, green, blue);
-          break;
-        }
-      }
+    // show heat data value
+    if (isShowValue) {
+      showValue(g, rect, df.format(value));
     }
-    return color;
-  }
 
-  private Color getGradientColor(Color[] rangeColors, double valueRation) {
+    if (isToolTipsEnabled) {
+      toolTips.addData(
+          rect,
+          rect.getCenterX(),
+          rect.getCenterY() + heatMapStyler.getToolTipFont().getSize(),
+          0,
+          series.getName()
+              + ": "
+              + chart.getXAxisFormat().format(((List<?>) series.getXData()).get(x))
+              + ", "
+              + chart.getYAxisFormat().format(((List<?>) series.getYData()).get(y))
+              + ", "
+              + df.format(value));
+    }
+  }
 
-    double index = valueRation * (rangeColors.length - 1);
-    Color color = null;
-    int beginColorIndex = (int) index;
-    int endColorIndex = 0;
+  /**
+   * Writes the color of every cell into an image with one pixel per cell and draws it scaled up to
+   * the cell size, with nearest neighbour interpolation so that the cells keep their sharp edges.
+   */
+  private void drawCellImage(Graphics2D g, HeatMapSeries series) {
 
-    if (rangeColors.length != 1) {
-      endColorIndex = beginColorIndex + 1;
-    } else {
-      endColorIndex = beginColorIndex;
+    if (cellImage == null || cellImage.getWidth() != xCells || cellImage.getHeight() != yCells) {
+      cellImage = new BufferedImage(xCells, yCells, BufferedImage.TYPE_INT_ARGB);
     }
-
-    Color beginColor = rangeColors[beginColorIndex];
-    Color endColor = rangeColors[endColorIndex];
-
-    if ((int) index < rangeColors.length - 1) {
-      int red =
-          (int)
-              (beginColor.getRed()
-                  + (index - (int) index) * (endColor.getRed() - beginColor.getRed()));
-      int green =
-          (int)
-              (beginColor.getGreen()
-                  + (index - (int) index) * (endColor.getGreen() - beginColor.getGreen()));
-      int blue =
-          (int)
-              (beginColor.getBlue()
-                  + (index - (int) index) * (endColor.getBlue() - beginColor.getBlue()));
-      color = new Color(red, green, blue);
+    int[] pixels = ((DataBufferInt) cellImage.getRaster().getDataBuffer()).getData();
+    double[] heatMatrix = series.getHeatMatrix();
+    if (heatMatrix != null) {
+      // the image rows run from the top, the y indexes from the bottom
+      for (int y = 0; y < yCells; y++) {
+        int pixel = (yCells - 1 - y) * xCells;
+        for (int i = y * xCells; i < (y + 1) * xCells; i++) {
+          double value = heatMatrix[i];
+          pixels[pixel++] = Double.isNaN(value) ? 0 : colorLookupTable.getRGB(value, min, max);
+        }
+      }
     } else {
-      color = endColor;
+      // cells without data stay transparent
+      Arrays.fill(pixels, 0);
+      for (Number[] numbers : series.getHeatData()) {
+        if (numbers == null) {
+          continue;
+        }
+        int x = numbers[0].intValue();
+        int y = numbers[1].intValue();
+        double value = numbers[2].doubleValue();
+        if (x < 0 || y < 0 || x >= xCells || y >= yCells || Double.isNaN(value)) {
+          continue;
+        }
+        pixels[(yCells - 1 - y) * xCells + x] = colorLookupTable.getRGB(value, min, max);
+      }
     }
 
-    return color;
+    AffineTransform transform = AffineTransform.getTranslateInstance(cellsX, cellsY);
+    transform.scale(rectWidth, rectHeight);
+    // drawn through a copy of the graphics, which leaves the interpolation hint of g as it was,
+    // also when it wasn't set
+    Graphics2D imageGraphics = (Graphics2D) g.create();
+    try {
+      imageGraphics.setRenderingHint(
+          RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_NEAREST_NEIGHBOR);
+      imageGraphics.drawImage(cellImage, transform, null);
+    } finally {
+      imageGraphics.dispose();
+    }
   }
 
   private void showValue(Graphics2D g, Rectangle2D rect, String value) {
@@ -221,10 +236,9 @@ public class PlotContent_HeatMap<ST extends HeatMapStyler, S extends HeatMapSeri
     double rectCenterX = rect.getCenterX();
     double rectCenterY = rect.getCenterY();
 
-    TextLayout textLayout =
-        new TextLayout(
-            value, heatMapStyler.getValueFont(), new FontRenderContext(null, true, false));
-    Rectangle2D annotationRectangle = textLayout.getBounds();
+    FontRenderContext frc = new FontRenderContext(null, true, false);
+    Rectangle2D annotationRectangle =
+        TextMetricsCache.getBounds(value, heatMapStyler.getValueFont(), frc);
     g.setColor(heatMapStyler.getValueFontColor());
     AffineTransform orig = g.getTransform();
     AffineTransform at = new AffineTransform();
@@ -232,7 +246,7 @@ public class PlotContent_HeatMap<ST extends HeatMapStyler, S extends HeatMapSeri
         rectCenterX - annotationRectangle.getWidth() / 2,
         rectCenterY + annotationRectangle.getHeight() / 2);
     g.transform(at);
-    g.fill(textLayout.getOutline(null));
+    g.fill(TextMetricsCache.getOutline(value, heatMapStyler.getValueFont(), frc));
     g.setTransform(orig);
   }
 }
@@ -8,13 +8,17 @@ import java.util.Map;
 import org.knowm.xchart.OHLCSeries;
 import org.knowm.xchart.OHLCSeries.OHLCSeriesRenderStyle;
 import org.knowm.xchart.internal.Utils;
+import org.knowm.xchart.internal.series.OHLCBuckets;
 import org.knowm.xchart.style.AxesChartStyler;
+import org.knowm.xchart.style.OHLCStyler;
 import org.knowm.xchart.style.lines.SeriesLines;
 
 /** @author arthurmcgibbon */
 public class PlotContent_OHLC<ST extends AxesChartStyler, S extends OHLCSeries>
     extends PlotContent_<ST, S> {
 
+  private static final double MIN_CANDLE_HALF_WIDTH = 3;
+
   private final ST ohlcStyler;
 
   /**
@@ -156,12 +160,46 @@ public class PlotContent_OHLC<ST extends AxesChartStyler, S extends OHLCSeries>
         double[] highData = series.getHighData();
         double[] lowData = series.getLowData();
         double[] closeData = series.getCloseData();
+        long[] volumeData = series.getVolumeData();
+        int start = 0;
+        int end = xData.length;
 
         double candleHalfWidth =
-            Math.max(3, xTickSpace / xData.length / 2 - ohlcStyler.getAxisTickPadding());
+            Math.max(
+                MIN_CANDLE_HALF_WIDTH,
+                xTickSpace / xData.length / 2 - ohlcStyler.getAxisTickPadding());
         float lineWidth = Math.max(2, series.getLineStyle().getLineWidth());
 
-        for (int i = 0; i < xData.length; i++) {
+        // bars too close for their candles are painted as coarser buckets, only the visible ones
+        OHLCBuckets buckets = null;
+        if (isAggregated(series)) {
+          double minBucketPixels = 2 * (MIN_CANDLE_HALF_WIDTH + ohlcStyler.getAxisTickPadding());
+          buckets = series.getAggregatedData(xMin, xMax, xTickSpace, minBucketPixels);
+        }
+        // the candle of a bucket is painted at its centre
+        double xCentreOffset = 0;
+        if (buckets != null) {
+          xData = buckets.getXData();
+          openData = buckets.getOpenData();
+          highData = buckets.getHighData();
+          lowData = buckets.getLowData();
+          closeData = buckets.getCloseData();
+          volumeData = buckets.getVolumeData();
+          // the plot margins beside the X-Axis range are painted too
+          double xPerPixel = (xMax - xMin) / xTickSpace;
+          double bucketWidth = buckets.getBucketWidth();
+          start = buckets.getFirstIndex(xMin - xLeftMargin * xPerPixel - bucketWidth);
+          end =
+              buckets.getFirstIndex(
+                  Math.nextUp(xMin + (getBounds().getWidth() - xLeftMargin) * xPerPixel));
+          candleHalfWidth =
+              Math.max(
+                  MIN_CANDLE_HALF_WIDTH,
+                  bucketWidth / xPerPixel / 2 - ohlcStyler.getAxisTickPadding());
+          xCentreOffset = bucketWidth / 2;
+        }
+
+        for (int i = start; i < end; i++) {
 
           double x = xData[i];
           if (ohlcStyler.isXAxisLogarithmic()) {
@@ -195,7 +233,8 @@ public class PlotContent_OHLC<ST extends AxesChartStyler, S extends OHLCSeries>
             closeY = closeOrig;
           }
 
-          double xTransform = xLeftMargin + ((x - xMin) / (xMax - xMin) * xTickSpace);
+          double xTransform =
+              xLeftMargin + ((x + xCentreOffset - xMin) / (xMax - xMin) * xTickSpace);
           double openTransform =
               getBounds().getHeight() - (yTopMargin + (openY - yMin) / (yMax - yMin) * yTickSpace);
           double highTransform =
@@ -294,9 +333,9 @@ public class PlotContent_OHLC<ST extends AxesChartStyler, S extends OHLCSeries>
           if (chart.getStyler().isToolTipsEnabled()) {
 
             StringBuilder sb = new StringBuilder();
-            if (series.getVolumeData() != null) {
+            if (volumeData != null) {
               sb.append(chart.getXAxisFormat().format(x));
-              sb.append(System.lineSeparator()).append("Volume: " + series.getVolumeData()[i]);
+              sb.append(System.lineSeparator()).append("Volume: " + volumeData[i]);
               sb.append(System.lineSeparator()).append(" ").append(System.lineSeparator());
             }
             sb.append(chart.getXAxisFormat().format(x));
@@ -320,6 +359,18 @@ public class PlotContent_OHLC<ST extends AxesChartStyler, S extends OHLCSeries>
     }
   }
 
+  private boolean isAggregated(S series) {
+
+    if (ohlcStyler.isXAxisLogarithmic()) {
+      return false;
+    }
+    Boolean aggregationEnabled = series.getAggregationEnabled();
+    if (aggregationEnabled == null) {
+      aggregationEnabled = ((OHLCStyler) ohlcStyler).isAggregationEnabled();
+    }
+    return aggregationEnabled;
+  }
+
   // line chart drawing logic
   private void paintLine(Graphics2D g, S series) {}
 }
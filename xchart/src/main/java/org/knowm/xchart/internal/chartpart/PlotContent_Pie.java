@@ -2,7 +2,6 @@ package org.knowm.xchart.internal.chartpart;
 
 import java.awt.*;
 import java.awt.font.FontRenderContext;
-import java.awt.font.TextLayout;
 import java.awt.geom.*;
 import java.awt.geom.Arc2D.Double;
 import java.text.DecimalFormat;
@@ -279,10 +278,9 @@ public class PlotContent_Pie<ST extends PieStyler, S extends PieSeries>
         String name = series.getName();
 
         label = PieLabelFormat.create((PieChart) chart).format(series.getName(),y);
-        TextLayout textLayout =
-            new TextLayout(
-                label, pieStyler.getLabelsFont(), new FontRenderContext(null, true, false));
-        Rectangle2D labelRectangle = textLayout.getBounds();
+        FontRenderContext frc = new FontRenderContext(null, true, false);
+        Rectangle2D labelRectangle =
+            TextMetricsCache.getBounds(label, pieStyler.getLabelsFont(), frc);
 
         double xCenter =
             pieBounds.getX() + pieBounds.getWidth() / 2 - labelRectangle.getWidth() / 2;
@@ -299,7 +297,7 @@ public class PlotContent_Pie<ST extends PieStyler, S extends PieSeries>
                     * (pieBounds.getHeight() / 2 * pieStyler.getLabelsDistance());
 
         // get annotation width
-        Shape shape = textLayout.getOutline(null);
+        Shape shape = TextMetricsCache.getOutline(label, pieStyler.getLabelsFont(), frc);
         Rectangle2D labelBounds = shape.getBounds2D();
         double labelWidth = labelBounds.getWidth();
         // System.out.println("annotationWidth= " + annotationWidth);
@@ -417,13 +415,12 @@ public class PlotContent_Pie<ST extends PieStyler, S extends PieSeries>
               ? df.format(total)
               : String.format(pieStyler.getSumFormat(), total);
 
-      TextLayout textLayout =
-          new TextLayout(label, pieStyler.getSumFont(), new FontRenderContext(null, true, false));
-      Shape shape = textLayout.getOutline(null);
+      FontRenderContext frc = new FontRenderContext(null, true, false);
+      Shape shape = TextMetricsCache.getOutline(label, pieStyler.getSumFont(), frc);
       g.setColor(pieStyler.getChartFontColor());
 
       // compute center
-      Rectangle2D labelRectangle = textLayout.getBounds();
+      Rectangle2D labelRectangle = TextMetricsCache.getBounds(label, pieStyler.getSumFont(), frc);
       double xCenter = pieBounds.getX() + pieBounds.getWidth() / 2 - labelRectangle.getWidth() / 2;
       double yCenter =
           pieBounds.getY() + pieBounds.getHeight() / 2 + labelRectangle.getHeight() / 2;
@@ -3,7 +3,6 @@ package org.knowm.xchart.internal.chartpart;
 import java.awt.Graphics2D;
 import java.awt.Shape;
 import java.awt.font.FontRenderContext;
-import java.awt.font.TextLayout;
 import java.awt.geom.AffineTransform;
 import java.awt.geom.Ellipse2D;
 import java.awt.geom.Line2D;
@@ -20,7 +19,8 @@ public class PlotContent_Radar<ST extends RadarStyler, S extends RadarSeries>
     extends PlotContent_<ST, S> {
 
   private final RadarStyler styler;
-  private static final NumberFormat df = DecimalFormat.getPercentInstance();
+  // NumberFormat is not thread-safe, so every chart gets its own instance
+  private final NumberFormat df = DecimalFormat.getPercentInstance();
 
   /**
    * Constructor
@@ -97,10 +97,9 @@ public class PlotContent_Radar<ST extends RadarStyler, S extends RadarSeries>
       if (styler.isRadiiTitleVisible()) {
 
         String radiiLabel = radiiLabels[i];
-        TextLayout textLayout =
-            new TextLayout(
+        Shape shape =
+            TextMetricsCache.getOutline(
                 radiiLabel, styler.getRadiiTitleFont(), new FontRenderContext(null, true, false));
-        Shape shape = textLayout.getOutline(null);
         Rectangle2D labelBounds = shape.getBounds2D();
         double labelWidth = labelBounds.getWidth();
         double labelHeight = labelBounds.getHeight();
@@ -1,5 +1,6 @@
 package org.knowm.xchart.internal.chartpart;
 
+import java.awt.Color;
 import java.awt.Graphics2D;
 import java.awt.geom.Line2D;
 import java.awt.geom.Path2D;
@@ -8,8 +9,10 @@ import java.util.Map;
 import org.knowm.xchart.XYSeries;
 import org.knowm.xchart.XYSeries.XYSeriesRenderStyle;
 import org.knowm.xchart.internal.Utils;
+import org.knowm.xchart.internal.series.SeriesDataView;
 import org.knowm.xchart.style.XYStyler;
 import org.knowm.xchart.style.lines.SeriesLines;
+import org.knowm.xchart.style.markers.None;
 
 /** @author timmolter */
 public class PlotContent_XY<ST extends XYStyler, S extends XYSeries> extends PlotContent_<ST, S> {
@@ -18,6 +21,11 @@ public class PlotContent_XY<ST extends XYStyler, S extends XYSeries> extends Plo
 
   Cursor cursor;
 
+  // reused between paints in batched rendering mode
+  private final SeriesBatch seriesBatch = new SeriesBatch();
+  // reused between paints while marker sprites are enabled
+  private final MarkerSprites markerSprites = new MarkerSprites();
+
   /**
    * Constructor
    *
@@ -53,6 +61,24 @@ public class PlotContent_XY<ST extends XYStyler, S extends XYSeries> extends Plo
 
     Map<String, S> map = chart.getSeriesMap();
 
+    SeriesBatch batch = xyStyler.isBatchedRenderingEnabled() ? seriesBatch : null;
+    MarkerSprites sprites = xyStyler.isMarkerSpritesEnabled() ? markerSprites : null;
+
+    // the tool tip and cursor labels are only formatted when shown, with the formats of this paint
+    Format toolTipXFormat = null;
+    if (xyStyler.isToolTipsEnabled()) {
+      toolTipXFormat = chart.getXAxisFormat();
+    }
+    Format cursorXFormat = null;
+    if (xyStyler.isCursorEnabled()) {
+      cursor.clearData();
+      if (xyStyler.getCustomCursorXDataFormattingFunction() == null) {
+        cursorXFormat = chart.getXAxisFormat();
+      } else {
+        cursorXFormat = new Formatter_Custom(xyStyler.getCustomCursorXDataFormattingFunction());
+      }
+    }
+
     for (S series : map.values()) {
 
       if (!series.isEnabled()) {
@@ -66,9 +92,28 @@ public class PlotContent_XY<ST extends XYStyler, S extends XYSeries> extends Plo
         yMax = Math.log10(yMax);
       }
 
+      Format toolTipYFormat = null;
+      if (xyStyler.isToolTipsEnabled()) {
+        toolTipYFormat = chart.getYAxisFormat(series.getYAxisDecimalPattern());
+      }
+      Format cursorYFormat = null;
+      if (xyStyler.isCursorEnabled()) {
+        if (xyStyler.getCustomCursorYDataFormattingFunction() == null) {
+          cursorYFormat = chart.getYAxisFormat(series.getYAxisDecimalPattern());
+        } else {
+          cursorYFormat = new Formatter_Custom(xyStyler.getCustomCursorYDataFormattingFunction());
+        }
+      }
+
       // data points
-      double[] xData = series.getXData();
-      double[] yData = series.getYData();
+      // the visible range of the data, not copied when zoomed in. Read from one view of the data,
+      // which stays consistent if the series is updated by another thread meanwhile, and which is
+      // the one the axes were calculated from
+      SeriesDataView dataView = series.getPaintDataView();
+      double[] xData = dataView.getXDataView();
+      double[] yData = dataView.getYDataView();
+      int start = dataView.getViewStart();
+      int end = dataView.getViewEnd();
 
       double previousX = -Double.MAX_VALUE;
       double previousY = -Double.MAX_VALUE;
@@ -77,18 +122,44 @@ public class PlotContent_XY<ST extends XYStyler, S extends XYSeries> extends Plo
       double polygonStartX = -Double.MAX_VALUE;
       double polygonStartY = -Double.MAX_VALUE;
 
-      double[] errorBars = series.getExtraValues();
+      double[] errorBars = dataView.getExtraValuesView();
       Path2D.Double path = null;
       // smooth curve
       Path2D.Double smoothPath = null;
 
+      if (batch != null) {
+        batch.reset();
+      }
+
       // for area charts
       double yZeroTransform =
           getBounds().getHeight() - (yTopMargin + (0 - yMin) / (yMax - yMin) * yTickSpace);
       double yZeroOffset = yZeroTransform + getBounds().getY();
 
-      for (int i = 0; i < xData.length; i++) {
+      // reduce the data to the points that are visible at the current resolution
+      int[] indices = null;
+      boolean isReducible = isReducible(series, errorBars);
+      if (isReducible && !xyStyler.isXAxisLogarithmic()) {
+        indices = series.getLevelOfDetailIndices(dataView, xTickSpace);
+      }
+      if (indices == null && isReducible && isDecimated(series)) {
+        indices =
+            M4Decimator.decimate(
+                xData,
+                yData,
+                start,
+                end,
+                xyStyler.isXAxisLogarithmic(),
+                xMin,
+                xMax,
+                getBounds().getX() + xLeftMargin,
+                xTickSpace);
+      }
+      int length = indices == null ? end - start : indices.length;
 
+      for (int j = 0; j < length; j++) {
+
+        int i = indices == null ? start + j : indices[j];
         double x = xData[i];
         // System.out.println(x);
         if (xyStyler.isXAxisLogarithmic()) {
@@ -99,6 +170,10 @@ public class PlotContent_XY<ST extends XYStyler, S extends XYSeries> extends Plo
         double next = yData[i];
         if (Double.isNaN(next)) {
 
+          if (batch != null) {
+            paintBatch(g, series, batch);
+          }
+
           // for area charts
           g.setColor(series.getFillColor());
           closePathXY(g, path, previousX, yZeroOffset, polygonStartX, polygonStartY);
@@ -164,8 +239,10 @@ public class PlotContent_XY<ST extends XYStyler, S extends XYSeries> extends Plo
           if (series.getLineStyle() != SeriesLines.NONE) {
 
             if (previousX != -Double.MAX_VALUE && previousY != -Double.MAX_VALUE) {
-              g.setColor(series.getLineColor());
-              g.setStroke(series.getLineStyle());
+              if (batch == null) {
+                g.setColor(series.getLineColor());
+                g.setStroke(series.getLineStyle());
+              }
               if (isSeriesLineOrArea) {
                 if (series.isSmooth()) {
                   if (smoothPath == null) {
@@ -180,17 +257,14 @@ public class PlotContent_XY<ST extends XYStyler, S extends XYSeries> extends Plo
                       xOffset,
                       yOffset);
                 } else {
-                  line.setLine(previousX, previousY, xOffset, yOffset);
-                  g.draw(line);
+                  drawLine(g, batch, line, previousX, previousY, xOffset, yOffset);
                 }
               } else {
                 if (previousX != xOffset) {
-                  line.setLine(previousX, previousY, xOffset, previousY);
-                  g.draw(line);
+                  drawLine(g, batch, line, previousX, previousY, xOffset, previousY);
                 }
                 if (previousY != yOffset) {
-                  line.setLine(xOffset, previousY, xOffset, yOffset);
-                  g.draw(line);
+                  drawLine(g, batch, line, xOffset, previousY, xOffset, yOffset);
                 }
               }
             }
@@ -247,8 +321,20 @@ public class PlotContent_XY<ST extends XYStyler, S extends XYSeries> extends Plo
 
         // paint marker
         if (series.getMarker() != null) {
-          g.setColor(series.getMarkerColor());
-          series.getMarker().paint(g, xOffset, yOffset, xyStyler.getMarkerSize());
+          if (batch != null) {
+            batch.addMarker(xOffset, yOffset);
+          } else if (sprites != null) {
+            sprites.paint(
+                g,
+                series.getMarker(),
+                series.getMarkerColor(),
+                xyStyler.getMarkerSize(),
+                xOffset,
+                yOffset);
+          } else {
+            g.setColor(series.getMarkerColor());
+            series.getMarker().paint(g, xOffset, yOffset, xyStyler.getMarkerSize());
+          }
         }
 
         // paint error bars
@@ -256,14 +342,6 @@ public class PlotContent_XY<ST extends XYStyler, S extends XYSeries> extends Plo
 
           double eb = errorBars[i];
 
-          // set error bar style
-          if (xyStyler.isErrorBarsColorSeriesColor()) {
-            g.setColor(series.getLineColor());
-          } else {
-            g.setColor(xyStyler.getErrorBarsColor());
-          }
-          g.setStroke(ERROR_BAR_STROKE);
-
           // Top value
           double topValue;
           if (xyStyler.isYAxisLogarithmic()) {
@@ -292,38 +370,30 @@ public class PlotContent_XY<ST extends XYStyler, S extends XYSeries> extends Plo
           double bottomEBOffset = getBounds().getY() + bottomEBTransform;
 
           // Draw it
-          line.setLine(xOffset, topEBOffset, xOffset, bottomEBOffset);
-          g.draw(line);
-          line.setLine(xOffset - 3, bottomEBOffset, xOffset + 3, bottomEBOffset);
-          g.draw(line);
-          line.setLine(xOffset - 3, topEBOffset, xOffset + 3, topEBOffset);
-          g.draw(line);
+          if (batch != null) {
+            batch.addErrorBar(xOffset, topEBOffset, bottomEBOffset);
+          } else {
+            // set error bar style
+            g.setColor(getErrorBarsColor(series));
+            g.setStroke(ERROR_BAR_STROKE);
+
+            line.setLine(xOffset, topEBOffset, xOffset, bottomEBOffset);
+            g.draw(line);
+            line.setLine(xOffset - 3, bottomEBOffset, xOffset + 3, bottomEBOffset);
+            g.draw(line);
+            line.setLine(xOffset - 3, topEBOffset, xOffset + 3, topEBOffset);
+            g.draw(line);
+          }
         }
 
         // add tooltips
         if (chart.getStyler().isToolTipsEnabled()) {
-          toolTips.addData(
-              xOffset,
-              yOffset,
-              chart.getXAxisFormat().format(x),
-              chart.getYAxisFormat(series.getYAxisDecimalPattern()).format(yOrig));
+          toolTips.addData(xOffset, yOffset, x, yOrig, toolTipXFormat, toolTipYFormat);
         }
 
         if (xyStyler.isCursorEnabled()) {
-          Format xFormat;
-          Format yFormat;
-          if (xyStyler.getCustomCursorXDataFormattingFunction() == null) {
-            xFormat = chart.getXAxisFormat();
-          } else {
-            xFormat = new Formatter_Custom(xyStyler.getCustomCursorXDataFormattingFunction());
-          }
-          if (xyStyler.getCustomCursorYDataFormattingFunction() == null) {
-            yFormat = chart.getYAxisFormat(series.getYAxisDecimalPattern());
-          } else {
-            yFormat = new Formatter_Custom(xyStyler.getCustomCursorYDataFormattingFunction());
-          }
           cursor.addData(
-              xOffset, yOffset, xFormat.format(x), yFormat.format(yOrig), series.getName());
+              xOffset, yOffset, x, yOrig, cursorXFormat, cursorYFormat, series.getName());
         }
       }
 
@@ -332,6 +402,9 @@ public class PlotContent_XY<ST extends XYStyler, S extends XYSeries> extends Plo
         g.setStroke(series.getLineStyle());
         g.draw(smoothPath);
       }
+      if (batch != null) {
+        paintBatch(g, series, batch);
+      }
       // close any open path for area charts
       g.setColor(series.getFillColor());
       closePathXY(g, path, previousX, yZeroOffset, polygonStartX, polygonStartY);
@@ -341,6 +414,81 @@ public class PlotContent_XY<ST extends XYStyler, S extends XYSeries> extends Plo
     }
   }
 
+  private boolean isDecimated(S series) {
+
+    Boolean decimationEnabled = series.getDecimationEnabled();
+    if (decimationEnabled == null) {
+      decimationEnabled = xyStyler.isDecimationEnabled();
+    }
+    return decimationEnabled;
+  }
+
+  /**
+   * Only the outline of line-like series survives reducing the data to min/max points. Series
+   * painting something at every point, like markers, error bars, tool tips or cursor points, keep
+   * all of them.
+   */
+  private boolean isReducible(S series, double[] errorBars) {
+
+    if (series.isSmooth()
+        || errorBars != null
+        || (series.getMarker() != null && !(series.getMarker() instanceof None))
+        || xyStyler.isToolTipsEnabled()
+        || xyStyler.isCursorEnabled()) {
+      return false;
+    }
+    XYSeriesRenderStyle renderStyle = series.getXYSeriesRenderStyle();
+    return XYSeriesRenderStyle.Line == renderStyle
+        || XYSeriesRenderStyle.Area == renderStyle
+        || XYSeriesRenderStyle.Step == renderStyle
+        || XYSeriesRenderStyle.StepArea == renderStyle;
+  }
+
+  /** Draws a line segment directly, or adds it to the batch in batched rendering mode. */
+  private void drawLine(
+      Graphics2D g,
+      SeriesBatch batch,
+      Line2D.Double line,
+      double x1,
+      double y1,
+      double x2,
+      double y2) {
+
+    if (batch != null) {
+      batch.addLine(x1, y1, x2, y2);
+    } else {
+      line.setLine(x1, y1, x2, y2);
+      g.draw(line);
+    }
+  }
+
+  /**
+   * Paints the lines, markers and error bars collected since the last call in batched rendering
+   * mode. This happens at every gap in the data, so that the fill of an area chart is painted on
+   * top of its lines just like when drawing the segments one by one.
+   */
+  private void paintBatch(Graphics2D g, S series, SeriesBatch batch) {
+
+    batch.paintLines(g, series.getLineColor(), series.getLineStyle());
+    batch.paintMarkers(
+        g,
+        series.getMarker(),
+        series.getMarkerColor(),
+        xyStyler.getMarkerSize(),
+        xyStyler.isMarkerSpritesEnabled() ? markerSprites : null);
+    batch.paintErrorBars(g, getErrorBarsColor(series), ERROR_BAR_STROKE);
+    batch.reset();
+  }
+
+  private Color getErrorBarsColor(S series) {
+
+    if (xyStyler.isErrorBarsColorSeriesColor()) {
+      return series.getLineColor();
+    } else {
+      return xyStyler.getErrorBarsColor();
+    }
+  }
+
   void closePathXY(
       Graphics2D g,
       Path2D.Double path,
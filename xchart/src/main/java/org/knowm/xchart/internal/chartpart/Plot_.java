@@ -30,12 +30,12 @@ public class Plot_<ST extends Styler, S extends Series> implements ChartPart {
     // g.setColor(Color.red);
     // g.draw(bounds);
 
-    plotSurface.paint(graphic);
+    plotSurface.paint(chart.getLayerGraphics(ChartLayers.Layer.BACKGROUND, graphic));
     // TODO is this necessary>??
     if (chart.getSeriesMap().isEmpty()) {
       return;
     }
-    plotContent.paint(graphic);
+    plotContent.paint(chart.getLayerGraphics(ChartLayers.Layer.PLOT_CONTENT, graphic));
   }
 
   @Override
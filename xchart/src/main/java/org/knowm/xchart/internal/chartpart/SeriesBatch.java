@@ -0,0 +1,144 @@
+package org.knowm.xchart.internal.chartpart;
+
+import java.awt.BasicStroke;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.geom.Line2D;
+import java.awt.geom.Path2D;
+import java.util.Arrays;
+import org.knowm.xchart.style.markers.Marker;
+
+/**
+ * Collects the geometry of a series while the plot content iterates over its data, so that all
+ * lines and all filled shapes of the series can each be painted with a single draw call. Every line
+ * segment starts a new sub path, which gives the stroked outline the same caps as drawing each
+ * segment on its own. It covers the same pixels, but blends pixels covered by several segments only
+ * once, which only shows with antialiasing or translucent colors. Markers and error bars are
+ * buffered as coordinates and painted after the lines, in the same order in which they were added.
+ */
+class SeriesBatch {
+
+  private final Path2D.Double linePath = new Path2D.Double();
+  private final Path2D.Double fillPath = new Path2D.Double();
+  private final Line2D.Double line = new Line2D.Double();
+
+  // x, y per marker
+  private double[] markers = new double[64];
+  private int markerCount;
+
+  // x, top y, bottom y per error bar
+  private double[] errorBars = new double[96];
+  private int errorBarCount;
+
+  /** Clears all collected geometry but keeps the allocated buffers. */
+  void reset() {
+
+    linePath.reset();
+    fillPath.reset();
+    markerCount = 0;
+    errorBarCount = 0;
+  }
+
+  void addLine(double x1, double y1, double x2, double y2) {
+
+    linePath.moveTo(x1, y1);
+    linePath.lineTo(x2, y2);
+  }
+
+  Path2D.Double getFillPath() {
+
+    return fillPath;
+  }
+
+  void addMarker(double x, double y) {
+
+    if (markerCount * 2 == markers.length) {
+      markers = Arrays.copyOf(markers, markers.length * 2);
+    }
+    markers[markerCount * 2] = x;
+    markers[markerCount * 2 + 1] = y;
+    markerCount++;
+  }
+
+  void addErrorBar(double x, double topY, double bottomY) {
+
+    if (errorBarCount * 3 == errorBars.length) {
+      errorBars = Arrays.copyOf(errorBars, errorBars.length * 2);
+    }
+    errorBars[errorBarCount * 3] = x;
+    errorBars[errorBarCount * 3 + 1] = topY;
+    errorBars[errorBarCount * 3 + 2] = bottomY;
+    errorBarCount++;
+  }
+
+  void fill(Graphics2D g, Color fillColor) {
+
+    if (fillPath.getCurrentPoint() != null) {
+      g.setColor(fillColor);
+      g.fill(fillPath);
+    }
+  }
+
+  void paintLines(Graphics2D g, Color lineColor, BasicStroke lineStroke) {
+
+    if (linePath.getCurrentPoint() != null) {
+      g.setColor(lineColor);
+      g.setStroke(lineStroke);
+      g.draw(linePath);
+    }
+  }
+
+  /**
+   * Paints the markers, or stamps them if markerSprites isn't null and the graphics allow it
+   *
+   * @param g
+   * @param marker
+   * @param markerColor
+   * @param markerSize
+   * @param markerSprites or null
+   */
+  void paintMarkers(
+      Graphics2D g,
+      Marker marker,
+      Color markerColor,
+      int markerSize,
+      MarkerSprites markerSprites) {
+
+    if (markerCount > 0) {
+      g.setColor(markerColor);
+      if (markerSprites != null && markerSprites.begin(g, marker, markerColor, markerSize)) {
+        for (int i = 0; i < markerCount; i++) {
+          markerSprites.stamp(markers[i * 2], markers[i * 2 + 1]);
+        }
+        markerSprites.end();
+        return;
+      }
+      for (int i = 0; i < markerCount; i++) {
+        marker.paint(g, markers[i * 2], markers[i * 2 + 1], markerSize);
+      }
+    }
+  }
+
+  /**
+   * Error bars are thin lines, which Java2D rasterizes differently as part of a path than on their
+   * own, so they are still drawn one by one.
+   */
+  void paintErrorBars(Graphics2D g, Color errorBarsColor, BasicStroke errorBarsStroke) {
+
+    if (errorBarCount > 0) {
+      g.setColor(errorBarsColor);
+      g.setStroke(errorBarsStroke);
+      for (int i = 0; i < errorBarCount; i++) {
+        double x = errorBars[i * 3];
+        double topY = errorBars[i * 3 + 1];
+        double bottomY = errorBars[i * 3 + 2];
+        line.setLine(x, topY, x, bottomY);
+        g.draw(line);
+        line.setLine(x - 3, bottomY, x + 3, bottomY);
+        g.draw(line);
+        line.setLine(x - 3, topY, x + 3, topY);
+        g.draw(line);
+      }
+    }
+  }
+}
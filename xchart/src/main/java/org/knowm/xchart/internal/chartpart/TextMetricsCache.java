@@ -0,0 +1,249 @@
+package org.knowm.xchart.internal.chartpart;
+
+import java.awt.Font;
+import java.awt.Shape;
+import java.awt.font.FontRenderContext;
+import java.awt.font.TextLayout;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.Rectangle2D;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A bounded, thread-safe cache of the bounds and outlines of text, keyed by the string, font and
+ * FontRenderContext. Creating a TextLayout shapes the glyphs of the whole string, which is by far
+ * the most expensive part of measuring labels, and the same labels are measured several times per
+ * paint and again on every repaint.
+ *
+ * <p>Charts painted on several threads look up text without locking. Entries are kept in two
+ * generations: once the current one is full, it becomes the previous one and the entries not used
+ * since are dropped with the generation before it. Entries found in the previous generation move
+ * to the current one, so the cache holds about MAX_ENTRIES at most and keeps the text in use.
+ *
+ * <p>The returned outlines are shared and must not be modified.
+ */
+public final class TextMetricsCache {
+
+  static final int MAX_ENTRIES = 2048;
+
+  private static volatile Map<Key, Entry> currentEntries = new ConcurrentHashMap<>();
+  private static volatile Map<Key, Entry> previousEntries = new ConcurrentHashMap<>();
+
+  private static final AtomicLong hitCount = new AtomicLong();
+  private static final AtomicLong missCount = new AtomicLong();
+
+  /** Constructor - Private constructor to prevent instantiation */
+  private TextMetricsCache() {}
+
+  /**
+   * @param text
+   * @param font
+   * @param frc
+   * @return the same as new TextLayout(text, font, frc).getBounds()
+   */
+  public static Rectangle2D getBounds(String text, Font font, FontRenderContext frc) {
+
+    return (Rectangle2D) getEntry(text, font, frc).getBounds().clone();
+  }
+
+  /**
+   * @param text
+   * @param font
+   * @param frc
+   * @return the same as new TextLayout(text, font, frc).getOutline(null)
+   */
+  public static Shape getOutline(String text, Font font, FontRenderContext frc) {
+
+    return getEntry(text, font, frc).getOutline(0);
+  }
+
+  /**
+   * @param text
+   * @param font
+   * @param frc
+   * @param rotation the rotation in degrees, counterclockwise like the label rotations of the
+   *     stylers
+   * @return the same as new TextLayout(text, font, frc).getOutline(rotateInstance(-rotation))
+   */
+  public static Shape getOutline(String text, Font font, FontRenderContext frc, double rotation) {
+
+    return getEntry(text, font, frc).getOutline(rotation);
+  }
+
+  public static long getHitCount() {
+
+    return hitCount.get();
+  }
+
+  public static long getMissCount() {
+
+    return missCount.get();
+  }
+
+  /** Removes all entries and resets the hit and miss counts. */
+  public static synchronized void clear() {
+
+    previousEntries = new ConcurrentHashMap<>();
+    currentEntries = new ConcurrentHashMap<>();
+    hitCount.set(0);
+    missCount.set(0);
+  }
+
+  /** @return the number of cached texts */
+  static int size() {
+
+    return currentEntries.size() + previousEntries.size();
+  }
+
+  private static Entry getEntry(String text, Font font, FontRenderContext frc) {
+
+    if (text == null) {
+      throw new IllegalArgumentException("Text must not be null!!!");
+    }
+    Key key = new Key(text, font, frc);
+    Map<Key, Entry> entries = currentEntries;
+    Entry entry = entries.get(key);
+    if (entry != null) {
+      hitCount.incrementAndGet();
+      return entry;
+    }
+    entry = previousEntries.get(key);
+    if (entry != null) {
+      hitCount.incrementAndGet();
+    } else {
+      missCount.incrementAndGet();
+      entry = new Entry(key);
+    }
+    // threads racing for the same text may each create an entry, the last one is kept
+    entries.put(key, entry);
+    if (entries.size() >= MAX_ENTRIES / 2) {
+      nextGeneration(entries);
+    }
+    return entry;
+  }
+
+  private static synchronized void nextGeneration(Map<Key, Entry> fullEntries) {
+
+    // another thread may have started the next generation already
+    if (currentEntries == fullEntries) {
+      previousEntries = fullEntries;
+      currentEntries = new ConcurrentHashMap<>();
+    }
+  }
+
+  /**
+   * The metrics of one text, computed when first needed. Once computed they are read without
+   * locking, the TextLayout is only used while holding the lock of its entry.
+   */
+  private static class Entry {
+
+    private final Key key;
+
+    private TextLayout textLayout;
+    private volatile Rectangle2D bounds;
+    private volatile Shape outline;
+    // labels are rotated by the same angle on every paint, so one rotated outline is enough
+    private volatile RotatedOutline rotatedOutline;
+
+    private Entry(Key key) {
+
+      this.key = key;
+    }
+
+    private TextLayout getTextLayout() {
+
+      if (textLayout == null) {
+        textLayout = new TextLayout(key.text, key.font, key.frc);
+      }
+      return textLayout;
+    }
+
+    Rectangle2D getBounds() {
+
+      Rectangle2D rectangle = bounds;
+      if (rectangle == null) {
+        synchronized (this) {
+          if (bounds == null) {
+            bounds = getTextLayout().getBounds();
+          }
+          rectangle = bounds;
+        }
+      }
+      return rectangle;
+    }
+
+    Shape getOutline(double rotation) {
+
+      if (rotation == 0) {
+        Shape shape = outline;
+        if (shape == null) {
+          synchronized (this) {
+            if (outline == null) {
+              outline = getTextLayout().getOutline(null);
+            }
+            shape = outline;
+          }
+        }
+        return shape;
+      }
+      RotatedOutline rotated = rotatedOutline;
+      if (rotated == null || rotated.rotation != rotation) {
+        synchronized (this) {
+          rotated = rotatedOutline;
+          if (rotated == null || rotated.rotation != rotation) {
+            rotated =
+                new RotatedOutline(
+                    rotation,
+                    getTextLayout()
+                        .getOutline(AffineTransform.getRotateInstance(-Math.toRadians(rotation))));
+            rotatedOutline = rotated;
+          }
+        }
+      }
+      return rotated.outline;
+    }
+  }
+
+  private static class RotatedOutline {
+
+    private final double rotation;
+    private final Shape outline;
+
+    private RotatedOutline(double rotation, Shape outline) {
+
+      this.rotation = rotation;
+      this.outline = outline;
+    }
+  }
+
+  private static class Key {
+
+    private final String text;
+    private final Font font;
+    private final FontRenderContext frc;
+
+    private Key(String text, Font font, FontRenderContext frc) {
+
+      this.text = text;
+      this.font = font;
+      this.frc = frc;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+
+      if (!(o instanceof Key)) {
+        return false;
+      }
+      Key key = (Key) o;
+      return text.equals(key.text) && font.equals(key.font) && frc.equals(key.frc);
+    }
+
+    @Override
+    public int hashCode() {
+
+      return (text.hashCode() * 31 + font.hashCode()) * 31 + frc.hashCode();
+    }
+  }
+}
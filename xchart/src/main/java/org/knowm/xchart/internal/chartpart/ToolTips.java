@@ -6,11 +6,12 @@ import java.awt.Shape;
 import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
 import java.awt.font.FontRenderContext;
-import java.awt.font.TextLayout;
 import java.awt.geom.AffineTransform;
 import java.awt.geom.Ellipse2D;
 import java.awt.geom.Rectangle2D;
+import java.text.Format;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 import org.knowm.xchart.style.BoxStyler;
@@ -33,6 +34,20 @@ public class ToolTips extends MouseAdapter implements ChartPart {
   private final List<ToolTip> toolTipList = new ArrayList<>();
   private ToolTip tooltip = null;
 
+  // uniform grid over the bounds of the tool tip shapes, built on the first mouse move after a paint.
+  // The indices of the tool tips overlapping cell c are cellToolTips[cellStart[c]] to
+  // cellToolTips[cellStart[c + 1] - 1], in the order of toolTipList.
+  private static final int MAX_GRID_SIZE = 256;
+  private boolean isGridValid;
+  private double gridX;
+  private double gridY;
+  private double cellWidth;
+  private double cellHeight;
+  private int columns;
+  private int rows;
+  private int[] cellStart = new int[0];
+  private int[] cellToolTips = new int[0];
+
   /**
    * Constructor
    *
@@ -81,18 +96,101 @@ public class ToolTips extends MouseAdapter implements ChartPart {
     }
   }
 
-  private ToolTip getSelectedTooltip(int x, int y) {
+  ToolTip getSelectedTooltip(int x, int y) {
 
-    // find the datapoint based on the mouse location
-    ToolTip newPoint = null;
-    for (ToolTip tooltip : toolTipList) {
+    if (!isGridValid) {
+      buildGrid();
+    }
+    if (toolTipList.isEmpty()
+        || x < gridX
+        || y < gridY
+        || x > gridX + columns * cellWidth
+        || y > gridY + rows * cellHeight) {
+      return null;
+    }
+
+    // find the datapoint based on the mouse location, only the tool tips whose bounds overlap the
+    // grid cell under the mouse can contain it
+    int cell = getRow(y) * columns + getColumn(x);
+    for (int i = cellStart[cell]; i < cellStart[cell + 1]; i++) {
+      ToolTip tooltip = toolTipList.get(cellToolTips[i]);
       if (tooltip.shape.contains(x, y)) {
-        newPoint = tooltip;
-        break;
+        return tooltip;
       }
     }
-    //    System.out.println("newPoint = " + newPoint);
-    return newPoint;
+    return null;
+  }
+
+  /** Sorts the tool tips into the cells of a uniform grid, each cell holding about one tool tip. */
+  private void buildGrid() {
+
+    isGridValid = true;
+    int size = toolTipList.size();
+    if (size == 0) {
+      return;
+    }
+
+    Rectangle2D[] toolTipBounds = new Rectangle2D[size];
+    Rectangle2D gridBounds = null;
+    for (int i = 0; i < size; i++) {
+      toolTipBounds[i] = toolTipList.get(i).shape.getBounds2D();
+      if (gridBounds == null) {
+        gridBounds = toolTipBounds[i].getBounds2D();
+      } else {
+        gridBounds.add(toolTipBounds[i]);
+      }
+    }
+
+    double aspectRatio = Math.max(gridBounds.getWidth(), 1) / Math.max(gridBounds.getHeight(), 1);
+    columns = (int) Math.max(1, Math.min(MAX_GRID_SIZE, Math.ceil(Math.sqrt(size * aspectRatio))));
+    rows = (int) Math.max(1, Math.min(MAX_GRID_SIZE, Math.ceil(size / (double) columns)));
+    gridX = gridBounds.getX();
+    gridY = gridBounds.getY();
+    cellWidth = Math.max(gridBounds.getWidth(), 1) / columns;
+    cellHeight = Math.max(gridBounds.getHeight(), 1) / rows;
+
+    // count the tool tips per cell, then fill the cells
+    if (cellStart.length < columns * rows + 1) {
+      cellStart = new int[columns * rows + 1];
+    } else {
+      Arrays.fill(cellStart, 0);
+    }
+    for (Rectangle2D bounds : toolTipBounds) {
+      for (int row = getRow(bounds.getMinY()); row <= getRow(bounds.getMaxY()); row++) {
+        for (int column = getColumn(bounds.getMinX());
+            column <= getColumn(bounds.getMaxX());
+            column++) {
+          cellStart[row * columns + column + 1]++;
+        }
+      }
+    }
+    for (int cell = 0; cell < columns * rows; cell++) {
+      cellStart[cell + 1] += cellStart[cell];
+    }
+    if (cellToolTips.length < cellStart[columns * rows]) {
+      cellToolTips = new int[cellStart[columns * rows]];
+    }
+    int[] cellFill = Arrays.copyOf(cellStart, columns * rows);
+    for (int i = 0; i < size; i++) {
+      Rectangle2D bounds = toolTipBounds[i];
+      for (int row = getRow(bounds.getMinY()); row <= getRow(bounds.getMaxY()); row++) {
+        for (int column = getColumn(bounds.getMinX());
+            column <= getColumn(bounds.getMaxX());
+            column++) {
+          cellToolTips[cellFill[row * columns + column]++] = i;
+        }
+      }
+    }
+  }
+
+  private int getColumn(double x) {
+
+    return Math.max(0, Math.min(columns - 1, (int) Math.floor((x - gridX) / cellWidth)));
+  }
+
+  private int getRow(double y) {
+
+    return Math.max(0, Math.min(rows - 1, (int) Math.floor((y - gridY) / cellHeight)));
   }
 
   ////////////////////////////////////////////
@@ -131,10 +229,10 @@ public class ToolTips extends MouseAdapter implements ChartPart {
 
   private void paintToolTip(Graphics2D g, ToolTip tooltip) {
 
-    TextLayout textLayout =
-        new TextLayout(
-            tooltip.label, styler.getToolTipFont(), new FontRenderContext(null, true, false));
-    Rectangle2D annotationRectangle = textLayout.getBounds();
+    String label = getLabel(tooltip);
+    FontRenderContext frc = new FontRenderContext(null, true, false);
+    Rectangle2D annotationRectangle =
+        TextMetricsCache.getBounds(label, styler.getToolTipFont(), frc);
 
     double w = annotationRectangle.getWidth() + 2 * MARGIN;
     double h = annotationRectangle.getHeight() + 2 * MARGIN;
@@ -182,7 +280,7 @@ public class ToolTips extends MouseAdapter implements ChartPart {
     g.draw(rectangle);
 
     // draw text label
-    Shape shape = textLayout.getOutline(null);
+    Shape shape = TextMetricsCache.getOutline(label, styler.getToolTipFont(), frc);
     g.setColor(styler.getChartFontColor());
     g.setFont(styler.getToolTipFont());
     AffineTransform orig = g.getTransform();
@@ -195,22 +293,17 @@ public class ToolTips extends MouseAdapter implements ChartPart {
 
   private void paintMultiLineToolTip(Graphics2D g) {
 
-    String[] texts = tooltip.label.split(System.lineSeparator());
-    List<TextLayout> list = new ArrayList<>();
-    TextLayout textLayout = null;
+    String[] texts = getLabel(tooltip).split(System.lineSeparator());
+    FontRenderContext frc = new FontRenderContext(null, true, false);
     Rectangle2D bounds = null;
     double backgroundHeight = MARGIN;
     double backgroundWidth = 0;
     for (String text : texts) {
-      textLayout =
-          new TextLayout(text, styler.getToolTipFont(), new FontRenderContext(null, true, false));
-      bounds = textLayout.getBounds();
-      bounds.getHeight();
+      bounds = TextMetricsCache.getBounds(text, styler.getToolTipFont(), frc);
       if (backgroundWidth < bounds.getWidth()) {
         backgroundWidth = bounds.getWidth();
       }
       backgroundHeight += styler.getToolTipFont().getSize() + MARGIN;
-      list.add(textLayout);
     }
 
     //    System.out.println("paintMultiLineToolTip");
@@ -237,13 +330,13 @@ public class ToolTips extends MouseAdapter implements ChartPart {
     AffineTransform at = new AffineTransform();
     at.translate(
         startX + MOUSE_MARGIN + MARGIN,
-        startY + textLayout.getBounds().getHeight() + MOUSE_MARGIN + MARGIN);
+        startY + bounds.getHeight() + MOUSE_MARGIN + MARGIN);
     g.transform(at);
     // TODO make a fontcolor for tooltips in styler
     g.setColor(styler.getChartFontColor());
     g.setFont(styler.getToolTipFont());
-    for (TextLayout t : list) {
-      g.fill(t.getOutline(null));
+    for (String text : texts) {
+      g.fill(TextMetricsCache.getOutline(text, styler.getToolTipFont(), frc));
       at = new AffineTransform();
       at.translate(0, styler.getToolTipFont().getSize() + MARGIN);
       g.transform(at);
@@ -272,6 +365,7 @@ public class ToolTips extends MouseAdapter implements ChartPart {
 
     ToolTip toolTip = new ToolTip(xOffset, yOffset, label);
     toolTipList.add(toolTip);
+    isGridValid = false;
   }
 
   /**
@@ -289,6 +383,65 @@ public class ToolTips extends MouseAdapter implements ChartPart {
 
     ToolTip toolTip = new ToolTip(shape, xOffset, yOffset, width, label);
     toolTipList.add(toolTip);
+    isGridValid = false;
+  }
+
+  /**
+   * Adds a data (xValue, yValue) with coordinates (xOffset, yOffset). This point will be
+   * highlighted with a circle centering (xOffset, yOffset). The values are only formatted when the
+   * tool tip is shown.
+   */
+  void addData(
+      double xOffset,
+      double yOffset,
+      double xValue,
+      double yValue,
+      Format xFormat,
+      Format yFormat) {
+
+    ToolTip toolTip =
+        new ToolTip(
+            getPointShape(xOffset, yOffset), xOffset, yOffset, 0, xValue, yValue, xFormat, yFormat);
+    toolTipList.add(toolTip);
+    isGridValid = false;
+  }
+
+  /**
+   * Adds a data (xValue, yValue) with geometry defined with shape. This point will be highlighted
+   * using the shape. The values are only formatted when the tool tip is shown.
+   */
+  void addData(
+      Shape shape,
+      double xOffset,
+      double yOffset,
+      double width,
+      double xValue,
+      double yValue,
+      Format xFormat,
+      Format yFormat) {
+
+    ToolTip toolTip =
+        new ToolTip(shape, xOffset, yOffset, width, xValue, yValue, xFormat, yFormat);
+    toolTipList.add(toolTip);
+    isGridValid = false;
+  }
+
+  String getLabel(ToolTip toolTip) {
+
+    if (toolTip.label == null) {
+      toolTip.label =
+          getLabel(
+              toolTip.xFormat.format(toolTip.xValue), toolTip.yFormat.format(toolTip.yValue));
+    }
+    return toolTip.label;
+  }
+
+  private static Shape getPointShape(double x, double y) {
+
+    double halfSize = MARGIN * 1.5;
+    double markerSize = MARGIN * 3;
+
+    return new Ellipse2D.Double(x - halfSize, y - halfSize, markerSize, markerSize);
   }
 
   private String getLabel(String xValue, String yValue) {
@@ -308,6 +461,7 @@ public class ToolTips extends MouseAdapter implements ChartPart {
 
   public void clearData() {
     toolTipList.clear();
+    isGridValid = false;
   }
 
   static class ToolTip {
@@ -315,7 +469,12 @@ public class ToolTips extends MouseAdapter implements ChartPart {
     // width of data point (used for bar charts)
     // TODO possibly delete this
     final double w;
-    private final String label;
+    // either given or formatted from the values when the tool tip is shown
+    private String label;
+    private final double xValue;
+    private final double yValue;
+    private final Format xFormat;
+    private final Format yFormat;
     // used for popup detection & popup highlight
     private final Shape shape;
     // label center coordinates
@@ -331,15 +490,29 @@ public class ToolTips extends MouseAdapter implements ChartPart {
      */
     ToolTip(double x, double y, String label) {
 
-      double halfSize = MARGIN * 1.5;
-      double markerSize = MARGIN * 3;
+      this(getPointShape(x, y), x, y, 0, label);
+    }
 
-      this.shape = new Ellipse2D.Double(x - halfSize, y - halfSize, markerSize, markerSize);
+    /**
+     * Constructor
+     *
+     * @param shape
+     * @param x
+     * @param y
+     * @param width
+     * @param label
+     */
+    ToolTip(Shape shape, double x, double y, double width, String label) {
 
       this.x = x;
       this.y = y;
-      this.w = 0;
+      this.w = width;
+      this.shape = shape;
       this.label = label;
+      this.xValue = Double.NaN;
+      this.yValue = Double.NaN;
+      this.xFormat = null;
+      this.yFormat = null;
     }
 
     /**
@@ -349,15 +522,29 @@ public class ToolTips extends MouseAdapter implements ChartPart {
      * @param x
      * @param y
      * @param width
-     * @param label
+     * @param xValue
+     * @param yValue
+     * @param xFormat
+     * @param yFormat
      */
-    ToolTip(Shape shape, double x, double y, double width, String label) {
+    ToolTip(
+        Shape shape,
+        double x,
+        double y,
+        double width,
+        double xValue,
+        double yValue,
+        Format xFormat,
+        Format yFormat) {
 
       this.x = x;
       this.y = y;
       this.w = width;
       this.shape = shape;
-      this.label = label;
+      this.xValue = xValue;
+      this.yValue = yValue;
+      this.xFormat = xFormat;
+      this.yFormat = yFormat;
     }
 
     @Override
@@ -368,6 +555,10 @@ public class ToolTips extends MouseAdapter implements ChartPart {
           + ", label='"
           + label
           + '\''
+          + ", xValue="
+          + xValue
+          + ", yValue="
+          + yValue
           + ", shape="
           + shape
           + ", x="
@@ -382,12 +573,18 @@ public class ToolTips extends MouseAdapter implements ChartPart {
       if (this == o) return true;
       if (o == null || getClass() != o.getClass()) return false;
       ToolTip tooltip = (ToolTip) o;
-      return label.equals(tooltip.label) && shape.equals(tooltip.shape);
+      // formatted labels are derived from the values, only compare the given ones
+      String givenLabel = xFormat == null ? label : null;
+      String otherGivenLabel = tooltip.xFormat == null ? tooltip.label : null;
+      return Objects.equals(givenLabel, otherGivenLabel)
+          && Double.compare(xValue, tooltip.xValue) == 0
+          && Double.compare(yValue, tooltip.yValue) == 0
+          && shape.equals(tooltip.shape);
     }
 
     @Override
     public int hashCode() {
-      return Objects.hash(label, shape);
+      return Objects.hash(xValue, yValue, shape);
     }
   }
 }
@@ -109,6 +109,7 @@ public abstract class AxesChartSeries extends Series {
               this.stroke.getDashArray(),
               this.stroke.getDashPhase());
     }
+    markChanged();
     return this;
   }
 
@@ -125,6 +126,7 @@ public abstract class AxesChartSeries extends Series {
   public AxesChartSeries setLineColor(java.awt.Color color) {
 
     this.lineColor = color;
+    markChanged();
     return this;
   }
 
@@ -141,6 +143,7 @@ public abstract class AxesChartSeries extends Series {
   public AxesChartSeries setLineWidth(float lineWidth) {
 
     this.lineWidth = lineWidth;
+    markChanged();
     return this;
   }
 
@@ -57,6 +57,7 @@ public abstract class AxesChartSeriesCategory extends MarkerSeries {
 
     updateData(newXData, newYData, newExtraValues);
     calculateMinMax();
+    markChanged();
   }
 
   private void updateData(List<?> newXData, List<? extends Number> newYData, List<? extends Number> newExtraValues) {
@@ -86,6 +87,7 @@ public abstract class AxesChartSeriesCategory extends MarkerSeries {
 
     yData = newYData;
     calculateMinMax();
+    markChanged();
   }
 
   @Override
@@ -1,6 +1,7 @@
 package org.knowm.xchart.internal.series;
 
-import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.function.Function;
 
 /**
  * A Series containing X and Y data to be plotted on a Chart with X and Y Axes. xData can be Number
@@ -11,15 +12,17 @@ import java.util.Arrays;
 // TODO weird name of class since it does contain extravalues for error bars!
 public abstract class AxesChartSeriesNumericalNoErrorBars extends MarkerSeries {
 
-  // permanent data
-  double[] xDataAll;
-  double[] yDataAll;
-  double[] extraValuesAll;
+  private static final AtomicReferenceFieldUpdater<
+          AxesChartSeriesNumericalNoErrorBars, SeriesDataView>
+      DATA_VIEW =
+          AtomicReferenceFieldUpdater.newUpdater(
+              AxesChartSeriesNumericalNoErrorBars.class, SeriesDataView.class, "dataView");
 
-  // temporary data different from permanent data if some is filter out for zooming
-  double[] xData; // can be Number or Date(epochtime)
-  double[] yData;
-  double[] extraValues;
+  // the permanent data and the visible part of it, replaced as a whole whenever either changes, so
+  // that a paint on another thread always sees consistent data without locking
+  private volatile SeriesDataView dataView;
+  // the view the last paint of the chart reads, see capturePaintDataView()
+  private volatile SeriesDataView paintDataView;
 
   /**
    * Constructor
@@ -33,15 +36,7 @@ public abstract class AxesChartSeriesNumericalNoErrorBars extends MarkerSeries {
 
     super(name, xAxisDataType);
 
-    this.xDataAll = seriesDataValues.getXData();
-    this.yDataAll = seriesDataValues.getYData();
-    this.extraValuesAll = seriesDataValues.getExtraValues();
-
-    this.xData = seriesDataValues.getXData();
-    this.yData = seriesDataValues.getYData();
-    this.extraValues = seriesDataValues.getExtraValues();
-
-    calculateMinMax();
+    dataView = new SeriesDataView(seriesDataValues, this::calculateMinMax);
   }
 
   /**
@@ -53,15 +48,27 @@ public abstract class AxesChartSeriesNumericalNoErrorBars extends MarkerSeries {
   public void replaceData(SeriesDataValues seriesDataValues) {
 	dataSanityCheck(seriesDataValues);
 
-    this.xDataAll = seriesDataValues.getXData();
-    this.yDataAll = seriesDataValues.getYData();
-    this.extraValuesAll = seriesDataValues.getExtraValues();
+    dataView = new SeriesDataView(seriesDataValues, this::calculateMinMax);
+
+    markChanged();
+  }
 
-    xData = seriesDataValues.getXData();
-    yData = seriesDataValues.getYData();
-    extraValues = seriesDataValues.getExtraValues();
+  /**
+   * Replaces the data with the range from dataStart to dataEnd - 1 of the given arrays, without
+   * copying it. The range must not be changed afterwards, the rest of the arrays may be.
+   *
+   * @param xData
+   * @param yData
+   * @param dataStart
+   * @param dataEnd
+   */
+  protected void replaceDataRange(double[] xData, double[] yData, int dataStart, int dataEnd) {
 
-    calculateMinMax();
+    dataView =
+        new SeriesDataView(
+            new SeriesDataValues(xData, yData, null), dataStart, dataEnd, this::calculateMinMax);
+
+    markChanged();
   }
 
 	public void dataSanityCheck(SeriesDataValues seriesDataValues) {
@@ -70,25 +77,72 @@ public abstract class AxesChartSeriesNumericalNoErrorBars extends MarkerSeries {
 
   public void filterXByIndex(int startIndex, int endIndex) {
 
-    startIndex = Math.max(0, startIndex);
-    endIndex = Math.min(yDataAll.length, endIndex);
-
-    xData = Arrays.copyOfRange(xDataAll, startIndex, endIndex);
-    yData = Arrays.copyOfRange(yDataAll, startIndex, endIndex);
-    if (extraValuesAll != null) {
-      extraValues = Arrays.copyOfRange(extraValuesAll, startIndex, endIndex);
-    }
+    SeriesDataView all;
+    SeriesDataView window;
+    do {
+      all = getDataView();
+      int length = all.getDataEnd() - all.getDataStart();
+      int start = Math.max(0, startIndex);
+      int end = Math.min(length, endIndex);
+      if (start > end) {
+        throw new IllegalArgumentException(start + " > " + end);
+      }
+      window =
+          all.window(all.getDataStart() + start, all.getDataStart() + end, this::calculateMinMax);
+    } while (!DATA_VIEW.compareAndSet(this, all, window));
 
-    calculateMinMax();
+    markChanged();
   }
 
   public boolean filterXByValue(double minValue, double maxValue) {
 
-    int length = xDataAll.length;
+    // the data may be replaced meanwhile, then it is filtered again
+    SeriesDataView all;
+    SeriesDataView filtered;
+    do {
+      all = getDataView();
+      filtered = filterXByValue(all, minValue, maxValue, this::calculateMinMax);
+      if (filtered == null) {
+        return false;
+      }
+    } while (!DATA_VIEW.compareAndSet(this, all, filtered));
+
+    markChanged();
+    return true;
+  }
+
+  /** @return the view of the values between min and max, or null if all values are */
+  private static SeriesDataView filterXByValue(
+      SeriesDataView all,
+      double minValue,
+      double maxValue,
+      Function<SeriesDataView, double[]> minMaxCalculator) {
+
+    double[] xDataAll = all.getXDataAll();
+    double[] yDataAll = all.getYDataAll();
+    double[] extraValuesAll = all.getExtraValuesAll();
+    int dataStart = all.getDataStart();
+    int dataEnd = all.getDataEnd();
+    int length = dataEnd - dataStart;
+
+    // sorted X data, binary search the window instead of copying it
+    if (all.isXDataAllSorted()) {
+      int startIndex =
+          SeriesDataView.findFirstIndex(xDataAll, dataStart, dataEnd, minValue, false);
+      int endIndex =
+          Math.max(
+              startIndex,
+              SeriesDataView.findFirstIndex(xDataAll, dataStart, dataEnd, maxValue, true));
+      if (endIndex - startIndex == length) {
+        return null;
+      }
+      return all.window(startIndex, endIndex, minMaxCalculator);
+    }
+
     boolean[] filterResult = new boolean[length];
     int remainingDataCount = 0;
     for (int i = 0; i < length; i++) {
-      double val = xDataAll[i];
+      double val = xDataAll[dataStart + i];
       boolean result = val >= minValue && val <= maxValue;
       filterResult[i] = result;
       if (result) {
@@ -99,13 +153,14 @@ public abstract class AxesChartSeriesNumericalNoErrorBars extends MarkerSeries {
     // System.out.println("Filtering between " + String.format("%.2f %.2f", minValue, maxValue) + "
     // all: " + length + " rem: " + remainingDataCount);
     if (remainingDataCount == length) {
-      return false;
+      return null;
     }
 
-    xData = new double[remainingDataCount];
-    yData = new double[remainingDataCount];
+    double[] xData = new double[remainingDataCount];
+    double[] yData = new double[remainingDataCount];
     boolean extra = extraValuesAll != null;
 
+    double[] extraValues = null;
     if (extra) {
       extraValues = new double[remainingDataCount];
     }
@@ -115,32 +170,146 @@ public abstract class AxesChartSeriesNumericalNoErrorBars extends MarkerSeries {
       if (!filterResult[i]) {
         continue;
       }
-      xData[ind] = xDataAll[i];
-      yData[ind] = yDataAll[i];
+      xData[ind] = xDataAll[dataStart + i];
+      yData[ind] = yDataAll[dataStart + i];
       if (extra) {
-        extraValues[ind] = extraValuesAll[i];
+        extraValues[ind] = extraValuesAll[dataStart + i];
       }
       ind++;
     }
-
-    calculateMinMax();
-    return true;
+    return all.filtered(xData, yData, extraValues, minMaxCalculator);
   }
 
   public void resetFilter() {
 
-    xData = xDataAll;
-    yData = yDataAll;
-    extraValues = extraValuesAll;
-    calculateMinMax();
+    SeriesDataView view;
+    do {
+      view = getDataView();
+    } while (!DATA_VIEW.compareAndSet(
+        this, view, view.window(view.getDataStart(), view.getDataEnd(), this::calculateMinMax)));
+    markChanged();
+  }
+
+  /**
+   * Gets the data of the series and the visible part of it. Unlike the separate getters, the view
+   * stays consistent while the series is updated, so code reading several of its arrays, like a
+   * paint, should get it once and read everything from it.
+   *
+   * @return
+   */
+  public SeriesDataView getDataView() {
+
+    return dataView;
+  }
+
+  /**
+   * Captures the current view of the data for a paint of the chart, so that its axes and its plot
+   * read the same data, even if the series is updated by another thread meanwhile.
+   *
+   * @return the captured view
+   */
+  public SeriesDataView capturePaintDataView() {
+
+    SeriesDataView view = getDataView();
+    paintDataView = view;
+    return view;
+  }
+
+  /**
+   * Gets the view of the data captured for the last paint of the chart.
+   *
+   * @return the captured view, or the current one if the chart wasn't painted yet
+   */
+  public SeriesDataView getPaintDataView() {
+
+    SeriesDataView view = paintDataView;
+    return view != null ? view : getDataView();
+  }
+
+  /**
+   * Is the permanent X-Axis data sorted in ascending order, calculated once per data.
+   *
+   * @return
+   */
+  protected boolean isXDataAllSorted() {
+
+    return getDataView().isXDataAllSorted();
   }
 
   @Override
   protected void calculateMinMax() {
 
-	  setXYMinMax(MinMaxFactory
-			.getMinMaxCalculator(getExtraValues())
-			.calcualteMinMax(getXData(), getYData()));  
+    // the min and max are calculated with every view of the data, see calculateMinMax(view)
+  }
+
+  /**
+   * Calculates the min and max of the visible data of a view, when the view is created.
+   *
+   * @param view
+   * @return xMin, xMax, yMin and yMax
+   */
+  protected double[] calculateMinMax(SeriesDataView view) {
+
+    // a window of the permanent data, use the range queries instead of scanning it
+    int viewStart = view.getViewStart();
+    int viewEnd = view.getViewEnd();
+    if (view.isWindow() && viewEnd > viewStart && !view.isAllXData()) {
+      double[] minMaxs = calculateViewMinMax(view);
+      if (minMaxs != null) {
+        return minMaxs;
+      }
+    }
+
+    return MinMaxFactory.getMinMaxCalculator(view.getExtraValues())
+        .calcualteMinMax(view.getXData(), view.getYData());
+  }
+
+  /** @return the min and max of the view, or null if it contains no values */
+  private double[] calculateViewMinMax(SeriesDataView view) {
+
+    int viewStart = view.getViewStart();
+    int viewEnd = view.getViewEnd();
+    double[] minMaxs = new double[4];
+    if (view.isXDataAllSorted()) {
+      minMaxs[XMIN] = view.getXDataAll()[viewStart];
+      minMaxs[XMAX] = view.getXDataAll()[viewEnd - 1];
+    } else {
+      minMaxs[XMIN] = view.getXRangeMinMax().getMin(viewStart, viewEnd);
+      minMaxs[XMAX] = view.getXRangeMinMax().getMax(viewStart, viewEnd);
+    }
+    minMaxs[YMIN] = view.getYRangeMinMax().getMin(viewStart, viewEnd);
+    minMaxs[YMAX] = view.getYRangeMinMax().getMax(viewStart, viewEnd);
+
+    for (double minMax : minMaxs) {
+      if (Double.isNaN(minMax)) {
+        return null;
+      }
+    }
+    return minMaxs;
+  }
+
+  @Override
+  public double getXMin() {
+
+    return getDataView().getXMin();
+  }
+
+  @Override
+  public double getXMax() {
+
+    return getDataView().getXMax();
+  }
+
+  @Override
+  public double getYMin() {
+
+    return getDataView().getYMin();
+  }
+
+  @Override
+  public double getYMax() {
+
+    return getDataView().getYMax();
   }
 
   /**
@@ -150,21 +319,64 @@ public abstract class AxesChartSeriesNumericalNoErrorBars extends MarkerSeries {
    */
   public boolean isAllXData() {
 
-    return xData.length == xDataAll.length;
+    return getDataView().isAllXData();
   }
 
   public double[] getXData() {
 
-    return xData;
+    return getDataView().getXData();
   }
 
   public double[] getYData() {
 
-    return yData;
+    return getDataView().getYData();
   }
 
   public double[] getExtraValues() {
 
-    return extraValues;
+    return getDataView().getExtraValues();
+  }
+
+  /**
+   * Gets the array holding the visible X-Axis data from getViewStart() to getViewEnd() - 1. Unlike
+   * getXData(), the visible data is not copied when zooming in on sorted X-Axis data.
+   *
+   * @return
+   */
+  public double[] getXDataView() {
+
+    return getDataView().getXDataView();
+  }
+
+  /**
+   * Gets the array holding the visible Y-Axis data, see getXDataView().
+   *
+   * @return
+   */
+  public double[] getYDataView() {
+
+    return getDataView().getYDataView();
+  }
+
+  /**
+   * Gets the array holding the visible extra values, see getXDataView().
+   *
+   * @return
+   */
+  public double[] getExtraValuesView() {
+
+    return getDataView().getExtraValuesView();
+  }
+
+  /** @return the index of the first visible value in the view arrays */
+  public int getViewStart() {
+
+    return getDataView().getViewStart();
+  }
+
+  /** @return the index after the last visible value in the view arrays */
+  public int getViewEnd() {
+
+    return getDataView().getViewEnd();
   }
 }
@@ -0,0 +1,173 @@
+package org.knowm.xchart.internal.series;
+
+/**
+ * A fixed capacity sliding window of primitive doubles. Once full, every appended value evicts the
+ * oldest one. The window is kept in one piece from getStart() to getStart() + getSize() - 1 of
+ * getArray(), which holds twice the capacity: appending writes after the window and evicting only
+ * moves its start. When the end of the array is reached, the window is copied to the start of a new
+ * array, so a range of an array handed out earlier is never written again and can be read by other
+ * threads without copying it. Appending is O(1) amortized.
+ *
+ * <p>The minimum and maximum of the window are maintained incrementally with two monotonic deques,
+ * so getMin/getMax are O(1). NaN values are buffered but ignored for the min and max, like in
+ * Utils.findMin and Utils.findMax.
+ *
+ * <p>This class is not thread-safe.
+ */
+public class DoubleWindowBuffer {
+
+  private final int capacity;
+  private double[] values;
+  // sequence number of the value stored at index 0 of values
+  private long base;
+  private int size;
+  // number of values appended, the value with sequence number s is stored at index s - base
+  private long appended;
+
+  // sequence numbers of the candidates for min and max, ascending values for min
+  private final long[] minDeque;
+  private final long[] maxDeque;
+  private int minHead;
+  private int minSize;
+  private int maxHead;
+  private int maxSize;
+
+  /**
+   * Constructor
+   *
+   * @param capacity the maximum number of values kept in the buffer
+   */
+  public DoubleWindowBuffer(int capacity) {
+
+    if (capacity < 1 || capacity > Integer.MAX_VALUE / 2) {
+      throw new IllegalArgumentException("Capacity must be between 1 and 2^30!!!");
+    }
+    this.capacity = capacity;
+    this.values = new double[2 * capacity];
+    this.minDeque = new long[capacity];
+    this.maxDeque = new long[capacity];
+  }
+
+  /**
+   * Appends a value, evicting the oldest value if the buffer is full.
+   *
+   * @param value
+   */
+  public void add(double value) {
+
+    if (size == capacity) {
+      // evict the oldest value
+      long evicted = appended - capacity;
+      if (minSize > 0 && minDeque[minHead] == evicted) {
+        minHead = (minHead + 1) % capacity;
+        minSize--;
+      }
+      if (maxSize > 0 && maxDeque[maxHead] == evicted) {
+        maxHead = (maxHead + 1) % capacity;
+        maxSize--;
+      }
+      size--;
+    }
+
+    if (appended - base == values.length) {
+      // move the window to a new array instead of overwriting the old one
+      double[] moved = new double[values.length];
+      System.arraycopy(values, getStart(), moved, 0, size);
+      values = moved;
+      base = appended - size;
+    }
+    values[(int) (appended - base)] = value;
+    size++;
+
+    if (!Double.isNaN(value)) {
+      while (minSize > 0 && valueOf(minDeque[(minHead + minSize - 1) % capacity]) >= value) {
+        minSize--;
+      }
+      minDeque[(minHead + minSize) % capacity] = appended;
+      minSize++;
+
+      while (maxSize > 0 && valueOf(maxDeque[(maxHead + maxSize - 1) % capacity]) <= value) {
+        maxSize--;
+      }
+      maxDeque[(maxHead + maxSize) % capacity] = appended;
+      maxSize++;
+    }
+    appended++;
+  }
+
+  /** Removes all values. The values already in the array are left as they are. */
+  public void clear() {
+
+    size = 0;
+    minSize = 0;
+    maxSize = 0;
+  }
+
+  /**
+   * @param index 0 is the oldest value
+   * @return the value at the given index
+   */
+  public double get(int index) {
+
+    if (index < 0 || index >= size) {
+      throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+    }
+    return values[getStart() + index];
+  }
+
+  /**
+   * Copies the buffered values, oldest first, into a new array.
+   *
+   * @return an array of length getSize()
+   */
+  public double[] toArray() {
+
+    double[] array = new double[size];
+    System.arraycopy(values, getStart(), array, 0, size);
+    return array;
+  }
+
+  /**
+   * Gets the array holding the window from getStart() to getStart() + getSize() - 1. Later appends
+   * never change this range of the returned array.
+   *
+   * @return
+   */
+  public double[] getArray() {
+
+    return values;
+  }
+
+  /** @return the index of the oldest value in getArray() */
+  public int getStart() {
+
+    return (int) (appended - size - base);
+  }
+
+  public int getSize() {
+
+    return size;
+  }
+
+  public int getCapacity() {
+
+    return capacity;
+  }
+
+  /** @return the smallest non-NaN value, or NaN if there is none */
+  public double getMin() {
+
+    return minSize == 0 ? Double.NaN : valueOf(minDeque[minHead]);
+  }
+
+  /** @return the largest non-NaN value, or NaN if there is none */
+  public double getMax() {
+
+    return maxSize == 0 ? Double.NaN : valueOf(maxDeque[maxHead]);
+  }
+
+  private double valueOf(long sequence) {
+
+    return values[(int) (sequence - base)];
+  }
+}
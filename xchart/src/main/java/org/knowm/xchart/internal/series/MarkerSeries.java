@@ -41,6 +41,7 @@ public abstract class MarkerSeries extends AxesChartSeries {
   public MarkerSeries setMarker(Marker marker) {
 
     this.marker = marker;
+    markChanged();
     return this;
   }
 
@@ -57,6 +58,7 @@ public abstract class MarkerSeries extends AxesChartSeries {
   public MarkerSeries setMarkerColor(java.awt.Color color) {
 
     this.markerColor = color;
+    markChanged();
     return this;
   }
 }
@@ -0,0 +1,232 @@
+package org.knowm.xchart.internal.series;
+
+import java.util.Arrays;
+
+/**
+ * A multi-resolution level of detail pyramid over the Y-Axis data of a series with sorted X-Axis
+ * data. Level 0 splits the data into buckets of 4 consecutive points, every further level merges
+ * two buckets of the level below. Each bucket keeps the indices of its min and max Y-value and of
+ * its first NaN, so that gaps are preserved. Like M4 decimation, the first and last point of each
+ * bucket are painted as well, so the lines between buckets are the ones of the full data. They are
+ * given by the bounds of the bucket, so only the other indices are stored and the bucket count
+ * halves from level to level, so all levels together take 1.5 ints per data point.
+ */
+public class MinMaxPyramid {
+
+  private static final int FIRST_BUCKET_SIZE = 4;
+
+  private final double[] yData;
+  // index of the first point of the data in yData, the buckets start there
+  private final int offset;
+  // index after the last point of the data in yData
+  private final int end;
+
+  // per level and bucket, the index of the min, max and first NaN Y-value, -1 if there is none
+  private final int[][] minIndices;
+  private final int[][] maxIndices;
+  private final int[][] nanIndices;
+
+  /**
+   * Constructor
+   *
+   * @param yData
+   */
+  public MinMaxPyramid(double[] yData) {
+
+    this(yData, 0, yData.length);
+  }
+
+  /**
+   * Constructor for the data from dataStart to dataEnd - 1 of yData, the indices are those of yData
+   *
+   * @param yData
+   * @param dataStart
+   * @param dataEnd
+   */
+  public MinMaxPyramid(double[] yData, int dataStart, int dataEnd) {
+
+    this.yData = yData;
+    this.offset = dataStart;
+    this.end = dataEnd;
+    int length = dataEnd - dataStart;
+
+    int levels = 0;
+    for (long size = FIRST_BUCKET_SIZE; size < length; size *= 2) {
+      levels++;
+    }
+    minIndices = new int[levels][];
+    maxIndices = new int[levels][];
+    nanIndices = new int[levels][];
+    if (levels == 0) {
+      return;
+    }
+
+    int bucketCount = (length + FIRST_BUCKET_SIZE - 1) / FIRST_BUCKET_SIZE;
+    minIndices[0] = new int[bucketCount];
+    maxIndices[0] = new int[bucketCount];
+    nanIndices[0] = new int[bucketCount];
+    int[] bucketIndices = new int[4];
+    for (int bucket = 0; bucket < bucketCount; bucket++) {
+      int from = dataStart + bucket * FIRST_BUCKET_SIZE;
+      scan(from, Math.min(dataEnd, from + FIRST_BUCKET_SIZE), bucketIndices);
+      minIndices[0][bucket] = bucketIndices[1];
+      maxIndices[0][bucket] = bucketIndices[2];
+      nanIndices[0][bucket] = bucketIndices[3];
+    }
+
+    for (int level = 1; level < levels; level++) {
+      int[] lowerMin = minIndices[level - 1];
+      int[] lowerMax = maxIndices[level - 1];
+      int[] lowerNan = nanIndices[level - 1];
+      bucketCount = (lowerMin.length + 1) / 2;
+      minIndices[level] = new int[bucketCount];
+      maxIndices[level] = new int[bucketCount];
+      nanIndices[level] = new int[bucketCount];
+      for (int bucket = 0; bucket < bucketCount; bucket++) {
+        int left = bucket * 2;
+        int right = Math.min(left + 1, lowerMin.length - 1);
+        minIndices[level][bucket] = pick(lowerMin[left], lowerMin[right], true);
+        maxIndices[level][bucket] = pick(lowerMax[left], lowerMax[right], false);
+        nanIndices[level][bucket] = lowerNan[left] != -1 ? lowerNan[left] : lowerNan[right];
+      }
+    }
+  }
+
+  /**
+   * Finds the indices of the min, max and first NaN Y-value of a range, -1 if there is none, and
+   * stores them at index 1, 2 and 3 of bucketIndices.
+   */
+  private void scan(int from, int to, int[] bucketIndices) {
+
+    int min = -1;
+    int max = -1;
+    int nan = -1;
+    for (int i = from; i < to; i++) {
+      if (Double.isNaN(yData[i])) {
+        if (nan == -1) {
+          nan = i;
+        }
+      } else {
+        if (min == -1 || yData[i] < yData[min]) {
+          min = i;
+        }
+        if (max == -1 || yData[i] > yData[max]) {
+          max = i;
+        }
+      }
+    }
+    bucketIndices[1] = min;
+    bucketIndices[2] = max;
+    bucketIndices[3] = nan;
+  }
+
+  /** @return the index of the smaller (or larger) Y-value, the left one if they are equal */
+  private int pick(int left, int right, boolean isMin) {
+
+    if (left == -1) {
+      return right;
+    }
+    if (right == -1) {
+      return left;
+    }
+    if (isMin) {
+      return yData[right] < yData[left] ? right : left;
+    }
+    return yData[right] > yData[left] ? right : left;
+  }
+
+  /**
+   * Gets the points of the coarsest level that still has at least one bucket per pixel for the
+   * given range of the data.
+   *
+   * @param from the first index of the range, inclusive
+   * @param to the last index of the range, exclusive
+   * @param xPixelSpace the number of screen pixels the range is painted on
+   * @return the ascending indices of the points to be painted, the first, min, max, first NaN and
+   *     last point of each bucket within the range, or null if the range has less than 4 points
+   *     per pixel. The buckets cut by the range are scanned for the extrema of their part within
+   *     it.
+   */
+  public int[] getIndices(int from, int to, double xPixelSpace) {
+
+    int level = getLevel(from, to, xPixelSpace);
+    if (level == -1) {
+      return null;
+    }
+    long bucketSize = getBucketSize(level);
+
+    int firstBucket = (int) ((from - offset) / bucketSize);
+    int endBucket =
+        (int) Math.min(minIndices[level].length, (to - offset + bucketSize - 1) / bucketSize);
+    int[] indices = new int[5 * (endBucket - firstBucket)];
+    int[] bucketIndices = new int[5];
+    int count = 0;
+    for (int bucket = firstBucket; bucket < endBucket; bucket++) {
+      long bucketStart = offset + bucket * bucketSize;
+      long bucketEnd = Math.min(end, bucketStart + bucketSize);
+      int bucketFrom = (int) Math.max(from, bucketStart);
+      int bucketTo = (int) Math.min(to, bucketEnd);
+      bucketIndices[0] = bucketFrom;
+      if (bucketFrom == bucketStart && bucketTo == bucketEnd) {
+        bucketIndices[1] = minIndices[level][bucket];
+        bucketIndices[2] = maxIndices[level][bucket];
+        bucketIndices[3] = nanIndices[level][bucket];
+      } else {
+        scan(bucketFrom, bucketTo, bucketIndices);
+      }
+      bucketIndices[4] = bucketTo - 1;
+      // insertion sort the indices of the bucket, add skips the missing ones (-1)
+      for (int i = 2; i < 4; i++) {
+        int index = bucketIndices[i];
+        int j = i;
+        while (j > 1 && bucketIndices[j - 1] > index) {
+          bucketIndices[j] = bucketIndices[j - 1];
+          j--;
+        }
+        bucketIndices[j] = index;
+      }
+      for (int index : bucketIndices) {
+        count = add(indices, count, index, from, to);
+      }
+    }
+    return Arrays.copyOf(indices, count);
+  }
+
+  /**
+   * @param from
+   * @param to
+   * @param xPixelSpace
+   * @return the coarsest level with at least one bucket per pixel for the range, or -1 if the range
+   *     is painted without the pyramid
+   */
+  int getLevel(int from, int to, double xPixelSpace) {
+
+    int level = -1;
+    while (level + 1 < minIndices.length
+        && (to - from) / getBucketSize(level + 1) >= xPixelSpace) {
+      level++;
+    }
+    if (to - from < 2) {
+      return -1;
+    }
+    return level;
+  }
+
+  /**
+   * @param level
+   * @return the number of points in the buckets of the level
+   */
+  static long getBucketSize(int level) {
+
+    return (long) FIRST_BUCKET_SIZE << level;
+  }
+
+  /** Adds an index of the range that is larger than the last one added. */
+  private static int add(int[] indices, int count, int index, int from, int to) {
+
+    if (index >= from && index < to && (count == 0 || indices[count - 1] < index)) {
+      indices[count++] = index;
+    }
+    return count;
+  }
+}
@@ -21,24 +21,12 @@ public abstract class NoMarkersSeries extends AxesChartSeriesNumericalNoErrorBar
       String name, double[] xData, double[] yData, double[] extraValues, Series.DataType axisType) {
 
     super(name, new SeriesDataValues(xData, yData, extraValues), axisType);
-
-    // TODO why do we need this here?
-    this.extraValues = extraValues;
-    calculateMinMax();
   }
 
   @Override
-  protected void calculateMinMax() {
-	  setXYMinMax(MinMaxFactory
-			  .getMinMaxCalculator()
-			  .calcualteMinMax(getXData(), getYData()));
-    // xData
-    // System.out.println(xMin);
-    // System.out.println(xMax);
+  protected double[] calculateMinMax(SeriesDataView view) {
 
-    // yData
-    // System.out.println(yMin);
-    // System.out.println(yMax);
+    return MinMaxFactory.getMinMaxCalculator().calcualteMinMax(view.getXData(), view.getYData());
   }
 
 }
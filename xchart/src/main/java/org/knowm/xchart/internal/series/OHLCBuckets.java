@@ -0,0 +1,193 @@
+package org.knowm.xchart.internal.series;
+
+import java.util.Arrays;
+
+/**
+ * The bars of an OHLC series with sorted X-Axis data, aggregated into buckets of equal width: open
+ * is the first open, high the max high, low the min low, close the last close and volume the sum
+ * of the volumes of the bars in the bucket. Bars with a NaN close are left out, as they are not
+ * painted either. The X-Axis value of a bucket is where it starts.
+ */
+public class OHLCBuckets {
+
+  private static final long SECOND = 1000L;
+  private static final long MINUTE = 60 * SECOND;
+  private static final long HOUR = 60 * MINUTE;
+  private static final long DAY = 24 * HOUR;
+
+  // the bucket widths for Date X-Axis data, beyond the last one the width doubles
+  private static final long[] TIME_BUCKET_WIDTHS = {
+    SECOND,
+    5 * SECOND,
+    15 * SECOND,
+    30 * SECOND,
+    MINUTE,
+    5 * MINUTE,
+    15 * MINUTE,
+    30 * MINUTE,
+    HOUR,
+    4 * HOUR,
+    DAY
+  };
+
+  private final double bucketWidth;
+  private final double[] xData;
+  private final double[] openData;
+  private final double[] highData;
+  private final double[] lowData;
+  private final double[] closeData;
+  private final long[] volumeData;
+
+  /**
+   * Aggregates the bars into buckets
+   *
+   * @param xData ascending
+   * @param openData
+   * @param highData
+   * @param lowData
+   * @param closeData
+   * @param volumeData or null
+   * @param origin where the first bucket starts
+   * @param bucketWidth
+   */
+  public OHLCBuckets(
+      double[] xData,
+      double[] openData,
+      double[] highData,
+      double[] lowData,
+      double[] closeData,
+      long[] volumeData,
+      double origin,
+      double bucketWidth) {
+
+    this.bucketWidth = bucketWidth;
+
+    int capacity =
+        (int) Math.min(xData.length, (xData[xData.length - 1] - origin) / bucketWidth + 1);
+    double[] x = new double[capacity];
+    double[] open = new double[capacity];
+    double[] high = new double[capacity];
+    double[] low = new double[capacity];
+    double[] close = new double[capacity];
+    long[] volume = volumeData == null ? null : new long[capacity];
+
+    int count = 0;
+    double bucket = Double.NaN;
+    for (int i = 0; i < xData.length; i++) {
+      if (Double.isNaN(closeData[i])) {
+        continue;
+      }
+      double barBucket = Math.floor((xData[i] - origin) / bucketWidth);
+      if (barBucket != bucket) {
+        if (count == capacity) {
+          capacity = capacity * 2;
+          x = Arrays.copyOf(x, capacity);
+          open = Arrays.copyOf(open, capacity);
+          high = Arrays.copyOf(high, capacity);
+          low = Arrays.copyOf(low, capacity);
+          close = Arrays.copyOf(close, capacity);
+          if (volume != null) {
+            volume = Arrays.copyOf(volume, capacity);
+          }
+        }
+        bucket = barBucket;
+        x[count] = origin + bucket * bucketWidth;
+        open[count] = openData[i];
+        high[count] = highData[i];
+        low[count] = lowData[i];
+        count++;
+      } else {
+        high[count - 1] = Math.max(high[count - 1], highData[i]);
+        low[count - 1] = Math.min(low[count - 1], lowData[i]);
+      }
+      close[count - 1] = closeData[i];
+      if (volume != null) {
+        volume[count - 1] += volumeData[i];
+      }
+    }
+
+    this.xData = Arrays.copyOf(x, count);
+    this.openData = Arrays.copyOf(open, count);
+    this.highData = Arrays.copyOf(high, count);
+    this.lowData = Arrays.copyOf(low, count);
+    this.closeData = Arrays.copyOf(close, count);
+    this.volumeData = volume == null ? null : Arrays.copyOf(volume, count);
+  }
+
+  /**
+   * Gets the width of the buckets to aggregate the bars into, so that no bucket is narrower than
+   * minWidth. Date buckets are whole seconds, minutes, hours or days, Number buckets are the
+   * interval of the bars times a power of 2.
+   *
+   * @param minWidth
+   * @param barInterval the smallest distance between two bars
+   * @param isTime true for Date X-Axis data
+   * @return
+   */
+  public static double getBucketWidth(double minWidth, double barInterval, boolean isTime) {
+
+    double bucketWidth;
+    if (isTime && barInterval < DAY) {
+      for (long timeBucketWidth : TIME_BUCKET_WIDTHS) {
+        if (timeBucketWidth >= minWidth && timeBucketWidth > barInterval) {
+          return timeBucketWidth;
+        }
+      }
+      bucketWidth = DAY;
+    } else {
+      bucketWidth = barInterval;
+    }
+    while (bucketWidth < minWidth) {
+      bucketWidth *= 2;
+    }
+    return bucketWidth;
+  }
+
+  /**
+   * @param x
+   * @return the index of the first bucket starting at or after x
+   */
+  public int getFirstIndex(double x) {
+
+    int index = Arrays.binarySearch(xData, x);
+    if (index < 0) {
+      return -index - 1;
+    }
+    return index;
+  }
+
+  public double getBucketWidth() {
+
+    return bucketWidth;
+  }
+
+  public double[] getXData() {
+
+    return xData;
+  }
+
+  public double[] getOpenData() {
+
+    return openData;
+  }
+
+  public double[] getHighData() {
+
+    return highData;
+  }
+
+  public double[] getLowData() {
+
+    return lowData;
+  }
+
+  public double[] getCloseData() {
+
+    return closeData;
+  }
+
+  public long[] getVolumeData() {
+
+    return volumeData;
+  }
+}
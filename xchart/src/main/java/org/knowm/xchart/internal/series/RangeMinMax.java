@@ -0,0 +1,132 @@
+package org.knowm.xchart.internal.series;
+
+/**
+ * Answers min and max queries over any index range of a dataset without scanning the whole range.
+ * The min and max of fixed size blocks are kept in a sparse table, so a query only scans the
+ * partially covered blocks at both ends of the range and looks up two overlapping runs of whole
+ * blocks. Values can be widened by error bars. NaN values are ignored, like in Utils.findMin and
+ * Utils.findMax.
+ */
+class RangeMinMax {
+
+  private static final int BLOCK_SIZE = 256;
+
+  private final double[] data;
+  private final double[] errorBars;
+  // index of the first value of the dataset in data, the blocks start there
+  private final int offset;
+
+  // blockMin[level][b] is the min of the blocks b to b + 2^level - 1, NaN if they only contain NaN
+  private final double[][] blockMin;
+  private final double[][] blockMax;
+
+  /**
+   * Constructor
+   *
+   * @param data
+   * @param errorBars null if there are no error bars
+   * @param from the first index of the dataset, inclusive
+   * @param to the last index of the dataset, exclusive
+   */
+  RangeMinMax(double[] data, double[] errorBars, int from, int to) {
+
+    this.data = data;
+    this.errorBars = errorBars;
+    this.offset = from;
+
+    int blockCount = (to - from + BLOCK_SIZE - 1) / BLOCK_SIZE;
+    int levels = blockCount == 0 ? 1 : 32 - Integer.numberOfLeadingZeros(blockCount);
+    blockMin = new double[levels][];
+    blockMax = new double[levels][];
+
+    blockMin[0] = new double[blockCount];
+    blockMax[0] = new double[blockCount];
+    for (int block = 0; block < blockCount; block++) {
+      int blockFrom = offset + block * BLOCK_SIZE;
+      int blockTo = Math.min(to, blockFrom + BLOCK_SIZE);
+      blockMin[0][block] = scanMin(Double.NaN, blockFrom, blockTo);
+      blockMax[0][block] = scanMax(Double.NaN, blockFrom, blockTo);
+    }
+
+    for (int level = 1; level < levels; level++) {
+      int half = 1 << (level - 1);
+      int length = blockCount - (1 << level) + 1;
+      blockMin[level] = new double[length];
+      blockMax[level] = new double[length];
+      for (int block = 0; block < length; block++) {
+        blockMin[level][block] = min(blockMin[level - 1][block], blockMin[level - 1][block + half]);
+        blockMax[level][block] = max(blockMax[level - 1][block], blockMax[level - 1][block + half]);
+      }
+    }
+  }
+
+  /**
+   * @param from the first index, inclusive, within the dataset
+   * @param to the last index, exclusive, within the dataset
+   * @return the min of the range, or NaN if it only contains NaN
+   */
+  double getMin(int from, int to) {
+
+    int firstBlock = (from - offset + BLOCK_SIZE - 1) / BLOCK_SIZE;
+    int endBlock = (to - offset) / BLOCK_SIZE;
+    if (firstBlock >= endBlock) {
+      return scanMin(Double.NaN, from, to);
+    }
+    double min = scanMin(Double.NaN, from, offset + firstBlock * BLOCK_SIZE);
+    min = scanMin(min, offset + endBlock * BLOCK_SIZE, to);
+    int level = 31 - Integer.numberOfLeadingZeros(endBlock - firstBlock);
+    min = min(min, blockMin[level][firstBlock]);
+    return min(min, blockMin[level][endBlock - (1 << level)]);
+  }
+
+  /**
+   * @param from the first index, inclusive, within the dataset
+   * @param to the last index, exclusive, within the dataset
+   * @return the max of the range, or NaN if it only contains NaN
+   */
+  double getMax(int from, int to) {
+
+    int firstBlock = (from - offset + BLOCK_SIZE - 1) / BLOCK_SIZE;
+    int endBlock = (to - offset) / BLOCK_SIZE;
+    if (firstBlock >= endBlock) {
+      return scanMax(Double.NaN, from, to);
+    }
+    double max = scanMax(Double.NaN, from, offset + firstBlock * BLOCK_SIZE);
+    max = scanMax(max, offset + endBlock * BLOCK_SIZE, to);
+    int level = 31 - Integer.numberOfLeadingZeros(endBlock - firstBlock);
+    max = max(max, blockMax[level][firstBlock]);
+    return max(max, blockMax[level][endBlock - (1 << level)]);
+  }
+
+  private double scanMin(double min, int from, int to) {
+
+    for (int i = from; i < to; i++) {
+      min = min(min, errorBars == null ? data[i] : data[i] - errorBars[i]);
+    }
+    return min;
+  }
+
+  private double scanMax(double max, int from, int to) {
+
+    for (int i = from; i < to; i++) {
+      max = max(max, errorBars == null ? data[i] : data[i] + errorBars[i]);
+    }
+    return max;
+  }
+
+  private static double min(double a, double b) {
+
+    if (Double.isNaN(a)) {
+      return b;
+    }
+    return Double.isNaN(b) ? a : Math.min(a, b);
+  }
+
+  private static double max(double a, double b) {
+
+    if (Double.isNaN(a)) {
+      return b;
+    }
+    return Double.isNaN(b) ? a : Math.max(a, b);
+  }
+}
@@ -1,6 +1,7 @@
 package org.knowm.xchart.internal.series;
 
 import java.awt.*;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 import org.knowm.xchart.internal.chartpart.RenderableSeries.LegendRenderType;
 
 /**
@@ -10,6 +11,9 @@ import org.knowm.xchart.internal.chartpart.RenderableSeries.LegendRenderType;
  */
 public abstract class Series {
 
+  private static final AtomicIntegerFieldUpdater<Series> CHANGE_COUNT =
+      AtomicIntegerFieldUpdater.newUpdater(Series.class, "changeCount");
+
   private final String name;
   // TODO rename this displayName??
   private String label;
@@ -22,6 +26,9 @@ public abstract class Series {
   private int yAxisGroup = 0;
   /** the yAxis decimalPattern */
   private String yAxisDecimalPattern;
+  // increased by every change of the data or the settings of Series, atomically since the data may
+  // be changed by several threads
+  private volatile int changeCount;
 
   /**
    * Constructor
@@ -39,6 +46,23 @@ public abstract class Series {
 
   public abstract LegendRenderType getLegendRenderType();
 
+  /**
+   * Gets a count which is increased whenever the data or the settings of Series change, so that a
+   * chart can tell whether its layout must be computed again.
+   *
+   * @return
+   */
+  public int getChangeCount() {
+
+    return changeCount;
+  }
+
+  /** Marks the data or the settings of the series as changed, see getChangeCount(). */
+  protected void markChanged() {
+
+    CHANGE_COUNT.incrementAndGet(this);
+  }
+
   public Color getFillColor() {
 
     return fillColor;
@@ -47,6 +71,7 @@ public abstract class Series {
   public Series setFillColor(Color fillColor) {
 
     this.fillColor = fillColor;
+    markChanged();
     return this;
   }
 
@@ -63,6 +88,7 @@ public abstract class Series {
   public Series setLabel(String label) {
 
     this.label = label;
+    markChanged();
     return this;
   }
 
@@ -74,6 +100,7 @@ public abstract class Series {
   public Series setShowInLegend(boolean showInLegend) {
 
     this.showInLegend = showInLegend;
+    markChanged();
     return this;
   }
 
@@ -85,6 +112,7 @@ public abstract class Series {
   public Series setEnabled(boolean isEnabled) {
 
     this.isEnabled = isEnabled;
+    markChanged();
     return this;
   }
 
@@ -101,6 +129,7 @@ public abstract class Series {
   public Series setYAxisGroup(int yAxisGroup) {
 
     this.yAxisGroup = yAxisGroup;
+    markChanged();
     return this;
   }
 
@@ -112,6 +141,7 @@ public abstract class Series {
   public Series setYAxisDecimalPattern(String yAxisDecimalPattern) {
 
     this.yAxisDecimalPattern = yAxisDecimalPattern;
+    markChanged();
     return this;
   }
 
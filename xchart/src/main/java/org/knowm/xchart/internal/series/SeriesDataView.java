@@ -0,0 +1,383 @@
+package org.knowm.xchart.internal.series;
+
+import java.util.Arrays;
+import java.util.function.Function;
+import org.knowm.xchart.internal.Utils;
+
+/**
+ * The permanent data of a series together with the part of it that is visible, which is the data
+ * from viewStart to viewEnd - 1 of the view arrays. The permanent data is the range from dataStart
+ * to dataEnd - 1 of its arrays, all of them unless a streaming series shares its buffers. It is immutable, the series publishes a new one
+ * whenever its data is replaced or filtered, so a paint holding on to one sees consistent data
+ * while other threads update the series. The min and max of the visible data are calculated by the
+ * series when the view is created, so the axes of a paint always match the data it plots. What
+ * else is derived from the data, like the copies of the visible data or the range min and max
+ * queries, is calculated when first needed and kept with it.
+ */
+public final class SeriesDataView {
+
+  private static final int XMIN = 0;
+  private static final int XMAX = 1;
+  private static final int YMIN = 2;
+  private static final int YMAX = 3;
+
+  private final double[] xDataAll;
+  private final double[] yDataAll;
+  private final double[] extraValuesAll;
+  private final int dataStart;
+  private final int dataEnd;
+
+  private final double[] xDataView;
+  private final double[] yDataView;
+  private final double[] extraValuesView;
+  private final int viewStart;
+  private final int viewEnd;
+
+  // xMin, xMax, yMin and yMax of the permanent data and of the visible data
+  private final double[] minMaxAll;
+  private final double[] minMax;
+
+  // derived from the permanent data, shared with the views filtered from this one
+  private volatile Boolean isXDataAllSorted;
+  private volatile RangeMinMax xRangeMinMax;
+  private volatile RangeMinMax yRangeMinMax;
+  private volatile MinMaxPyramid yMinMaxPyramid;
+
+  // derived from the visible data
+  private volatile double[] xData;
+  private volatile double[] yData;
+  private volatile double[] extraValues;
+
+  /**
+   * Constructor for a view of all the data
+   *
+   * @param seriesDataValues
+   * @param minMaxCalculator calculates xMin, xMax, yMin and yMax of the visible data of a view
+   */
+  SeriesDataView(
+      SeriesDataValues seriesDataValues, Function<SeriesDataView, double[]> minMaxCalculator) {
+
+    this(seriesDataValues, 0, seriesDataValues.getXData().length, minMaxCalculator);
+  }
+
+  /**
+   * Constructor for a view of all the data from dataStart to dataEnd - 1 of the arrays, which must
+   * not be changed afterwards
+   *
+   * @param seriesDataValues
+   * @param dataStart
+   * @param dataEnd
+   * @param minMaxCalculator calculates xMin, xMax, yMin and yMax of the visible data of a view
+   */
+  SeriesDataView(
+      SeriesDataValues seriesDataValues,
+      int dataStart,
+      int dataEnd,
+      Function<SeriesDataView, double[]> minMaxCalculator) {
+
+    this.xDataAll = seriesDataValues.getXData();
+    this.yDataAll = seriesDataValues.getYData();
+    this.extraValuesAll = seriesDataValues.getExtraValues();
+    this.dataStart = dataStart;
+    this.dataEnd = dataEnd;
+    this.xDataView = xDataAll;
+    this.yDataView = yDataAll;
+    this.extraValuesView = extraValuesAll;
+    this.viewStart = dataStart;
+    this.viewEnd = dataEnd;
+
+    this.minMax = minMaxCalculator.apply(this);
+    this.minMaxAll = minMax;
+  }
+
+  private SeriesDataView(
+      SeriesDataView all,
+      double[] xDataView,
+      double[] yDataView,
+      double[] extraValuesView,
+      int viewStart,
+      int viewEnd,
+      Function<SeriesDataView, double[]> minMaxCalculator) {
+
+    this.xDataAll = all.xDataAll;
+    this.yDataAll = all.yDataAll;
+    this.extraValuesAll = all.extraValuesAll;
+    this.dataStart = all.dataStart;
+    this.dataEnd = all.dataEnd;
+    this.xDataView = xDataView;
+    this.yDataView = yDataView;
+    this.extraValuesView = extraValuesView;
+    this.viewStart = viewStart;
+    this.viewEnd = viewEnd;
+
+    this.isXDataAllSorted = all.isXDataAllSorted;
+    this.xRangeMinMax = all.xRangeMinMax;
+    this.yRangeMinMax = all.yRangeMinMax;
+    this.yMinMaxPyramid = all.yMinMaxPyramid;
+
+    this.minMaxAll = all.minMaxAll;
+    this.minMax = isWindow() && isAllXData() ? minMaxAll : minMaxCalculator.apply(this);
+  }
+
+  /**
+   * @return a view of the permanent data from startIndex to endIndex - 1 of its arrays
+   */
+  SeriesDataView window(
+      int startIndex, int endIndex, Function<SeriesDataView, double[]> minMaxCalculator) {
+
+    return new SeriesDataView(
+        this, xDataAll, yDataAll, extraValuesAll, startIndex, endIndex, minMaxCalculator);
+  }
+
+  /**
+   * @return a view of a filtered copy of the permanent data
+   */
+  SeriesDataView filtered(
+      double[] xData,
+      double[] yData,
+      double[] extraValues,
+      Function<SeriesDataView, double[]> minMaxCalculator) {
+
+    return new SeriesDataView(this, xData, yData, extraValues, 0, xData.length, minMaxCalculator);
+  }
+
+  /** @return the minimum of the visible X-Axis data */
+  public double getXMin() {
+
+    return minMax[XMIN];
+  }
+
+  /** @return the maximum of the visible X-Axis data */
+  public double getXMax() {
+
+    return minMax[XMAX];
+  }
+
+  /** @return the minimum of the visible Y-Axis data, with the error bars if any */
+  public double getYMin() {
+
+    return minMax[YMIN];
+  }
+
+  /** @return the maximum of the visible Y-Axis data, with the error bars if any */
+  public double getYMax() {
+
+    return minMax[YMAX];
+  }
+
+  double[] getXDataAll() {
+
+    return xDataAll;
+  }
+
+  double[] getYDataAll() {
+
+    return yDataAll;
+  }
+
+  double[] getExtraValuesAll() {
+
+    return extraValuesAll;
+  }
+
+  /** @return the index of the first value of the permanent data in its arrays */
+  int getDataStart() {
+
+    return dataStart;
+  }
+
+  /** @return the index after the last value of the permanent data in its arrays */
+  int getDataEnd() {
+
+    return dataEnd;
+  }
+
+  boolean isWindow() {
+
+    return xDataView == xDataAll;
+  }
+
+  /**
+   * Is the permanent X-Axis data sorted in ascending order, calculated once per data.
+   *
+   * @return
+   */
+  public boolean isXDataAllSorted() {
+
+    Boolean isSorted = isXDataAllSorted;
+    if (isSorted == null) {
+      isSorted = Utils.isAscending(xDataAll, dataStart, dataEnd);
+      isXDataAllSorted = isSorted;
+    }
+    return isSorted;
+  }
+
+  /**
+   * Is any visible X-Axis value between minValue and maxValue, inclusive. Binary searches the view
+   * of sorted X-Axis data.
+   *
+   * @param minValue
+   * @param maxValue
+   * @return
+   */
+  public boolean isAnyXDataBetween(double minValue, double maxValue) {
+
+    if (isWindow() && isXDataAllSorted()) {
+      int index = findFirstIndex(xDataView, viewStart, viewEnd, minValue, false);
+      return index < viewEnd && xDataView[index] <= maxValue;
+    }
+    for (int i = viewStart; i < viewEnd; i++) {
+      double x = xDataView[i];
+      if (x >= minValue && x <= maxValue) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * @return the index of the first value of the ascending data from fromIndex to toIndex - 1 that
+   *     is greater than or equal to the given value, or greater than it if inclusive is true
+   */
+  static int findFirstIndex(
+      double[] data, int fromIndex, int toIndex, double value, boolean inclusive) {
+
+    int low = fromIndex;
+    int high = toIndex;
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      if (data[mid] < value || (inclusive && data[mid] == value)) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+    return low;
+  }
+
+  RangeMinMax getXRangeMinMax() {
+
+    RangeMinMax rangeMinMax = xRangeMinMax;
+    if (rangeMinMax == null) {
+      rangeMinMax = new RangeMinMax(xDataAll, null, dataStart, dataEnd);
+      xRangeMinMax = rangeMinMax;
+    }
+    return rangeMinMax;
+  }
+
+  RangeMinMax getYRangeMinMax() {
+
+    RangeMinMax rangeMinMax = yRangeMinMax;
+    if (rangeMinMax == null) {
+      rangeMinMax = new RangeMinMax(yDataAll, extraValuesAll, dataStart, dataEnd);
+      yRangeMinMax = rangeMinMax;
+    }
+    return rangeMinMax;
+  }
+
+  /**
+   * Gets the min/max level of detail pyramid over the permanent Y-Axis data, built once per data.
+   *
+   * @return
+   */
+  public MinMaxPyramid getYMinMaxPyramid() {
+
+    MinMaxPyramid pyramid = yMinMaxPyramid;
+    if (pyramid == null) {
+      pyramid = new MinMaxPyramid(yDataAll, dataStart, dataEnd);
+      yMinMaxPyramid = pyramid;
+    }
+    return pyramid;
+  }
+
+  /**
+   * Is the whole permanent data visible
+   *
+   * @return
+   */
+  public boolean isAllXData() {
+
+    return viewEnd - viewStart == dataEnd - dataStart;
+  }
+
+  public double[] getXData() {
+
+    double[] data = xData;
+    if (data == null) {
+      data = copyView(xDataView);
+      xData = data;
+    }
+    return data;
+  }
+
+  public double[] getYData() {
+
+    double[] data = yData;
+    if (data == null) {
+      data = copyView(yDataView);
+      yData = data;
+    }
+    return data;
+  }
+
+  public double[] getExtraValues() {
+
+    double[] data = extraValues;
+    if (data == null && extraValuesView != null) {
+      data = copyView(extraValuesView);
+      extraValues = data;
+    }
+    return data;
+  }
+
+  /**
+   * Gets the array holding the visible X-Axis data from getViewStart() to getViewEnd() - 1. Unlike
+   * getXData(), the visible data is not copied when zooming in on sorted X-Axis data.
+   *
+   * @return
+   */
+  public double[] getXDataView() {
+
+    return xDataView;
+  }
+
+  /**
+   * Gets the array holding the visible Y-Axis data, see getXDataView().
+   *
+   * @return
+   */
+  public double[] getYDataView() {
+
+    return yDataView;
+  }
+
+  /**
+   * Gets the array holding the visible extra values, see getXDataView().
+   *
+   * @return
+   */
+  public double[] getExtraValuesView() {
+
+    return extraValuesView;
+  }
+
+  /** @return the index of the first visible value in the view arrays */
+  public int getViewStart() {
+
+    return viewStart;
+  }
+
+  /** @return the index after the last visible value in the view arrays */
+  public int getViewEnd() {
+
+    return viewEnd;
+  }
+
+  private double[] copyView(double[] view) {
+
+    if (viewStart == 0 && viewEnd == view.length) {
+      return view;
+    }
+    return Arrays.copyOfRange(view, viewStart, viewEnd);
+  }
+}
@@ -46,6 +46,8 @@ public abstract class AxesChartStyler extends Styler {
   private boolean isPlotTicksMarksVisible;
   private Color plotGridLinesColor;
   private BasicStroke plotGridLinesStroke;
+  private boolean isBatchedRenderingEnabled;
+  private boolean isMarkerSpritesEnabled;
 
   // Error Bars ///////////////////////////////
   private Color errorBarsColor;
@@ -116,6 +118,8 @@ private void setPlotStyles() {
     this.isPlotTicksMarksVisible = theme.isPlotTicksMarksVisible();
     this.plotGridLinesColor = theme.getPlotGridLinesColor();
     this.plotGridLinesStroke = theme.getPlotGridLinesStroke();
+    this.isBatchedRenderingEnabled = false;
+    this.isMarkerSpritesEnabled = false;
 }
 
 private void setAxisStyles() {
@@ -653,6 +657,48 @@ private void setAxisStyles() {
     return this;
   }
 
+  public boolean isBatchedRenderingEnabled() {
+
+    return isBatchedRenderingEnabled;
+  }
+
+  /**
+   * Set true to collect the lines, bars and error bars of each series into one shape and draw it
+   * with a single call instead of one draw call per segment. This greatly reduces the rendering
+   * overhead and the size of vector graphics output for large series. Without antialiasing, opaque
+   * Line, Step, Area and PolygonArea series without markers are painted pixel for pixel like
+   * before. Otherwise the output differs slightly: lines are drawn before the markers of a series
+   * rather than interleaved with them, and where segments overlap, like at every joint, antialiased
+   * or translucent lines are blended once instead of once per segment, so they look lighter.
+   *
+   * @param isBatchedRenderingEnabled
+   */
+  public AxesChartStyler setBatchedRenderingEnabled(boolean isBatchedRenderingEnabled) {
+
+    this.isBatchedRenderingEnabled = isBatchedRenderingEnabled;
+    return this;
+  }
+
+  public boolean isMarkerSpritesEnabled() {
+
+    return isMarkerSpritesEnabled;
+  }
+
+  /**
+   * Set true to paint each marker shape, color and size once into a small antialiased image and to
+   * stamp that image for every data point, instead of filling a new shape per data point. This is
+   * much faster for scatter plots with many markers, which are then placed to a quarter of a pixel.
+   * Only BitmapEncoder and XChartPanel stamp markers; vector graphics, like the ones of
+   * VectorGraphicsEncoder, PdfboxGraphicsEncoder or a printer, always get the marker shapes.
+   *
+   * @param isMarkerSpritesEnabled
+   */
+  public AxesChartStyler setMarkerSpritesEnabled(boolean isMarkerSpritesEnabled) {
+
+    this.isMarkerSpritesEnabled = isMarkerSpritesEnabled;
+    return this;
+  }
+
   // Error Bars ///////////////////////////////
 
   public Color getErrorBarsColor() {
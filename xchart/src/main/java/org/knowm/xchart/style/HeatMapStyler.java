@@ -4,6 +4,7 @@ import java.awt.Color;
 import java.awt.Font;
 import java.util.function.Function;
 import org.knowm.xchart.style.colors.ChartColor;
+import org.knowm.xchart.style.colors.ColorLookupTable;
 import org.knowm.xchart.style.theme.Theme;
 
 /** @author Mr14huashao */
@@ -24,6 +25,8 @@ public class HeatMapStyler extends AxesChartStyler {
 
   private boolean isDrawBorder;
 
+  private boolean isRasterRendering;
+
   private boolean showValue;
 
   private Font valueFont;
@@ -44,6 +47,9 @@ public class HeatMapStyler extends AxesChartStyler {
 
   private Function<Double, String> heatMapDecimalValueFormatter;
 
+  // compiled from the range colors, piecewise and split number
+  private ColorLookupTable colorLookupTable;
+
   /**
    * Set the theme the styler should use
    *
@@ -131,6 +137,22 @@ public class HeatMapStyler extends AxesChartStyler {
     return this;
   }
 
+  /**
+   * Gets the table mapping the heat data values to the range colors, compiled again whenever the
+   * range colors, piecewise or split number change.
+   *
+   * @return
+   */
+  public ColorLookupTable getColorLookupTable() {
+
+    ColorLookupTable table = colorLookupTable;
+    if (table == null || !table.isFor(rangeColors, isPiecewise, splitNumber)) {
+      table = new ColorLookupTable(rangeColors, isPiecewise, splitNumber);
+      colorLookupTable = table;
+    }
+    return table;
+  }
+
   public boolean isDrawBorder() {
 
     return isDrawBorder;
@@ -142,6 +164,24 @@ public class HeatMapStyler extends AxesChartStyler {
     return this;
   }
 
+  public boolean isRasterRendering() {
+
+    return isRasterRendering;
+  }
+
+  /**
+   * Paint the cells as an image with one pixel per cell, scaled up to the plot with a single
+   * drawImage, instead of filling a rectangle per cell. This is much faster for heat maps with many
+   * small cells. Borders, values and tooltips are then only added to cells big enough to see them.
+   *
+   * @param isRasterRendering
+   */
+  public HeatMapStyler setRasterRendering(boolean isRasterRendering) {
+
+    this.isRasterRendering = isRasterRendering;
+    return this;
+  }
+
   public boolean isShowValue() {
 
     return showValue;
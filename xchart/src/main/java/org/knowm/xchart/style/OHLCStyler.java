@@ -8,6 +8,7 @@ import org.knowm.xchart.style.theme.Theme;
 public class OHLCStyler extends AxesChartStyler {
 
   private OHLCSeriesRenderStyle ohlcSeriesRenderStyle;
+  private boolean isAggregationEnabled;
 
   /** Constructor */
   public OHLCStyler() {
@@ -20,6 +21,7 @@ public class OHLCStyler extends AxesChartStyler {
 
     super.setAllStyles();
     ohlcSeriesRenderStyle = OHLCSeriesRenderStyle.Candle; // set default to candle
+    isAggregationEnabled = false;
   }
 
   public OHLCSeries.OHLCSeriesRenderStyle getDefaultSeriesRenderStyle() {
@@ -39,6 +41,26 @@ public class OHLCStyler extends AxesChartStyler {
     return this;
   }
 
+  public boolean isAggregationEnabled() {
+
+    return isAggregationEnabled;
+  }
+
+  /**
+   * Sets the default for aggregating Candle and HiLo series into coarser buckets when their bars
+   * would be painted closer than the narrowest candle and its padding, based on the visible X-Axis
+   * range. A bucket has the first open, the max high, the min low, the last close and the sum of
+   * the volumes of its bars, and its candle is painted at its centre. Off by default. You can
+   * override this individually on each Series object.
+   *
+   * @param isAggregationEnabled
+   */
+  public OHLCStyler setAggregationEnabled(boolean isAggregationEnabled) {
+
+    this.isAggregationEnabled = isAggregationEnabled;
+    return this;
+  }
+
   /**
    * Set the theme the styler should use
    *
@@ -88,6 +88,7 @@ public abstract class Styler {
 
   // Misc. ///////////////////////////////
   private boolean antiAlias = true;
+  private boolean isLayoutReuseEnabled = false;
   private String decimalPattern;
   // TODO I don't think this should be in styler directly?
   private final HashMap<Integer, YAxisPosition> yAxisAlignmentMap = new HashMap<>();
@@ -913,6 +914,26 @@ public abstract class Styler {
     return this;
   }
 
+  public boolean isLayoutReuseEnabled() {
+
+    return isLayoutReuseEnabled;
+  }
+
+  /**
+   * Reuse the layout of the previous paint, meaning the axis bounds, tick locations, tick labels and
+   * legend bounds, as long as the size, the titles and the series of the chart don't change. Series
+   * changes are their data being replaced, filtered or appended to, and their settings changed by
+   * the setters of Series. Other changes, like the ones of the styler or of data arrays modified in
+   * place, must be followed by Chart.invalidateLayout().
+   *
+   * @param isLayoutReuseEnabled
+   */
+  public Styler setLayoutReuseEnabled(boolean isLayoutReuseEnabled) {
+
+    this.isLayoutReuseEnabled = isLayoutReuseEnabled;
+    return this;
+  }
+
   public int getYAxisLeftWidthHint() {
 
     return yAxisLeftWidthHint;
@@ -18,6 +18,9 @@ public class XYStyler extends AxesChartStyler {
   private boolean zoomResetByDoubleClick;
   private boolean zoomResetByButton;
 
+  // Decimation ///////////////////////////
+  private boolean isDecimationEnabled;
+
   // Cursor ////////////////////////////////
 
   private boolean isCursorEnabled;
@@ -48,6 +51,9 @@ public class XYStyler extends AxesChartStyler {
     zoomResetByDoubleClick = true;
     zoomResetByButton = true;
 
+    // Decimation ///////////////////////////
+    isDecimationEnabled = false;
+
     // Cursor ////////////////////////////////
     this.isCursorEnabled = theme.isCursorEnabled();
     this.cursorColor = theme.getCursorColor();
@@ -125,6 +131,29 @@ public class XYStyler extends AxesChartStyler {
     this.zoomResetByButton = zoomResetByButton;
   }
 
+  // Decimation ///////////////////////////////
+
+  public boolean isDecimationEnabled() {
+
+    return isDecimationEnabled;
+  }
+
+  /**
+   * Sets the default for reducing Line, Step and Area series to the first, last, min and max data
+   * point of each pixel column before painting. Series with markers or error bars, and charts with
+   * tool tips or the cursor, are painted in full. Without antialiasing, solid opaque lines wider
+   * than one pixel are painted pixel for pixel like the full render. Antialiased or translucent,
+   * the many overlapping segments of the full render blend into darker pixels where the data is
+   * dense. You can override this individually on each Series object.
+   *
+   * @param isDecimationEnabled
+   */
+  public XYStyler setDecimationEnabled(boolean isDecimationEnabled) {
+
+    this.isDecimationEnabled = isDecimationEnabled;
+    return this;
+  }
+
   // Cursor ///////////////////////////////
 
   public boolean isCursorEnabled() {
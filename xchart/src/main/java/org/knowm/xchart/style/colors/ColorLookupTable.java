@@ -0,0 +1,165 @@
+package org.knowm.xchart.style.colors;
+
+import java.awt.Color;
+import java.util.Arrays;
+
+/**
+ * Maps values to colors through a table, which is compiled once from a range of colors, so that
+ * coloring a value is a single array index without creating a Color. The values between min and
+ * max are spread over the range colors, either as a gradient in GRADIENT_STEPS steps or piecewise
+ * in splitNumber steps. Values up to min get the first range color, values from max on the last.
+ */
+public class ColorLookupTable {
+
+  /** The number of steps of a gradient, finer than a color channel can follow between two colors */
+  public static final int GRADIENT_STEPS = 4096;
+
+  private final Color[] rangeColors;
+  private final boolean isPiecewise;
+  private final int splitNumber;
+  private final int steps;
+
+  // the first range color, the colors of the steps and the last range color
+  private final Color[] colors;
+  private final int[] argbs;
+
+  /**
+   * Constructor
+   *
+   * @param rangeColors the colors from min to max
+   * @param isPiecewise true for splitNumber steps of a single color each, false for a gradient
+   * @param splitNumber
+   */
+  public ColorLookupTable(Color[] rangeColors, boolean isPiecewise, int splitNumber) {
+
+    if (rangeColors == null || rangeColors.length == 0) {
+      throw new IllegalArgumentException("Range colors cannot be empty!!!");
+    }
+    if (isPiecewise && splitNumber <= 0) {
+      throw new IllegalArgumentException("Split number must be greater than 0!!!");
+    }
+    this.rangeColors = rangeColors.clone();
+    this.isPiecewise = isPiecewise;
+    this.splitNumber = splitNumber;
+    this.steps = isPiecewise ? splitNumber : GRADIENT_STEPS;
+
+    colors = new Color[steps + 2];
+    argbs = new int[steps + 2];
+    colors[0] = rangeColors[0];
+    for (int step = 0; step < steps; step++) {
+      // a gradient step gets the color of the ratio in its middle
+      colors[step + 1] =
+          isPiecewise ? getPiecewiseColor(step) : getGradientColor((step + 0.5) / steps);
+    }
+    colors[steps + 1] = rangeColors[rangeColors.length - 1];
+    for (int i = 0; i < colors.length; i++) {
+      argbs[i] = colors[i].getRGB();
+    }
+  }
+
+  /**
+   * Is the table compiled from these settings, or does it have to be compiled again
+   *
+   * @param rangeColors
+   * @param isPiecewise
+   * @param splitNumber
+   * @return
+   */
+  public boolean isFor(Color[] rangeColors, boolean isPiecewise, int splitNumber) {
+
+    return this.isPiecewise == isPiecewise
+        && (!isPiecewise || this.splitNumber == splitNumber)
+        && Arrays.equals(this.rangeColors, rangeColors);
+  }
+
+  /**
+   * Gets the color of a value
+   *
+   * @param value
+   * @param min the value getting the first range color
+   * @param max the value getting the last range color
+   * @return
+   */
+  public Color getColor(double value, double min, double max) {
+
+    return colors[getIndex(value, min, max)];
+  }
+
+  /**
+   * Gets the color of a value, as in Color.getRGB()
+   *
+   * @param value
+   * @param min the value getting the first range color
+   * @param max the value getting the last range color
+   * @return the ARGB color
+   */
+  public int getRGB(double value, double min, double max) {
+
+    return argbs[getIndex(value, min, max)];
+  }
+
+  /**
+   * Gets the color of a step between min and max
+   *
+   * @param step from 0 to getSteps() - 1
+   * @return
+   */
+  public Color getStepColor(int step) {
+
+    return colors[step + 1];
+  }
+
+  /** @return the number of colors between min and max */
+  public int getSteps() {
+
+    return steps;
+  }
+
+  private int getIndex(double value, double min, double max) {
+
+    if (value <= min) {
+      return 0;
+    }
+    if (value >= max) {
+      return steps + 1;
+    }
+    int step = (int) ((value - min) / (max - min) * steps);
+    return Math.min(step, steps - 1) + 1;
+  }
+
+  private Color getPiecewiseColor(int step) {
+
+    if (step == 0) {
+      return rangeColors[0];
+    }
+    if (step == splitNumber - 1) {
+      return rangeColors[rangeColors.length - 1];
+    }
+    double index = (double) step / splitNumber * rangeColors.length;
+    int beginColorIndex = (int) index;
+    int endColorIndex = Math.min(beginColorIndex + 1, rangeColors.length - 1);
+    return interpolate(
+        rangeColors[beginColorIndex], rangeColors[endColorIndex], index - beginColorIndex);
+  }
+
+  private Color getGradientColor(double valueRatio) {
+
+    double index = valueRatio * (rangeColors.length - 1);
+    int beginColorIndex = (int) index;
+    if (beginColorIndex >= rangeColors.length - 1) {
+      return rangeColors[rangeColors.length - 1];
+    }
+    return interpolate(
+        rangeColors[beginColorIndex], rangeColors[beginColorIndex + 1], index - beginColorIndex);
+  }
+
+  private static Color interpolate(Color beginColor, Color endColor, double fraction) {
+
+    int red = (int) (beginColor.getRed() + fraction * (endColor.getRed() - beginColor.getRed()));
+    int green =
+        (int) (beginColor.getGreen() + fraction * (endColor.getGreen() - beginColor.getGreen()));
+    int blue =
+        (int) (beginColor.getBlue() + fraction * (endColor.getBlue() - beginColor.getBlue()));
+    return new Color(red, green, blue);
+  }
+}
@@ -0,0 +1,138 @@
+package org.knowm.xchart;
+
+import static org.fest.assertions.api.Assertions.assertThat;
+
+import java.awt.Color;
+import java.awt.image.BufferedImage;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import org.junit.Test;
+
+public class AsyncChartRendererTest {
+
+  // the widths of the frames painted so far
+  private final List<Integer> paintedWidths = new CopyOnWriteArrayList<>();
+  // the painter waits for a permit before every frame
+  private final Semaphore paintPermits = new Semaphore(0);
+  private final Semaphore completedFrames = new Semaphore(0);
+  private final CountDownLatch firstPaintStarted = new CountDownLatch(1);
+
+  private final AsyncChartRenderer renderer =
+      new AsyncChartRenderer(
+          (graphics, width, height, graphicsConfiguration) -> {
+            firstPaintStarted.countDown();
+            paintPermits.acquireUninterruptibly();
+            graphics.setColor(Color.RED);
+            graphics.fillRect(0, 0, width, height);
+            paintedWidths.add(width);
+          },
+          completedFrames::release);
+
+  private void awaitFrames(int count) throws InterruptedException {
+
+    assertThat(completedFrames.tryAcquire(count, 10, TimeUnit.SECONDS)).isTrue();
+  }
+
+  @Test
+  public void shouldDropTheFramesRequestedWhileAFrameIsRendered() throws InterruptedException {
+
+    // given the first frame being rendered
+    BufferedImage image = new BufferedImage(100, 50, BufferedImage.TYPE_INT_ARGB);
+    assertThat(renderer.requestFrame(100, 50)).isFalse();
+    renderer.paint(image.createGraphics(), 100, 50, null);
+    assertThat(firstPaintStarted.await(10, TimeUnit.SECONDS)).isTrue();
+
+    // when requesting 5 more frames meanwhile
+    for (int i = 1; i <= 5; i++) {
+      assertThat(renderer.requestFrame(100 + i, 50)).isTrue();
+    }
+    paintPermits.release(2);
+    awaitFrames(2);
+
+    // test (only the first and the last frame are rendered)
+    assertThat(paintedWidths).containsExactly(100, 105);
+    assertThat(renderer.getRenderedFrameCount()).isEqualTo(2);
+    assertThat(renderer.getDroppedFrameCount()).isEqualTo(4);
+  }
+
+  @Test
+  public void shouldMeasureAndDrawTheLastFrame() throws InterruptedException {
+
+    // given a rendered frame
+    BufferedImage image = new BufferedImage(100, 50, BufferedImage.TYPE_INT_ARGB);
+    paintPermits.release();
+    renderer.paint(image.createGraphics(), 100, 50, null);
+    awaitFrames(1);
+    assertThat(image.getRGB(50, 25)).isEqualTo(0);
+    assertThat(renderer.getLastRenderTime()).isGreaterThan(0);
+    assertThat(renderer.getLastFrameLatency()).isEqualTo(0);
+
+    // when it is drawn
+    renderer.paint(image.createGraphics(), 100, 50, null);
+
+    // test (and no new frame is requested for the same size)
+    assertThat(image.getRGB(50, 25)).isEqualTo(Color.RED.getRGB());
+    assertThat(renderer.getLastFrameLatency()).isGreaterThan(0);
+    assertThat(renderer.getRenderedFrameCount()).isEqualTo(1);
+    assertThat(renderer.getDroppedFrameCount()).isEqualTo(0);
+  }
+
+  @Test
+  public void shouldCompleteTheFrameBeingRenderedAndNoMoreAfterTheShutdown()
+      throws InterruptedException {
+
+    // given the first frame being rendered
+    BufferedImage image = new BufferedImage(100, 50, BufferedImage.TYPE_INT_ARGB);
+    renderer.paint(image.createGraphics(), 100, 50, null);
+    assertThat(firstPaintStarted.await(10, TimeUnit.SECONDS)).isTrue();
+
+    // when
+    renderer.shutdown();
+    paintPermits.release(2);
+    awaitFrames(1);
+
+    // test
+    assertThat(renderer.requestFrame(200, 50)).isFalse();
+    renderer.paint(image.createGraphics(), 200, 50, null);
+    assertThat(completedFrames.tryAcquire(200, TimeUnit.MILLISECONDS)).isFalse();
+    assertThat(paintedWidths).containsExactly(100);
+    assertThat(renderer.getRenderedFrameCount()).isEqualTo(1);
+  }
+
+  @Test
+  public void shouldRunTasksOnTheRendererThreadBetweenFrames() throws InterruptedException {
+
+    // given the first frame being rendered
+    BufferedImage image = new BufferedImage(100, 50, BufferedImage.TYPE_INT_ARGB);
+    renderer.paint(image.createGraphics(), 100, 50, null);
+    assertThat(firstPaintStarted.await(10, TimeUnit.SECONDS)).isTrue();
+
+    // when
+    List<String> tasks = new CopyOnWriteArrayList<>();
+    CountDownLatch tasksRun = new CountDownLatch(2);
+    for (int i = 0; i < 2; i++) {
+      String task = "task " + i + " after frame ";
+      assertThat(
+              renderer.execute(
+                  () -> {
+                    String thread = Thread.currentThread().getName();
+                    tasks.add(task + paintedWidths.size() + " on " + thread);
+                    tasksRun.countDown();
+                  }))
+          .isTrue();
+    }
+
+    // test (the tasks wait for the frame being rendered, then run in order)
+    assertThat(tasksRun.await(200, TimeUnit.MILLISECONDS)).isFalse();
+    paintPermits.release();
+    assertThat(tasksRun.await(10, TimeUnit.SECONDS)).isTrue();
+    assertThat(tasks).containsExactly(
+            "task 0 after frame 1 on XChart Renderer", "task 1 after frame 1 on XChart Renderer");
+
+    renderer.shutdown();
+    assertThat(renderer.execute(() -> {})).isFalse();
+  }
+}
@@ -0,0 +1,100 @@
+package org.knowm.xchart;
+
+import static org.fest.assertions.api.Assertions.assertThat;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import javax.imageio.ImageIO;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.knowm.xchart.BitmapEncoder.BitmapFormat;
+import org.knowm.xchart.internal.chartpart.Chart;
+
+public class BitmapEncoderTest {
+
+  @Rule public TemporaryFolder folder = new TemporaryFolder();
+
+  @Test
+  public void shouldSaveBitmapsLikeOneAtATime() throws IOException {
+
+    List<Chart<?, ?>> charts = new ArrayList<>();
+    List<String> fileNames = new ArrayList<>();
+    for (int i = 0; i < 16; i++) {
+      charts.add(getChart(i));
+      fileNames.add(new File(folder.getRoot(), "chart" + i).getPath());
+    }
+
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      BitmapEncoder.saveBitmaps(charts, fileNames, BitmapFormat.PNG, executor, 3);
+    } finally {
+      executor.shutdown();
+    }
+
+    for (int i = 0; i < charts.size(); i++) {
+      byte[] expected = BitmapEncoder.getBitmapBytes(getChart(i), BitmapFormat.PNG);
+      byte[] actual = Files.readAllBytes(new File(fileNames.get(i) + ".png").toPath());
+      assertThat(actual).isEqualTo(expected);
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void shouldRejectTheSameChartTwice() throws IOException {
+
+    XYChart chart = new XYChart(100, 100);
+    List<XYChart> charts = new ArrayList<>();
+    charts.add(chart);
+    charts.add(chart);
+    List<String> fileNames = new ArrayList<>();
+    fileNames.add(new File(folder.getRoot(), "a").getPath());
+    fileNames.add(new File(folder.getRoot(), "b").getPath());
+
+    BitmapEncoder.saveBitmaps(charts, fileNames, BitmapFormat.PNG);
+  }
+
+  @Test
+  public void shouldReuseImageWritersLikeNewOnes() throws IOException {
+
+    // given
+    BitmapEncoder.getBitmapBytes(getChart(0), BitmapFormat.PNG);
+    int pooledWriterCount = BitmapEncoder.getPooledWriterCount(BitmapFormat.PNG);
+
+    for (int i = 0; i < 6; i++) {
+      // when saving charts of different sizes and formats one after another
+      Chart<?, ?> chart = getChart(i);
+      BitmapFormat bitmapFormat = i % 3 == 2 ? BitmapFormat.BMP : BitmapFormat.PNG;
+      byte[] actual = BitmapEncoder.getBitmapBytes(chart, bitmapFormat);
+
+      // test they are written like by a new writer
+      BufferedImage image = BitmapEncoder.getBufferedImage(getChart(i));
+      ByteArrayOutputStream expected = new ByteArrayOutputStream();
+      ImageIO.write(image, bitmapFormat.toString().toLowerCase(), expected);
+      assertThat(actual).isEqualTo(expected.toByteArray());
+    }
+
+    // test the writer was reused instead of a new one being pooled for every chart
+    assertThat(BitmapEncoder.getPooledWriterCount(BitmapFormat.PNG)).isEqualTo(pooledWriterCount);
+  }
+
+  private static Chart<?, ?> getChart(int i) {
+
+    if (i % 2 == 0) {
+      RadarChart chart = new RadarChart(300, 200);
+      chart.setRadiiLabels(new String[] {"a", "b", "c"});
+      chart.addSeries("radar", new double[] {0.1 * (i % 10), 0.5, 0.9});
+      return chart;
+    }
+    XYChart chart = new XYChart(300, 200);
+    chart.setTitle("Chart " + i);
+    chart.addSeries("xy", new double[] {0, 1, 2, 3}, new double[] {i, 2, i * 0.5, 1});
+    return chart;
+  }
+}
@@ -0,0 +1,66 @@
+package org.knowm.xchart;
+
+import static org.fest.assertions.api.Assertions.assertThat;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.Random;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.knowm.xchart.CSVImporter.DataOrientation;
+
+public class CSVImporterTest {
+
+  @Rule public TemporaryFolder folder = new TemporaryFolder();
+
+  @Test
+  public void shouldParseNumbersLikeDoubleParseDouble() {
+
+    Random random = new Random(7);
+    for (int i = 0; i < 100000; i++) {
+      double value = random.nextGaussian() * Math.pow(10, random.nextInt(40) - 20);
+      String[] texts = {
+        Double.toString(value),
+        String.format(Locale.ROOT, "%.3f", value),
+        String.format(Locale.ROOT, "%e", value),
+        "42"
+      };
+      for (String text : texts) {
+        byte[] bytes = text.getBytes(StandardCharsets.US_ASCII);
+        assertThat(CSVImporter.parseDouble(bytes, 0, bytes.length))
+            .isEqualTo(Double.parseDouble(text));
+      }
+    }
+  }
+
+  @Test
+  public void shouldImportWhatWasExported() throws IOException {
+
+    double[] xData = {0, 1.5, -2.25, 1e-7, 3.141592653589793};
+    double[] yData = {-0.0, 1e300, Double.NaN, 42, 1.0 / 3};
+    double[] errorBars = {0.1, 0.2, 0.3, 0.4, 0.5};
+    XYChart chart = new XYChart(600, 400);
+    chart.addSeries("errors", xData, yData, errorBars);
+    chart.addSeries("plain", xData, yData);
+
+    for (DataOrientation dataOrientation : DataOrientation.values()) {
+      File dir = folder.newFolder(dataOrientation.name());
+      String path2Dir = dir.getPath() + File.separator;
+      if (dataOrientation == DataOrientation.Rows) {
+        CSVExporter.writeCSVRows(chart, path2Dir);
+      } else {
+        CSVExporter.writeCSVColumns(chart, path2Dir);
+      }
+
+      XYChart imported = CSVImporter.getChartFromCSVDir(path2Dir, dataOrientation, 600, 400);
+      XYSeries errors = imported.getSeriesMap().get("errors");
+      assertThat(errors.getXData()).isEqualTo(xData);
+      assertThat(errors.getYData()).isEqualTo(yData);
+      assertThat(errors.getExtraValues()).isEqualTo(errorBars);
+      assertThat(imported.getSeriesMap().get("plain").getExtraValues()).isNull();
+    }
+  }
+}
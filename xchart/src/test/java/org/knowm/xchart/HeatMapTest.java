@@ -3,12 +3,17 @@ package org.knowm.xchart;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Random;
 
 import static org.fest.assertions.api.Assertions.assertThat;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
 public class HeatMapTest {
@@ -367,4 +372,73 @@ public class HeatMapTest {
         assertEquals("Y1",chart.getYAxisGroupTitle(0));
         assertEquals("Y2",chart.getYAxisGroupTitle(1));
     }
+    /*
+     * Purpose : Check that raster rendering paints the same cells
+     * Input: the default heat data painted with and without setRasterRendering(true)
+     * Expected: only the anti-aliased edges between the cells differ
+     */
+    @Test
+    public void RasterRenderingTest() {
+        HeatMapChart chart = new HeatMapChartBuilder().width(600).height(400).build();
+        chart.addSeries("Basic HeatMap", defaultXData, defaultYData, defaultHeatData);
+        BufferedImage filled = BitmapEncoder.getBufferedImage(chart);
+        chart.getStyler().setRasterRendering(true);
+        BufferedImage raster = BitmapEncoder.getBufferedImage(chart);
+
+        int differentPixels = 0;
+        for (int y = 0; y < filled.getHeight(); y++) {
+            for (int x = 0; x < filled.getWidth(); x++) {
+                if (filled.getRGB(x, y) != raster.getRGB(x, y)) {
+                    differentPixels++;
+                }
+            }
+        }
+        assertTrue(differentPixels < filled.getWidth() * filled.getHeight() / 50);
+    }
+    /*
+     * Purpose : Check for in place changes of dense heat data
+     * Input: xData = [1,2,3], yData = [1,2] heatData = [1,2,3,4,5,6], then setValue and setRow
+     * Expected: the values and the min and max follow the changes
+     */
+    @Test
+    public void DenseHeatDataTest() {
+        HeatMapChart chart = new HeatMapChartBuilder().width(1000).height(600).title("Dense Test").build();
+        List<Integer> xData = Arrays.asList(1, 2, 3);
+        List<Integer> yData = Arrays.asList(1, 2);
+        HeatMapSeries series = chart.addSeries("dense", xData, yData, new double[] {1, 2, 3, 4, 5, 6});
+        assertTrue(series.isDense());
+        assertEquals(6, series.heatData.size());
+        assertEquals(4, series.getValue(0, 1), EPSILON);
+        assertEquals(1, series.getMin(), EPSILON);
+        assertEquals(6, series.getMax(), EPSILON);
+
+        series.setValue(2, 1, 0);
+        assertEquals(0, series.getMin(), EPSILON);
+        assertEquals(5, series.getMax(), EPSILON);
+
+        series.setRow(0, new double[] {Double.NaN, 7, 8});
+        assertEquals(null, series.heatData.get(0));
+        assertEquals(0, series.getMin(), EPSILON);
+        assertEquals(8, series.getMax(), EPSILON);
+    }
+    /*
+     * Purpose : Check that raster rendering leaves the interpolation hint of the graphics as it was
+     * Input: the default heat data painted with setRasterRendering(true), without and with the hint
+     * Expected: the hint is still unset, or still bicubic
+     */
+    @Test
+    public void RasterRenderingHintTest() {
+        HeatMapChart chart = new HeatMapChartBuilder().width(600).height(400).build();
+        chart.addSeries("Basic HeatMap", defaultXData, defaultYData, defaultHeatData);
+        chart.getStyler().setRasterRendering(true);
+        Graphics2D g = new BufferedImage(600, 400, BufferedImage.TYPE_INT_ARGB).createGraphics();
+
+        chart.paint(g, 600, 400);
+        assertNull(g.getRenderingHint(RenderingHints.KEY_INTERPOLATION));
+
+        g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
+        chart.paint(g, 600, 400);
+        assertEquals(RenderingHints.VALUE_INTERPOLATION_BICUBIC, g.getRenderingHint(RenderingHints.KEY_INTERPOLATION));
+        g.dispose();
+    }
 }
@@ -1,8 +1,12 @@
 package org.knowm.xchart;
 
 import static org.fest.assertions.api.Assertions.assertThat;
+import static org.fest.assertions.api.Assertions.offset;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.stream.DoubleStream;
 import org.junit.Test;
 
 /** @author timmolter */
@@ -32,4 +36,50 @@ public class HistogramTest {
     assertThat(histogram.getMin()).isEqualTo(-6);
     assertThat(histogram.getNumBins()).isEqualTo(3);
   }
+
+  @Test
+  public void shouldBinPrimitivesLikeNumbers() {
+
+    // 0.0 to 99.9, each value 200 times, enough to be binned in parallel
+    double[] data = new double[200000];
+    List<Double> boxed = new ArrayList<>();
+    for (int i = 0; i < data.length; i++) {
+      data[i] = (i * 7919) % 1000 / 10.0;
+      boxed.add(data[i]);
+    }
+    double[] expectedCounts = {
+      15400, 15400, 15400, 15400, 15400, 15400, 15200, 15400, 15400, 15400, 15400, 15400, 15400
+    };
+
+    Histogram histogram = Histogram.of(data, 13);
+    Histogram boxedHistogram = new Histogram(boxed, 13);
+
+    assertThat(histogram.getBinCounts()).isEqualTo(expectedCounts);
+    assertThat(boxedHistogram.getBinCounts()).isEqualTo(expectedCounts);
+    assertThat(histogram.getMin()).isEqualTo(0.0);
+    assertThat(histogram.getMax()).isEqualTo(99.9);
+    assertThat(histogram.getBinCenters()[6]).isEqualTo(49.95, offset(1e-9));
+    assertThat(histogram.getyAxisData().get(6)).isEqualTo(15200.0);
+  }
+
+  @Test
+  public void shouldAddAndMergeIncrementally() {
+
+    Histogram histogram = new Histogram(4, 0, 4);
+    histogram.add(0.5);
+    histogram.addAll(new double[] {1.5, 2.5, 3.5, 4.0, 5.0, Double.NaN});
+    histogram.addAll(DoubleStream.of(0.1, 0.2).parallel());
+
+    Histogram other = Histogram.of(new double[] {3.9, 1.1}, 4, 0, 4);
+    histogram.merge(other);
+
+    assertThat(histogram.getCounts()).isEqualTo(new long[] {3, 2, 1, 3});
+    assertThat(histogram.getyAxisData().get(3)).isEqualTo(3.0);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void shouldOnlyMergeTheSameBins() {
+
+    new Histogram(4, 0, 4).merge(new Histogram(4, 0, 5));
+  }
 }
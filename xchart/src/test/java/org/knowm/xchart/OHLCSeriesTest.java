@@ -1,80 +1,110 @@
-package org.knowm.xchart;
-
-import junit.framework.TestCase;
-import org.junit.Test;
-import org.knowm.xchart.internal.series.Series;
-
-import static org.fest.assertions.api.Assertions.assertThat;
-
-public class OHLCSeriesTest extends TestCase {
-    /*Purpose: creat OHLCSeries and test getData, replaceData
-    *Input : replaceData xData = {1.0, 2.0}->{3.0, 4.0}, openData = {1.0, 2.0}->{3.0, 4.0},
-    *        highData = {5.0, 6.0}->{7.0, 8.0}, lowData = {2.0, 3.0}->{3.0, 4.0},
-    *        closeData = {5.0, 5.0}->{6.0, 6.0}, volumeData = {1L, 2L}->{2L, 3L}
-    * Expected : each get data is equal to input data
-     */
-    @Test
-    public void testSeries() {
-        double[] xData = {1.0, 2.0};
-        double[] openData = {1.0, 2.0};
-        double[] highData = {5.0, 6.0};
-        double[]  lowData = {2.0, 3.0};
-        double[] closeData = {5.0, 5.0};
-        long[] volumeData = {1L, 2L};
-        Series.DataType xAxisDataType = Series.DataType.Number;
-
-        OHLCSeries testSeries = new OHLCSeries("ser1", xData, openData, highData, lowData, closeData, volumeData, xAxisDataType);
-
-        assertThat(testSeries.getXData()).isEqualTo(xData);
-        assertThat(testSeries.getOpenData()).isEqualTo(openData);
-        assertThat(testSeries.getHighData()).isEqualTo(highData);
-        assertThat(testSeries.getLowData()).isEqualTo(lowData);
-        assertThat(testSeries.getCloseData()).isEqualTo(closeData);
-        assertThat(testSeries.getVolumeData()).isEqualTo(volumeData);
-        assertThat(testSeries.getxAxisDataType()).isEqualTo(xAxisDataType);
-
-        xData = new double[] {3.0, 4.0};
-        openData = new double[] {3.0, 4.0};
-        highData = new double[] {7.0, 8.0};
-        lowData = new double[]{3.0, 4.0};
-        closeData = new double[]{6.0, 6.0};
-        volumeData = new long[]{2L, 3L};
-
-        testSeries.replaceData(xData, openData, highData, lowData, closeData, volumeData);
-
-
-        assertThat(testSeries.getXData()).isEqualTo(xData);
-        assertThat(testSeries.getOpenData()).isEqualTo(openData);
-        assertThat(testSeries.getHighData()).isEqualTo(highData);
-        assertThat(testSeries.getLowData()).isEqualTo(lowData);
-        assertThat(testSeries.getCloseData()).isEqualTo(closeData);
-        assertThat(testSeries.getVolumeData()).isEqualTo(volumeData);
-
-    }
-
-    /*Purpose: test about up/down color set/get
-     *Input : setColor color
-     * Expected : color==color
-     */
-
-    @Test
-    public void testColor(){
-        double[] xData = {1.0, 2.0};
-        double[] openData = {1.0, 2.0};
-        double[] highData = {5.0, 6.0};
-        double[]  lowData = {2.0, 3.0};
-        double[] closeData = {5.0, 5.0};
-        long[] volumeData = {1L, 2L};
-        Series.DataType xAxisDataType = Series.DataType.Number;
-
-        OHLCSeries testSeries = new OHLCSeries("ser1", xData, openData, highData, lowData, closeData, volumeData, xAxisDataType);
-
-        java.awt.Color color = java.awt.Color.BLACK;
-        testSeries.setUpColor(color);
-        assertThat(testSeries.getUpColor()).isEqualTo(color);
-
-        testSeries.setDownColor(color);
-        assertThat(testSeries.getDownColor()).isEqualTo(color);
-    }
-
+package org.knowm.xchart;
+
+import junit.framework.TestCase;
+import org.junit.Test;
+import org.knowm.xchart.internal.series.OHLCBuckets;
+import org.knowm.xchart.internal.series.Series;
+
+import static org.fest.assertions.api.Assertions.assertThat;
+
+public class OHLCSeriesTest extends TestCase {
+    /*Purpose: creat OHLCSeries and test getData, replaceData
+    *Input : replaceData xData = {1.0, 2.0}->{3.0, 4.0}, openData = {1.0, 2.0}->{3.0, 4.0},
+    *        highData = {5.0, 6.0}->{7.0, 8.0}, lowData = {2.0, 3.0}->{3.0, 4.0},
+    *        closeData = {5.0, 5.0}->{6.0, 6.0}, volumeData = {1L, 2L}->{2L, 3L}
+    * Expected : each get data is equal to input data
+     */
+    @Test
+    public void testSeries() {
+        double[] xData = {1.0, 2.0};
+        double[] openData = {1.0, 2.0};
+        double[] highData = {5.0, 6.0};
+        double[]  lowData = {2.0, 3.0};
+        double[] closeData = {5.0, 5.0};
+        long[] volumeData = {1L, 2L};
+        Series.DataType xAxisDataType = Series.DataType.Number;
+
+        OHLCSeries testSeries = new OHLCSeries("ser1", xData, openData, highData, lowData, closeData, volumeData, xAxisDataType);
+
+        assertThat(testSeries.getXData()).isEqualTo(xData);
+        assertThat(testSeries.getOpenData()).isEqualTo(openData);
+        assertThat(testSeries.getHighData()).isEqualTo(highData);
+        assertThat(testSeries.getLowData()).isEqualTo(lowData);
+        assertThat(testSeries.getCloseData()).isEqualTo(closeData);
+        assertThat(testSeries.getVolumeData()).isEqualTo(volumeData);
+        assertThat(testSeries.getxAxisDataType()).isEqualTo(xAxisDataType);
+
+        xData = new double[] {3.0, 4.0};
+        openData = new double[] {3.0, 4.0};
+        highData = new double[] {7.0, 8.0};
+        lowData = new double[]{3.0, 4.0};
+        closeData = new double[]{6.0, 6.0};
+        volumeData = new long[]{2L, 3L};
+
+        testSeries.replaceData(xData, openData, highData, lowData, closeData, volumeData);
+
+
+        assertThat(testSeries.getXData()).isEqualTo(xData);
+        assertThat(testSeries.getOpenData()).isEqualTo(openData);
+        assertThat(testSeries.getHighData()).isEqualTo(highData);
+        assertThat(testSeries.getLowData()).isEqualTo(lowData);
+        assertThat(testSeries.getCloseData()).isEqualTo(closeData);
+        assertThat(testSeries.getVolumeData()).isEqualTo(volumeData);
+
+    }
+
+    /*Purpose: test about up/down color set/get
+     *Input : setColor color
+     * Expected : color==color
+     */
+
+    @Test
+    public void testColor(){
+        double[] xData = {1.0, 2.0};
+        double[] openData = {1.0, 2.0};
+        double[] highData = {5.0, 6.0};
+        double[]  lowData = {2.0, 3.0};
+        double[] closeData = {5.0, 5.0};
+        long[] volumeData = {1L, 2L};
+        Series.DataType xAxisDataType = Series.DataType.Number;
+
+        OHLCSeries testSeries = new OHLCSeries("ser1", xData, openData, highData, lowData, closeData, volumeData, xAxisDataType);
+
+        java.awt.Color color = java.awt.Color.BLACK;
+        testSeries.setUpColor(color);
+        assertThat(testSeries.getUpColor()).isEqualTo(color);
+
+        testSeries.setDownColor(color);
+        assertThat(testSeries.getDownColor()).isEqualTo(color);
+    }
+
+    /*Purpose: test aggregating bars closer than a candle into buckets
+     *Input : 6 bars 1.0 apart, visible range 0.0 to 6.0 on 6 pixels, candles 4 pixels wide
+     * Expected : 2 buckets of 4 bars and 2 bars, open = first, high = max, low = min,
+     *            close = last, volume = sum; no buckets on 600 pixels
+     */
+    @Test
+    public void testAggregatedData() {
+        double[] xData = {0.0, 1.0, 2.0, 3.0, 4.0, 5.0};
+        double[] openData = {1.0, 2.0, 3.0, 4.0, 5.0, 6.0};
+        double[] highData = {2.0, 9.0, 4.0, 5.0, 6.0, 7.0};
+        double[] lowData = {0.5, 1.5, -1.0, 3.5, 4.5, 5.5};
+        double[] closeData = {2.0, 3.0, 4.0, 5.0, 6.0, 7.0};
+        long[] volumeData = {1L, 2L, 3L, 4L, 5L, 6L};
+
+        OHLCSeries testSeries = new OHLCSeries("ser1", xData, openData, highData, lowData, closeData, volumeData, Series.DataType.Number);
+
+        OHLCBuckets buckets = testSeries.getAggregatedData(0.0, 6.0, 6, 4);
+        assertThat(buckets.getBucketWidth()).isEqualTo(4.0);
+        assertThat(buckets.getXData()).isEqualTo(new double[] {0.0, 4.0});
+        assertThat(buckets.getOpenData()).isEqualTo(new double[] {1.0, 5.0});
+        assertThat(buckets.getHighData()).isEqualTo(new double[] {9.0, 7.0});
+        assertThat(buckets.getLowData()).isEqualTo(new double[] {-1.0, 4.5});
+        assertThat(buckets.getCloseData()).isEqualTo(new double[] {5.0, 7.0});
+        assertThat(buckets.getVolumeData()).isEqualTo(new long[] {10L, 11L});
+        assertThat(testSeries.getAggregatedData(0.0, 6.0, 6, 4)).isSameAs(buckets);
+
+        assertThat(testSeries.getAggregatedData(0.0, 6.0, 600, 4)).isNull();
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,88 @@
+package org.knowm.xchart;
+
+import static org.fest.assertions.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.Test;
+
+public class QuantileSketchTest {
+
+  private static final int N = 100_000;
+
+  // the ranks of the shuffled values are the values themselves
+  private static double[] shuffledRanks() {
+
+    List<Double> values =
+        IntStream.range(0, N).mapToObj(i -> (double) i).collect(Collectors.toList());
+    Collections.shuffle(values, new Random(7));
+    return values.stream().mapToDouble(Double::doubleValue).toArray();
+  }
+
+  @Test
+  public void shouldEstimateTheQuantilesWithinTheRankError() {
+
+    QuantileSketch sketch = new QuantileSketch();
+    sketch.addAll(shuffledRanks());
+
+    assertThat(sketch.getCount()).isEqualTo(N);
+    assertThat(sketch.getMin()).isEqualTo(0.0);
+    assertThat(sketch.getMax()).isEqualTo(N - 1.0);
+    for (double fraction : new double[] {0.01, 0.25, 0.5, 0.75, 0.99}) {
+      double rankError = Math.abs(sketch.getQuantile(fraction) - fraction * (N - 1)) / N;
+      assertThat(rankError).isLessThan(0.02);
+    }
+  }
+
+  @Test
+  public void shouldSummarizeAParallelStream() {
+
+    QuantileSketch sketch = new QuantileSketch();
+    sketch.add(Double.NaN);
+    sketch.addAll(Arrays.stream(shuffledRanks()).parallel());
+
+    assertThat(sketch.getCount()).isEqualTo(N);
+    assertThat(sketch.getMin()).isEqualTo(0.0);
+    assertThat(sketch.getMax()).isEqualTo(N - 1.0);
+    double rankError = Math.abs(sketch.getQuantile(0.5) - 0.5 * (N - 1)) / N;
+    assertThat(rankError).isLessThan(0.02);
+  }
+
+  @Test
+  public void shouldBeExactForFewSamples() {
+
+    QuantileSketch sketch = new QuantileSketch();
+    sketch.addAll(new double[] {5, 1, 4, 2, 3});
+
+    for (int rank = 0; rank < 5; rank++) {
+      assertThat(sketch.getValueAtRank(rank)).isEqualTo(rank + 1.0);
+    }
+  }
+
+  @Test
+  public void shouldQueryTheSamplesAddedAfterTheLastQuery() {
+
+    QuantileSketch sketch = new QuantileSketch();
+    sketch.addAll(new double[] {5, 1, 4, 2, 3});
+    assertThat(sketch.getValueAtRank(2)).isEqualTo(3.0);
+
+    sketch.addAll(new double[] {0.5, 1.5});
+    assertThat(sketch.getValueAtRank(2)).isEqualTo(1.5);
+
+    QuantileSketch other = new QuantileSketch();
+    other.addAll(new double[] {0.1, 0.2, 0.3});
+    sketch.merge(other);
+    assertThat(sketch.getValueAtRank(2)).isEqualTo(0.3);
+    assertThat(sketch.getValueAtRank(5)).isEqualTo(1.5);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void shouldNotAddAnEmptySketchToABoxChart() {
+
+    new BoxChartBuilder().build().addSeries("empty", new QuantileSketch());
+  }
+}
@@ -0,0 +1,105 @@
+package org.knowm.xchart;
+
+import static org.fest.assertions.api.Assertions.assertThat;
+
+import org.junit.Test;
+import org.knowm.xchart.internal.series.SeriesDataView;
+
+public class StreamingXYSeriesTest {
+
+  @Test
+  public void shouldKeepTheMostRecentPoints() {
+
+    XYChart chart = new XYChart(600, 400);
+    StreamingXYSeries series =
+        chart.addStreamingSeries("stream", new double[] {0, 1}, new double[] {5, -5}, 3);
+
+    series.appendPoint(2, 1);
+    series.appendBatch(new double[] {3, 4}, new double[] {2, 3});
+
+    assertThat(series.getXData()).isEqualTo(new double[] {2, 3, 4});
+    assertThat(series.getYData()).isEqualTo(new double[] {1, 2, 3});
+  }
+
+  @Test
+  public void shouldTrackMinMaxOfTheWindow() {
+
+    XYChart chart = new XYChart(600, 400);
+    StreamingXYSeries series =
+        chart.addStreamingSeries("stream", new double[] {0}, new double[] {10}, 2);
+
+    series.appendPoint(1, -10);
+    assertThat(series.getYMin()).isEqualTo(-10);
+    assertThat(series.getYMax()).isEqualTo(10);
+
+    // evicts the 10
+    series.appendPoint(2, Double.NaN);
+    assertThat(series.getXMin()).isEqualTo(1);
+    assertThat(series.getXMax()).isEqualTo(2);
+    assertThat(series.getYMin()).isEqualTo(-10);
+    assertThat(series.getYMax()).isEqualTo(-10);
+  }
+
+  @Test
+  public void shouldReplaceTheWindowOnUpdate() {
+
+    XYChart chart = new XYChart(600, 400);
+    StreamingXYSeries series =
+        chart.addStreamingSeries("stream", new double[] {0}, new double[] {10}, 2);
+
+    chart.updateXYSeries("stream", new double[] {1, 2, 3}, new double[] {3, 2, 1}, null);
+
+    assertThat(series.getXData()).isEqualTo(new double[] {2, 3});
+    assertThat(series.getYMin()).isEqualTo(1);
+    assertThat(series.getYMax()).isEqualTo(2);
+  }
+
+  @Test
+  public void shouldKeepPaintedViewsWhilePointsAreAppended() {
+
+    // given
+    XYChart chart = new XYChart(600, 400);
+    StreamingXYSeries series =
+        chart.addStreamingSeries("stream", new double[] {0, 1, 2}, new double[] {0, 1, 2}, 3);
+
+    // when
+    SeriesDataView view = series.getDataView();
+    // moves the window to a new array of the buffers twice
+    for (int i = 3; i < 12; i++) {
+      series.appendPoint(i, i);
+    }
+
+    // test
+    assertThat(view.getXData()).isEqualTo(new double[] {0, 1, 2});
+    assertThat(view.getYData()).isEqualTo(new double[] {0, 1, 2});
+    assertThat(view.getYMin()).isEqualTo(0);
+    assertThat(view.getYMax()).isEqualTo(2);
+    assertThat(series.getXData()).isEqualTo(new double[] {9, 10, 11});
+    assertThat(series.getYMin()).isEqualTo(9);
+    assertThat(series.getYMax()).isEqualTo(11);
+  }
+
+  @Test
+  public void shouldFilterTheWindowByIndex() {
+
+    // given
+    XYChart chart = new XYChart(600, 400);
+    StreamingXYSeries series =
+        chart.addStreamingSeries("stream", new double[] {0, 1, 2}, new double[] {5, 6, 7}, 3);
+    series.appendBatch(new double[] {3, 4}, new double[] {8, 9});
+
+    // when
+    series.filterXByIndex(1, 3);
+
+    // test
+    assertThat(series.getXData()).isEqualTo(new double[] {3, 4});
+    assertThat(series.getYMin()).isEqualTo(8);
+
+    // when
+    series.resetFilter();
+
+    // test
+    assertThat(series.getXData()).isEqualTo(new double[] {2, 3, 4});
+    assertThat(series.isAllXData()).isTrue();
+  }
+}
@@ -0,0 +1,142 @@
+package org.knowm.xchart;
+
+import static org.fest.assertions.api.Assertions.assertThat;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.Test;
+import org.knowm.xchart.internal.series.SeriesDataView;
+
+public class XYSeriesTest {
+
+  @Test
+  public void shouldKeepTheDataViewOfAPaintConsistent() {
+
+    XYChart chart = new XYChart(600, 400);
+    XYSeries series = chart.addSeries("xy", new double[] {0, 1, 2, 3}, new double[] {3, 2, 4, 1});
+    series.filterXByIndex(1, 3);
+    SeriesDataView painted = series.getDataView();
+
+    chart.updateXYSeries("xy", new double[] {0, 1}, new double[] {5, 6}, null);
+
+    assertThat(painted.getXData()).isEqualTo(new double[] {1, 2});
+    assertThat(painted.getYData()).isEqualTo(new double[] {2, 4});
+    assertThat(series.getXData()).isEqualTo(new double[] {0, 1});
+    assertThat(series.getYData()).isEqualTo(new double[] {5, 6});
+  }
+
+  @Test
+  public void shouldFilterTheLatestData() {
+
+    XYChart chart = new XYChart(600, 400);
+    XYSeries series = chart.addSeries("xy", new double[] {0, 1, 2, 3}, new double[] {3, 2, 4, 1});
+    chart.updateXYSeries("xy", new double[] {0, 10, 20, 30}, new double[] {1, 2, 3, 4}, null);
+
+    assertThat(series.filterXByValue(5, 25)).isTrue();
+    assertThat(series.getXData()).isEqualTo(new double[] {10, 20});
+    assertThat(series.getYMax()).isEqualTo(3.0);
+
+    series.resetFilter();
+    assertThat(series.isAllXData()).isTrue();
+    assertThat(series.getYMax()).isEqualTo(4.0);
+  }
+
+  @Test
+  public void shouldFindTheVisibleDataBetweenTwoValues() {
+
+    XYChart chart = new XYChart(600, 400);
+    XYSeries sorted =
+        chart.addSeries("sorted", new double[] {0, 10, 20, 30, 40}, new double[] {1, 2, 3, 4, 5});
+    XYSeries unsorted =
+        chart.addSeries("unsorted", new double[] {40, 0, 30, 10, 20}, new double[] {1, 2, 3, 4, 5});
+
+    // zoomed in on 10 to 30, outside values don't count
+    sorted.filterXByValue(10, 30);
+    unsorted.filterXByValue(10, 30);
+    for (XYSeries series : new XYSeries[] {sorted, unsorted}) {
+      assertThat(series.getDataView().isAnyXDataBetween(30, 30)).isTrue();
+      assertThat(series.getDataView().isAnyXDataBetween(11, 19)).isFalse();
+      assertThat(series.getDataView().isAnyXDataBetween(31, 45)).isFalse();
+      assertThat(series.getDataView().isAnyXDataBetween(-5, 10)).isTrue();
+    }
+  }
+
+  @Test
+  public void shouldPaintConsistentDataWhileOtherThreadsUpdateTheChart() throws Exception {
+
+    // given a series whose Y values all equal the number of points, replaced, zoomed and reset by
+    // other threads without locking, and series added and removed by another one
+    XYChart chart = new XYChart(300, 200);
+    XYSeries series = chart.addSeries("xy", new double[] {0}, new double[] {1});
+    AtomicBoolean isDone = new AtomicBoolean();
+    AtomicReference<Throwable> error = new AtomicReference<>();
+    Thread[] threads = {
+      new Thread(
+          () -> {
+            for (int i = 0; !isDone.get(); i++) {
+              int length = 1 + i % 500;
+              double[] xData = new double[length];
+              double[] yData = new double[length];
+              for (int j = 0; j < length; j++) {
+                xData[j] = j;
+                yData[j] = length;
+              }
+              chart.updateXYSeries("xy", xData, yData, null);
+            }
+          }),
+      new Thread(
+          () -> {
+            for (int i = 0; !isDone.get(); i++) {
+              if (i % 3 == 0) {
+                series.resetFilter();
+              } else if (i % 3 == 1) {
+                series.filterXByValue(0, 200);
+              } else {
+                series.filterXByIndex(0, 100);
+              }
+            }
+          }),
+      new Thread(
+          () -> {
+            for (int i = 0; !isDone.get(); i++) {
+              String name = "other" + i % 10;
+              if (chart.getSeriesMap().containsKey(name)) {
+                chart.removeSeries(name);
+              } else {
+                chart.addSeries(name, new double[] {0, 1}, new double[] {1, 0});
+              }
+            }
+          })
+    };
+    for (Thread thread : threads) {
+      thread.setUncaughtExceptionHandler((t, e) -> error.compareAndSet(null, e));
+      thread.start();
+    }
+
+    // when
+    try {
+      for (int i = 0; i < 200; i++) {
+        BitmapEncoder.getBufferedImage(chart);
+        SeriesDataView painted = series.getPaintDataView();
+
+        // test
+        double[] xData = painted.getXData();
+        double[] yData = painted.getYData();
+        assertThat(xData.length).isEqualTo(yData.length);
+        for (double y : yData) {
+          assertThat(y).isEqualTo(yData[0]);
+        }
+        assertThat(painted.getYMin()).isEqualTo(yData[0]);
+        assertThat(painted.getYMax()).isEqualTo(yData[0]);
+        assertThat(painted.getXMin()).isEqualTo(xData[0]);
+        assertThat(painted.getXMax()).isEqualTo(xData[xData.length - 1]);
+      }
+    } finally {
+      isDone.set(true);
+      for (Thread thread : threads) {
+        thread.join();
+      }
+    }
+    assertThat(error.get()).isNull();
+  }
+}
@@ -0,0 +1,93 @@
+package org.knowm.xchart.internal;
+
+import static org.fest.assertions.api.Assertions.assertThat;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import org.junit.Test;
+
+public class BufferedImagePoolTest {
+
+  @Test
+  public void shouldReuseReleasedImagesCleared() {
+
+    // given
+    BufferedImagePool pool = new BufferedImagePool(2, 2);
+    BufferedImage image = pool.borrow(10, 20, BufferedImage.TYPE_INT_ARGB);
+    Graphics2D g = image.createGraphics();
+    g.setColor(Color.RED);
+    g.fillRect(0, 0, 10, 20);
+    g.dispose();
+
+    // when
+    pool.release(image);
+    BufferedImage reused = pool.borrow(10, 20, BufferedImage.TYPE_INT_ARGB);
+
+    // test
+    assertThat(reused).isSameAs(image);
+    for (int y = 0; y < 20; y++) {
+      for (int x = 0; x < 10; x++) {
+        assertThat(reused.getRGB(x, y)).isEqualTo(0);
+      }
+    }
+  }
+
+  @Test
+  public void shouldOnlyReuseImagesOfTheSameSizeAndType() {
+
+    // given
+    BufferedImagePool pool = new BufferedImagePool(2, 2);
+    BufferedImage image = pool.borrow(10, 20, BufferedImage.TYPE_INT_ARGB);
+    pool.release(image);
+
+    // test
+    assertThat(pool.borrow(20, 10, BufferedImage.TYPE_INT_ARGB)).isNotSameAs(image);
+    assertThat(pool.borrow(10, 20, BufferedImage.TYPE_INT_RGB)).isNotSameAs(image);
+    assertThat(pool.borrow(10, 20, BufferedImage.TYPE_INT_ARGB)).isSameAs(image);
+  }
+
+  @Test
+  public void shouldKeepAtMostMaxImagesPerKey() {
+
+    // given
+    BufferedImagePool pool = new BufferedImagePool(2, 2);
+
+    // when
+    for (int i = 0; i < 5; i++) {
+      pool.release(new BufferedImage(10, 10, BufferedImage.TYPE_INT_RGB));
+    }
+
+    // test
+    assertThat(pool.getIdleCount()).isEqualTo(2);
+  }
+
+  @Test
+  public void shouldDropTheImagesOfTheLeastRecentlyUsedSizes() {
+
+    // given
+    BufferedImagePool pool = new BufferedImagePool(2, 2);
+    BufferedImage small = new BufferedImage(10, 10, BufferedImage.TYPE_INT_RGB);
+    BufferedImage medium = new BufferedImage(20, 20, BufferedImage.TYPE_INT_RGB);
+    pool.release(small);
+    pool.release(medium);
+    // borrowing a size makes it the most recently used one
+    pool.release(pool.borrow(10, 10, BufferedImage.TYPE_INT_RGB));
+
+    // when saving many other sizes
+    for (int i = 0; i < 100; i++) {
+      pool.release(new BufferedImage(30 + i, 30, BufferedImage.TYPE_INT_RGB));
+    }
+
+    // test
+    assertThat(pool.getIdleCount()).isEqualTo(2);
+    assertThat(pool.borrow(20, 20, BufferedImage.TYPE_INT_RGB)).isNotSameAs(medium);
+    assertThat(pool.borrow(129, 30, BufferedImage.TYPE_INT_RGB).getWidth()).isEqualTo(129);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void shouldRejectAnEmptyPool() {
+
+    new BufferedImagePool(0, 2);
+  }
+}
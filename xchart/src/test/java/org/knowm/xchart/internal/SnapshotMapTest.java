@@ -0,0 +1,75 @@
+package org.knowm.xchart.internal;
+
+import static org.fest.assertions.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.Test;
+
+public class SnapshotMapTest {
+
+  @Test
+  public void shouldKeepTheInsertionOrderAndTheIteratedSnapshot() {
+
+    // given
+    Map<String, Integer> map = new SnapshotMap<>();
+    map.put("c", 1);
+    map.put("a", 2);
+    map.put("b", 3);
+    Iterable<String> keys = map.keySet();
+
+    // when
+    map.remove("a");
+    map.put("d", 4);
+    map.put("c", 5);
+
+    // test
+    assertThat(keys).containsExactly("c", "a", "b");
+    assertThat(map.keySet()).containsExactly("c", "b", "d");
+    assertThat(map.values()).containsExactly(5, 3, 4);
+    assertThat(map.get("c")).isEqualTo(5);
+    assertThat(map.containsKey("a")).isFalse();
+    assertThat(map.size()).isEqualTo(3);
+  }
+
+  @Test
+  public void shouldIterateWhileAnotherThreadModifiesTheMap() throws Exception {
+
+    // given a thread adding and removing entries
+    Map<Integer, Integer> map = new SnapshotMap<>();
+    AtomicBoolean isDone = new AtomicBoolean();
+    AtomicReference<Throwable> error = new AtomicReference<>();
+    Thread thread =
+        new Thread(
+            () -> {
+              for (int i = 0; !isDone.get(); i++) {
+                int key = i % 100;
+                if (map.remove(key) == null) {
+                  map.put(key, key);
+                }
+              }
+            });
+    thread.setUncaughtExceptionHandler((t, e) -> error.set(e));
+    thread.start();
+
+    // when
+    try {
+      for (int i = 0; i < 10000; i++) {
+        List<Integer> keys = new ArrayList<>();
+        for (Map.Entry<Integer, Integer> entry : map.entrySet()) {
+          // test
+          assertThat(entry.getValue()).isEqualTo(entry.getKey());
+          keys.add(entry.getKey());
+        }
+        assertThat(keys).doesNotHaveDuplicates();
+      }
+    } finally {
+      isDone.set(true);
+      thread.join();
+    }
+    assertThat(error.get()).isNull();
+  }
+}
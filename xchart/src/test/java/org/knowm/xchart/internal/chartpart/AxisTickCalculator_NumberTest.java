@@ -0,0 +1,113 @@
+package org.knowm.xchart.internal.chartpart;
+
+import static org.fest.assertions.api.Assertions.assertThat;
+import static org.fest.assertions.data.Offset.offset;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import org.junit.Test;
+import org.knowm.xchart.style.XYStyler;
+
+public class AxisTickCalculator_NumberTest {
+
+  // the plot content takes 92% of the 800 pixels by default, starting at 32
+  private static final double MARGIN = 32;
+  private static final double TICK_SPACE = 736;
+
+  private static List<Double> getAxisValues(double start, double step, int count) {
+
+    List<Double> axisValues = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      axisValues.add(start + i * step);
+    }
+    return axisValues;
+  }
+
+  private static AxisTickCalculator_Number getCalculator(
+      List<Double> axisValues, double workingSpace, XYStyler styler) {
+
+    return new AxisTickCalculator_Number(
+        Axis.Direction.X,
+        workingSpace,
+        axisValues.get(0),
+        axisValues.get(axisValues.size() - 1),
+        axisValues,
+        styler);
+  }
+
+  /** Asserts a tick at every stride-th axis value, starting with the first */
+  private static void assertStride(
+      AxisTickCalculator_Number calculator, List<Double> axisValues, int stride) {
+
+    double minValue = axisValues.get(0);
+    double maxValue = axisValues.get(axisValues.size() - 1);
+    List<Double> tickLocations = calculator.getTickLocations();
+    assertThat(tickLocations).hasSize((axisValues.size() - 1) / stride + 1);
+    for (int i = 0; i < tickLocations.size(); i++) {
+      double value = axisValues.get(i * stride);
+      assertThat(tickLocations.get(i))
+          .isEqualTo(
+              MARGIN + (value - minValue) / (maxValue - minValue) * TICK_SPACE, offset(1e-9));
+    }
+  }
+
+  @Test
+  public void shouldTickEveryValueIfAllLabelsFit() {
+
+    List<Double> axisValues = getAxisValues(0, 1, 11);
+
+    AxisTickCalculator_Number calculator = getCalculator(axisValues, 800, new XYStyler());
+
+    assertThat(calculator.getTickLabels())
+        .isEqualTo(Arrays.asList("0", "1", "2", "3", "4", "5", "6", "7", "8", "9", "10"));
+    assertStride(calculator, axisValues, 1);
+  }
+
+  @Test
+  public void shouldSkipValuesWithTheSameLabel() {
+
+    // 0, 0.1, ... 10 formatted without decimals
+    List<Double> axisValues = getAxisValues(0, 0.1, 101);
+    XYStyler styler = new XYStyler();
+    styler.setXAxisDecimalPattern("#");
+
+    AxisTickCalculator_Number calculator = getCalculator(axisValues, 800, styler);
+
+    assertThat(calculator.getTickLabels())
+        .isEqualTo(Arrays.asList("0", "1", "2", "3", "4", "5", "6", "7", "8", "9", "10"));
+    assertStride(calculator, axisValues, 10);
+  }
+
+  @Test
+  public void shouldSpreadTicksOverManyEquallySpacedValues() {
+
+    List<Double> axisValues = getAxisValues(1000, 1, 20000);
+
+    AxisTickCalculator_Number calculator = getCalculator(axisValues, 800, new XYStyler());
+
+    assertThat(calculator.getTickLabels())
+        .isEqualTo(
+            Arrays.asList(
+                "1,000", "2,250", "3,500", "4,750", "6,000", "7,250", "8,500", "9,750", "11,000",
+                "12,250", "13,500", "14,750", "16,000", "17,250", "18,500", "19,750"));
+    assertStride(calculator, axisValues, 1250);
+    assertThat(new HashSet<>(calculator.getTickLabels()).size())
+        .isEqualTo(calculator.getTickLabels().size());
+  }
+
+  @Test
+  public void shouldShowASingleTickIfNoStrideFits() {
+
+    // the two values have the same label
+    List<Double> axisValues = getAxisValues(1000000000, 1, 2);
+
+    AxisTickCalculator_Number calculator = getCalculator(axisValues, 100, new XYStyler());
+
+    assertThat(calculator.getTickLabels()).isEqualTo(Arrays.asList("1E9"));
+    // at the start of the 92 pixels of the tick space
+    assertThat(calculator.getTickLocations()).hasSize(1);
+    assertThat(calculator.getTickLocations().get(0)).isEqualTo(4.0, offset(1e-9));
+  }
+}
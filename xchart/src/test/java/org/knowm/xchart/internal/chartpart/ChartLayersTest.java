@@ -0,0 +1,53 @@
+package org.knowm.xchart.internal.chartpart;
+
+import static org.fest.assertions.api.Assertions.assertThat;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import org.junit.Test;
+import org.knowm.xchart.XYChart;
+
+public class ChartLayersTest {
+
+  @Test
+  public void shouldPaintTheSameAsTheChart() {
+
+    XYChart chart = new XYChart(600, 400);
+    chart.addSeries("xy", new double[] {0, 1, 2, 3}, new double[] {3, 2, 4, 1});
+    ChartLayers layers = new ChartLayers(chart);
+
+    // painted into the images, then drawn from them
+    assertThat(paint(layers, chart)).isEqualTo(paint(null, chart));
+    assertThat(paint(layers, chart)).isEqualTo(paint(null, chart));
+
+    // the axes don't change
+    chart.updateXYSeries("xy", new double[] {0, 1, 2, 3}, new double[] {1, 4, 2, 3}, null);
+    assertThat(paint(layers, chart)).isEqualTo(paint(null, chart));
+
+    // the axes change
+    chart.updateXYSeries("xy", new double[] {0, 10, 20}, new double[] {-5, 50, 3}, null);
+    assertThat(paint(layers, chart)).isEqualTo(paint(null, chart));
+
+    chart.setTitle("Updated");
+    assertThat(paint(layers, chart)).isEqualTo(paint(null, chart));
+
+    // the styler changes
+    chart.getStyler().setPlotGridLinesColor(Color.RED);
+    chart.invalidateLayout();
+    assertThat(paint(layers, chart)).isEqualTo(paint(null, chart));
+  }
+
+  private static int[] paint(ChartLayers layers, XYChart chart) {
+
+    BufferedImage image = new BufferedImage(600, 400, BufferedImage.TYPE_INT_RGB);
+    Graphics2D g = image.createGraphics();
+    if (layers != null) {
+      layers.paint(g, 600, 400, null);
+    } else {
+      chart.paint(g, 600, 400);
+    }
+    g.dispose();
+    return image.getRGB(0, 0, 600, 400, null, 0, 600);
+  }
+}
@@ -0,0 +1,141 @@
+package org.knowm.xchart.internal.chartpart;
+
+import static org.fest.assertions.api.Assertions.assertThat;
+
+import java.awt.event.MouseEvent;
+import java.util.ArrayList;
+import java.util.List;
+import javax.swing.JPanel;
+import org.junit.Test;
+import org.knowm.xchart.BitmapEncoder;
+import org.knowm.xchart.XYChart;
+import org.knowm.xchart.XYChartBuilder;
+import org.knowm.xchart.XYSeries;
+
+public class CursorTest {
+
+  private final JPanel component = new JPanel();
+
+  private static XYChart getChart() {
+
+    XYChart chart = new XYChartBuilder().width(600).height(400).build();
+    chart.getStyler().setCursorEnabled(true);
+    return chart;
+  }
+
+  private List<String> moveTo(Cursor cursor, int x, int y) {
+
+    cursor.mouseMoved(new MouseEvent(component, MouseEvent.MOUSE_MOVED, 0, 0, x, y, 0, false));
+    List<String> labels = new ArrayList<>();
+    for (Cursor.DataPoint dataPoint : cursor.getMatchingDataPoints()) {
+      labels.add(dataPoint.seriesName + " " + dataPoint.getXLabel() + " " + dataPoint.getYLabel());
+    }
+    return labels;
+  }
+
+  private static double getScreenX(XYChart chart, double x) {
+
+    return ((Chart<?, ?>) chart).getXAxis().getScreenValue(x);
+  }
+
+  private static int getScreenY(XYChart chart, double y) {
+
+    return (int) Math.round(((Chart<?, ?>) chart).getYAxis().getScreenValue(y));
+  }
+
+  @Test
+  public void shouldMatchTheClosestPointOfEachSeries() {
+
+    // given
+    XYChart chart = getChart();
+    chart.addSeries("a", new double[] {0, 1, 2, 3, 4}, new double[] {0, 1, 2, 3, 4});
+    chart.addSeries("b", new double[] {0, 2, 4}, new double[] {1, 1, 1});
+    Cursor cursor = new Cursor(chart);
+    BitmapEncoder.getBufferedImage(chart);
+    int y = getScreenY(chart, 2);
+
+    // test
+    assertThat(moveTo(cursor, (int) Math.round(getScreenX(chart, 2)), y))
+        .containsExactly("a 2 2", "b 2 1");
+    assertThat(moveTo(cursor, (int) Math.round(getScreenX(chart, 3)) + 2, y))
+        .containsExactly("a 3 3");
+  }
+
+  @Test
+  public void shouldMatchTheSamePointsAsALinearSearchOnEveryPixel() {
+
+    // given points about 30 pixels apart, so the mouse is over a point or between two
+    XYChart chart = getChart();
+    double[] xData = new double[20];
+    double[] yData = new double[20];
+    for (int i = 0; i < xData.length; i++) {
+      xData[i] = i;
+      yData[i] = i % 3;
+    }
+    chart.addSeries("series", xData, yData);
+    Cursor cursor = new Cursor(chart);
+    BitmapEncoder.getBufferedImage(chart);
+    int y = getScreenY(chart, 1);
+
+    // test
+    List<String> expected = new ArrayList<>();
+    for (int x = (int) getScreenX(chart, 0) - 10; x <= getScreenX(chart, 19) + 10; x++) {
+      int closest = -1;
+      double closestDistance = Double.POSITIVE_INFINITY;
+      boolean isOnEdge = false;
+      for (int i = 0; i < xData.length; i++) {
+        double distance = Math.abs(getScreenX(chart, xData[i]) - x);
+        // the axis maps the values slightly differently than the plot, skip the ambiguous pixels
+        isOnEdge |= Math.abs(distance - 7.5) < 0.5;
+        if (distance < closestDistance) {
+          closestDistance = distance;
+          closest = i;
+        }
+      }
+      List<String> labels = moveTo(cursor, x, y);
+      if (isOnEdge) {
+        expected = labels;
+        continue;
+      }
+      // the cursor keeps showing the last points if there are none under the mouse
+      if (closestDistance < 7.5) {
+        expected = new ArrayList<>();
+        expected.add("series " + closest + " " + (closest % 3));
+      }
+      assertThat(labels).as("x = " + x).isEqualTo(expected);
+    }
+  }
+
+  @Test
+  public void shouldMatchTheZoomedInPoints() {
+
+    // given
+    XYChart chart = getChart();
+    double[] xData = new double[1000];
+    double[] yData = new double[1000];
+    for (int i = 0; i < xData.length; i++) {
+      xData[i] = i;
+      yData[i] = i % 10;
+    }
+    XYSeries series = chart.addSeries("series", xData, yData);
+    Cursor cursor = new Cursor(chart);
+
+    // when zooming in on 100 to 199, about 5 pixels apart
+    series.filterXByValue(100, 199);
+    BitmapEncoder.getBufferedImage(chart);
+    int y = getScreenY(chart, 5);
+
+    // test every pixel that is clearly closer to one point than to its neighbor
+    for (int x = (int) getScreenX(chart, 100); x <= getScreenX(chart, 199); x++) {
+      int closest = (int) Math.round(((Chart<?, ?>) chart).getXAxis().getChartValue(x));
+      double distance = Math.abs(getScreenX(chart, closest) - x);
+      int neighbor = x < getScreenX(chart, closest) ? closest - 1 : closest + 1;
+      if (Math.abs(distance - Math.abs(getScreenX(chart, neighbor) - x)) < 0.5) {
+        continue;
+      }
+      assertThat(moveTo(cursor, x, y))
+          .as("x = " + x)
+          .containsExactly("series " + closest + " " + (closest % 10));
+    }
+  }
+}
@@ -0,0 +1,153 @@
+package org.knowm.xchart.internal.chartpart;
+
+import static org.fest.assertions.api.Assertions.assertThat;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.EnumSet;
+import org.junit.Test;
+import org.knowm.xchart.AnnotationLine;
+import org.knowm.xchart.StreamingXYSeries;
+import org.knowm.xchart.XYChart;
+import org.knowm.xchart.XYSeries;
+import org.knowm.xchart.XYSeries.XYSeriesRenderStyle;
+import org.knowm.xchart.internal.chartpart.LayoutState.Part;
+import org.knowm.xchart.style.markers.SeriesMarkers;
+
+public class LayoutStateTest {
+
+  @Test
+  public void shouldTrackEachPartSeparately() {
+
+    XYChart chart = getChart();
+    assertThat(chart.getChangedParts()).isEqualTo(EnumSet.allOf(Part.class));
+
+    paint(chart, 600, 400);
+    paint(chart, 600, 400);
+    assertThat(chart.getChangedParts()).isEmpty();
+
+    chart.setXAxisTitle("X");
+    paint(chart, 600, 400);
+    assertThat(chart.getChangedParts()).containsOnly(Part.STYLER);
+
+    chart.getSeriesMap().get("xy").setEnabled(false);
+    paint(chart, 600, 400);
+    assertThat(chart.getChangedParts()).containsOnly(Part.DATA);
+
+    chart.updateXYSeries("xy", new double[] {0, 10, 20}, new double[] {1, 2, 3}, null);
+    paint(chart, 600, 400);
+    assertThat(chart.getChangedParts()).containsOnly(Part.DATA);
+
+    paint(chart, 500, 400);
+    assertThat(chart.getChangedParts()).containsOnly(Part.SIZE);
+
+    chart.addAnnotation(new AnnotationLine(5, true, false));
+    paint(chart, 500, 400);
+    assertThat(chart.getChangedParts()).containsOnly(Part.ANNOTATIONS);
+    assertThat(((Chart<?, ?>) chart).isLayoutValid()).isTrue();
+
+    // the styler isn't tracked
+    chart.getStyler().setXAxisLabelRotation(45);
+    paint(chart, 500, 400);
+    assertThat(chart.getChangedParts()).isEmpty();
+
+    chart.invalidateLayout();
+    paint(chart, 500, 400);
+    assertThat(chart.getChangedParts()).isEqualTo(EnumSet.allOf(Part.class));
+  }
+
+  @Test
+  public void shouldNoticeChangedSeriesStyles() {
+
+    // given
+    XYChart chart = getChart();
+    paint(chart, 600, 400);
+    paint(chart, 600, 400);
+    XYSeries series = chart.getSeriesMap().get("xy");
+
+    // when
+    series.setXYSeriesRenderStyle(XYSeriesRenderStyle.Area);
+    paint(chart, 600, 400);
+
+    // test
+    assertThat(chart.getChangedParts()).containsOnly(Part.DATA);
+
+    // when
+    series.setMarker(SeriesMarkers.DIAMOND);
+    series.setLineColor(Color.RED);
+    paint(chart, 600, 400);
+
+    // test
+    assertThat(chart.getChangedParts()).containsOnly(Part.DATA);
+  }
+
+  @Test
+  public void shouldOnlyReuseTheLayoutWhenEnabled() {
+
+    XYChart chart = getChart();
+    chart.getStyler().setLayoutReuseEnabled(false);
+    paint(chart, 600, 400);
+    paint(chart, 600, 400);
+    assertThat(chart.getChangedParts()).isEmpty();
+    assertThat(((Chart<?, ?>) chart).isLayoutValid()).isFalse();
+
+    chart.getStyler().setLayoutReuseEnabled(true);
+    paint(chart, 600, 400);
+    assertThat(((Chart<?, ?>) chart).isLayoutValid()).isTrue();
+  }
+
+  @Test
+  public void shouldNoticeAppendedPoints() {
+
+    XYChart chart = new XYChart(600, 400);
+    chart.getStyler().setLayoutReuseEnabled(true);
+    StreamingXYSeries series =
+        chart.addStreamingSeries("stream", new double[] {0, 1}, new double[] {5, -5}, 10);
+    paint(chart, 600, 400);
+    paint(chart, 600, 400);
+
+    series.appendPoint(2, 1);
+    paint(chart, 600, 400);
+    assertThat(chart.getChangedParts()).containsOnly(Part.DATA);
+  }
+
+  @Test
+  public void shouldPaintTheSameWithTheReusedLayout() {
+
+    XYChart chart = getChart();
+    paint(chart, 600, 400);
+    chart.updateXYSeries("xy", new double[] {0, 1000, 2000}, new double[] {-5, 50, 3}, null);
+    chart.setTitle("Updated");
+
+    int[] fresh = paint(chart, 600, 400);
+    int[] reused = paint(chart, 600, 400);
+    assertThat(((Chart<?, ?>) chart).isLayoutValid()).isTrue();
+    assertThat(reused).isEqualTo(fresh);
+
+    // and after changing the styler
+    chart.getStyler().setXAxisLabelRotation(45);
+    chart.invalidateLayout();
+    fresh = paint(chart, 600, 400);
+    reused = paint(chart, 600, 400);
+    assertThat(((Chart<?, ?>) chart).isLayoutValid()).isTrue();
+    assertThat(reused).isEqualTo(fresh);
+  }
+
+  private static XYChart getChart() {
+
+    XYChart chart = new XYChart(600, 400);
+    chart.getStyler().setLayoutReuseEnabled(true);
+    chart.addSeries("xy", new double[] {0, 1, 2, 3}, new double[] {3, 2, 4, 1});
+    return chart;
+  }
+
+  private static int[] paint(XYChart chart, int width, int height) {
+
+    BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+    Graphics2D g = image.createGraphics();
+    chart.paint(g, width, height);
+    g.dispose();
+    return image.getRGB(0, 0, width, height, null, 0, width);
+  }
+}
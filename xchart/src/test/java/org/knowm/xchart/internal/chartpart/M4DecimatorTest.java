@@ -0,0 +1,122 @@
+package org.knowm.xchart.internal.chartpart;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertNull;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.Random;
+import org.junit.Test;
+import org.knowm.xchart.XYChart;
+import org.knowm.xchart.XYSeries;
+import org.knowm.xchart.XYSeries.XYSeriesRenderStyle;
+import org.knowm.xchart.style.markers.SeriesMarkers;
+
+public class M4DecimatorTest {
+
+  @Test
+  public void shouldKeepFirstMinMaxLastOfEachPixelColumn() {
+    // given
+    double[] xData = {0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11};
+    double[] yData = {5, 9, 1, 4, 6, 3, 2, 8, 7, 5, 0, 4};
+
+    // when (two pixel columns)
+    int[] indices = M4Decimator.decimate(xData, yData, false, 0, 12, 0, 1.9);
+
+    // test
+    assertArrayEquals(new int[] {0, 1, 2, 4, 5, 7, 10, 11}, indices);
+  }
+
+  @Test
+  public void shouldKeepNaNGaps() {
+    // given
+    double[] xData = {0, 1, 2, 3, 4, 5, 6, 7, 8, 9};
+    double[] yData = {5, 9, 1, 4, Double.NaN, 3, 2, 8, 7, 5};
+
+    // when (everything in one pixel column)
+    int[] indices = M4Decimator.decimate(xData, yData, false, 0, 10, 0, 0.5);
+
+    // test
+    assertArrayEquals(new int[] {0, 1, 2, 3, 4, 5, 6, 7, 9}, indices);
+  }
+
+  @Test
+  public void shouldNotDecimateWhenThereAreFewerPointsThanPixels() {
+    // given
+    double[] xData = {1, 2, 3, 4};
+    double[] yData = {1, 2, 3, 4};
+
+    // test
+    assertNull(M4Decimator.decimate(xData, yData, false, 1, 4, 0, 800));
+  }
+
+  @Test
+  public void shouldPaintLikeTheFullRender() {
+
+    for (XYSeriesRenderStyle renderStyle :
+        new XYSeriesRenderStyle[] {
+          XYSeriesRenderStyle.Line, XYSeriesRenderStyle.Step, XYSeriesRenderStyle.Area
+        }) {
+      for (boolean isXAxisLogarithmic : new boolean[] {false, true}) {
+        // given
+        XYChart chart = getChart(renderStyle, isXAxisLogarithmic);
+        chart.getSeriesMap().get("random walk").setMarker(SeriesMarkers.NONE);
+        int[] full = paint(chart);
+
+        // when
+        chart.getStyler().setDecimationEnabled(true);
+
+        // test
+        assertArrayEquals(renderStyle + " log " + isXAxisLogarithmic, full, paint(chart));
+      }
+    }
+  }
+
+  @Test
+  public void shouldNotDecimateSeriesWithMarkers() {
+
+    // given
+    XYChart chart = getChart(XYSeriesRenderStyle.Line, false);
+    chart.getStyler().setAntiAlias(true);
+    int[] full = paint(chart);
+
+    // when
+    chart.getStyler().setDecimationEnabled(true);
+
+    // test
+    assertArrayEquals(full, paint(chart));
+  }
+
+  /** A random walk with a gap, far more points than pixels, opaque and without antialiasing */
+  private static XYChart getChart(XYSeriesRenderStyle renderStyle, boolean isXAxisLogarithmic) {
+
+    Random random = new Random(3);
+    double[] xData = new double[20000];
+    double[] yData = new double[20000];
+    double y = 0;
+    for (int i = 0; i < xData.length; i++) {
+      xData[i] = i + 1;
+      y += random.nextGaussian();
+      yData[i] = i >= 5000 && i < 5050 ? Double.NaN : y;
+    }
+    XYChart chart = new XYChart(600, 400);
+    chart.getStyler().setAntiAlias(false);
+    chart.getStyler().setXAxisLogarithmic(isXAxisLogarithmic);
+    XYSeries series = chart.addSeries("random walk", xData, yData);
+    series.setXYSeriesRenderStyle(renderStyle);
+    series.setLineColor(Color.BLUE);
+    series.setFillColor(Color.CYAN);
+    series.setMarkerColor(Color.BLUE);
+    return chart;
+  }
+
+  private static int[] paint(XYChart chart) {
+
+    BufferedImage image = new BufferedImage(600, 400, BufferedImage.TYPE_INT_RGB);
+    Graphics2D g = image.createGraphics();
+    chart.paint(g, 600, 400);
+    g.dispose();
+    return image.getRGB(0, 0, 600, 400, null, 0, 600);
+  }
+}
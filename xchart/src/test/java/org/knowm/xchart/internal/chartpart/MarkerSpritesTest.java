@@ -0,0 +1,77 @@
+package org.knowm.xchart.internal.chartpart;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import org.junit.Test;
+import org.knowm.xchart.style.markers.Marker;
+import org.knowm.xchart.style.markers.SeriesMarkers;
+
+public class MarkerSpritesTest {
+
+  private static BufferedImage paint(Marker marker, boolean isStamped, double scale) {
+
+    BufferedImage image = new BufferedImage(60, 60, BufferedImage.TYPE_INT_ARGB);
+    Graphics2D g = image.createGraphics();
+    g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+    g.setRenderingHint(MarkerSprites.KEY_MARKER_SPRITES, true);
+    g.scale(scale, scale);
+    Color color = new Color(0, 0, 255, 180);
+    MarkerSprites markerSprites = new MarkerSprites();
+    double[] centers = {10.25, 12.5, 17.75, 20.0};
+    for (double center : centers) {
+      if (isStamped) {
+        markerSprites.paint(g, marker, color, 8, center, center + 0.5);
+      } else {
+        g.setColor(color);
+        marker.paint(g, center, center + 0.5, 8);
+      }
+    }
+    g.dispose();
+    return image;
+  }
+
+  private static int getMaxChannelDifference(BufferedImage image1, BufferedImage image2) {
+
+    int max = 0;
+    for (int y = 0; y < image1.getHeight(); y++) {
+      for (int x = 0; x < image1.getWidth(); x++) {
+        int rgb1 = image1.getRGB(x, y);
+        int rgb2 = image2.getRGB(x, y);
+        for (int shift = 0; shift < 32; shift += 8) {
+          max = Math.max(max, Math.abs(((rgb1 >> shift) & 0xFF) - ((rgb2 >> shift) & 0xFF)));
+        }
+      }
+    }
+    return max;
+  }
+
+  @Test
+  public void shouldStampMarkersLikeTheirShapesAtQuarterPixels() {
+
+    for (Marker marker : new Marker[] {SeriesMarkers.CIRCLE, SeriesMarkers.DIAMOND}) {
+      for (double scale : new double[] {1, 2}) {
+        // when
+        BufferedImage painted = paint(marker, false, scale);
+        BufferedImage stamped = paint(marker, true, scale);
+
+        // test (translucent markers overlap, so blending may round differently)
+        assertTrue(getMaxChannelDifference(painted, stamped) <= 2);
+      }
+    }
+  }
+
+  @Test
+  public void shouldStampNothingForMarkersWithoutPixels() {
+
+    // when
+    BufferedImage stamped = paint(SeriesMarkers.NONE, true, 1);
+
+    // test
+    assertEquals(0, getMaxChannelDifference(stamped, paint(SeriesMarkers.NONE, false, 1)));
+  }
+}
@@ -0,0 +1,72 @@
+package org.knowm.xchart.internal.chartpart;
+
+import static org.junit.Assert.assertArrayEquals;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.Random;
+import org.junit.Test;
+import org.knowm.xchart.XYChart;
+import org.knowm.xchart.XYSeries;
+import org.knowm.xchart.XYSeries.XYSeriesRenderStyle;
+import org.knowm.xchart.style.markers.SeriesMarkers;
+
+public class SeriesBatchTest {
+
+  @Test
+  public void shouldPaintLikeTheSegmentsOneByOne() {
+
+    for (XYSeriesRenderStyle renderStyle :
+        new XYSeriesRenderStyle[] {
+          XYSeriesRenderStyle.Line,
+          XYSeriesRenderStyle.Step,
+          XYSeriesRenderStyle.Area,
+          XYSeriesRenderStyle.StepArea,
+          XYSeriesRenderStyle.PolygonArea
+        }) {
+      for (int points : new int[] {40, 2000}) {
+        // given
+        XYChart chart = getChart(renderStyle, points);
+        int[] unbatched = paint(chart);
+
+        // when
+        chart.getStyler().setBatchedRenderingEnabled(true);
+
+        // test
+        assertArrayEquals(renderStyle + " " + points, unbatched, paint(chart));
+      }
+    }
+  }
+
+  /** A random walk with a gap, opaque, without markers and without antialiasing */
+  private static XYChart getChart(XYSeriesRenderStyle renderStyle, int points) {
+
+    Random random = new Random(3);
+    double[] xData = new double[points];
+    double[] yData = new double[points];
+    double y = 0;
+    for (int i = 0; i < points; i++) {
+      xData[i] = i;
+      y += random.nextGaussian();
+      yData[i] = i >= points / 3 && i < points / 2 ? Double.NaN : y;
+    }
+    XYChart chart = new XYChart(600, 400);
+    chart.getStyler().setAntiAlias(false);
+    XYSeries series = chart.addSeries("random walk", xData, yData);
+    series.setXYSeriesRenderStyle(renderStyle);
+    series.setMarker(SeriesMarkers.NONE);
+    series.setLineColor(Color.BLUE);
+    series.setFillColor(Color.CYAN);
+    return chart;
+  }
+
+  private static int[] paint(XYChart chart) {
+
+    BufferedImage image = new BufferedImage(600, 400, BufferedImage.TYPE_INT_RGB);
+    Graphics2D g = image.createGraphics();
+    chart.paint(g, 600, 400);
+    g.dispose();
+    return image.getRGB(0, 0, 600, 400, null, 0, 600);
+  }
+}
@@ -0,0 +1,126 @@
+package org.knowm.xchart.internal.chartpart;
+
+import static org.fest.assertions.api.Assertions.assertThat;
+
+import java.awt.Font;
+import java.awt.Shape;
+import java.awt.font.FontRenderContext;
+import java.awt.font.TextLayout;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.Area;
+import java.awt.geom.Rectangle2D;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.Before;
+import org.junit.Test;
+
+public class TextMetricsCacheTest {
+
+  private static final Font FONT = new Font(Font.SANS_SERIF, Font.PLAIN, 12);
+  private static final FontRenderContext FRC = new FontRenderContext(null, true, false);
+
+  @Before
+  public void setUp() {
+
+    TextMetricsCache.clear();
+  }
+
+  private static void assertSameShape(Shape actual, Shape expected) {
+
+    assertThat(new Area(actual).equals(new Area(expected))).isTrue();
+  }
+
+  @Test
+  public void shouldMeasureLikeATextLayout() {
+
+    for (String text : new String[] {"0.5", "Series 1", "1,234,567"}) {
+      TextLayout textLayout = new TextLayout(text, FONT, FRC);
+
+      // test twice, the second time from the cache
+      for (int i = 0; i < 2; i++) {
+        assertThat(TextMetricsCache.getBounds(text, FONT, FRC)).isEqualTo(textLayout.getBounds());
+        assertSameShape(TextMetricsCache.getOutline(text, FONT, FRC), textLayout.getOutline(null));
+        for (double rotation : new double[] {90, 45}) {
+          assertSameShape(
+              TextMetricsCache.getOutline(text, FONT, FRC, rotation),
+              textLayout.getOutline(AffineTransform.getRotateInstance(-Math.toRadians(rotation))));
+        }
+      }
+    }
+  }
+
+  @Test
+  public void shouldCountHitsAndMisses() {
+
+    // when
+    TextMetricsCache.getBounds("a", FONT, FRC);
+    TextMetricsCache.getBounds("a", FONT, FRC);
+    TextMetricsCache.getOutline("a", FONT, FRC);
+    TextMetricsCache.getBounds("a", FONT.deriveFont(14f), FRC);
+
+    // test
+    assertThat(TextMetricsCache.getMissCount()).isEqualTo(2);
+    assertThat(TextMetricsCache.getHitCount()).isEqualTo(2);
+  }
+
+  @Test
+  public void shouldNotLetTheReturnedBoundsChangeTheCache() {
+
+    // given
+    Rectangle2D bounds = TextMetricsCache.getBounds("a", FONT, FRC);
+
+    // when
+    bounds.setRect(0, 0, 1000, 1000);
+
+    // test
+    assertThat(TextMetricsCache.getBounds("a", FONT, FRC))
+        .isEqualTo(new TextLayout("a", FONT, FRC).getBounds());
+  }
+
+  @Test
+  public void shouldKeepTheTextInUseWhenFull() {
+
+    // when measuring many more texts than the cache holds, and one of them all the time
+    for (int i = 0; i < 5 * TextMetricsCache.MAX_ENTRIES; i++) {
+      TextMetricsCache.getBounds("label " + i, FONT, FRC);
+      TextMetricsCache.getBounds("axis title", FONT, FRC);
+    }
+
+    // test
+    assertThat(TextMetricsCache.size()).isLessThanOrEqualTo(TextMetricsCache.MAX_ENTRIES);
+    assertThat(TextMetricsCache.getMissCount()).isEqualTo(5 * TextMetricsCache.MAX_ENTRIES + 1);
+  }
+
+  @Test
+  public void shouldMeasureTheSameOnManyThreads() throws Exception {
+
+    // given
+    List<Callable<Void>> tasks = new ArrayList<>();
+    for (int t = 0; t < 8; t++) {
+      tasks.add(
+          () -> {
+            for (int i = 0; i < 3 * TextMetricsCache.MAX_ENTRIES; i++) {
+              String text = "" + (i % 1500);
+              assertThat(TextMetricsCache.getBounds(text, FONT, FRC))
+                  .isEqualTo(new TextLayout(text, FONT, FRC).getBounds());
+            }
+            return null;
+          });
+    }
+
+    // when
+    ExecutorService executor = Executors.newFixedThreadPool(tasks.size());
+    try {
+      for (Future<Void> future : executor.invokeAll(tasks)) {
+        // test, rethrowing the failures of the threads
+        future.get();
+      }
+    } finally {
+      executor.shutdown();
+    }
+  }
+}
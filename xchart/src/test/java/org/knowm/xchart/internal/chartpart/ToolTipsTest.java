@@ -0,0 +1,142 @@
+package org.knowm.xchart.internal.chartpart;
+
+import static org.fest.assertions.api.Assertions.assertThat;
+
+import java.awt.Shape;
+import java.awt.geom.Ellipse2D;
+import java.awt.geom.Rectangle2D;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Test;
+import org.knowm.xchart.BitmapEncoder;
+import org.knowm.xchart.XYChart;
+import org.knowm.xchart.XYChartBuilder;
+import org.knowm.xchart.XYSeries;
+
+public class ToolTipsTest {
+
+  private final List<Shape> shapes = new ArrayList<>();
+  private final List<String> labels = new ArrayList<>();
+
+  private static XYChart getChart() {
+
+    XYChart chart = new XYChartBuilder().width(600).height(400).build();
+    chart.getStyler().setToolTipsEnabled(true);
+    return chart;
+  }
+
+  private static String getLabel(ToolTips toolTips, int x, int y) {
+
+    ToolTips.ToolTip toolTip = toolTips.getSelectedTooltip(x, y);
+    return toolTip == null ? null : toolTips.getLabel(toolTip);
+  }
+
+  private void addPoint(ToolTips toolTips, double x, double y, String label) {
+
+    toolTips.addData(x, y, label);
+    // the shape of a point tool tip
+    shapes.add(new Ellipse2D.Double(x - 7.5, y - 7.5, 15, 15));
+    labels.add(label);
+  }
+
+  // the tool tip the grid must find: the first one added whose shape contains the point
+  private String findByLinearSearch(int x, int y) {
+
+    for (int i = 0; i < shapes.size(); i++) {
+      if (shapes.get(i).contains(x, y)) {
+        return labels.get(i);
+      }
+    }
+    return null;
+  }
+
+  private void assertSameAsLinearSearch(
+      ToolTips toolTips, int minX, int minY, int maxX, int maxY) {
+
+    for (int x = minX; x <= maxX; x++) {
+      for (int y = minY; y <= maxY; y++) {
+        assertThat(getLabel(toolTips, x, y)).as(x + ", " + y).isEqualTo(findByLinearSearch(x, y));
+      }
+    }
+  }
+
+  @Test
+  public void shouldHitTheSameToolTipsAsALinearSearchAcrossGridCells() {
+
+    // given overlapping points 10 pixels apart, and a bar below them spanning several grid cells
+    ToolTips toolTips = new ToolTips(getChart());
+    for (int i = 0; i < 20; i++) {
+      for (int j = 0; j < 20; j++) {
+        addPoint(toolTips, 50 + 10 * i, 50 + 10 * j, i + "/" + j);
+      }
+    }
+    Shape bar = new Rectangle2D.Double(53, 243, 90, 25);
+    toolTips.addData(bar, 98, 243, 90, "bar");
+    shapes.add(bar);
+    labels.add("bar");
+
+    // test every pixel, including the ones on the cell boundaries and outside of the grid
+    assertSameAsLinearSearch(toolTips, 30, 30, 280, 280);
+    assertThat(getLabel(toolTips, 50, 50)).isEqualTo("0/0");
+    assertThat(getLabel(toolTips, 140, 260)).isEqualTo("bar");
+    assertThat(getLabel(toolTips, 400, 50)).isNull();
+  }
+
+  @Test
+  public void shouldHitTheSameToolTipsAsALinearSearchInACappedGrid() {
+
+    // given more points along a line than the grid has columns
+    ToolTips toolTips = new ToolTips(getChart());
+    for (int i = 0; i < 3000; i++) {
+      addPoint(toolTips, 10 + i * 0.7, 100 + (i % 5), "" + i);
+    }
+
+    // test
+    assertSameAsLinearSearch(toolTips, 0, 85, 2120, 115);
+  }
+
+  @Test
+  public void shouldHitAndFormatTheZoomedInPoints() {
+
+    // given
+    XYChart chart = getChart();
+    double[] xData = new double[1000];
+    double[] yData = new double[1000];
+    for (int i = 0; i < xData.length; i++) {
+      xData[i] = i;
+      yData[i] = i % 10;
+    }
+    XYSeries series = chart.addSeries("series", xData, yData);
+    ToolTips toolTips = new ToolTips(chart);
+
+    // when zooming in on 100 to 199
+    series.filterXByValue(100, 199);
+    BitmapEncoder.getBufferedImage(chart);
+
+    // test
+    assertThat(getLabel(toolTips, getScreenX(chart, 150), getScreenY(chart, 0)))
+        .isEqualTo("(150, 0)");
+    assertThat(getLabel(toolTips, getScreenX(chart, 199), getScreenY(chart, 9)))
+        .isEqualTo("(199, 9)");
+
+    // when zooming out again
+    series.resetFilter();
+    BitmapEncoder.getBufferedImage(chart);
+
+    // test (the points overlap now, the first one under the mouse is shown)
+    assertThat(getLabel(toolTips, getScreenX(chart, 0), getScreenY(chart, 0)))
+        .isEqualTo("(0, 0)");
+    assertThat(getLabel(toolTips, getScreenX(chart, 999), getScreenY(chart, 9)))
+        .isEqualTo("(989, 9)");
+  }
+
+  private static int getScreenX(XYChart chart, double x) {
+
+    return (int) Math.round(((Chart<?, ?>) chart).getXAxis().getScreenValue(x));
+  }
+
+  private static int getScreenY(XYChart chart, double y) {
+
+    return (int) Math.round(((Chart<?, ?>) chart).getYAxis().getScreenValue(y));
+  }
+}
@@ -0,0 +1,126 @@
+package org.knowm.xchart.internal.series;
+
+import static org.fest.assertions.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.Test;
+
+public class MinMaxPyramidTest {
+
+  private static double[] getRandomWalk(int size) {
+
+    Random random = new Random(11);
+    double[] yData = new double[size];
+    double y = 0;
+    for (int i = 0; i < size; i++) {
+      y += random.nextGaussian();
+      // gaps of a few points
+      yData[i] = i % 9973 < 3 ? Double.NaN : y;
+    }
+    return yData;
+  }
+
+  private static int indexOf(int[] indices, int index) {
+
+    int position = Arrays.binarySearch(indices, index);
+    assertThat(position).as("index " + index).isGreaterThanOrEqualTo(0);
+    return position;
+  }
+
+  @Test
+  public void shouldPaintTheLinesBetweenBucketsAndTheExtremaWithinTheRange() {
+
+    double[] yData = getRandomWalk(100_000);
+    MinMaxPyramid pyramid = new MinMaxPyramid(yData);
+
+    // the whole data and zoomed in ranges not aligned to the buckets, on a few widths
+    int[][] ranges = {{0, 100_000}, {1234, 98_765}, {50_001, 61_999}};
+    for (int[] range : ranges) {
+      for (double xPixelSpace : new double[] {100, 640, 1920}) {
+        int from = range[0];
+        int to = range[1];
+        int[] indices = pyramid.getIndices(from, to, xPixelSpace);
+        long bucketSize = MinMaxPyramid.getBucketSize(pyramid.getLevel(from, to, xPixelSpace));
+
+        // at least one bucket per pixel, and less points than the full data
+        assertThat((to - from) / bucketSize).isGreaterThanOrEqualTo((long) xPixelSpace);
+        assertThat(indices.length).isLessThan(to - from);
+        assertThat(indices[0]).isEqualTo(from);
+        assertThat(indices[indices.length - 1]).isEqualTo(to - 1);
+
+        for (long bucketStart = from / bucketSize * bucketSize;
+            bucketStart < to;
+            bucketStart += bucketSize) {
+          int first = (int) Math.max(from, bucketStart);
+          int last = (int) Math.min(to, bucketStart + bucketSize) - 1;
+
+          // the full data crosses from the last point of the previous bucket to the first one
+          if (first > from) {
+            assertThat(indices[indexOf(indices, first - 1) + 1]).isEqualTo(first);
+          }
+
+          // the min, max and first NaN of the part of the bucket within the range are painted, also
+          // in the buckets cut by the range
+          int rangeMin = -1;
+          int rangeMax = -1;
+          int rangeNaN = -1;
+          for (int i = first; i <= last; i++) {
+            if (Double.isNaN(yData[i])) {
+              rangeNaN = rangeNaN == -1 ? i : rangeNaN;
+            } else {
+              rangeMin = rangeMin == -1 || yData[i] < yData[rangeMin] ? i : rangeMin;
+              rangeMax = rangeMax == -1 || yData[i] > yData[rangeMax] ? i : rangeMax;
+            }
+          }
+          int painted = 2;
+          for (int index : new int[] {rangeMin, rangeMax, rangeNaN}) {
+            if (index != -1) {
+              indexOf(indices, index);
+              painted++;
+            }
+          }
+
+          // and nothing else
+          int firstPosition = indexOf(indices, first);
+          int lastPosition = indexOf(indices, last);
+          assertThat(lastPosition - firstPosition + 1).isLessThanOrEqualTo(painted);
+        }
+      }
+    }
+  }
+
+  @Test
+  public void shouldNotPaintFewPointsPerPixelFromThePyramid() {
+
+    MinMaxPyramid pyramid = new MinMaxPyramid(getRandomWalk(1000));
+
+    assertThat(pyramid.getIndices(0, 1000, 800)).isNull();
+    assertThat(pyramid.getIndices(0, 1000, 100)).isNotNull();
+  }
+
+  @Test
+  public void shouldPaintTheExtremaOfARangeOfAnOffsetPyramid() {
+
+    // given
+    double[] yData = getRandomWalk(20_000);
+    MinMaxPyramid pyramid = new MinMaxPyramid(yData, 1000, 19_000);
+
+    // when
+    int from = 1003;
+    int to = 18_997;
+    int[] indices = pyramid.getIndices(from, to, 100);
+
+    // test
+    int min = from;
+    int max = from;
+    for (int i = from; i < to; i++) {
+      min = yData[i] < yData[min] ? i : min;
+      max = yData[i] > yData[max] ? i : max;
+    }
+    assertThat(indices[0]).isEqualTo(from);
+    assertThat(indices[indices.length - 1]).isEqualTo(to - 1);
+    indexOf(indices, min);
+    indexOf(indices, max);
+  }
+}
@@ -0,0 +1,66 @@
+package org.knowm.xchart.style.colors;
+
+import static org.fest.assertions.api.Assertions.assertThat;
+
+import java.awt.Color;
+import org.junit.Test;
+
+public class ColorLookupTableTest {
+
+  private static final Color[] RANGE_COLORS = {Color.WHITE, new Color(0, 128, 255), Color.BLACK};
+
+  @Test
+  public void shouldColorTheEndsWithTheFirstAndLastRangeColor() {
+
+    ColorLookupTable table = new ColorLookupTable(RANGE_COLORS, false, 5);
+
+    assertThat(table.getColor(-1, 0, 10)).isEqualTo(Color.WHITE);
+    assertThat(table.getColor(0, 0, 10)).isEqualTo(Color.WHITE);
+    assertThat(table.getColor(10, 0, 10)).isEqualTo(Color.BLACK);
+    assertThat(table.getRGB(11, 0, 10)).isEqualTo(Color.BLACK.getRGB());
+  }
+
+  @Test
+  public void shouldFollowTheGradientWithinOneLevel() {
+
+    ColorLookupTable table = new ColorLookupTable(RANGE_COLORS, false, 5);
+
+    for (double value = 0.01; value < 10; value += 0.01) {
+      // the exact gradient, with the second range color at 5
+      double index = value / 10 * 2;
+      Color begin = RANGE_COLORS[(int) index];
+      Color end = RANGE_COLORS[(int) index + 1];
+      double fraction = index - (int) index;
+      double green = begin.getGreen() + fraction * (end.getGreen() - begin.getGreen());
+      double blue = begin.getBlue() + fraction * (end.getBlue() - begin.getBlue());
+
+      Color color = table.getColor(value, 0, 10);
+      assertThat(Math.abs(color.getGreen() - green) < 1.5).isTrue();
+      assertThat(Math.abs(color.getBlue() - blue) < 1.5).isTrue();
+    }
+  }
+
+  @Test
+  public void shouldColorPiecewise() {
+
+    ColorLookupTable table = new ColorLookupTable(RANGE_COLORS, true, 4);
+
+    assertThat(table.getSteps()).isEqualTo(4);
+    assertThat(table.getColor(1, 0, 10)).isEqualTo(Color.WHITE);
+    assertThat(table.getColor(3, 0, 10)).isEqualTo(table.getStepColor(1));
+    assertThat(table.getColor(9, 0, 10)).isEqualTo(Color.BLACK);
+    // the range colors spread over the steps, step 2 is halfway between the second and the last
+    assertThat(table.getStepColor(2)).isEqualTo(new Color(0, 64, 127));
+  }
+
+  @Test
+  public void shouldKnowItsSettings() {
+
+    ColorLookupTable table = new ColorLookupTable(RANGE_COLORS, true, 4);
+
+    assertThat(table.isFor(RANGE_COLORS.clone(), true, 4)).isTrue();
+    assertThat(table.isFor(RANGE_COLORS, true, 5)).isFalse();
+    assertThat(table.isFor(RANGE_COLORS, false, 4)).isFalse();
+    assertThat(table.isFor(new Color[] {Color.WHITE, Color.BLACK}, true, 4)).isFalse();
+  }
+}